@@ -308,6 +308,19 @@ public class CustomizationConfig {
      */
     private boolean enableGenerateCompiledEndpointRules = false;
 
+    /**
+     * Set to true if the endpoint rules always resolve the same endpoint for the same endpoint parameters, so that resolved
+     * endpoints may be cached when the client enables its endpoint resolution cache. Defaults to false.
+     */
+    private boolean endpointResolutionCacheable = false;
+
+    /**
+     * Endpoint parameters that are not referenced by the endpoint rules, such as S3 object keys. They are left out of the key
+     * of the endpoint resolution cache, so that requests that only differ in these parameters share a cached endpoint. Only
+     * used when {@link #endpointResolutionCacheable} is true.
+     */
+    private List<String> endpointParametersExcludedFromCacheKey = new ArrayList<>();
+
     /**
      * Customization related to auth scheme derived from endpoints.
      */
@@ -347,6 +360,11 @@ public class CustomizationConfig {
      */
     private boolean batchManagerSupported;
 
+    /**
+     * Set to true to unmarshall JSON and XML responses directly from the parser, without building an intermediate tree.
+     */
+    private boolean enableStreamingUnmarshalling;
+
     private CustomizationConfig() {
     }
 
@@ -765,6 +783,22 @@ public class CustomizationConfig {
         this.enableGenerateCompiledEndpointRules = enableGenerateCompiledEndpointRules;
     }
 
+    public boolean isEndpointResolutionCacheable() {
+        return endpointResolutionCacheable;
+    }
+
+    public void setEndpointResolutionCacheable(boolean endpointResolutionCacheable) {
+        this.endpointResolutionCacheable = endpointResolutionCacheable;
+    }
+
+    public List<String> getEndpointParametersExcludedFromCacheKey() {
+        return endpointParametersExcludedFromCacheKey;
+    }
+
+    public void setEndpointParametersExcludedFromCacheKey(List<String> endpointParametersExcludedFromCacheKey) {
+        this.endpointParametersExcludedFromCacheKey = endpointParametersExcludedFromCacheKey;
+    }
+
     public Map<String, String> getSkipEndpointTests() {
         return skipEndpointTests;
     }
@@ -914,4 +948,11 @@ public class CustomizationConfig {
         this.batchManagerSupported = batchManagerSupported;
     }
 
+    public boolean isEnableStreamingUnmarshalling() {
+        return enableStreamingUnmarshalling;
+    }
+
+    public void setEnableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+    }
 }
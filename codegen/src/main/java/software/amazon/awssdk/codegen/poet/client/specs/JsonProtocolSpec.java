@@ -114,6 +114,10 @@ public class JsonProtocolSpec implements ProtocolSpec {
             methodSpec.addCode("$L", hasAwsQueryCompatible());
         }
 
+        if (model.getCustomizationConfig().isEnableStreamingUnmarshalling()) {
+            methodSpec.addCode(".enableStreamingUnmarshalling(true)\n");
+        }
+
         registerModeledExceptions(model, poetExtensions).forEach(methodSpec::addCode);
         methodSpec.addCode(";");
 
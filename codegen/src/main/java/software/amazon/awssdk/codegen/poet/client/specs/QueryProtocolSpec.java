@@ -74,6 +74,9 @@ public class QueryProtocolSpec implements ProtocolSpec {
         methodSpec.addCode(".clientConfiguration(clientConfiguration)\n"
                            + ".defaultServiceExceptionSupplier($T::builder)\n",
                            poetExtensions.getModelClass(model.getSdkModeledExceptionBaseClassName()));
+        if (model.getCustomizationConfig().isEnableStreamingUnmarshalling()) {
+            methodSpec.addCode(".enableStreamingUnmarshalling(true)\n");
+        }
         methodSpec.addCode(".build();");
 
         return methodSpec.build();
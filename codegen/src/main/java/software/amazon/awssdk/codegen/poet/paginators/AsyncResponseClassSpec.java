@@ -23,6 +23,7 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.WildcardTypeName;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
@@ -65,6 +66,7 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                                .addFields(fields().collect(Collectors.toList()))
                                                .addMethod(publicConstructor())
                                                .addMethod(privateConstructor())
+                                               .addMethods(prefetchMethods())
                                                .addMethod(subscribeMethod())
                                                .addMethods(getMethodSpecsForResultKeyList())
                                                .addJavadoc(paginationDocs.getDocsForAsyncResponseClass(
@@ -97,7 +99,8 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
         return Stream.of(asyncClientInterfaceField(),
                          requestClassField(),
                          asyncPageFetcherField(),
-                         lastPageField());
+                         lastPageField(),
+                         prefetchPagesField());
     }
 
     protected FieldSpec asyncClientInterfaceField() {
@@ -134,9 +137,49 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                        REQUEST_MEMBER)
                          .addStatement("this.$L = $L", LAST_PAGE_FIELD, LAST_PAGE_FIELD)
                          .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
+                         .addStatement("this.$L = 0", PREFETCH_PAGES_MEMBER)
                          .build();
     }
 
+    /**
+     * Returns the constructor and the method that create a copy of the class that requests pages ahead of the subscriber's
+     * demand, or nothing if the class does not support prefetching.
+     */
+    private Iterable<MethodSpec> prefetchMethods() {
+        if (!supportsPrefetch()) {
+            return Collections.emptyList();
+        }
+
+        MethodSpec constructor =
+            MethodSpec.constructorBuilder()
+                      .addModifiers(Modifier.PRIVATE)
+                      .addParameter(className(), PAGINATOR_ARGUMENT)
+                      .addParameter(int.class, PREFETCH_PAGES_MEMBER)
+                      .addStatement("this.$1L = $2L.$1L", CLIENT_MEMBER, PAGINATOR_ARGUMENT)
+                      .addStatement("this.$1L = $2L.$1L", REQUEST_MEMBER, PAGINATOR_ARGUMENT)
+                      .addStatement("this.$1L = $2L.$1L", LAST_PAGE_FIELD, PAGINATOR_ARGUMENT)
+                      .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
+                      .addStatement("this.$1L = $1L", PREFETCH_PAGES_MEMBER)
+                      .build();
+
+        MethodSpec prefetch =
+            MethodSpec.methodBuilder(PREFETCH_METHOD)
+                      .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                      .addParameter(int.class, PAGES_ARGUMENT)
+                      .returns(className())
+                      .addStatement("return new $T(this, $L)", className(), PAGES_ARGUMENT)
+                      .addJavadoc("Returns a publisher that requests up to {@code pages} pages ahead of the subscriber's "
+                                  + "demand. The next page is requested as soon as the previous page has been received, and "
+                                  + "is buffered until the subscriber requests it.\n"
+                                  + "\n"
+                                  + "@param pages The number of pages to buffer ahead of the subscriber's demand, or 0 to only "
+                                  + "request the pages that the subscriber has requested.\n"
+                                  + "@return A publisher with the same pages as this one.\n")
+                      .build();
+
+        return Arrays.asList(constructor, prefetch);
+    }
+
     /**
      * A {@link MethodSpec} for the subscribe() method which is inherited from the interface.
      */
@@ -147,12 +190,25 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                          .addParameter(ParameterizedTypeName.get(ClassName.get(Subscriber.class),
                                                                  WildcardTypeName.supertypeOf(responseType())),
                                        SUBSCRIBER)
-                         .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).build())",
-                                       SUBSCRIBER, ResponsesSubscription.class,
-                                       NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                         .addCode(subscribeMethodBody())
                          .build();
     }
 
+    private CodeBlock subscribeMethodBody() {
+        if (!supportsPrefetch()) {
+            return CodeBlock.builder()
+                            .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).build())",
+                                          SUBSCRIBER, ResponsesSubscription.class,
+                                          NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                            .build();
+        }
+        return CodeBlock.builder()
+                        .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).$5L($5L).build())",
+                                      SUBSCRIBER, ResponsesSubscription.class,
+                                      NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument(), PREFETCH_PAGES_MEMBER)
+                        .build();
+    }
+
     protected String nextPageFetcherArgument() {
         return NEXT_PAGE_FETCHER_MEMBER;
     }
@@ -47,6 +47,10 @@ public abstract class PaginatorsClassSpec implements ClassSpec {
     protected static final String PREVIOUS_PAGE_METHOD_ARGUMENT = "previousPage";
     protected static final String RESPONSE_LITERAL = "response";
     protected static final String LAST_SUCCESSFUL_PAGE_LITERAL = "lastSuccessfulPage";
+    protected static final String PREFETCH_METHOD = "prefetch";
+    protected static final String PREFETCH_PAGES_MEMBER = "prefetchPages";
+    protected static final String PAGINATOR_ARGUMENT = "paginator";
+    protected static final String PAGES_ARGUMENT = "pages";
 
     protected final IntermediateModel model;
     protected final String c2jOperationName;
@@ -90,6 +94,20 @@ public abstract class PaginatorsClassSpec implements ClassSpec {
         return FieldSpec.builder(requestType(), REQUEST_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
     }
 
+    // Generates
+    // private final int prefetchPages;
+    protected FieldSpec prefetchPagesField() {
+        return FieldSpec.builder(int.class, PREFETCH_PAGES_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
+    }
+
+    /**
+     * Whether the generated class can retrieve pages ahead of its consumer. Page fetchers that keep state between pages must
+     * be called in the order that the pages are consumed, so they cannot prefetch.
+     */
+    protected boolean supportsPrefetch() {
+        return true;
+    }
+
     protected String nextPageFetcherClassName() {
         return operationModel.getReturnType().getReturnType() + "Fetcher";
     }
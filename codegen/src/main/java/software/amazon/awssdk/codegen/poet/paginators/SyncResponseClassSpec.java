@@ -22,9 +22,11 @@ import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +47,8 @@ import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
 public class SyncResponseClassSpec extends PaginatorsClassSpec {
 
     protected static final String ITERATOR_METHOD = "iterator";
+    private static final String PREFETCH_EXECUTOR_MEMBER = "prefetchExecutor";
+    private static final String EXECUTOR_ARGUMENT = "executor";
 
     public SyncResponseClassSpec(IntermediateModel model, String c2jOperationName, PaginatorDefinition paginatorDefinition) {
         super(model, c2jOperationName, paginatorDefinition);
@@ -58,6 +62,7 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                                                .addSuperinterface(getSyncResponseInterface())
                                                .addFields(fields().collect(Collectors.toList()))
                                                .addMethod(constructor())
+                                               .addMethods(prefetchMethods())
                                                .addMethod(iteratorMethod())
                                                .addMethods(getMethodSpecsForResultKeyList())
                                                .addJavadoc(paginationDocs.getDocsForSyncResponseClass(
@@ -87,7 +92,8 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
     }
 
     protected Stream<FieldSpec> fields() {
-        return Stream.of(syncClientInterfaceField(), requestClassField(), syncPageFetcherField());
+        return Stream.of(syncClientInterfaceField(), requestClassField(), syncPageFetcherField(), prefetchPagesField(),
+                         prefetchExecutorField());
     }
 
     protected FieldSpec syncClientInterfaceField() {
@@ -98,6 +104,10 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
         return FieldSpec.builder(SyncPageFetcher.class, NEXT_PAGE_FETCHER_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
     }
 
+    private FieldSpec prefetchExecutorField() {
+        return FieldSpec.builder(Executor.class, PREFETCH_EXECUTOR_MEMBER, Modifier.PRIVATE, Modifier.FINAL).build();
+    }
+
     protected MethodSpec constructor() {
         return MethodSpec.constructorBuilder()
                          .addModifiers(Modifier.PUBLIC)
@@ -109,9 +119,54 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                                        poetExtensions.getUserAgentClass(),
                                        REQUEST_MEMBER)
                          .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
+                         .addStatement("this.$L = 0", PREFETCH_PAGES_MEMBER)
+                         .addStatement("this.$L = null", PREFETCH_EXECUTOR_MEMBER)
                 .build();
     }
 
+    /**
+     * Returns the constructor and the method that create a copy of the class that retrieves pages ahead of the iteration, or
+     * nothing if the class does not support prefetching.
+     */
+    private Iterable<MethodSpec> prefetchMethods() {
+        if (!supportsPrefetch()) {
+            return Collections.emptyList();
+        }
+
+        MethodSpec constructor =
+            MethodSpec.constructorBuilder()
+                      .addModifiers(Modifier.PRIVATE)
+                      .addParameter(className(), PAGINATOR_ARGUMENT)
+                      .addParameter(int.class, PREFETCH_PAGES_MEMBER)
+                      .addParameter(Executor.class, PREFETCH_EXECUTOR_MEMBER)
+                      .addStatement("this.$1L = $2L.$1L", CLIENT_MEMBER, PAGINATOR_ARGUMENT)
+                      .addStatement("this.$1L = $2L.$1L", REQUEST_MEMBER, PAGINATOR_ARGUMENT)
+                      .addStatement("this.$L = new $L()", NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName())
+                      .addStatement("this.$1L = $1L", PREFETCH_PAGES_MEMBER)
+                      .addStatement("this.$1L = $1L", PREFETCH_EXECUTOR_MEMBER)
+                      .build();
+
+        MethodSpec prefetch =
+            MethodSpec.methodBuilder(PREFETCH_METHOD)
+                      .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                      .addParameter(int.class, PAGES_ARGUMENT)
+                      .addParameter(Executor.class, EXECUTOR_ARGUMENT)
+                      .returns(className())
+                      .addStatement("return new $T(this, $L, $L)", className(), PAGES_ARGUMENT, EXECUTOR_ARGUMENT)
+                      .addJavadoc("Returns an iterable that retrieves up to {@code pages} pages ahead of the iteration on the "
+                                  + "given executor. The next page is requested as soon as the previous page has been received, "
+                                  + "instead of when the iteration reaches it. Pages that have been retrieved when the iteration "
+                                  + "stops are discarded.\n"
+                                  + "\n"
+                                  + "@param pages The number of pages to retrieve ahead of the iteration, or 0 to retrieve each "
+                                  + "page when the iteration reaches it.\n"
+                                  + "@param executor The executor that retrieves the pages. It is not shut down by the SDK.\n"
+                                  + "@return An iterable with the same pages as this one.\n")
+                      .build();
+
+        return Arrays.asList(constructor, prefetch);
+    }
+
     /**
      * A {@link MethodSpec} for the overridden iterator() method which is inherited
      * from the interface.
@@ -121,11 +176,24 @@ public class SyncResponseClassSpec extends PaginatorsClassSpec {
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC)
                 .returns(ParameterizedTypeName.get(ClassName.get(Iterator.class), responseType()))
-                .addStatement("return $1T.builder().$2L($3L).build()", PaginatedResponsesIterator.class,
-                              NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                .addCode(iteratorMethodBody())
                 .build();
     }
 
+    private CodeBlock iteratorMethodBody() {
+        if (!supportsPrefetch()) {
+            return CodeBlock.builder()
+                            .addStatement("return $1T.builder().$2L($3L).build()", PaginatedResponsesIterator.class,
+                                          NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                            .build();
+        }
+        return CodeBlock.builder()
+                        .addStatement("return $1T.builder().$2L($3L).$4L($4L).$5L($5L).build()",
+                                      PaginatedResponsesIterator.class, NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument(),
+                                      PREFETCH_PAGES_MEMBER, PREFETCH_EXECUTOR_MEMBER)
+                        .build();
+    }
+
     protected String nextPageFetcherArgument() {
         return NEXT_PAGE_FETCHER_MEMBER;
     }
@@ -60,6 +60,11 @@ public class SameTokenAsyncResponseClassSpec extends AsyncResponseClassSpec {
                          .build();
     }
 
+    @Override
+    protected boolean supportsPrefetch() {
+        return false;
+    }
+
     @Override
     protected String nextPageFetcherArgument() {
         return String.format("new %s()", nextPageFetcherClassName());
@@ -58,6 +58,11 @@ public class SameTokenSyncResponseClassSpec extends SyncResponseClassSpec {
                          .build();
     }
 
+    @Override
+    protected boolean supportsPrefetch() {
+        return false;
+    }
+
     @Override
     protected String nextPageFetcherArgument() {
         return String.format("new %s()", nextPageFetcherClassName());
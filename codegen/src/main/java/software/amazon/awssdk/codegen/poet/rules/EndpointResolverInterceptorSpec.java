@@ -28,6 +28,7 @@ import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeVariableName;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -72,6 +73,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.endpoints.Endpoint;
@@ -99,7 +101,7 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
     private final JmesPathAcceptorGenerator jmesPathGenerator;
     private final boolean dependsOnHttpAuthAws;
     private final boolean useSraAuth;
-
+    private final boolean endpointResolutionCacheable;
 
     public EndpointResolverInterceptorSpec(IntermediateModel model) {
         this.model = model;
@@ -116,6 +118,7 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                                     supportedAuthSchemes.contains(AwsV4aAuthScheme.class);
 
         this.useSraAuth = new AuthSchemeSpecUtils(model).useSraAuth();
+        this.endpointResolutionCacheable = model.getCustomizationConfig().isEndpointResolutionCacheable();
     }
 
     @Override
@@ -134,6 +137,11 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         b.addMethod(modifyHttpRequestMethod());
         b.addMethod(ruleParams());
 
+        if (endpointResolutionCacheable) {
+            b.addMethod(resolveEndpointMethod());
+            b.addMethod(cacheKeyMethod());
+        }
+
         b.addMethod(setContextParams());
         addContextParamMethods(b);
 
@@ -192,8 +200,13 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                        endpointRulesSpecUtils.providerInterfaceName(), providerVar, SdkInternalExecutionAttribute.class);
         b.beginControlFlow("try");
         b.addStatement("long resolveEndpointStart = $T.nanoTime()", System.class);
-        b.addStatement("$T endpoint = $N.resolveEndpoint(ruleParams(result, executionAttributes)).join()",
-                       Endpoint.class, providerVar);
+        if (endpointResolutionCacheable) {
+            b.addStatement("$T endpoint = resolveEndpoint($N, ruleParams(result, executionAttributes), executionAttributes)",
+                           Endpoint.class, providerVar);
+        } else {
+            b.addStatement("$T endpoint = $N.resolveEndpoint(ruleParams(result, executionAttributes)).join()",
+                           Endpoint.class, providerVar);
+        }
         b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
                        System.class);
         b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
@@ -250,6 +263,71 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         return b.build();
     }
 
+    private MethodSpec resolveEndpointMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("resolveEndpoint")
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(Endpoint.class)
+                                         .addParameter(endpointRulesSpecUtils.providerInterfaceName(), "provider")
+                                         .addParameter(endpointRulesSpecUtils.parametersClassName(), "endpointParams")
+                                         .addParameter(ExecutionAttributes.class, "executionAttributes");
+
+        b.addStatement("$T cache = executionAttributes.getAttribute($T.ENDPOINT_RESOLUTION_CACHE)",
+                       EndpointResolutionCache.class, SdkInternalExecutionAttribute.class);
+        b.beginControlFlow("if (cache == null)");
+        b.addStatement("return provider.resolveEndpoint(endpointParams).join()");
+        b.endControlFlow();
+
+        b.addStatement("$T cacheKey = cacheKey(endpointParams)", endpointRulesSpecUtils.parametersClassName());
+        b.addStatement("$T cachedEndpoint = cache.get(provider, cacheKey)", Endpoint.class);
+        b.addStatement("executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)\n"
+                       + ".ifPresent(mc -> mc.reportMetric($T.ENDPOINT_RESOLUTION_CACHE_HIT, cachedEndpoint != null))",
+                       SdkExecutionAttribute.class, CoreMetric.class);
+        b.beginControlFlow("if (cachedEndpoint != null)");
+        b.addStatement("return cachedEndpoint");
+        b.endControlFlow();
+
+        b.addStatement("$T endpoint = provider.resolveEndpoint(endpointParams).join()", Endpoint.class);
+        b.addStatement("cache.put(provider, cacheKey, endpoint)");
+        b.addStatement("return endpoint");
+        return b.build();
+    }
+
+    /**
+     * Generates the method that derives the key of the endpoint resolution cache from the endpoint parameters, by clearing the
+     * parameters that the customization config excludes from the key. The parameters are returned as-is when none of those is
+     * set, so that most lookups do not allocate.
+     */
+    private MethodSpec cacheKeyMethod() {
+        ClassName paramsClass = endpointRulesSpecUtils.parametersClassName();
+        MethodSpec.Builder b = MethodSpec.methodBuilder("cacheKey")
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(paramsClass)
+                                         .addParameter(paramsClass, "endpointParams");
+
+        List<String> excludedParams = model.getCustomizationConfig().getEndpointParametersExcludedFromCacheKey();
+        if (excludedParams.isEmpty()) {
+            b.addStatement("return endpointParams");
+            return b.build();
+        }
+
+        List<CodeBlock> unsetChecks = new ArrayList<>();
+        CodeBlock.Builder clearParams = CodeBlock.builder().add("endpointParams.toBuilder()");
+        for (String param : excludedParams) {
+            if (!endpointRulesSpecUtils.isDeclaredParam(param)) {
+                throw new IllegalStateException("Endpoint parameter " + param + " excluded from the endpoint resolution "
+                                                + "cache key is not declared by the endpoint rule set.");
+            }
+            String methodName = endpointRulesSpecUtils.paramMethodName(param);
+            unsetChecks.add(CodeBlock.of("endpointParams.$N() == null", methodName));
+            clearParams.add("\n.$N(null)", methodName);
+        }
+        b.beginControlFlow("if ($L)", CodeBlock.join(unsetChecks, "\n&& "));
+        b.addStatement("return endpointParams");
+        b.endControlFlow();
+        b.addStatement("return $L\n.build()", clearParams.build());
+        return b.build();
+    }
+
     private MethodSpec modifyHttpRequestMethod() {
         MethodSpec.Builder b = MethodSpec.methodBuilder("modifyHttpRequest")
                                          .addModifiers(Modifier.PUBLIC)
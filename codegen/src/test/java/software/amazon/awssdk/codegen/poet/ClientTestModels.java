@@ -360,6 +360,20 @@ public class ClientTestModels {
         return new IntermediateModelBuilder(models).build();
     }
 
+    public static IntermediateModel streamingUnmarshallingModels() {
+        File serviceModel =
+            new File(ClientTestModels.class.getResource("client/c2j/streamingunmarshalling/service-2.json").getFile());
+        File customizationModel =
+            new File(ClientTestModels.class.getResource("client/c2j/streamingunmarshalling/customization.config").getFile());
+
+        C2jModels models = C2jModels.builder()
+                                    .serviceModel(getServiceModel(serviceModel))
+                                    .customizationConfig(getCustomizationConfig(customizationModel))
+                                    .build();
+
+        return new IntermediateModelBuilder(models).build();
+    }
+
     public static IntermediateModel customPackageModels() {
         File serviceModel =
             new File(ClientTestModels.class.getResource("client/c2j/custompackage/service-2.json").getFile());
@@ -23,6 +23,7 @@ import static software.amazon.awssdk.codegen.poet.ClientTestModels.endpointDisco
 import static software.amazon.awssdk.codegen.poet.ClientTestModels.queryServiceModels;
 import static software.amazon.awssdk.codegen.poet.ClientTestModels.restJsonServiceModels;
 import static software.amazon.awssdk.codegen.poet.ClientTestModels.rpcv2ServiceModels;
+import static software.amazon.awssdk.codegen.poet.ClientTestModels.streamingUnmarshallingModels;
 import static software.amazon.awssdk.codegen.poet.ClientTestModels.xmlServiceModels;
 import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
 
@@ -77,6 +78,12 @@ public class SyncClientClassTest {
         assertThat(syncClientCustomServiceMetaData, generatesTo("test-customservicemetadata-sync.java"));
     }
 
+    @Test
+    public void syncClientStreamingUnmarshalling() {
+        ClassSpec syncClientStreamingUnmarshalling = createSyncClientClass(streamingUnmarshallingModels());
+        assertThat(syncClientStreamingUnmarshalling, generatesTo("test-streaming-unmarshalling-sync.java"));
+    }
+
     @Test
     public void syncClientCustomPackageName() {
         ClassSpec syncClientCustomServiceMetaData = createSyncClientClass(customPackageModels());
@@ -18,6 +18,7 @@ package software.amazon.awssdk.codegen.poet.rules;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
 
+import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
@@ -37,6 +38,16 @@ public class EndpointResolverInterceptorSpecTest {
         assertThat(endpointProviderInterceptor, generatesTo("endpoint-resolve-interceptor-preSra.java"));
     }
 
+    @Test
+    public void endpointResolverInterceptorClass_endpointResolutionCacheable() {
+        IntermediateModel model = getModel(true);
+        model.getCustomizationConfig().setEndpointResolutionCacheable(true);
+        model.getCustomizationConfig().setEndpointParametersExcludedFromCacheKey(Arrays.asList("stringContextParam",
+                                                                                               "operationContextParam"));
+        ClassSpec endpointProviderInterceptor = new EndpointResolverInterceptorSpec(model);
+        assertThat(endpointProviderInterceptor, generatesTo("endpoint-resolve-interceptor-with-cache.java"));
+    }
+
     private static IntermediateModel getModel(boolean useSraAuth) {
         IntermediateModel model = ClientTestModels.queryServiceModels();
         model.getCustomizationConfig().setUseSraAuth(useSraAuth);
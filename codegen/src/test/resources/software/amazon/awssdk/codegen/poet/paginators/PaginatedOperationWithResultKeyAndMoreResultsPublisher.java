@@ -83,6 +83,8 @@ public class PaginatedOperationWithResultKeyAndMoreResultsPublisher implements
 
     private boolean isLastPage;
 
+    private final int prefetchPages;
+
     public PaginatedOperationWithResultKeyAndMoreResultsPublisher(JsonProtocolTestsAsyncClient client,
                                                                   PaginatedOperationWithResultKeyAndMoreResultsRequest firstRequest) {
         this(client, firstRequest, false);
@@ -94,11 +96,34 @@ public class PaginatedOperationWithResultKeyAndMoreResultsPublisher implements
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.isLastPage = isLastPage;
         this.nextPageFetcher = new PaginatedOperationWithResultKeyAndMoreResultsResponseFetcher();
+        this.prefetchPages = 0;
+    }
+
+    private PaginatedOperationWithResultKeyAndMoreResultsPublisher(PaginatedOperationWithResultKeyAndMoreResultsPublisher paginator, int prefetchPages) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.isLastPage = paginator.isLastPage;
+        this.nextPageFetcher = new PaginatedOperationWithResultKeyAndMoreResultsResponseFetcher();
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Returns a publisher that requests up to {@code pages} pages ahead of the subscriber's demand. The next page is
+     * requested as soon as the previous page has been received, and is buffered until the subscriber requests it.
+     *
+     * @param pages
+     *        The number of pages to buffer ahead of the subscriber's demand, or 0 to only request the pages that the
+     *        subscriber has requested.
+     * @return A publisher with the same pages as this one.
+     */
+    public final PaginatedOperationWithResultKeyAndMoreResultsPublisher prefetch(int pages) {
+        return new PaginatedOperationWithResultKeyAndMoreResultsPublisher(this, pages);
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithResultKeyAndMoreResultsResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                                                    .prefetchPages(prefetchPages).build());
     }
 
     /**
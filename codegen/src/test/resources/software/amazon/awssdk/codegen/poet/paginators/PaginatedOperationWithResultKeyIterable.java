@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedItemsIterable;
@@ -81,16 +82,47 @@ public class PaginatedOperationWithResultKeyIterable implements SdkIterable<Pagi
 
     private final SyncPageFetcher nextPageFetcher;
 
+    private final int prefetchPages;
+
+    private final Executor prefetchExecutor;
+
     public PaginatedOperationWithResultKeyIterable(JsonProtocolTestsClient client,
                                                    PaginatedOperationWithResultKeyRequest firstRequest) {
         this.client = client;
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.nextPageFetcher = new PaginatedOperationWithResultKeyResponseFetcher();
+        this.prefetchPages = 0;
+        this.prefetchExecutor = null;
+    }
+
+    private PaginatedOperationWithResultKeyIterable(PaginatedOperationWithResultKeyIterable paginator, int prefetchPages, Executor prefetchExecutor) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.nextPageFetcher = new PaginatedOperationWithResultKeyResponseFetcher();
+        this.prefetchPages = prefetchPages;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns an iterable that retrieves up to {@code pages} pages ahead of the iteration on the given executor. The
+     * next page is requested as soon as the previous page has been received, instead of when the iteration reaches it.
+     * Pages that have been retrieved when the iteration stops are discarded.
+     *
+     * @param pages
+     *        The number of pages to retrieve ahead of the iteration, or 0 to retrieve each page when the iteration
+     *        reaches it.
+     * @param executor
+     *        The executor that retrieves the pages. It is not shut down by the SDK.
+     * @return An iterable with the same pages as this one.
+     */
+    public final PaginatedOperationWithResultKeyIterable prefetch(int pages, Executor executor) {
+        return new PaginatedOperationWithResultKeyIterable(this, pages, executor);
     }
 
     @Override
     public Iterator<PaginatedOperationWithResultKeyResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).prefetchPages(prefetchPages)
+                                         .prefetchExecutor(prefetchExecutor).build();
     }
 
     /**
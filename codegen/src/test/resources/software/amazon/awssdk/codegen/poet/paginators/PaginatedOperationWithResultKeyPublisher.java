@@ -83,6 +83,8 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
 
     private boolean isLastPage;
 
+    private final int prefetchPages;
+
     public PaginatedOperationWithResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                     PaginatedOperationWithResultKeyRequest firstRequest) {
         this(client, firstRequest, false);
@@ -94,11 +96,34 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.isLastPage = isLastPage;
         this.nextPageFetcher = new PaginatedOperationWithResultKeyResponseFetcher();
+        this.prefetchPages = 0;
+    }
+
+    private PaginatedOperationWithResultKeyPublisher(PaginatedOperationWithResultKeyPublisher paginator, int prefetchPages) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.isLastPage = paginator.isLastPage;
+        this.nextPageFetcher = new PaginatedOperationWithResultKeyResponseFetcher();
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Returns a publisher that requests up to {@code pages} pages ahead of the subscriber's demand. The next page is
+     * requested as soon as the previous page has been received, and is buffered until the subscriber requests it.
+     *
+     * @param pages
+     *        The number of pages to buffer ahead of the subscriber's demand, or 0 to only request the pages that the
+     *        subscriber has requested.
+     * @return A publisher with the same pages as this one.
+     */
+    public final PaginatedOperationWithResultKeyPublisher prefetch(int pages) {
+        return new PaginatedOperationWithResultKeyPublisher(this, pages);
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                                                    .prefetchPages(prefetchPages).build());
     }
 
     /**
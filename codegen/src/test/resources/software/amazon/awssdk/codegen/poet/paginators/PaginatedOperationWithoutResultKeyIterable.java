@@ -1,6 +1,7 @@
 package software.amazon.awssdk.services.jsonprotocoltests.paginators;
 
 import java.util.Iterator;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.pagination.sync.PaginatedResponsesIterator;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
@@ -77,16 +78,47 @@ public class PaginatedOperationWithoutResultKeyIterable implements SdkIterable<P
 
     private final SyncPageFetcher nextPageFetcher;
 
+    private final int prefetchPages;
+
+    private final Executor prefetchExecutor;
+
     public PaginatedOperationWithoutResultKeyIterable(JsonProtocolTestsClient client,
                                                       PaginatedOperationWithoutResultKeyRequest firstRequest) {
         this.client = client;
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
+        this.prefetchPages = 0;
+        this.prefetchExecutor = null;
+    }
+
+    private PaginatedOperationWithoutResultKeyIterable(PaginatedOperationWithoutResultKeyIterable paginator, int prefetchPages, Executor prefetchExecutor) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
+        this.prefetchPages = prefetchPages;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * Returns an iterable that retrieves up to {@code pages} pages ahead of the iteration on the given executor. The
+     * next page is requested as soon as the previous page has been received, instead of when the iteration reaches it.
+     * Pages that have been retrieved when the iteration stops are discarded.
+     *
+     * @param pages
+     *        The number of pages to retrieve ahead of the iteration, or 0 to retrieve each page when the iteration
+     *        reaches it.
+     * @param executor
+     *        The executor that retrieves the pages. It is not shut down by the SDK.
+     * @return An iterable with the same pages as this one.
+     */
+    public final PaginatedOperationWithoutResultKeyIterable prefetch(int pages, Executor executor) {
+        return new PaginatedOperationWithoutResultKeyIterable(this, pages, executor);
     }
 
     @Override
     public Iterator<PaginatedOperationWithoutResultKeyResponse> iterator() {
-        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).build();
+        return PaginatedResponsesIterator.builder().nextPageFetcher(nextPageFetcher).prefetchPages(prefetchPages)
+                                         .prefetchExecutor(prefetchExecutor).build();
     }
 
     private class PaginatedOperationWithoutResultKeyResponseFetcher implements
@@ -78,6 +78,8 @@ public class PaginatedOperationWithoutResultKeyPublisher implements SdkPublisher
 
     private boolean isLastPage;
 
+    private final int prefetchPages;
+
     public PaginatedOperationWithoutResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                        PaginatedOperationWithoutResultKeyRequest firstRequest) {
         this(client, firstRequest, false);
@@ -89,11 +91,34 @@ public class PaginatedOperationWithoutResultKeyPublisher implements SdkPublisher
         this.firstRequest = UserAgentUtils.applyPaginatorUserAgent(firstRequest);
         this.isLastPage = isLastPage;
         this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
+        this.prefetchPages = 0;
+    }
+
+    private PaginatedOperationWithoutResultKeyPublisher(PaginatedOperationWithoutResultKeyPublisher paginator, int prefetchPages) {
+        this.client = paginator.client;
+        this.firstRequest = paginator.firstRequest;
+        this.isLastPage = paginator.isLastPage;
+        this.nextPageFetcher = new PaginatedOperationWithoutResultKeyResponseFetcher();
+        this.prefetchPages = prefetchPages;
+    }
+
+    /**
+     * Returns a publisher that requests up to {@code pages} pages ahead of the subscriber's demand. The next page is
+     * requested as soon as the previous page has been received, and is buffered until the subscriber requests it.
+     *
+     * @param pages
+     *        The number of pages to buffer ahead of the subscriber's demand, or 0 to only request the pages that the
+     *        subscriber has requested.
+     * @return A publisher with the same pages as this one.
+     */
+    public final PaginatedOperationWithoutResultKeyPublisher prefetch(int pages) {
+        return new PaginatedOperationWithoutResultKeyPublisher(this, pages);
     }
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithoutResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                                                    .prefetchPages(prefetchPages).build());
     }
 
     private class PaginatedOperationWithoutResultKeyResponseFetcher implements
@@ -22,10 +22,9 @@ import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.util.zip.Checksum;
 import org.junit.Test;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
 import software.amazon.awssdk.core.checksums.Algorithm;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
-import software.amazon.awssdk.crt.checksums.CRC32;
 import software.amazon.awssdk.crt.checksums.CRC32C;
 import software.amazon.awssdk.utils.BinaryUtils;
 
@@ -33,15 +32,9 @@ public class CrtBasedChecksumTest {
 
     static final String TEST_STRING = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
 
-    @Test
-    public void crtBasedCrc32ChecksumValues(){
-        Checksum checksum = CrtBasedChecksumProvider.createCrc32();
-        assertThat(checksum).isNotNull().isInstanceOf(CRC32.class);
-    }
-
     @Test
     public void crtBasedCrc32_C_ChecksumValues(){
-        Checksum checksum = CrtBasedChecksumProvider.createCrc32C();
+        Checksum checksum = CrcChecksumProvider.createCrtCrc32C();
         assertThat(checksum).isNotNull().isInstanceOf(CRC32C.class);
     }
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.util.Optional;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Creates the CRC32 and CRC32C checksums used by the SDK, selecting the fastest implementation that is available.
+ * <p>
+ * CRC32 is always calculated by the JDK's {@link java.util.zip.CRC32}. CRC32C is calculated by the first available of:
+ * <ol>
+ *     <li>The JDK's {@code java.util.zip.CRC32C}, on Java 9 and later.</li>
+ *     <li>The CRT's CRC32C, if the CRT is on the classpath.</li>
+ *     <li>The pure Java {@link SdkCrc32C}.</li>
+ * </ol>
+ * The JDK checksums are intrinsified by the JVM on x86 and aarch64, and are returned as {@link JdkCrcChecksum}s.
+ */
+@SdkInternalApi
+public final class CrcChecksumProvider {
+    private static final Logger LOG = Logger.loggerFor(CrcChecksumProvider.class);
+    private static final String CRT_CLASSPATH_FOR_CRC32C = "software.amazon.awssdk.crt.checksums.CRC32C";
+    private static final Lazy<Optional<Class<?>>> CRT_CRC32C_CLASS = new Lazy<>(CrcChecksumProvider::loadCrtCrc32CClass);
+
+    private CrcChecksumProvider() {
+    }
+
+    /**
+     * Creates a CRC32 checksum.
+     */
+    public static Checksum crc32Implementation() {
+        return JdkCrcChecksum.createCrc32();
+    }
+
+    /**
+     * Creates a CRC32C checksum, backed by the first available implementation in the order described by this class.
+     */
+    public static Checksum crc32cImplementation() {
+        Checksum checksum = JdkCrcChecksum.createCrc32C();
+        if (checksum == null) {
+            checksum = createCrtCrc32C();
+        }
+        if (checksum == null) {
+            checksum = SdkCrc32C.create();
+        }
+        return checksum;
+    }
+
+    /**
+     * Creates a CRC32C checksum backed by the CRT, or returns null if the CRT is not on the classpath.
+     */
+    public static Checksum createCrtCrc32C() {
+        return CRT_CRC32C_CLASS.getValue().map(checksumClass -> {
+            try {
+                return (Checksum) checksumClass.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Returns a checksum with the same value as the given checksum created by this class, which is updated independently.
+     */
+    public static Checksum cloneChecksum(Checksum checksum) {
+        if (checksum instanceof JdkCrcChecksum) {
+            return (Checksum) ((JdkCrcChecksum) checksum).clone();
+        }
+        if (checksum instanceof SdkCrc32C) {
+            return (Checksum) ((SdkCrc32C) checksum).clone();
+        }
+        if (checksum instanceof SdkCrc32) {
+            return (Checksum) ((SdkCrc32) checksum).clone();
+        }
+        try {
+            return (Checksum) checksum.getClass().getDeclaredMethod("clone").invoke(checksum);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
+        }
+    }
+
+    private static Optional<Class<?>> loadCrtCrc32CClass() {
+        try {
+            return Optional.of(ClassLoaderHelper.loadClass(CRT_CLASSPATH_FOR_CRC32C, false));
+        } catch (ClassNotFoundException e) {
+            LOG.debug(() -> "Cannot find the " + CRT_CLASSPATH_FOR_CRC32C + " class. The CRT will not be used to calculate "
+                            + "CRC32C checksums.", e);
+            return Optional.empty();
+        }
+    }
+}
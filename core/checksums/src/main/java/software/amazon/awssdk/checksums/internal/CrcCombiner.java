@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Combines the CRCs of two consecutive segments of data into the CRC of their concatenation, without access to the data. This
+ * allows the checksum of an object to be computed from the checksums of parts that were computed independently, for example
+ * concurrently.
+ * <p>
+ * The CRC of the concatenation is the CRC of the first segment, multiplied by {@code x^(8 * length of the second segment)}
+ * modulo the CRC polynomial, XORed with the CRC of the second segment. The powers {@code x^(2^n)} are precomputed, so combining
+ * takes a number of polynomial multiplications logarithmic in the length of the second segment. This is the algorithm used by
+ * {@code crc32_combine} in zlib.
+ * <p>
+ * Polynomials are represented reflected, as in {@link SdkCrc32} and {@link SdkCrc32C}: the most significant bit holds the
+ * coefficient of {@code x^0}.
+ */
+@ThreadSafe
+@SdkInternalApi
+final class CrcCombiner {
+    private static final int X_0 = 1 << 31;
+
+    /**
+     * The length is given in bytes, which are 2^3 bits, and is at most 2^63 - 1, so up to x^(2^66) is needed.
+     */
+    private static final int POWERS_OF_TWO = 67;
+
+    private final int reflectedPolynomial;
+
+    /**
+     * x^(2^n) modulo the polynomial, for n in [0, POWERS_OF_TWO).
+     */
+    private final int[] xPowTwoPowN = new int[POWERS_OF_TWO];
+
+    CrcCombiner(int reflectedPolynomial) {
+        this.reflectedPolynomial = reflectedPolynomial;
+        int p = X_0 >>> 1;
+        xPowTwoPowN[0] = p;
+        for (int n = 1; n < POWERS_OF_TWO; n++) {
+            p = multiplyModP(p, p);
+            xPowTwoPowN[n] = p;
+        }
+    }
+
+    /**
+     * Returns the CRC of the concatenation of two segments.
+     *
+     * @param crc1 the CRC of the first segment
+     * @param crc2 the CRC of the second segment
+     * @param length2 the length of the second segment, in bytes
+     */
+    long combine(long crc1, long crc2, long length2) {
+        if (length2 < 0) {
+            throw new IllegalArgumentException("length2 " + length2 + " must not be negative");
+        }
+        int combined = multiplyModP(xPowEightNModP(length2), (int) crc1) ^ (int) crc2;
+        return combined & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Returns x^(8 * n) modulo the polynomial.
+     */
+    private int xPowEightNModP(long n) {
+        int p = X_0;
+        int k = 3;
+        while (n != 0) {
+            if ((n & 1) != 0) {
+                p = multiplyModP(xPowTwoPowN[k], p);
+            }
+            n >>>= 1;
+            k++;
+        }
+        return p;
+    }
+
+    /**
+     * Returns a * b modulo the polynomial.
+     */
+    private int multiplyModP(int a, int b) {
+        int m = X_0;
+        int p = 0;
+        while (true) {
+            if ((a & m) != 0) {
+                p ^= b;
+                if ((a & (m - 1)) == 0) {
+                    return p;
+                }
+            }
+            m >>>= 1;
+            b = (b & 1) != 0 ? (b >>> 1) ^ reflectedPolynomial : b >>> 1;
+        }
+    }
+}
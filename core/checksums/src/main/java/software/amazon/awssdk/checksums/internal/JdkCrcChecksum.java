@@ -0,0 +1,183 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A CRC32 or CRC32C {@link Checksum} backed by the JDK's {@link CRC32} or, on Java 9 and later, {@code java.util.zip.CRC32C}.
+ * Both are intrinsified by the JVM on x86 and aarch64, and read direct {@link ByteBuffer}s in place.
+ * <p>
+ * The JDK classes cannot be cloned, so they cannot save their state when a checksum is marked. Instead, this class tracks the
+ * CRC of the bytes before its JDK checksum was started, and the number of bytes passed to the JDK checksum since, and combines
+ * the two when the value is read.
+ */
+@SdkInternalApi
+public final class JdkCrcChecksum implements Checksum, Cloneable {
+
+    private static final Logger LOG = Logger.loggerFor(JdkCrcChecksum.class);
+    private static final String JDK_CLASSPATH_FOR_CRC32C = "java.util.zip.CRC32C";
+
+    // Method handles held in static final fields are constants to the JIT, so calls through them are inlined.
+    private static final MethodHandle CRC32C_CONSTRUCTOR;
+    private static final MethodHandle CRC32C_UPDATE_BYTE_BUFFER;
+
+    static {
+        MethodHandle constructor = null;
+        MethodHandle updateByteBuffer = null;
+        try {
+            Class<?> crc32cClass = Class.forName(JDK_CLASSPATH_FOR_CRC32C);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            constructor = lookup.findConstructor(crc32cClass, MethodType.methodType(void.class))
+                                .asType(MethodType.methodType(Checksum.class));
+            updateByteBuffer = lookup.findVirtual(crc32cClass, "update", MethodType.methodType(void.class, ByteBuffer.class))
+                                     .asType(MethodType.methodType(void.class, Checksum.class, ByteBuffer.class));
+        } catch (ReflectiveOperationException e) {
+            LOG.debug(() -> "Cannot find the " + JDK_CLASSPATH_FOR_CRC32C + " class, which is available from Java 9.", e);
+            constructor = null;
+            updateByteBuffer = null;
+        }
+        CRC32C_CONSTRUCTOR = constructor;
+        CRC32C_UPDATE_BYTE_BUFFER = updateByteBuffer;
+    }
+
+    private final Type type;
+    private Checksum checksum;
+    private long baseValue;
+    private long length;
+
+    private JdkCrcChecksum(Type type, long baseValue) {
+        this.type = type;
+        this.checksum = type.newChecksum();
+        this.baseValue = baseValue;
+    }
+
+    /**
+     * Creates a CRC32 checksum backed by {@link CRC32}.
+     */
+    public static JdkCrcChecksum createCrc32() {
+        return new JdkCrcChecksum(Type.CRC32, 0);
+    }
+
+    /**
+     * Creates a CRC32C checksum backed by {@code java.util.zip.CRC32C}, or returns null if the JDK does not provide it.
+     */
+    public static JdkCrcChecksum createCrc32C() {
+        return CRC32C_CONSTRUCTOR == null ? null : new JdkCrcChecksum(Type.CRC32C, 0);
+    }
+
+    @Override
+    public void update(int b) {
+        checksum.update(b);
+        length++;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        checksum.update(b, off, len);
+        length += len;
+    }
+
+    /**
+     * Updates the checksum with the remaining bytes of the buffer, and sets the buffer's position to its limit. Neither heap
+     * nor direct buffers are copied.
+     */
+    public void update(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        type.update(checksum, buffer);
+        length += remaining;
+    }
+
+    @Override
+    public long getValue() {
+        // The CRC of an empty prefix is zero, and combining with it is the identity.
+        if (baseValue == 0) {
+            return checksum.getValue();
+        }
+        return type.combine(baseValue, checksum.getValue(), length);
+    }
+
+    @Override
+    public void reset() {
+        checksum.reset();
+        baseValue = 0;
+        length = 0;
+    }
+
+    /**
+     * Returns a checksum with the same value as this one, which is updated independently.
+     */
+    @Override
+    public Object clone() {
+        return new JdkCrcChecksum(type, getValue());
+    }
+
+    private enum Type {
+        CRC32 {
+            @Override
+            Checksum newChecksum() {
+                return new CRC32();
+            }
+
+            @Override
+            void update(Checksum checksum, ByteBuffer buffer) {
+                ((CRC32) checksum).update(buffer);
+            }
+
+            @Override
+            long combine(long crc1, long crc2, long length2) {
+                return SdkCrc32.combine(crc1, crc2, length2);
+            }
+        },
+        CRC32C {
+            @Override
+            Checksum newChecksum() {
+                try {
+                    return (Checksum) CRC32C_CONSTRUCTOR.invokeExact();
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Could not create " + JDK_CLASSPATH_FOR_CRC32C, t);
+                }
+            }
+
+            @Override
+            void update(Checksum checksum, ByteBuffer buffer) {
+                try {
+                    CRC32C_UPDATE_BYTE_BUFFER.invokeExact(checksum, buffer);
+                } catch (Throwable t) {
+                    throw new IllegalStateException("Could not update " + JDK_CLASSPATH_FOR_CRC32C, t);
+                }
+            }
+
+            @Override
+            long combine(long crc1, long crc2, long length2) {
+                return SdkCrc32C.combine(crc1, crc2, length2);
+            }
+        };
+
+        abstract Checksum newChecksum();
+
+        abstract void update(Checksum checksum, ByteBuffer buffer);
+
+        abstract long combine(long crc1, long crc2, long length2);
+    }
+}
@@ -13,7 +13,7 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.core.internal.checksums.factory;
+package software.amazon.awssdk.checksums.internal;
 
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -24,10 +24,13 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
  * The code comes from PureJavaCrc32.java in Apache Commons Codec 1.11.
  * It has been modified to add a createCopy() method.
  * The createCopy method is used to save current c checksum state when the checksum is marked.
+ * It has also been modified to add a combine() method, which computes the checksum of two concatenated segments of data.
  */
 @SdkInternalApi
 public final class SdkCrc32 implements Checksum, Cloneable {
 
+    private static final CrcCombiner COMBINER = new CrcCombiner(0xEDB88320);
+
     /*
      * CRC-32 lookup tables generated by the polynomial 0xEDB88320.
      * See also TestPureJavaCrc32.Table.
@@ -573,6 +576,18 @@ public final class SdkCrc32 implements Checksum, Cloneable {
         return new SdkCrc32();
     }
 
+    /**
+     * Returns the CRC-32 checksum of the concatenation of two segments of data, given the checksum of each segment and the
+     * length of the second one.
+     *
+     * @param crc1 the checksum of the first segment
+     * @param crc2 the checksum of the second segment
+     * @param length2 the length of the second segment, in bytes
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return COMBINER.combine(crc1, crc2, length2);
+    }
+
     @Override
     public long getValue() {
         return (~crc) & 0xffffffffL;
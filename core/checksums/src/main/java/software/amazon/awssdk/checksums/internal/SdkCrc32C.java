@@ -13,7 +13,7 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.core.internal.checksums.factory;
+package software.amazon.awssdk.checksums.internal;
 
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -25,10 +25,13 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
  * The code comes from PureJavaCrc32C.java in Apache Commons Codec 1.11.
  * It has been modified to add a createCopy() method.
  * The createCopy method is used to save current checksum state when the checksum is marked.
+ * It has also been modified to add a combine() method, which computes the checksum of two concatenated segments of data.
  */
 @SdkInternalApi
 public final class SdkCrc32C implements Checksum, Cloneable {
 
+    private static final CrcCombiner COMBINER = new CrcCombiner(0x82F63B78);
+
     private static final int T8_0_START = 0 * 256;
     private static final int T8_1_START = 1 * 256;
     private static final int T8_2_START = 2 * 256;
@@ -580,6 +583,18 @@ public final class SdkCrc32C implements Checksum, Cloneable {
         return new SdkCrc32C();
     }
 
+    /**
+     * Returns the CRC-32C checksum of the concatenation of two segments of data, given the checksum of each segment and the
+     * length of the second one.
+     *
+     * @param crc1 the checksum of the first segment
+     * @param crc2 the checksum of the second segment
+     * @param length2 the length of the second segment, in bytes
+     */
+    public static long combine(long crc1, long crc2, long length2) {
+        return COMBINER.combine(crc1, crc2, length2);
+    }
+
     @Override
     public long getValue() {
         long ret = crc;
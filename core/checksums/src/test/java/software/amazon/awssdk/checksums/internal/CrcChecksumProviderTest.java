@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CrcChecksumProviderTest {
+    private static final byte[] DATA = "123456789".getBytes(StandardCharsets.UTF_8);
+
+    private static Stream<Arguments> checksums() {
+        return Stream.of(Arguments.of("CRC32", (Supplier<Checksum>) CrcChecksumProvider::crc32Implementation, 0xCBF43926L),
+                         Arguments.of("CRC32C", (Supplier<Checksum>) CrcChecksumProvider::crc32cImplementation, 0xE3069283L),
+                         Arguments.of("SdkCrc32", (Supplier<Checksum>) SdkCrc32::create, 0xCBF43926L),
+                         Arguments.of("SdkCrc32C", (Supplier<Checksum>) SdkCrc32C::create, 0xE3069283L));
+    }
+
+    @Test
+    void implementations_onJava9OrLater_areJdkChecksums() {
+        assertThat(CrcChecksumProvider.crc32Implementation()).isInstanceOf(JdkCrcChecksum.class);
+        assertThat(CrcChecksumProvider.crc32cImplementation()).isInstanceOf(JdkCrcChecksum.class);
+    }
+
+    @Test
+    void createCrtCrc32C_crtNotOnClasspath_returnsNull() {
+        assertThat(CrcChecksumProvider.createCrtCrc32C()).isNull();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    void update_checkValue_matchesStandardCheckValue(String name, Supplier<Checksum> checksum, long checkValue) {
+        Checksum crc = checksum.get();
+        crc.update(DATA, 0, DATA.length);
+
+        assertThat(crc.getValue()).isEqualTo(checkValue);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("checksums")
+    void cloneChecksum_isUpdatedIndependently(String name, Supplier<Checksum> checksum, long checkValue) {
+        Checksum crc = checksum.get();
+        crc.update(DATA, 0, 4);
+        Checksum copy = CrcChecksumProvider.cloneChecksum(crc);
+        crc.update(DATA, 0, 1);
+        copy.update(DATA, 4, DATA.length - 4);
+
+        assertThat(copy).isNotSameAs(crc);
+        assertThat(copy.getValue()).isEqualTo(checkValue);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CrcCombinerTest {
+    private static final int ITERATIONS = 500;
+
+    private static Stream<Arguments> algorithms() {
+        return Stream.of(Arguments.of("CRC32", (Supplier<Checksum>) SdkCrc32::create, (Combiner) SdkCrc32::combine),
+                         Arguments.of("CRC32C", (Supplier<Checksum>) SdkCrc32C::create, (Combiner) SdkCrc32C::combine));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void combine_twoSegments_equalsChecksumOfConcatenation(String name, Supplier<Checksum> checksum, Combiner combiner) {
+        Random random = new Random(name.hashCode());
+        for (int i = 0; i < ITERATIONS; i++) {
+            byte[] data = new byte[random.nextInt(4096)];
+            random.nextBytes(data);
+            int split = data.length == 0 ? 0 : random.nextInt(data.length + 1);
+
+            long crc1 = crc(checksum, data, 0, split);
+            long crc2 = crc(checksum, data, split, data.length - split);
+
+            assertThat(combiner.combine(crc1, crc2, data.length - split))
+                .as("length %d split at %d", data.length, split)
+                .isEqualTo(crc(checksum, data, 0, data.length));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void combine_manyParts_equalsChecksumOfWholeData(String name, Supplier<Checksum> checksum, Combiner combiner) {
+        Random random = new Random(name.hashCode());
+        byte[] data = new byte[1024 * 1024 + 17];
+        random.nextBytes(data);
+
+        int partSize = 64 * 1024;
+        long combined = crc(checksum, data, 0, 0);
+        for (int offset = 0; offset < data.length; offset += partSize) {
+            int length = Math.min(partSize, data.length - offset);
+            combined = combiner.combine(combined, crc(checksum, data, offset, length), length);
+        }
+
+        assertThat(combined).isEqualTo(crc(checksum, data, 0, data.length));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void combine_emptySegments_isIdentity(String name, Supplier<Checksum> checksum, Combiner combiner) {
+        byte[] data = "combine".getBytes(StandardCharsets.UTF_8);
+        long crc = crc(checksum, data, 0, data.length);
+        long empty = crc(checksum, data, 0, 0);
+
+        assertThat(combiner.combine(crc, empty, 0)).isEqualTo(crc);
+        assertThat(combiner.combine(empty, crc, data.length)).isEqualTo(crc);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void combine_isAssociative_forLargeLengths(String name, Supplier<Checksum> checksum, Combiner combiner) {
+        Random random = new Random(name.hashCode());
+        for (int i = 0; i < ITERATIONS; i++) {
+            long a = random.nextInt() & 0xFFFFFFFFL;
+            long b = random.nextInt() & 0xFFFFFFFFL;
+            long c = random.nextInt() & 0xFFFFFFFFL;
+            long lengthB = random.nextLong() >>> 3;
+            long lengthC = random.nextLong() >>> 3;
+
+            assertThat(combiner.combine(combiner.combine(a, b, lengthB), c, lengthC))
+                .isEqualTo(combiner.combine(a, combiner.combine(b, c, lengthC), lengthB + lengthC));
+        }
+    }
+
+    @Test
+    void sdkCrc32_combine_matchesJdkCrc32() {
+        Random random = new Random(0);
+        byte[] first = new byte[1000];
+        byte[] second = new byte[3000];
+        random.nextBytes(first);
+        random.nextBytes(second);
+
+        CRC32 whole = new CRC32();
+        whole.update(first);
+        whole.update(second);
+
+        assertThat(SdkCrc32.combine(crc(SdkCrc32::create, first, 0, first.length),
+                                    crc(SdkCrc32::create, second, 0, second.length),
+                                    second.length))
+            .isEqualTo(whole.getValue());
+    }
+
+    @Test
+    void combine_negativeLength_throws() {
+        assertThatThrownBy(() -> SdkCrc32.combine(0, 0, -1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SdkCrc32C.combine(0, 0, -1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static long crc(Supplier<Checksum> checksum, byte[] data, int offset, int length) {
+        Checksum crc = checksum.get();
+        crc.update(data, offset, length);
+        return crc.getValue();
+    }
+
+    @FunctionalInterface
+    private interface Combiner {
+        long combine(long crc1, long crc2, long length2);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class JdkCrcChecksumTest {
+    private static final byte[] DATA = new byte[10_000];
+
+    static {
+        new Random(0).nextBytes(DATA);
+    }
+
+    private static Stream<Arguments> algorithms() {
+        return Stream.of(Arguments.of("CRC32", (Supplier<JdkCrcChecksum>) JdkCrcChecksum::createCrc32,
+                                      (Supplier<Checksum>) SdkCrc32::create),
+                         Arguments.of("CRC32C", (Supplier<JdkCrcChecksum>) JdkCrcChecksum::createCrc32C,
+                                      (Supplier<Checksum>) SdkCrc32C::create));
+    }
+
+    @Test
+    void createCrc32C_onJava9OrLater_isAvailable() {
+        assertThat(JdkCrcChecksum.createCrc32C()).isNotNull();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void update_byteArrayAndSingleBytes_matchesSdkImplementation(String name, Supplier<JdkCrcChecksum> jdk,
+                                                                 Supplier<Checksum> sdk) {
+        JdkCrcChecksum checksum = jdk.get();
+        checksum.update(DATA[0]);
+        checksum.update(DATA, 1, DATA.length - 1);
+
+        assertThat(checksum.getValue()).isEqualTo(sdkValue(sdk, 0, DATA.length));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void update_heapAndDirectByteBuffers_matchesSdkImplementation(String name, Supplier<JdkCrcChecksum> jdk,
+                                                                  Supplier<Checksum> sdk) {
+        ByteBuffer heap = ByteBuffer.wrap(DATA, 100, 5000).slice();
+        ByteBuffer direct = ByteBuffer.allocateDirect(DATA.length - 5100);
+        direct.put(DATA, 5100, DATA.length - 5100).flip();
+
+        JdkCrcChecksum checksum = jdk.get();
+        checksum.update(DATA, 0, 100);
+        checksum.update(heap);
+        checksum.update(direct);
+
+        assertThat(checksum.getValue()).isEqualTo(sdkValue(sdk, 0, DATA.length));
+        assertThat(heap.hasRemaining()).isFalse();
+        assertThat(direct.hasRemaining()).isFalse();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void clone_isUpdatedIndependently(String name, Supplier<JdkCrcChecksum> jdk, Supplier<Checksum> sdk) {
+        JdkCrcChecksum checksum = jdk.get();
+        checksum.update(DATA, 0, 1000);
+        JdkCrcChecksum copy = (JdkCrcChecksum) checksum.clone();
+        checksum.update(DATA, 0, 10);
+
+        assertThat(copy.getValue()).isEqualTo(sdkValue(sdk, 0, 1000));
+
+        copy.update(DATA, 1000, DATA.length - 1000);
+        JdkCrcChecksum copyOfCopy = (JdkCrcChecksum) copy.clone();
+        assertThat(copy.getValue()).isEqualTo(sdkValue(sdk, 0, DATA.length));
+        assertThat(copyOfCopy.getValue()).isEqualTo(sdkValue(sdk, 0, DATA.length));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("algorithms")
+    void reset_ofClone_startsFromEmpty(String name, Supplier<JdkCrcChecksum> jdk, Supplier<Checksum> sdk) {
+        JdkCrcChecksum checksum = jdk.get();
+        checksum.update(DATA, 0, 1000);
+        JdkCrcChecksum copy = (JdkCrcChecksum) checksum.clone();
+        copy.reset();
+        copy.update(DATA, 0, 10);
+
+        assertThat(copy.getValue()).isEqualTo(sdkValue(sdk, 0, 10));
+    }
+
+    private static long sdkValue(Supplier<Checksum> sdk, int offset, int length) {
+        Checksum checksum = sdk.get();
+        checksum.update(DATA, offset, length);
+        return checksum.getValue();
+    }
+}
@@ -17,6 +17,8 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,7 +30,10 @@ import java.util.TreeMap;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.DigestAlgorithm;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -45,6 +50,8 @@ public final class V4CanonicalRequest {
     private static final List<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
 
+    private static final Comparator<Pair<String, List<String>>> HEADER_NAME_COMPARATOR = Comparator.comparing(Pair::left);
+
     private final SdkHttpRequest request;
     private final String contentHash;
     private final Options options;
@@ -94,6 +101,32 @@ public final class V4CanonicalRequest {
         return canonicalRequestString;
     }
 
+    /**
+     * Get the hex-encoded SHA-256 hash of the canonical request string.
+     * <p>
+     * Unless the canonical request string was already computed, the canonical request is written directly to the digest without
+     * building the canonical request string.
+     */
+    public String getCanonicalRequestHash() {
+        if (canonicalRequestString != null) {
+            return SignerUtils.hashCanonicalRequest(canonicalRequestString);
+        }
+
+        MessageDigest digest = DigestAlgorithm.SHA256.getDigest();
+        DigestSink sink = new DigestSink(digest);
+        sink.append(request.method().toString()).append('\n')
+            .append(canonicalUri()).append('\n')
+            .append(canonicalQueryString()).append('\n');
+        List<Pair<String, List<String>>> headers = canonicalHeaders();
+        appendCanonicalHeaders(sink, headers);
+        sink.append('\n');
+        appendSignedHeaders(sink, headers);
+        sink.append('\n')
+            .append(contentHash);
+        sink.flush();
+        return BinaryUtils.toHex(digest.digest());
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -146,7 +179,7 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
@@ -164,7 +197,7 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortIfNeeded(result);
 
         return result;
     }
@@ -185,16 +218,7 @@ public final class V4CanonicalRequest {
         // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
         // next-highest power-of-two.
         StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
-            result.append(header.left());
-            result.append(":");
-            for (String headerValue : header.right()) {
-                addAndTrim(result, headerValue);
-                result.append(",");
-            }
-            result.setLength(result.length() - 1);
-            result.append("\n");
-        });
+        appendCanonicalHeaders(new StringBuilderSink(result), canonicalHeaders);
         return result.toString();
     }
 
@@ -202,21 +226,43 @@ public final class V4CanonicalRequest {
      * Get the string representing which headers are part of the signing process. Header names are separated by a semicolon.
      */
     public static String getSignedHeadersString(List<Pair<String, List<String>>> canonicalHeaders) {
-        String signedHeadersString;
         StringBuilder headersString = new StringBuilder(512);
-        for (Pair<String, List<String>> header : canonicalHeaders) {
-            headersString.append(header.left()).append(";");
+        appendSignedHeaders(new StringBuilderSink(headersString), canonicalHeaders);
+        return headersString.toString();
+    }
+
+    /**
+     * Headers are retrieved sorted case-insensitively, which matches the order of their lower-case names unless a name contains
+     * one of the characters that sort between upper-case and lower-case letters, such as an underscore. Only sort in that case.
+     */
+    private static void sortIfNeeded(List<Pair<String, List<String>>> headers) {
+        for (int i = 1; i < headers.size(); i++) {
+            if (HEADER_NAME_COMPARATOR.compare(headers.get(i - 1), headers.get(i)) > 0) {
+                headers.sort(HEADER_NAME_COMPARATOR);
+                return;
+            }
         }
-        // get rid of trailing semicolon
-        signedHeadersString = headersString.toString();
+    }
 
-        boolean trimTrailingSemicolon = signedHeadersString.length() > 1 &&
-                                        signedHeadersString.endsWith(";");
+    private static void appendCanonicalHeaders(CanonicalRequestSink sink, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (Pair<String, List<String>> header : canonicalHeaders) {
+            sink.append(header.left());
+            List<String> values = header.right();
+            for (int i = 0; i < values.size(); i++) {
+                sink.append(i == 0 ? ':' : ',');
+                addAndTrim(sink, values.get(i));
+            }
+            sink.append('\n');
+        }
+    }
 
-        if (trimTrailingSemicolon) {
-            signedHeadersString = signedHeadersString.substring(0, signedHeadersString.length() - 1);
+    private static void appendSignedHeaders(CanonicalRequestSink sink, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (int i = 0; i < canonicalHeaders.size(); i++) {
+            if (i > 0) {
+                sink.append(';');
+            }
+            sink.append(canonicalHeaders.get(i).left());
         }
-        return signedHeadersString;
     }
 
     /**
@@ -248,7 +294,7 @@ public final class V4CanonicalRequest {
      * but does not create a Pattern object that needs to compile the match string; it also prevents us from having to make a
      * Matcher object as well.
      */
-    private static void addAndTrim(StringBuilder result, String value) {
+    private static void addAndTrim(CanonicalRequestSink result, String value) {
         int valueLength = value.length();
         if (valueLength == 0) {
             return;
@@ -329,6 +375,10 @@ public final class V4CanonicalRequest {
      * Get the sorted map of query parameters that are to be signed.
      */
     private static SortedMap<String, List<String>> getCanonicalQueryParams(SdkHttpRequest request) {
+        if (request.numRawQueryParameters() == 0) {
+            return Collections.emptySortedMap();
+        }
+
         SortedMap<String, List<String>> sorted = new TreeMap<>();
 
         // Signing protocol expects the param values also to be sorted after url
@@ -391,6 +441,97 @@ public final class V4CanonicalRequest {
         }
     }
 
+    /**
+     * A destination for the characters of (part of) a canonical request.
+     */
+    private interface CanonicalRequestSink {
+        CanonicalRequestSink append(char c);
+
+        CanonicalRequestSink append(String value, int start, int end);
+
+        default CanonicalRequestSink append(String value) {
+            return append(value, 0, value.length());
+        }
+    }
+
+    private static final class StringBuilderSink implements CanonicalRequestSink {
+        private final StringBuilder builder;
+
+        private StringBuilderSink(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public CanonicalRequestSink append(char c) {
+            builder.append(c);
+            return this;
+        }
+
+        @Override
+        public CanonicalRequestSink append(String value, int start, int end) {
+            builder.append(value, start, end);
+            return this;
+        }
+    }
+
+    /**
+     * Writes the UTF-8 encoding of the appended characters to a {@link MessageDigest}. ASCII characters, which make up almost all
+     * of a canonical request, are collected in a buffer and written in blocks.
+     */
+    private static final class DigestSink implements CanonicalRequestSink {
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[256];
+        private int position;
+
+        private DigestSink(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public CanonicalRequestSink append(char c) {
+            if (c < 0x80) {
+                if (position == buffer.length) {
+                    flush();
+                }
+                buffer[position++] = (byte) c;
+                return this;
+            }
+            flush();
+            digest.update(String.valueOf(c).getBytes(StandardCharsets.UTF_8));
+            return this;
+        }
+
+        @Override
+        public CanonicalRequestSink append(String value, int start, int end) {
+            int i = start;
+            while (i < end) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    if (position == buffer.length) {
+                        flush();
+                    }
+                    buffer[position++] = (byte) c;
+                    i++;
+                } else {
+                    // Encode the whole run of non-ASCII characters at once, so that surrogate pairs stay together
+                    int runEnd = i + 1;
+                    while (runEnd < end && value.charAt(runEnd) >= 0x80) {
+                        runEnd++;
+                    }
+                    flush();
+                    digest.update(value.substring(i, runEnd).getBytes(StandardCharsets.UTF_8));
+                    i = runEnd;
+                }
+            }
+            return this;
+        }
+
+        private void flush() {
+            digest.update(buffer, 0, position);
+            position = 0;
+        }
+    }
+
     /**
      * A class for representing options used when creating a {@link V4CanonicalRequest}
      */
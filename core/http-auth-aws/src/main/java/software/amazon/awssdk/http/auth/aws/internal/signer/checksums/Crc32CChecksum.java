@@ -19,8 +19,8 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.crt.checksums.CRC32C;
-import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
+import software.amazon.awssdk.checksums.internal.JdkCrcChecksum;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32C checksum.
@@ -28,31 +28,14 @@ import software.amazon.awssdk.utils.ClassLoaderHelper;
 @SdkInternalApi
 public class Crc32CChecksum implements SdkChecksum {
 
-    private static final String CRT_CLASSPATH_FOR_CRC32C = "software.amazon.awssdk.crt.checksums.CRC32C";
-    private static final ThreadLocal<Boolean> IS_CRT_AVAILABLE = ThreadLocal.withInitial(Crc32CChecksum::isCrtAvailable);
-
     private Checksum crc32c;
     private Checksum lastMarkedCrc32C;
 
     /**
-     * Creates CRT Based Crc32C checksum if Crt classpath for Crc32c is loaded, else create Sdk Implemented Crc32c
+     * Creates a Crc32C checksum backed by the fastest available implementation, as selected by {@link CrcChecksumProvider}.
      */
     public Crc32CChecksum() {
-        if (IS_CRT_AVAILABLE.get()) {
-            crc32c = new CRC32C();
-        } else {
-            crc32c = SdkCrc32CChecksum.create();
-        }
-    }
-
-    private static boolean isCrtAvailable() {
-        try {
-            ClassLoaderHelper.loadClass(CRT_CLASSPATH_FOR_CRC32C, false);
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-
-        return true;
+        crc32c = CrcChecksumProvider.crc32cImplementation();
     }
 
     private static byte[] longToByte(Long input) {
@@ -68,7 +51,7 @@ public class Crc32CChecksum implements SdkChecksum {
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32C = cloneChecksum(crc32c);
+        this.lastMarkedCrc32C = CrcChecksumProvider.cloneChecksum(crc32c);
     }
 
     @Override
@@ -81,6 +64,15 @@ public class Crc32CChecksum implements SdkChecksum {
         crc32c.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (crc32c instanceof JdkCrcChecksum) {
+            ((JdkCrcChecksum) crc32c).update(buffer);
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
+    }
+
     @Override
     public long getValue() {
         return crc32c.getValue();
@@ -91,19 +83,7 @@ public class Crc32CChecksum implements SdkChecksum {
         if (lastMarkedCrc32C == null) {
             crc32c.reset();
         } else {
-            crc32c = cloneChecksum(lastMarkedCrc32C);
+            crc32c = CrcChecksumProvider.cloneChecksum(lastMarkedCrc32C);
         }
     }
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (checksum instanceof CRC32C) {
-            return (Checksum) ((CRC32C) checksum).clone();
-        }
-
-        if (checksum instanceof SdkCrc32CChecksum) {
-            return (Checksum) ((SdkCrc32CChecksum) checksum).clone();
-        }
-
-        throw new IllegalStateException("Unsupported checksum");
-    }
 }
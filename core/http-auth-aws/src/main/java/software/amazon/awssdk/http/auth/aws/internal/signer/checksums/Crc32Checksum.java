@@ -19,40 +19,23 @@ import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.crt.checksums.CRC32;
-import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
+import software.amazon.awssdk.checksums.internal.JdkCrcChecksum;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32 checksum.
  */
 @SdkInternalApi
 public class Crc32Checksum implements SdkChecksum {
-    private static final String CRT_CLASSPATH_FOR_CRC32 = "software.amazon.awssdk.crt.checksums.CRC32";
-    private static final ThreadLocal<Boolean> IS_CRT_AVAILABLE = ThreadLocal.withInitial(Crc32Checksum::isCrtAvailable);
 
     private Checksum crc32;
     private Checksum lastMarkedCrc32;
 
-
     /**
-     * Creates CRT Based Crc32 checksum if Crt classpath for Crc32 is loaded, else create Sdk Implemented Crc32.
+     * Creates a Crc32 checksum backed by the fastest available implementation, as selected by {@link CrcChecksumProvider}.
      */
     public Crc32Checksum() {
-        if (IS_CRT_AVAILABLE.get()) {
-            crc32 = new CRC32();
-        } else {
-            crc32 = SdkCrc32Checksum.create();
-        }
-    }
-
-    private static boolean isCrtAvailable() {
-        try {
-            ClassLoaderHelper.loadClass(CRT_CLASSPATH_FOR_CRC32, false);
-        } catch (ClassNotFoundException e) {
-            return false;
-        }
-
-        return true;
+        crc32 = CrcChecksumProvider.crc32Implementation();
     }
 
     private static byte[] longToByte(Long input) {
@@ -68,7 +51,7 @@ public class Crc32Checksum implements SdkChecksum {
 
     @Override
     public void mark(int readLimit) {
-        this.lastMarkedCrc32 = cloneChecksum(crc32);
+        this.lastMarkedCrc32 = CrcChecksumProvider.cloneChecksum(crc32);
     }
 
     @Override
@@ -81,6 +64,15 @@ public class Crc32Checksum implements SdkChecksum {
         crc32.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (crc32 instanceof JdkCrcChecksum) {
+            ((JdkCrcChecksum) crc32).update(buffer);
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
+    }
+
     @Override
     public long getValue() {
         return crc32.getValue();
@@ -91,19 +83,7 @@ public class Crc32Checksum implements SdkChecksum {
         if (lastMarkedCrc32 == null) {
             crc32.reset();
         } else {
-            crc32 = cloneChecksum(lastMarkedCrc32);
+            crc32 = CrcChecksumProvider.cloneChecksum(lastMarkedCrc32);
         }
     }
-
-    private Checksum cloneChecksum(Checksum checksum) {
-        if (checksum instanceof CRC32) {
-            return (Checksum) ((CRC32) checksum).clone();
-        }
-
-        if (checksum instanceof SdkCrc32Checksum) {
-            return (Checksum) ((SdkCrc32Checksum) checksum).clone();
-        }
-
-        throw new IllegalStateException("Unsupported checksum");
-    }
 }
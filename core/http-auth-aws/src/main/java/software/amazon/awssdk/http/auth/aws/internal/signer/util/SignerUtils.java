@@ -36,6 +36,7 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.DateUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
@@ -47,8 +48,8 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final SigningKeyCache SIGNER_CACHE =
+        new SigningKeyCache(300);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -91,32 +92,30 @@ public final class SignerUtils {
     }
 
     /**
-     * Get the signing key based on the given credentials and a credential-scope
+     * Get the signing key based on the given credentials and a credential-scope. The returned array may be shared with other
+     * callers and must not be modified.
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
+        String secretAccessKey = credentials.secretAccessKey();
+        String region = credentialScope.getRegion();
+        String service = credentialScope.getService();
+        long daysSinceEpoch = DateUtils.numberOfDaysSinceEpoch(credentialScope.getInstant().toEpochMilli());
+
+        byte[] signingKey = SIGNER_CACHE.get(secretAccessKey, region, service, daysSinceEpoch);
+        if (signingKey != null) {
+            return signingKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
                         credentialScope.getInstant().toEpochMilli());
-        byte[] signingKey = newSigningKey(credentials,
-                                          credentialScope.getDate(),
-                                          credentialScope.getRegion(),
-                                          credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
+        signingKey = newSigningKey(credentials,
+                                   credentialScope.getDate(),
+                                   region,
+                                   service);
+        SIGNER_CACHE.put(secretAccessKey, region, service, daysSinceEpoch, signingKey);
         return signingKey;
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
                                         String dateStamp, String regionName, String serviceName) {
         byte[] kSecret = ("AWS4" + credentials.secretAccessKey())
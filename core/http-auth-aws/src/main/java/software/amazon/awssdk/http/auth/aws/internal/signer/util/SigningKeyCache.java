@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A bounded, lock-free cache of SigV4 signing keys, keyed on the secret access key, region, service and signing day.
+ * <p>
+ * The cache is a set-associative table: a key hashes to a small window of slots, and only those slots are searched on lookup
+ * or considered for replacement on insertion. Lookups perform volatile reads and field comparisons only, so a hit does not
+ * take a lock or allocate. Concurrent insertions may overwrite one another; this only costs a future re-derivation of the
+ * signing key.
+ * <p>
+ * When inserting, an entry for the same secret, region and service is replaced in-place, so keys from previous days never
+ * accumulate. Otherwise an empty slot, then an entry from a different day, then a random entry in the window is evicted.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private static final int WINDOW_SIZE = 4;
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+
+    /**
+     * @param maxSize the maximum number of entries of the cache. This is rounded up to a power of two of at least four.
+     */
+    public SigningKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize + " must be at least 1");
+        }
+        int capacity = Math.max(WINDOW_SIZE, Integer.highestOneBit(maxSize - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the cached signing key for the given scope, or null if no key for the given day is cached. The returned array is
+     * shared and must not be modified.
+     */
+    public byte[] get(String secretAccessKey, String region, String service, long daysSinceEpoch) {
+        int start = index(secretAccessKey, region, service);
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            Entry entry = slots.get((start + i) & mask);
+            if (entry != null && entry.daysSinceEpoch == daysSinceEpoch && entry.matches(secretAccessKey, region, service)) {
+                return entry.signingKey;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a signing key to the cache, replacing any key cached for the same secret, region and service.
+     */
+    public void put(String secretAccessKey, String region, String service, long daysSinceEpoch, byte[] signingKey) {
+        Entry newEntry = new Entry(secretAccessKey, region, service, daysSinceEpoch, signingKey.clone());
+        int start = index(secretAccessKey, region, service);
+        int victim = -1;
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            int slot = (start + i) & mask;
+            Entry entry = slots.get(slot);
+            if (entry == null || entry.matches(secretAccessKey, region, service)) {
+                victim = slot;
+                break;
+            }
+            if (victim < 0 && entry.daysSinceEpoch != daysSinceEpoch) {
+                victim = slot;
+            }
+        }
+        if (victim < 0) {
+            victim = (start + ThreadLocalRandom.current().nextInt(WINDOW_SIZE)) & mask;
+        }
+        slots.set(victim, newEntry);
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of entries the cache can hold.
+     */
+    public int getMaxSize() {
+        return slots.length();
+    }
+
+    private int index(String secretAccessKey, String region, String service) {
+        int h = (secretAccessKey.hashCode() * 31 + region.hashCode()) * 31 + service.hashCode();
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static final class Entry {
+        private final String secretAccessKey;
+        private final String region;
+        private final String service;
+        private final long daysSinceEpoch;
+        private final byte[] signingKey;
+
+        private Entry(String secretAccessKey, String region, String service, long daysSinceEpoch, byte[] signingKey) {
+            this.secretAccessKey = secretAccessKey;
+            this.region = region;
+            this.service = service;
+            this.daysSinceEpoch = daysSinceEpoch;
+            this.signingKey = signingKey;
+        }
+
+        private boolean matches(String secretAccessKey, String region, String service) {
+            return this.secretAccessKey.equals(secretAccessKey)
+                   && this.region.equals(region)
+                   && this.service.equals(service);
+        }
+    }
+}
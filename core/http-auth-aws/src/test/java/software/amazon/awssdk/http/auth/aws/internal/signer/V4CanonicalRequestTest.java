@@ -18,11 +18,13 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Arrays;
+import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils;
 import software.amazon.awssdk.utils.ToString;
 
 /**
@@ -183,6 +185,58 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    @Test
+    public void canonicalRequest_WithUnderscoreHeader_shouldSortByLowerCaseName() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.PUT)
+                                               .putHeader("x_foo", "1")
+                                               .putHeader("xa", "2")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        assertEquals("PUT\n/\n\nx_foo:1\nxa:2\n\nx_foo;xa\nsha-256", cr.getCanonicalRequestString());
+    }
+
+    public static Iterable<SdkHttpRequest> hashRequests() {
+        return Arrays.asList(
+            SdkHttpRequest.builder()
+                          .protocol("https")
+                          .host("dynamodb.us-east-1.amazonaws.com")
+                          .method(SdkHttpMethod.POST)
+                          .putHeader("Content-Type", "application/x-amz-json-1.0")
+                          .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                          .putHeader("User-Agent", "ignored")
+                          .build(),
+            SdkHttpRequest.builder()
+                          .protocol("https")
+                          .host("bucket.s3.us-east-1.amazonaws.com")
+                          .encodedPath("/key%20with%20spaces/and/./dots")
+                          .method(SdkHttpMethod.GET)
+                          .putRawQueryParameter("partNumber", "2")
+                          .putRawQueryParameter("versionId", Arrays.asList("b", "a"))
+                          .putRawQueryParameter("empty", (String) null)
+                          .appendHeader("x-amz-meta-multi", "  one   two ")
+                          .appendHeader("x-amz-meta-multi", "three")
+                          .putHeader("x_underscore", "value")
+                          .putHeader("x-amz-meta-empty", Collections.emptyList())
+                          .putHeader("x-amz-meta-unicode", "caf\u00e9 \ud83d\ude00")
+                          .build());
+    }
+
+    @ParameterizedTest
+    @MethodSource("hashRequests")
+    public void canonicalRequestHash_matchesHashOfCanonicalRequestString(SdkHttpRequest request) {
+        V4CanonicalRequest.Options options = new V4CanonicalRequest.Options(false, true);
+        String expected = SignerUtils.hashCanonicalRequest(
+            new V4CanonicalRequest(request, "sha-256", options).getCanonicalRequestString());
+
+        assertEquals(expected, new V4CanonicalRequest(request, "sha-256", options).getCanonicalRequestHash());
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
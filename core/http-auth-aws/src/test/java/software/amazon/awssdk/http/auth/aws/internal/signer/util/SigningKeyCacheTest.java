@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class SigningKeyCacheTest {
+    private static final byte[] KEY1 = {1};
+    private static final byte[] KEY2 = {2};
+
+    @Test
+    public void get_matchingEntry_returnsKey() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-east-1", "sqs", 1, KEY1);
+        cache.put("secret", "us-east-1", "dynamodb", 1, KEY2);
+
+        assertArrayEquals(KEY1, cache.get("secret", "us-east-1", "sqs", 1));
+        assertArrayEquals(KEY2, cache.get("secret", "us-east-1", "dynamodb", 1));
+        assertNull(cache.get("secret", "us-west-2", "sqs", 1));
+        assertNull(cache.get("other-secret", "us-east-1", "sqs", 1));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_hit_allocatesNothing() {
+        ThreadMXBean threadMxBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMxBean instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean allocationTracker = (com.sun.management.ThreadMXBean) threadMxBean;
+        assumeTrue(allocationTracker.isThreadAllocatedMemorySupported());
+        allocationTracker.setThreadAllocatedMemoryEnabled(true);
+
+        SigningKeyCache cache = new SigningKeyCache(8);
+        String secret = "secret";
+        String region = "us-east-1";
+        String service = "sqs";
+        cache.put(secret, region, service, 1, KEY1);
+        cache.get(secret, region, service, 1);
+
+        // Few enough calls that the lookup isn't optimized by escape analysis, which could hide an allocated lookup key
+        long threadId = Thread.currentThread().getId();
+        long before = allocationTracker.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(secret, region, service, 1);
+        }
+        long allocated = allocationTracker.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(allocated < 1000, "1000 cache hits allocated " + allocated + " bytes");
+    }
+
+    @Test
+    public void get_differentDay_returnsNull() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-east-1", "sqs", 1, KEY1);
+
+        assertNull(cache.get("secret", "us-east-1", "sqs", 2));
+    }
+
+    @Test
+    public void put_sameScopeNewDay_replacesEntry() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        cache.put("secret", "us-east-1", "sqs", 1, KEY1);
+        cache.put("secret", "us-east-1", "sqs", 2, KEY2);
+
+        assertEquals(1, cache.size());
+        assertNull(cache.get("secret", "us-east-1", "sqs", 1));
+        assertArrayEquals(KEY2, cache.get("secret", "us-east-1", "sqs", 2));
+    }
+
+    @Test
+    public void put_copiesKey() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        byte[] key = {1, 2, 3};
+        cache.put("secret", "us-east-1", "sqs", 1, key);
+        key[0] = 9;
+
+        assertArrayEquals(new byte[] {1, 2, 3}, cache.get("secret", "us-east-1", "sqs", 1));
+    }
+
+    @Test
+    public void put_moreEntriesThanCapacity_staysBounded() {
+        SigningKeyCache cache = new SigningKeyCache(16);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("secret" + i, "us-east-1", "sqs", 1, KEY1);
+        }
+
+        assertEquals(16, cache.getMaxSize());
+        assertTrue(cache.size() <= 16);
+        assertArrayEquals(KEY1, cache.get("secret999", "us-east-1", "sqs", 1));
+    }
+
+    @Test
+    public void maxSize_roundedUpToPowerOfTwo() {
+        assertEquals(4, new SigningKeyCache(1).getMaxSize());
+        assertEquals(512, new SigningKeyCache(300).getMaxSize());
+    }
+
+    @Test
+    public void testIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> new SigningKeyCache(0));
+    }
+
+    @Test
+    public void concurrentAccess_alwaysReturnsKeyForRequestedScope() {
+        SigningKeyCache cache = new SigningKeyCache(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int scope = i % 32;
+                        byte[] key = cache.get("secret" + scope, "us-east-1", "sqs", 1);
+                        if (key == null) {
+                            cache.put("secret" + scope, "us-east-1", "sqs", 1, new byte[] {(byte) scope});
+                        } else {
+                            assertEquals(scope, key[0]);
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -109,6 +109,23 @@ public final class JsonNodeParser {
         });
     }
 
+    /**
+     * Parse the value that the provided {@link JsonParser} is currently positioned at into a {@link JsonNode}. When this
+     * returns, the parser is positioned at the last token of that value.
+     *
+     * <p>This allows callers that are reading a document token-by-token to materialize only a subset of the document.
+     */
+    public JsonNode parse(JsonParser parser, JsonToken currentToken) {
+        return invokeSafely(() -> {
+            try {
+                return parseToken(parser, currentToken);
+            } catch (Exception e) {
+                removeErrorLocationsIfRequired(e);
+                throw e;
+            }
+        });
+    }
+
     private JsonNode parse(JsonParser parser) throws IOException {
         try {
             return parseToken(parser, parser.nextToken());
@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.internal.LogLinearHistogram;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricPublisher} that aggregates latency metrics in memory, instead of retaining each {@link MetricCollection}.
+ * <p>
+ * The values of each configured latency metric are recorded into a fixed-size histogram per service, operation and metric.
+ * The histograms are periodically handed to a {@link LatencyHistogramSink} and reset, and can be inspected at any time with
+ * {@link #snapshot()}. This gives percentile latencies, such as p99, at a small and constant memory cost, no matter how many
+ * requests are made.
+ * <p>
+ * By default, the {@code ApiCallDuration}, {@code ServiceCallDuration} and {@code ConcurrencyAcquireDuration} metrics are
+ * recorded, and the histograms are logged once a minute. For example:
+ * <pre>
+ * AggregatingMetricPublisher publisher =
+ *     AggregatingMetricPublisher.builder()
+ *                               .latencyMetrics(CoreMetric.API_CALL_DURATION)
+ *                               .flushFrequency(Duration.ofSeconds(30))
+ *                               .sink(snapshots -> snapshots.forEach(s -> report(s.operationName(), s.percentile(99))))
+ *                               .build();
+ * DynamoDbClient client = DynamoDbClient.builder()
+ *                                       .overrideConfiguration(c -> c.addMetricPublisher(publisher))
+ *                                       .build();
+ * </pre>
+ * The publisher should be {@link #close()}d when it is no longer needed, which flushes any remaining values to the sink.
+ */
+@ThreadSafe
+@SdkPublicApi
+public final class AggregatingMetricPublisher implements MetricPublisher {
+    private static final Logger log = Logger.loggerFor(AggregatingMetricPublisher.class);
+
+    private static final String SERVICE_ID = "ServiceId";
+    private static final String OPERATION_NAME = "OperationName";
+    private static final Set<String> DEFAULT_LATENCY_METRICS = Collections.unmodifiableSet(
+        new HashSet<>(Arrays.asList("ApiCallDuration", "ServiceCallDuration", "ConcurrencyAcquireDuration")));
+    private static final Duration DEFAULT_FLUSH_FREQUENCY = Duration.ofMinutes(1);
+
+    private final Set<String> latencyMetrics;
+    private final LatencyHistogramSink sink;
+    private final Map<HistogramKey, LogLinearHistogram> histograms = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduledExecutor;
+
+    private AggregatingMetricPublisher(Builder builder) {
+        this.latencyMetrics = resolveLatencyMetrics(builder);
+        this.sink = builder.sink == null ? LatencyHistogramSink.logging() : builder.sink;
+
+        Duration flushFrequency = builder.flushFrequency == null ? DEFAULT_FLUSH_FREQUENCY : builder.flushFrequency;
+        Validate.isPositive(flushFrequency, "flushFrequency");
+        this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().threadNamePrefix("aggregating-metric-publisher").build());
+        long flushFrequencyInMillis = flushFrequency.toMillis();
+        this.scheduledExecutor.scheduleAtFixedRate(this::flush, flushFrequencyInMillis, flushFrequencyInMillis,
+                                                   TimeUnit.MILLISECONDS);
+    }
+
+    private static Set<String> resolveLatencyMetrics(Builder builder) {
+        if (builder.latencyMetrics == null) {
+            return DEFAULT_LATENCY_METRICS;
+        }
+        Set<String> names = new HashSet<>();
+        builder.latencyMetrics.forEach(m -> names.add(m.name()));
+        return Collections.unmodifiableSet(names);
+    }
+
+    @Override
+    public void publish(MetricCollection metricCollection) {
+        String serviceId = null;
+        String operationName = null;
+        for (MetricRecord<?> record : metricCollection) {
+            String name = record.metric().name();
+            if (SERVICE_ID.equals(name)) {
+                serviceId = String.valueOf(record.value());
+            } else if (OPERATION_NAME.equals(name)) {
+                operationName = String.valueOf(record.value());
+            }
+        }
+        record(metricCollection, serviceId, operationName);
+    }
+
+    private void record(MetricCollection metricCollection, String serviceId, String operationName) {
+        for (MetricRecord<?> record : metricCollection) {
+            Object value = record.value();
+            if (value instanceof Duration && latencyMetrics.contains(record.metric().name())) {
+                HistogramKey key = new HistogramKey(serviceId, operationName, record.metric().name());
+                histograms.computeIfAbsent(key, k -> new LogLinearHistogram())
+                          .record(toMicros((Duration) value));
+            }
+        }
+        metricCollection.children().forEach(child -> record(child, serviceId, operationName));
+    }
+
+    private static long toMicros(Duration duration) {
+        try {
+            return TimeUnit.SECONDS.toMicros(duration.getSeconds()) + duration.getNano() / 1_000;
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Return the histograms of the values recorded since the last flush, without resetting them. Histograms without any
+     * values are omitted.
+     */
+    public List<LatencyHistogramSnapshot> snapshot() {
+        return snapshot(false);
+    }
+
+    private List<LatencyHistogramSnapshot> snapshot(boolean reset) {
+        List<LatencyHistogramSnapshot> snapshots = new ArrayList<>();
+        histograms.forEach((key, histogram) -> {
+            LogLinearHistogram.Snapshot snapshot = histogram.snapshot(reset);
+            if (snapshot.count() > 0) {
+                snapshots.add(new LatencyHistogramSnapshot(key.serviceId, key.operationName, key.metricName, snapshot));
+            }
+        });
+        return snapshots;
+    }
+
+    private void flush() {
+        try {
+            List<LatencyHistogramSnapshot> snapshots = snapshot(true);
+            if (!snapshots.isEmpty()) {
+                sink.accept(snapshots);
+            }
+        } catch (RuntimeException e) {
+            log.warn(() -> "Failed to flush latency histograms.", e);
+        }
+    }
+
+    /**
+     * Stop the periodic flush, and flush any values recorded since the last flush to the sink.
+     */
+    @Override
+    public void close() {
+        scheduledExecutor.shutdown();
+        try {
+            if (!scheduledExecutor.awaitTermination(60, TimeUnit.SECONDS)) {
+                log.warn(() -> "Timed out waiting for an in-progress flush to complete.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn(() -> "Interrupted waiting for an in-progress flush to complete.", e);
+        }
+        flush();
+    }
+
+    /**
+     * Create a new {@link Builder} that can be used to create {@link AggregatingMetricPublisher}s.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create an {@link AggregatingMetricPublisher} using all default values.
+     */
+    public static AggregatingMetricPublisher create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder class to construct {@link AggregatingMetricPublisher} instances.
+     */
+    public static final class Builder {
+        private Collection<SdkMetric<Duration>> latencyMetrics;
+        private Duration flushFrequency;
+        private LatencyHistogramSink sink;
+
+        private Builder() {
+        }
+
+        /**
+         * Configure the latency metrics to record into histograms. Metrics are matched by name, so this can include metrics
+         * reported by HTTP clients and services, as well as those of the SDK core.
+         *
+         * <p>If this is not specified, {@code ApiCallDuration}, {@code ServiceCallDuration} and
+         * {@code ConcurrencyAcquireDuration} are recorded.
+         */
+        public Builder latencyMetrics(Collection<SdkMetric<Duration>> latencyMetrics) {
+            this.latencyMetrics = new ArrayList<>(latencyMetrics);
+            return this;
+        }
+
+        /**
+         * @see #latencyMetrics(Collection)
+         */
+        @SafeVarargs
+        public final Builder latencyMetrics(SdkMetric<Duration>... latencyMetrics) {
+            return latencyMetrics(Arrays.asList(latencyMetrics));
+        }
+
+        /**
+         * Configure how often the histograms are handed to the {@link #sink(LatencyHistogramSink)} and reset.
+         *
+         * <p>If this is not specified, the histograms are flushed once per minute.
+         */
+        public Builder flushFrequency(Duration flushFrequency) {
+            this.flushFrequency = flushFrequency;
+            return this;
+        }
+
+        /**
+         * Configure where the histograms are sent on each flush.
+         *
+         * <p>If this is not specified, the histograms are logged with {@link LatencyHistogramSink#logging()}.
+         */
+        public Builder sink(LatencyHistogramSink sink) {
+            this.sink = sink;
+            return this;
+        }
+
+        /**
+         * Build an {@link AggregatingMetricPublisher} using the configuration currently configured on this builder.
+         */
+        public AggregatingMetricPublisher build() {
+            return new AggregatingMetricPublisher(this);
+        }
+    }
+
+    private static final class HistogramKey {
+        private final String serviceId;
+        private final String operationName;
+        private final String metricName;
+
+        private HistogramKey(String serviceId, String operationName, String metricName) {
+            this.serviceId = serviceId;
+            this.operationName = operationName;
+            this.metricName = metricName;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            HistogramKey that = (HistogramKey) o;
+            return Objects.equals(serviceId, that.serviceId)
+                   && Objects.equals(operationName, that.operationName)
+                   && metricName.equals(that.metricName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(serviceId);
+            result = 31 * result + Objects.hashCode(operationName);
+            result = 31 * result + metricName.hashCode();
+            return result;
+        }
+    }
+}
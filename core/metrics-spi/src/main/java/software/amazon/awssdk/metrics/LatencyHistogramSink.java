@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import java.util.List;
+import org.slf4j.event.Level;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Receives the latency histograms periodically flushed by an {@link AggregatingMetricPublisher}.
+ * <p>
+ * Implementations are called from the publisher's flush thread, and should hand off any slow work, such as network calls, to
+ * another thread.
+ */
+@FunctionalInterface
+@SdkPublicApi
+public interface LatencyHistogramSink {
+
+    /**
+     * Accept the histograms of the values recorded since the previous flush. Histograms without any values are omitted.
+     */
+    void accept(List<LatencyHistogramSnapshot> snapshots);
+
+    /**
+     * Create a sink that logs each histogram under the {@code software.amazon.awssdk.metrics.LatencyHistogramSink} namespace at
+     * {@link Level#INFO}.
+     */
+    static LatencyHistogramSink logging() {
+        return logging(Level.INFO);
+    }
+
+    /**
+     * Create a sink that logs each histogram under the {@code software.amazon.awssdk.metrics.LatencyHistogramSink} namespace at
+     * the given level.
+     */
+    static LatencyHistogramSink logging(Level logLevel) {
+        Validate.notNull(logLevel, "logLevel");
+        Logger logger = Logger.loggerFor(LatencyHistogramSink.class);
+        return snapshots -> {
+            if (logger.isLoggingLevelEnabled(logLevel)) {
+                snapshots.forEach(s -> logger.log(logLevel, () -> "Latency histogram: " + s));
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.internal.LogLinearHistogram;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The distribution of the values of a latency metric for one operation, recorded by an {@link AggregatingMetricPublisher}.
+ * <p>
+ * Values are recorded with microsecond precision, and percentiles are accurate to within about 3%.
+ */
+@Immutable
+@SdkPublicApi
+public final class LatencyHistogramSnapshot {
+    private final String serviceId;
+    private final String operationName;
+    private final String metricName;
+    private final LogLinearHistogram.Snapshot histogram;
+
+    LatencyHistogramSnapshot(String serviceId, String operationName, String metricName, LogLinearHistogram.Snapshot histogram) {
+        this.serviceId = serviceId;
+        this.operationName = operationName;
+        this.metricName = metricName;
+        this.histogram = histogram;
+    }
+
+    /**
+     * @return The {@code ServiceId} of the API calls that reported the metric, or null if it was not reported.
+     */
+    public String serviceId() {
+        return serviceId;
+    }
+
+    /**
+     * @return The {@code OperationName} of the API calls that reported the metric, or null if it was not reported.
+     */
+    public String operationName() {
+        return operationName;
+    }
+
+    /**
+     * @return The name of the metric, e.g. {@code ApiCallDuration}.
+     */
+    public String metricName() {
+        return metricName;
+    }
+
+    /**
+     * @return The number of values recorded.
+     */
+    public long count() {
+        return histogram.count();
+    }
+
+    /**
+     * @return The smallest value recorded, or zero if no values were recorded.
+     */
+    public Duration min() {
+        return micros(histogram.min());
+    }
+
+    /**
+     * @return The largest value recorded, or zero if no values were recorded.
+     */
+    public Duration max() {
+        return micros(histogram.max());
+    }
+
+    /**
+     * @return The mean of the values recorded, or zero if no values were recorded.
+     */
+    public Duration mean() {
+        return micros(Math.round(histogram.mean()));
+    }
+
+    /**
+     * Return the value at the given percentile, or zero if no values were recorded.
+     *
+     * @param percentile The percentile, between 0 and 100. For example, 99 for the p99 value.
+     */
+    public Duration percentile(double percentile) {
+        return micros(histogram.valueAtPercentile(percentile));
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.of(micros, ChronoUnit.MICROS);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LatencyHistogramSnapshot")
+                       .add("serviceId", serviceId)
+                       .add("operationName", operationName)
+                       .add("metricName", metricName)
+                       .add("count", count())
+                       .add("min", min())
+                       .add("mean", mean())
+                       .add("p50", percentile(50))
+                       .add("p90", percentile(90))
+                       .add("p99", percentile(99))
+                       .add("max", max())
+                       .build();
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -33,11 +34,13 @@ import software.amazon.awssdk.utils.Validate;
 @SdkInternalApi
 public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements SdkMetric<T> {
     private static final ConcurrentHashMap<SdkMetric<?>, Boolean> SDK_METRICS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
 
     private final String name;
     private final Class<T> clzz;
     private final Set<MetricCategory> categories;
     private final MetricLevel level;
+    private final int index;
 
     private DefaultSdkMetric(String name, Class<T> clzz, MetricLevel level, Set<MetricCategory> categories) {
         super(clzz);
@@ -46,6 +49,7 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         this.level = Validate.notNull(level, "level must not be null");
         Validate.notEmpty(categories, "categories must not be empty");
         this.categories = EnumSet.copyOf(categories);
+        this.index = NEXT_INDEX.getAndIncrement();
     }
 
     /**
@@ -77,6 +81,14 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         return clzz;
     }
 
+    /**
+     * @return The dense, zero-based index of this metric, in order of creation. Used to store metric values in arrays
+     * instead of maps.
+     */
+    public int index() {
+        return index;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -147,6 +159,20 @@ public final class DefaultSdkMetric<T> extends AttributeMap.Key<T> implements Sd
         return event;
     }
 
+    /**
+     * Return the {@link #index()} of the given metric, or -1 if it was not created by this class.
+     */
+    public static int indexOf(SdkMetric<?> metric) {
+        return metric instanceof DefaultSdkMetric ? ((DefaultSdkMetric<?>) metric).index : -1;
+    }
+
+    /**
+     * @return The number of metrics created so far, which is one more than the highest {@link #index()}.
+     */
+    public static int metricCount() {
+        return NEXT_INDEX.get();
+    }
+
     @SdkTestInternalApi
     static void clearDeclaredMetrics() {
         SDK_METRICS.clear();
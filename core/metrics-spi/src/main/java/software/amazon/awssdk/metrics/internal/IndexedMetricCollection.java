@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * The {@link MetricCollection} returned by {@link IndexedMetricCollector}, which reads the collector's records in place.
+ */
+@SdkInternalApi
+final class IndexedMetricCollection implements MetricCollection {
+    private final String name;
+    private final IndexedMetricRecord<?>[] heads;
+    private final Map<SdkMetric<?>, List<MetricRecord<?>>> overflowMetrics;
+    private final List<MetricCollection> children;
+    private final Instant creationTime;
+
+    IndexedMetricCollection(String name,
+                            IndexedMetricRecord<?>[] heads,
+                            Map<SdkMetric<?>, List<MetricRecord<?>>> overflowMetrics,
+                            List<MetricCollection> children) {
+        this.name = name;
+        this.heads = heads;
+        this.overflowMetrics = overflowMetrics;
+        this.children = Collections.unmodifiableList(children);
+        this.creationTime = Instant.now();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> metricValues(SdkMetric<T> metric) {
+        int index = DefaultSdkMetric.indexOf(metric);
+        if (index >= 0 && index < heads.length) {
+            return (List<T>) values(heads[index]);
+        }
+
+        List<MetricRecord<?>> records = overflowMetrics.get(metric);
+        if (records == null) {
+            return Collections.emptyList();
+        }
+        List<Object> values = new ArrayList<>(records.size());
+        records.forEach(r -> values.add(r.value()));
+        return (List<T>) Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public List<MetricCollection> children() {
+        return children;
+    }
+
+    @Override
+    public Instant creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Iterator<MetricRecord<?>> iterator() {
+        return records().iterator();
+    }
+
+    private List<MetricRecord<?>> records() {
+        List<MetricRecord<?>> records = new ArrayList<>();
+        for (IndexedMetricRecord<?> head : heads) {
+            if (head != null) {
+                records.addAll(Arrays.asList(inReportedOrder(head)));
+            }
+        }
+        overflowMetrics.values().forEach(records::addAll);
+        return Collections.unmodifiableList(records);
+    }
+
+    private static List<?> values(IndexedMetricRecord<?> head) {
+        if (head == null) {
+            return Collections.emptyList();
+        }
+        if (head.previous() == null) {
+            return Collections.singletonList(head.value());
+        }
+        IndexedMetricRecord<?>[] records = inReportedOrder(head);
+        Object[] values = new Object[records.length];
+        for (int i = 0; i < records.length; i++) {
+            values[i] = records[i].value();
+        }
+        return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    private static IndexedMetricRecord<?>[] inReportedOrder(IndexedMetricRecord<?> head) {
+        int count = 0;
+        for (IndexedMetricRecord<?> r = head; r != null; r = r.previous()) {
+            count++;
+        }
+        IndexedMetricRecord<?>[] records = new IndexedMetricRecord<?>[count];
+        for (IndexedMetricRecord<?> r = head; r != null; r = r.previous()) {
+            records[--count] = r;
+        }
+        return records;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricCollection")
+                       .add("name", name)
+                       .add("metrics", records())
+                       .add("children", children)
+                       .build();
+    }
+}
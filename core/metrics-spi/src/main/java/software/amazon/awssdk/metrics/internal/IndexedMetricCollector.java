@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that stores values in an array slot per metric, indexed by {@link DefaultSdkMetric#index()},
+ * instead of in a map.
+ * <p>
+ * Reporting a metric pushes a single record onto its slot with a compare-and-set, and creating a child pushes it onto a
+ * stack the same way, so concurrent reporters never block one another. {@link #collect()} only snapshots the slot heads;
+ * records are shared with the returned collection rather than copied.
+ * <p>
+ * Metrics created after this collector, such as ones declared by a service that was loaded later, fall back to a
+ * synchronized map.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class IndexedMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(IndexedMetricCollector.class);
+
+    private static final AtomicReferenceFieldUpdater<IndexedMetricCollector, ChildNode> CHILDREN_UPDATER =
+        AtomicReferenceFieldUpdater.newUpdater(IndexedMetricCollector.class, ChildNode.class, "children");
+
+    private final String name;
+    private final AtomicReferenceArray<IndexedMetricRecord<?>> slots;
+
+    private volatile ChildNode children;
+
+    private Map<SdkMetric<?>, List<MetricRecord<?>>> overflowMetrics;
+
+    private IndexedMetricCollector(String name) {
+        this.name = name;
+        this.slots = new AtomicReferenceArray<>(DefaultSdkMetric.metricCount());
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new IndexedMetricCollector(name);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        int index = DefaultSdkMetric.indexOf(metric);
+        if (index < 0 || index >= slots.length()) {
+            reportOverflowMetric(metric, data);
+            return;
+        }
+
+        IndexedMetricRecord<T> record = new IndexedMetricRecord<>(metric, data);
+        IndexedMetricRecord<?> previous;
+        do {
+            previous = slots.get(index);
+            record.previous(previous);
+        } while (!slots.compareAndSet(index, previous, record));
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        IndexedMetricCollector child = new IndexedMetricCollector(name);
+        ChildNode node = new ChildNode(child);
+        ChildNode previous;
+        do {
+            previous = children;
+            node.previous = previous;
+        } while (!CHILDREN_UPDATER.compareAndSet(this, previous, node));
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        IndexedMetricRecord<?>[] heads = new IndexedMetricRecord<?>[slots.length()];
+        for (int i = 0; i < heads.length; i++) {
+            heads[i] = slots.get(i);
+        }
+
+        MetricCollection metricRecords = new IndexedMetricCollection(name, heads, overflowMetrics(), collectChildren());
+
+        log.debug(() -> "Collected metrics records: " + metricRecords);
+        return metricRecords;
+    }
+
+    private List<MetricCollection> collectChildren() {
+        ChildNode node = children;
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<MetricCollection> collectedChildren = new ArrayList<>();
+        for (; node != null; node = node.previous) {
+            collectedChildren.add(node.child.collect());
+        }
+        // The stack holds the most recently created child first
+        Collections.reverse(collectedChildren);
+        return collectedChildren;
+    }
+
+    private synchronized <T> void reportOverflowMetric(SdkMetric<T> metric, T data) {
+        if (overflowMetrics == null) {
+            overflowMetrics = new LinkedHashMap<>();
+        }
+        overflowMetrics.computeIfAbsent(metric, m -> new ArrayList<>())
+                       .add(new DefaultMetricRecord<>(metric, data));
+    }
+
+    private synchronized Map<SdkMetric<?>, List<MetricRecord<?>>> overflowMetrics() {
+        if (overflowMetrics == null) {
+            return Collections.emptyMap();
+        }
+        Map<SdkMetric<?>, List<MetricRecord<?>>> copy = new LinkedHashMap<>();
+        overflowMetrics.forEach((metric, records) -> copy.put(metric, new ArrayList<>(records)));
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("IndexedMetricCollector")
+                       .add("name", name)
+                       .build();
+    }
+
+    private static final class ChildNode {
+        private final IndexedMetricCollector child;
+        private ChildNode previous;
+
+        private ChildNode(IndexedMetricCollector child) {
+            this.child = child;
+        }
+    }
+}
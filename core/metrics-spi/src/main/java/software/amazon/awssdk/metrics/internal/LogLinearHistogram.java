@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A fixed-memory histogram of non-negative long values, bucketed log-linearly in the style of HdrHistogram.
+ * <p>
+ * Values below 64 are counted exactly. Above that, each power-of-two range is split into 32 equally sized buckets, so the
+ * value reported for a percentile is within about 3% of the recorded value. Values above {@link #MAX_VALUE} are counted as
+ * {@link #MAX_VALUE}.
+ * <p>
+ * Recording is lock-free: it increments a single bucket and updates the running sum, minimum and maximum.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class LogLinearHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    private static final int MAX_EXPONENT = 40;
+
+    /**
+     * The largest value that can be recorded: 2^41 - 1, which is about 25 days in microseconds.
+     */
+    public static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + LINEAR_LIMIT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * Record a value. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long v = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts.incrementAndGet(bucketIndex(v));
+        sum.add(v);
+
+        long currentMin;
+        while (v < (currentMin = min.get()) && !min.compareAndSet(currentMin, v)) {
+            // Retry until this value is no longer the minimum or has been set
+        }
+        long currentMax;
+        while (v > (currentMax = max.get()) && !max.compareAndSet(currentMax, v)) {
+            // Retry until this value is no longer the maximum or has been set
+        }
+    }
+
+    /**
+     * Return a snapshot of the values recorded so far, optionally resetting this histogram at the same time. Values recorded
+     * concurrently with a reset are counted in either this snapshot or the next one.
+     */
+    public Snapshot snapshot(boolean reset) {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        long totalCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = reset ? counts.getAndSet(i, 0) : counts.get(i);
+            totalCount += bucketCounts[i];
+        }
+        long snapshotSum = reset ? sum.sumThenReset() : sum.sum();
+        long snapshotMin = reset ? min.getAndSet(Long.MAX_VALUE) : min.get();
+        long snapshotMax = reset ? max.getAndSet(0) : max.get();
+        return new Snapshot(bucketCounts, totalCount, snapshotSum, snapshotMin, snapshotMax);
+    }
+
+    static int bucketIndex(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int shift = (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestEquivalentValue(int bucketIndex) {
+        if (bucketIndex < LINEAR_LIMIT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucketIndex - (long) shift * SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * An immutable copy of the contents of a {@link LogLinearHistogram}.
+     */
+    public static final class Snapshot {
+        private final long[] bucketCounts;
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+
+        private Snapshot(long[] bucketCounts, long count, long sum, long min, long max) {
+            this.bucketCounts = bucketCounts;
+            this.count = count;
+            this.sum = sum;
+            this.min = count == 0 ? 0 : Math.min(min, max);
+            this.max = count == 0 ? 0 : max;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long min() {
+            return min;
+        }
+
+        public long max() {
+            return max;
+        }
+
+        public double mean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Return the value at the given percentile, between 0 and 100, or 0 if no values were recorded.
+         */
+        public long valueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100, but was " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= rank) {
+                    return Math.max(min, Math.min(max, highestEquivalentValue(i)));
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+public class AggregatingMetricPublisherTest {
+    private static final SdkMetric<String> SERVICE_ID =
+        SdkMetric.create("ServiceId", String.class, MetricLevel.ERROR, MetricCategory.CORE);
+    private static final SdkMetric<String> OPERATION_NAME =
+        SdkMetric.create("OperationName", String.class, MetricLevel.ERROR, MetricCategory.CORE);
+    private static final SdkMetric<Duration> API_CALL_DURATION =
+        SdkMetric.create("ApiCallDuration", Duration.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Duration> SERVICE_CALL_DURATION =
+        SdkMetric.create("ServiceCallDuration", Duration.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Duration> OTHER_DURATION =
+        SdkMetric.create("OtherDuration", Duration.class, MetricLevel.INFO, MetricCategory.CUSTOM);
+    private static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
+        SdkMetric.create("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO, MetricCategory.HTTP_CLIENT);
+
+    @Test
+    public void publish_recordsDefaultLatencyMetricsPerOperation() {
+        try (AggregatingMetricPublisher publisher = AggregatingMetricPublisher.builder().sink(s -> { }).build()) {
+            for (int i = 1; i <= 100; i++) {
+                publisher.publish(apiCall("GetItem", Duration.ofMillis(i)));
+            }
+            publisher.publish(apiCall("PutItem", Duration.ofMillis(500)));
+
+            List<LatencyHistogramSnapshot> snapshots = publisher.snapshot();
+
+            assertThat(snapshots).hasSize(6);
+            LatencyHistogramSnapshot getItem = find(snapshots, "GetItem", "ApiCallDuration");
+            assertThat(getItem.serviceId()).isEqualTo("DynamoDB");
+            assertThat(getItem.count()).isEqualTo(100);
+            assertThat(getItem.min()).isEqualTo(Duration.ofMillis(1));
+            assertThat(getItem.max()).isEqualTo(Duration.ofMillis(100));
+            assertThat(getItem.percentile(99).toMillis()).isBetween(96L, 100L);
+
+            LatencyHistogramSnapshot serviceCall = find(snapshots, "GetItem", "ServiceCallDuration");
+            assertThat(serviceCall.count()).isEqualTo(100);
+            assertThat(find(snapshots, "PutItem", "ApiCallDuration").count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void publish_configuredLatencyMetrics_recordsOnlyThoseMetrics() {
+        try (AggregatingMetricPublisher publisher = AggregatingMetricPublisher.builder()
+                                                                              .latencyMetrics(OTHER_DURATION)
+                                                                              .sink(s -> { })
+                                                                              .build()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(10)));
+
+            List<LatencyHistogramSnapshot> snapshots = publisher.snapshot();
+
+            assertThat(snapshots).hasSize(1);
+            assertThat(snapshots.get(0).metricName()).isEqualTo("OtherDuration");
+        }
+    }
+
+    @Test
+    public void flush_sendsSnapshotsToSinkAndResets() throws InterruptedException {
+        List<List<LatencyHistogramSnapshot>> flushed = new CopyOnWriteArrayList<>();
+        try (AggregatingMetricPublisher publisher = AggregatingMetricPublisher.builder()
+                                                                              .flushFrequency(Duration.ofMillis(50))
+                                                                              .sink(flushed::add)
+                                                                              .build()) {
+            publisher.publish(apiCall("GetItem", Duration.ofMillis(10)));
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (flushed.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThat(flushed).hasSize(1);
+            assertThat(flushed.get(0)).hasSize(3);
+            assertThat(publisher.snapshot()).isEmpty();
+        }
+    }
+
+    @Test
+    public void close_flushesRemainingValues() {
+        List<List<LatencyHistogramSnapshot>> flushed = new CopyOnWriteArrayList<>();
+        AggregatingMetricPublisher publisher = AggregatingMetricPublisher.builder().sink(flushed::add).build();
+        publisher.publish(apiCall("GetItem", Duration.ofMillis(10)));
+
+        publisher.close();
+
+        assertThat(flushed).hasSize(1);
+        assertThat(find(flushed.get(0), "GetItem", "ApiCallDuration").count()).isEqualTo(1);
+    }
+
+    private static LatencyHistogramSnapshot find(List<LatencyHistogramSnapshot> snapshots, String operation, String metric) {
+        return snapshots.stream()
+                        .filter(s -> operation.equals(s.operationName()) && metric.equals(s.metricName()))
+                        .findFirst()
+                        .orElseThrow(AssertionError::new);
+    }
+
+    private static MetricCollection apiCall(String operationName, Duration duration) {
+        MetricCollector apiCall = MetricCollector.create("ApiCall");
+        apiCall.reportMetric(SERVICE_ID, "DynamoDB");
+        apiCall.reportMetric(OPERATION_NAME, operationName);
+        apiCall.reportMetric(API_CALL_DURATION, duration);
+        MetricCollector attempt = apiCall.createChild("ApiCallAttempt");
+        attempt.reportMetric(SERVICE_CALL_DURATION, duration);
+        attempt.reportMetric(OTHER_DURATION, duration);
+        MetricCollector httpClient = attempt.createChild("HttpClient");
+        httpClient.reportMetric(CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(1));
+        return apiCall.collect();
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.AfterClass;
+import org.junit.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class IndexedMetricCollectorTest {
+    private static final SdkMetric<Integer> M1 =
+        SdkMetric.create("indexed-m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<String> M2 =
+        SdkMetric.create("indexed-m2", String.class, MetricLevel.INFO, MetricCategory.CORE);
+
+    @AfterClass
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void testName_returnsName() {
+        MetricCollector collector = IndexedMetricCollector.create("collector");
+        assertThat(collector.name()).isEqualTo("collector");
+    }
+
+    @Test
+    public void testCreateChild_returnsChildWithCorrectName() {
+        MetricCollector parent = IndexedMetricCollector.create("parent");
+        MetricCollector child = parent.createChild("child");
+
+        assertThat(child.name()).isEqualTo("child");
+    }
+
+    @Test
+    public void testCollect_allReportedMetricsInCollectionInReportedOrder() {
+        MetricCollector collector = IndexedMetricCollector.create("collector");
+        Integer[] values = {1, 2, 3};
+        Stream.of(values).forEach(v -> collector.reportMetric(M1, v));
+        collector.reportMetric(M2, "value");
+
+        MetricCollection collect = collector.collect();
+
+        assertThat(collect.metricValues(M1)).containsExactly(values);
+        assertThat(collect.metricValues(M2)).containsExactly("value");
+        assertThat(collect.stream().<Object>map(MetricRecord::value)).containsExactly(1, 2, 3, "value");
+    }
+
+    @Test
+    public void testCollect_unreportedMetric_returnsEmptyList() {
+        MetricCollection collect = IndexedMetricCollector.create("collector").collect();
+
+        assertThat(collect.metricValues(M1)).isEmpty();
+        assertThat(collect).isEmpty();
+    }
+
+    @Test
+    public void testCollect_returnedCollectionContainsAllChildrenInCreationOrder() {
+        MetricCollector parent = IndexedMetricCollector.create("parent");
+        String[] childNames = {"c1", "c2", "c3" };
+        Stream.of(childNames).forEach(parent::createChild);
+        MetricCollection collected = parent.collect();
+        assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
+    }
+
+    @Test
+    public void testCollect_metricCreatedAfterCollector_isCollected() {
+        MetricCollector collector = IndexedMetricCollector.create("collector");
+        SdkMetric<Integer> lateMetric =
+            SdkMetric.create("indexed-late", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+
+        collector.reportMetric(lateMetric, 1);
+        collector.reportMetric(M1, 2);
+        collector.reportMetric(lateMetric, 3);
+
+        MetricCollection collect = collector.collect();
+        assertThat(collect.metricValues(lateMetric)).containsExactly(1, 3);
+        assertThat(collect.metricValues(M1)).containsExactly(2);
+        assertThat(collect.stream().<Object>map(MetricRecord::value)).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    public void testCollect_reportAfterCollect_notInCollection() {
+        MetricCollector collector = IndexedMetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+
+        MetricCollection collect = collector.collect();
+        collector.reportMetric(M1, 2);
+
+        assertThat(collect.metricValues(M1)).containsExactly(1);
+    }
+
+    @Test
+    public void testReportMetric_concurrentReporters_allValuesCollected() throws InterruptedException {
+        MetricCollector collector = IndexedMetricCollector.create("collector");
+        int threadCount = 8;
+        int valuesPerThread = 1000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            int offset = t * valuesPerThread;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < valuesPerThread; i++) {
+                    collector.reportMetric(M1, offset + i);
+                }
+                collector.createChild("child");
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        MetricCollection collect = collector.collect();
+        List<Integer> expected = Stream.iterate(0, i -> i + 1)
+                                       .limit((long) threadCount * valuesPerThread)
+                                       .collect(Collectors.toList());
+        assertThat(collect.metricValues(M1)).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(collect.children()).hasSize(threadCount);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+public class LogLinearHistogramTest {
+
+    @Test
+    public void bucketIndex_isContinuousAndMonotonic() {
+        int previous = LogLinearHistogram.bucketIndex(0);
+        for (long v = 1; v < 1 << 20; v++) {
+            int index = LogLinearHistogram.bucketIndex(v);
+            assertThat(index - previous).isBetween(0, 1);
+            previous = index;
+        }
+        assertThat(LogLinearHistogram.bucketIndex(LogLinearHistogram.MAX_VALUE)).isEqualTo(LogLinearHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    public void highestEquivalentValue_isUpperBoundOfBucket() {
+        for (long v : new long[] {0, 1, 63, 64, 65, 127, 128, 1_000, 123_456, LogLinearHistogram.MAX_VALUE}) {
+            int index = LogLinearHistogram.bucketIndex(v);
+            long upper = LogLinearHistogram.highestEquivalentValue(index);
+            assertThat(upper).isGreaterThanOrEqualTo(v);
+            assertThat(LogLinearHistogram.bucketIndex(upper)).isEqualTo(index);
+            assertThat(LogLinearHistogram.bucketIndex(upper + 1)).isEqualTo(index + 1);
+        }
+    }
+
+    @Test
+    public void smallValues_areExact() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        LongStream.rangeClosed(1, 50).forEach(histogram::record);
+
+        LogLinearHistogram.Snapshot snapshot = histogram.snapshot(false);
+
+        assertThat(snapshot.count()).isEqualTo(50);
+        assertThat(snapshot.min()).isEqualTo(1);
+        assertThat(snapshot.max()).isEqualTo(50);
+        assertThat(snapshot.mean()).isEqualTo(25.5);
+        assertThat(snapshot.valueAtPercentile(50)).isEqualTo(25);
+        assertThat(snapshot.valueAtPercentile(100)).isEqualTo(50);
+    }
+
+    @Test
+    public void percentiles_areWithinRelativeError() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.exp(random.nextDouble() * 20);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        LogLinearHistogram.Snapshot snapshot = histogram.snapshot(false);
+        for (double p : new double[] {1, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            assertThat((double) snapshot.valueAtPercentile(p)).isCloseTo(exact, within(exact / 32.0 + 1));
+        }
+    }
+
+    @Test
+    public void snapshotWithReset_clearsHistogram() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(100);
+        histogram.record(200);
+
+        assertThat(histogram.snapshot(true).count()).isEqualTo(2);
+
+        LogLinearHistogram.Snapshot empty = histogram.snapshot(false);
+        assertThat(empty.count()).isZero();
+        assertThat(empty.min()).isZero();
+        assertThat(empty.max()).isZero();
+        assertThat(empty.valueAtPercentile(99)).isZero();
+
+        histogram.record(300);
+        LogLinearHistogram.Snapshot next = histogram.snapshot(false);
+        assertThat(next.min()).isEqualTo(300);
+        assertThat(next.max()).isEqualTo(300);
+    }
+
+    @Test
+    public void outOfRangeValues_areClamped() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        LogLinearHistogram.Snapshot snapshot = histogram.snapshot(false);
+        assertThat(snapshot.min()).isZero();
+        assertThat(snapshot.max()).isEqualTo(LogLinearHistogram.MAX_VALUE);
+    }
+
+    @Test
+    public void valueAtPercentile_outOfRange_throws() {
+        LogLinearHistogram.Snapshot snapshot = new LogLinearHistogram().snapshot(false);
+        assertThatThrownBy(() -> snapshot.valueAtPercentile(101)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
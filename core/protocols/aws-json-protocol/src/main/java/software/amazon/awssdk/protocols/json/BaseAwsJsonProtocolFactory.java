@@ -89,6 +89,8 @@ public abstract class BaseAwsJsonProtocolFactory {
         this.protocolUnmarshaller = JsonProtocolUnmarshaller.builder()
                                                             .protocolUnmarshallDependencies(
                                                                 builder.protocolUnmarshallDependencies.get())
+                                                            .enableStreamingUnmarshalling(
+                                                                builder.enableStreamingUnmarshalling)
                                                             .build();
 
     }
@@ -230,6 +232,7 @@ public abstract class BaseAwsJsonProtocolFactory {
         private String customErrorCodeFieldName;
         private SdkClientConfiguration clientConfiguration;
         private boolean hasAwsQueryCompatible;
+        private boolean enableStreamingUnmarshalling;
 
         protected Builder() {
         }
@@ -324,6 +327,19 @@ public abstract class BaseAwsJsonProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled by reading JSON tokens directly into the response POJO
+         * instead of first parsing the whole payload into an intermediate tree. This reduces the allocations per response,
+         * especially for large payloads. Defaults to false.
+         *
+         * @param enableStreamingUnmarshalling true to enable streaming unmarshalling
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return getSubclass();
+        }
+
         /**
          * Provides the unmarshalling dependencies instance.
          *
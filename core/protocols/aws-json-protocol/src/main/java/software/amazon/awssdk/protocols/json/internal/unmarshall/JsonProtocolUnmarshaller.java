@@ -64,11 +64,22 @@ public class JsonProtocolUnmarshaller {
 
     private final JsonUnmarshallerRegistry registry;
     private final JsonNodeParser parser;
+    private final StreamingJsonProtocolUnmarshaller streamingUnmarshaller;
 
     private JsonProtocolUnmarshaller(Builder builder) {
         ProtocolUnmarshallDependencies dependencies = builder.protocolUnmarshallDependencies;
         this.parser = createParser(builder, dependencies);
         this.registry = dependencies.jsonUnmarshallerRegistry();
+        this.streamingUnmarshaller = createStreamingUnmarshaller(builder, dependencies);
+    }
+
+    private StreamingJsonProtocolUnmarshaller createStreamingUnmarshaller(Builder builder,
+                                                                          ProtocolUnmarshallDependencies dependencies) {
+        // A custom parser may be using a JSON factory we know nothing about, so only stream when we own the parser.
+        if (!builder.enableStreamingUnmarshalling || builder.parser != null) {
+            return null;
+        }
+        return new StreamingJsonProtocolUnmarshaller(dependencies.jsonFactory(), parser, registry);
     }
 
     private JsonNodeParser createParser(Builder builder, ProtocolUnmarshallDependencies dependencies) {
@@ -224,6 +235,9 @@ public class JsonProtocolUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) throws IOException {
+        if (streamingUnmarshaller != null) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response, hasJsonPayload(sdkPojo, response));
+        }
         JsonNode jsonNode = hasJsonPayload(sdkPojo, response) ? parser.parse(response.content().get()) : null;
         return unmarshall(sdkPojo, response, jsonNode);
     }
@@ -340,6 +354,7 @@ public class JsonProtocolUnmarshaller {
 
         private JsonNodeParser parser;
         private ProtocolUnmarshallDependencies protocolUnmarshallDependencies;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -374,6 +389,16 @@ public class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableStreamingUnmarshalling Whether response payloads should be unmarshalled directly from the JSON parser
+         * instead of first being parsed into a {@link JsonNode} tree. Ignored when a custom {@link #parser(JsonNodeParser)} is
+         * configured. Defaults to false.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
 
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
@@ -0,0 +1,260 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshaller that reads JSON tokens directly into the {@link SdkPojo} builders, driven by the {@link SdkField} metadata of
+ * the target type. Unlike the default path in {@link JsonProtocolUnmarshaller}, this never materializes the full response as
+ * a {@link JsonNode} tree: structures, lists and maps are walked token-by-token and only the scalar value currently being
+ * unmarshalled is wrapped in a {@link JsonNode}, so that the same {@link JsonUnmarshallerRegistry} scalar converters (and
+ * their timestamp formats, CBOR handling, etc.) are reused.
+ *
+ * <p>Anything that does not have the expected shape (e.g. a scalar where a list is modeled) and documents are materialized
+ * as a {@link JsonNode} and handed to the registered unmarshaller, which keeps the behavior identical to the tree based path.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StreamingJsonProtocolUnmarshaller {
+    private static final Map<Class<?>, FieldIndex> FIELD_INDEXES = new ConcurrentHashMap<>();
+
+    private final JsonFactory jsonFactory;
+    private final JsonNodeParser nodeParser;
+    private final JsonUnmarshallerRegistry registry;
+
+    StreamingJsonProtocolUnmarshaller(JsonFactory jsonFactory,
+                                      JsonNodeParser nodeParser,
+                                      JsonUnmarshallerRegistry registry) {
+        this.jsonFactory = jsonFactory;
+        this.nodeParser = nodeParser;
+        this.registry = registry;
+    }
+
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                             SdkHttpFullResponse response,
+                                             boolean hasJsonPayload) throws IOException {
+        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
+                                                                 .unmarshallerRegistry(registry)
+                                                                 .response(response)
+                                                                 .build();
+        if (!hasJsonPayload) {
+            return unmarshallStructured(sdkPojo, null, null, context);
+        }
+
+        InputStream content = response.content().get();
+        try (JsonParser parser = jsonFactory.createParser(content)
+                                            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                token = null;
+            }
+            return unmarshallStructured(sdkPojo, parser, token, context);
+        }
+    }
+
+    /**
+     * Unmarshalls a structure. When {@code token} is non-null the parser is positioned at the first token of the JSON value
+     * holding the structure's payload members, and on return it is positioned at the last token of that value.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStructured(SdkPojo sdkPojo,
+                                                              JsonParser parser,
+                                                              JsonToken token,
+                                                              JsonUnmarshallerContext context) throws IOException {
+        FieldIndex index = fieldIndex(sdkPojo);
+
+        for (SdkField<?> field : index.nonPayloadFields) {
+            JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+
+        for (SdkField<?> field : index.rawPayloadFields) {
+            Optional<AbortableInputStream> responseContent = context.response().content();
+            if (field.marshallingType() == MarshallingType.SDK_BYTES) {
+                field.set(sdkPojo, responseContent.map(SdkBytes::fromInputStream)
+                                                  .orElseGet(() -> SdkBytes.fromByteArrayUnsafe(new byte[0])));
+            } else {
+                field.set(sdkPojo, responseContent.map(c -> SdkBytes.fromInputStream(c).asUtf8String()).orElse(""));
+            }
+        }
+
+        if (index.explicitPayloadField != null) {
+            SdkField<?> field = index.explicitPayloadField;
+            field.set(sdkPojo, token == null ? null : unmarshallValue(parser, token, (SdkField<Object>) field, context));
+        } else if (token == JsonToken.START_OBJECT) {
+            unmarshallPayloadMembers(sdkPojo, index, parser, context);
+        } else if (token != null) {
+            unmarshallPayloadMembers(sdkPojo, index, nodeParser.parse(parser, token), context);
+        }
+
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void unmarshallPayloadMembers(SdkPojo sdkPojo,
+                                          FieldIndex index,
+                                          JsonParser parser,
+                                          JsonUnmarshallerContext context) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.END_OBJECT) {
+            SdkField<?> field = index.payloadFieldsByName.get(parser.getText());
+            token = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, unmarshallValue(parser, token, (SdkField<Object>) field, context));
+            }
+            token = parser.nextToken();
+        }
+    }
+
+    /**
+     * Slow path for payloads that are not JSON objects, which mirrors the tree based unmarshaller.
+     */
+    @SuppressWarnings("unchecked")
+    private void unmarshallPayloadMembers(SdkPojo sdkPojo,
+                                          FieldIndex index,
+                                          JsonNode jsonContent,
+                                          JsonUnmarshallerContext context) {
+        for (SdkField<?> field : index.payloadFieldsByName.values()) {
+            JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            JsonNode fieldContent = jsonContent.field(field.locationName()).orElse(null);
+            field.set(sdkPojo, unmarshaller.unmarshall(context, fieldContent, (SdkField<Object>) field));
+        }
+    }
+
+    private Object unmarshallValue(JsonParser parser,
+                                   JsonToken token,
+                                   SdkField<Object> field,
+                                   JsonUnmarshallerContext context) throws IOException {
+        MarshallingType<?> type = field.marshallingType();
+        if (token == JsonToken.VALUE_NULL && type != MarshallingType.DOCUMENT) {
+            return null;
+        }
+        if (type == MarshallingType.SDK_POJO && token == JsonToken.START_OBJECT) {
+            return unmarshallStructured(field.constructor().get(), parser, token, context);
+        }
+        if (type == MarshallingType.LIST && token == JsonToken.START_ARRAY) {
+            return unmarshallList(parser, field, context);
+        }
+        if (type == MarshallingType.MAP && token == JsonToken.START_OBJECT) {
+            return unmarshallMap(parser, field, context);
+        }
+        JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), type);
+        return unmarshaller.unmarshall(context, nodeParser.parse(parser, token), field);
+    }
+
+    private List<Object> unmarshallList(JsonParser parser,
+                                        SdkField<Object> field,
+                                        JsonUnmarshallerContext context) throws IOException {
+        SdkField<Object> memberInfo = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).memberFieldInfo();
+        List<Object> result = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.END_ARRAY) {
+            result.add(unmarshallValue(parser, token, memberInfo, context));
+            token = parser.nextToken();
+        }
+        return result;
+    }
+
+    private Map<String, Object> unmarshallMap(JsonParser parser,
+                                              SdkField<Object> field,
+                                              JsonUnmarshallerContext context) throws IOException {
+        SdkField<Object> valueInfo = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).valueFieldInfo();
+        Map<String, Object> result = new HashMap<>();
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.END_OBJECT) {
+            String key = parser.getText();
+            result.put(key, unmarshallValue(parser, parser.nextToken(), valueInfo, context));
+            token = parser.nextToken();
+        }
+        return result;
+    }
+
+    private static FieldIndex fieldIndex(SdkPojo sdkPojo) {
+        List<SdkField<?>> fields = sdkPojo.sdkFields();
+        FieldIndex index = FIELD_INDEXES.computeIfAbsent(sdkPojo.getClass(), c -> new FieldIndex(fields));
+        // Generated POJOs always return the same field list, anything else is indexed on every call.
+        return index.fields == fields ? index : new FieldIndex(fields);
+    }
+
+    /**
+     * The fields of an {@link SdkPojo} type, grouped by how they are unmarshalled. Computed once per type.
+     */
+    private static final class FieldIndex {
+        private final List<SdkField<?>> fields;
+        private final List<SdkField<?>> nonPayloadFields;
+        private final List<SdkField<?>> rawPayloadFields;
+        private final Map<String, SdkField<?>> payloadFieldsByName;
+        private final SdkField<?> explicitPayloadField;
+
+        private FieldIndex(List<SdkField<?>> fields) {
+            this.fields = fields;
+            List<SdkField<?>> nonPayload = new ArrayList<>();
+            List<SdkField<?>> rawPayload = new ArrayList<>();
+            Map<String, SdkField<?>> payloadByName = new HashMap<>();
+            SdkField<?> explicitPayload = null;
+
+            for (SdkField<?> field : fields) {
+                boolean isExplicitPayload = field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT);
+                MarshallingType<?> type = field.marshallingType();
+                if (isExplicitPayload && (type == MarshallingType.SDK_BYTES || type == MarshallingType.STRING)) {
+                    rawPayload.add(field);
+                } else if (isExplicitPayload && type != MarshallingType.DOCUMENT) {
+                    explicitPayload = field;
+                } else if (field.location() == MarshallLocation.PAYLOAD || MarshallerUtil.isInUri(field.location())) {
+                    payloadByName.put(field.locationName(), field);
+                } else {
+                    nonPayload.add(field);
+                }
+            }
+
+            this.nonPayloadFields = Collections.unmodifiableList(nonPayload);
+            this.rawPayloadFields = Collections.unmodifiableList(rawPayload);
+            this.payloadFieldsByName = Collections.unmodifiableMap(payloadByName);
+            this.explicitPayloadField = explicitPayload;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class StreamingJsonProtocolUnmarshallerTest {
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "Name"),
+        field(MarshallingType.LONG, "Size"));
+
+    private static final List<SdkField<?>> TOP_LEVEL_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        field(MarshallingType.DOUBLE, "DoubleMember"),
+        field(MarshallingType.INSTANT, "TimestampMember"),
+        field(MarshallingType.SDK_BYTES, "BlobMember"),
+        field(MarshallingType.DOCUMENT, "DocumentMember"),
+        structField("StructMember", NESTED_FIELDS),
+        listField("ListOfStrings", field(MarshallingType.STRING, "member")),
+        listField("ListOfStructs", structField("member", NESTED_FIELDS)),
+        mapField("MapOfStructs", structField("value", NESTED_FIELDS)),
+        mapField("MapOfLists", listField("value", field(MarshallingType.STRING, "member"))),
+        field(MarshallingType.STRING, "x-amz-header", MarshallLocation.HEADER),
+        field(MarshallingType.INTEGER, "StatusCode", MarshallLocation.STATUS_CODE));
+
+    private static final List<SdkField<?>> EXPLICIT_PAYLOAD_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "x-amz-header", MarshallLocation.HEADER),
+        structField("Payload", NESTED_FIELDS, PayloadTrait.create()));
+
+    public static Stream<String> payloads() {
+        return Stream.of(
+            "{}",
+            "",
+            "null",
+            "{\"StringMember\":\"foo\",\"IntegerMember\":42,\"BooleanMember\":true,\"DoubleMember\":1.5,"
+            + "\"TimestampMember\":1422172800.123,\"BlobMember\":\"aGVsbG8=\"}",
+            "{\"StructMember\":{\"Name\":\"a\",\"Size\":123456789012,\"Unknown\":{\"a\":[1,2,{\"b\":null}]}}}",
+            "{\"ListOfStrings\":[\"a\",null,\"c\"],\"ListOfStructs\":[{\"Name\":\"a\"},{\"Size\":1},null]}",
+            "{\"MapOfStructs\":{\"k1\":{\"Name\":\"a\"},\"k2\":null},\"MapOfLists\":{\"k\":[\"x\",\"y\"],\"e\":[]}}",
+            "{\"DocumentMember\":{\"a\":[1,\"b\",true,null,{\"c\":{}}]},\"Other\":[[],{}],\"StringMember\":null}",
+            "{\"DocumentMember\":null,\"StructMember\":null,\"ListOfStrings\":null,\"MapOfStructs\":null}",
+            "{\"StructMember\":[],\"MapOfStructs\":{}}",
+            "{\"StringMember\":\"first\",\"StringMember\":\"second\"}");
+    }
+
+    @ParameterizedTest
+    @MethodSource("payloads")
+    public void unmarshall_streamingMatchesTree(String payload) throws Exception {
+        TestPojo tree = unmarshall(false, TOP_LEVEL_FIELDS, payload);
+        TestPojo streaming = unmarshall(true, TOP_LEVEL_FIELDS, payload);
+
+        assertThat(streaming).isEqualTo(tree);
+        assertThat(streaming.values).containsEntry("x-amz-header", "header-value")
+                                    .containsEntry("StatusCode", 200);
+    }
+
+    @ParameterizedTest
+    @MethodSource("payloads")
+    public void unmarshall_explicitPayload_streamingMatchesTree(String payload) throws Exception {
+        TestPojo tree = unmarshall(false, EXPLICIT_PAYLOAD_FIELDS, payload);
+        TestPojo streaming = unmarshall(true, EXPLICIT_PAYLOAD_FIELDS, payload);
+
+        assertThat(streaming).isEqualTo(tree);
+    }
+
+    @Test
+    public void unmarshall_streaming_readsExpectedValues() throws Exception {
+        TestPojo streaming = unmarshall(true, TOP_LEVEL_FIELDS, "{\"StringMember\":\"foo\",\"TimestampMember\":1,"
+                                                                 + "\"ListOfStructs\":[{\"Name\":\"a\"}],"
+                                                                 + "\"DocumentMember\":{\"a\":1}}");
+
+        assertThat(streaming.values).containsEntry("StringMember", "foo")
+                                    .containsEntry("TimestampMember", Instant.ofEpochSecond(1))
+                                    .containsEntry("DocumentMember",
+                                                   Document.fromMap(Collections.singletonMap("a", Document.fromNumber(1))));
+        List<?> structs = (List<?>) streaming.values.get("ListOfStructs");
+        assertThat(structs).hasSize(1);
+        assertThat(((TestPojo) structs.get(0)).values).containsEntry("Name", "a");
+    }
+
+    private static TestPojo unmarshall(boolean streaming, List<SdkField<?>> fields, String payload) throws Exception {
+        JsonProtocolUnmarshaller unmarshaller =
+            JsonProtocolUnmarshaller.builder()
+                                    .protocolUnmarshallDependencies(
+                                        JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies())
+                                    .enableStreamingUnmarshalling(streaming)
+                                    .build();
+        SdkHttpFullResponse response =
+            SdkHttpFullResponse.builder()
+                               .statusCode(200)
+                               .putHeader("x-amz-header", "header-value")
+                               .content(AbortableInputStream.create(
+                                   new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8))))
+                               .build();
+        return unmarshaller.unmarshall(new TestPojo(fields), response);
+    }
+
+    private static SdkField<?> field(MarshallingType<?> type, String name, Trait... extraTraits) {
+        return field(type, name, MarshallLocation.PAYLOAD, extraTraits);
+    }
+
+    private static SdkField<?> field(MarshallingType<?> type, String name, MarshallLocation location, Trait... extraTraits) {
+        return fieldBuilder(type, name, location, extraTraits).build();
+    }
+
+    private static SdkField<?> structField(String name, List<SdkField<?>> fields, Trait... extraTraits) {
+        return fieldBuilder(MarshallingType.SDK_POJO, name, MarshallLocation.PAYLOAD, extraTraits)
+            .constructor(() -> new TestPojo(fields))
+            .build();
+    }
+
+    private static SdkField<?> listField(String name, SdkField<?> member) {
+        return field(MarshallingType.LIST, name, ListTrait.builder().memberFieldInfo(member).build());
+    }
+
+    private static SdkField<?> mapField(String name, SdkField<?> value) {
+        return field(MarshallingType.MAP, name, MapTrait.builder().valueFieldInfo(value).build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SdkField.Builder<Object> fieldBuilder(MarshallingType<?> type,
+                                                         String name,
+                                                         MarshallLocation location,
+                                                         Trait... extraTraits) {
+        return SdkField.builder((MarshallingType<Object>) type)
+                       .memberName(name)
+                       .setter((o, v) -> ((TestPojo) o).values.put(name, v))
+                       .traits(LocationTrait.builder().location(location).locationName(name).build())
+                       .traits(extraTraits);
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        private TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            // Null values are only set by the tree based unmarshaller, they are equivalent to absent values.
+            values.values().removeIf(v -> v == null);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestPojo && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+}
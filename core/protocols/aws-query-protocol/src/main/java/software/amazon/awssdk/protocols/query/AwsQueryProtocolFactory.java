@@ -52,9 +52,11 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final boolean enableStreamingUnmarshalling;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableStreamingUnmarshalling = builder.enableStreamingUnmarshalling;
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.errorUnmarshaller = timeUnmarshalling(AwsXmlErrorProtocolUnmarshaller
@@ -102,6 +104,8 @@ public class AwsQueryProtocolFactory {
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
         return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
                                                                                         .hasResultWrapper(!isEc2())
+                                                                                        .enableStreamingUnmarshalling(
+                                                                                            enableStreamingUnmarshalling)
                                                                                         .build(), r -> pojoSupplier.get()));
     }
 
@@ -152,6 +156,7 @@ public class AwsQueryProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private SdkClientConfiguration clientConfiguration;
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
+        private boolean enableStreamingUnmarshalling;
 
         Builder() {
         }
@@ -190,6 +195,18 @@ public class AwsQueryProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML stream, without first parsing them into
+         * an {@link XmlElement} tree. Error responses are always parsed into a tree.
+         *
+         * @param enableStreamingUnmarshalling True to unmarshall successful responses from the XML stream.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
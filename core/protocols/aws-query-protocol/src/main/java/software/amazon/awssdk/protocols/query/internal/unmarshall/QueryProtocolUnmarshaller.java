@@ -22,6 +22,7 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -35,6 +36,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -66,10 +68,25 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = XmlStreamingUnmarshaller
+        .builder()
+        .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .converter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        .build();
+
     private final boolean hasResultWrapper;
+    private final boolean enableStreamingUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.enableStreamingUnmarshalling = builder.enableStreamingUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -83,11 +100,63 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (enableStreamingUnmarshalling) {
+            return streamingUnmarshall(sdkPojo, response);
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    /**
+     * Reads the response straight into the POJO with {@link XmlStreamingUnmarshaller}, collecting the response metadata
+     * from the same elements that {@link #parseMetadata(XmlElement)} looks at.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> streamingUnmarshall(SdkPojo sdkPojo,
+                                                                                         SdkHttpFullResponse response) {
+        Map<String, String> metadata = new HashMap<>();
+        XMLStreamReader reader = response.content().map(XmlStreamingUnmarshaller::createReader).orElse(null);
+        if (reader == null) {
+            return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+        }
+
+        SdkPojo result = null;
+        if (hasResultWrapper) {
+            boolean isFirstChild = true;
+            while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+                if (isFirstChild && !isMetadataElement(reader.getLocalName())) {
+                    result = STREAMING_UNMARSHALLER.unmarshall(sdkPojo, reader);
+                } else {
+                    unmarshallMetadata(reader, metadata);
+                }
+                isFirstChild = false;
+            }
+        } else {
+            result = STREAMING_UNMARSHALLER.unmarshall(sdkPojo, reader, r -> unmarshallMetadata(r, metadata));
+        }
+        return Pair.of((TypeT) (result != null ? result : ((Buildable) sdkPojo).build()), metadata);
+    }
+
+    private boolean isMetadataElement(String elementName) {
+        return elementName.equals("ResponseMetadata") || elementName.equals("requestId");
+    }
+
+    private void unmarshallMetadata(XMLStreamReader reader, Map<String, String> metadata) {
+        String elementName = reader.getLocalName();
+        if (elementName.equals("ResponseMetadata")) {
+            while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+                String key = reader.getLocalName().equals("RequestId") ? AWS_REQUEST_ID : reader.getLocalName();
+                metadata.put(key, XmlStreamingUnmarshaller.readText(reader));
+            }
+        } else if (elementName.equals("requestId")) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamingUnmarshaller.readText(reader));
+        } else {
+            XmlStreamingUnmarshaller.skipElement(reader);
+        }
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -161,6 +230,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableStreamingUnmarshalling;
 
         private Builder() {
         }
@@ -210,6 +280,19 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * Whether successful responses are unmarshalled directly from the XML stream using {@link XmlStreamingUnmarshaller}
+         * rather than being parsed into an {@link XmlElement} tree first. Responses with a blob payload and errors are
+         * always unmarshalled from the tree.
+         *
+         * @param enableStreamingUnmarshalling True to unmarshall successful responses from the XML stream.
+         * @return This builder for method chaining.
+         */
+        public Builder enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
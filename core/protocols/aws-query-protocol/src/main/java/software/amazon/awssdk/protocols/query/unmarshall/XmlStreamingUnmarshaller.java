@@ -0,0 +1,546 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls XML directly from {@link XMLStreamReader} events into {@link SdkPojo} builders, using the
+ * {@link SdkField} location names to decide which elements to descend into. Unlike {@link XmlDomParser}, no
+ * intermediate {@link XmlElement} tree is built: unknown elements are skipped without being materialized and scalar
+ * text is converted as soon as its element ends.
+ *
+ * <p>The element matching rules are the same as the {@link XmlElement} based unmarshallers: the first occurrence of a
+ * non-flattened member wins, every occurrence of a flattened list or map member is collected, and attributes are
+ * matched using their {@code prefix:localName}. Explicit blob and string payload members are not supported and are
+ * ignored; callers should use the DOM based unmarshallers for those shapes.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class XmlStreamingUnmarshaller {
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters;
+    private final boolean matchListMembersByName;
+    private final Map<Class<?>, FieldIndex> fieldIndexes = new ConcurrentHashMap<>();
+
+    private XmlStreamingUnmarshaller(Builder builder) {
+        this.converters = new HashMap<>(builder.converters);
+        this.matchListMembersByName = builder.matchListMembersByName;
+    }
+
+    /**
+     * Creates a reader for the provided XML document, positioned at the start of its root element.
+     *
+     * @param inputStream XML document to read.
+     * @return The reader, or null if the document is empty.
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) {
+        LookaheadInputStream stream = new LookaheadInputStream(inputStream);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+
+            XMLStreamReader reader = XmlDomParser.xmlInputFactory().createXMLStreamReader(stream);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader;
+                }
+            }
+            return null;
+        } catch (IOException | XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Unmarshalls the root element of the provided XML document into the provided POJO, and builds it.
+     *
+     * @param sdkPojo Builder of the type being unmarshalled.
+     * @param content XML document to read.
+     * @return The built POJO, or an empty {@link Optional} without building the POJO if the document is empty.
+     */
+    public <TypeT extends SdkPojo> Optional<TypeT> unmarshall(SdkPojo sdkPojo, InputStream content) {
+        XMLStreamReader reader = createReader(content);
+        return reader == null ? Optional.empty() : Optional.of(unmarshall(sdkPojo, reader));
+    }
+
+    /**
+     * Unmarshalls the element the reader is positioned at into the provided POJO, and builds it. When this returns, the
+     * reader is positioned at the end of that element.
+     *
+     * @param sdkPojo Builder of the type being unmarshalled.
+     * @param reader Reader positioned at a start element.
+     * @return The built POJO.
+     */
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, XMLStreamReader reader) {
+        return unmarshall(sdkPojo, reader, null);
+    }
+
+    /**
+     * Same as {@link #unmarshall(SdkPojo, XMLStreamReader)}, but child elements that do not match any member are handed
+     * to {@code unmatchedElementConsumer} instead of being skipped. The consumer must consume the element entirely, for
+     * example by using {@link #readText(XMLStreamReader)} or {@link #skipElement(XMLStreamReader)}.
+     */
+    @SuppressWarnings("unchecked")
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    XMLStreamReader reader,
+                                                    Consumer<XMLStreamReader> unmatchedElementConsumer) {
+        try {
+            return (TypeT) unmarshallStructure(sdkPojo, reader, unmatchedElementConsumer);
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Advances the reader to the next direct child of the current element.
+     *
+     * @param reader Reader positioned at the start of the parent element, or at the end of a previous child.
+     * @return True if the reader is positioned at the start of a child element, false if the parent element ended.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) {
+        try {
+            return advanceToChildElement(reader);
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Reads the text of the element the reader is positioned at, skipping any nested elements. Consistent with
+     * {@link XmlElement#textContent()}, this is the last contiguous run of text of the element. When this returns, the
+     * reader is positioned at the end of that element.
+     */
+    public static String readText(XMLStreamReader reader) {
+        try {
+            return readElementText(reader);
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned at, including all of its children. When this returns, the reader is
+     * positioned at the end of that element.
+     */
+    public static void skipElement(XMLStreamReader reader) {
+        try {
+            skip(reader);
+        } catch (XMLStreamException e) {
+            throw parseException(e);
+        }
+    }
+
+    private SdkPojo unmarshallStructure(SdkPojo sdkPojo,
+                                        XMLStreamReader reader,
+                                        Consumer<XMLStreamReader> unmatchedElementConsumer) throws XMLStreamException {
+        FieldIndex index = fieldIndex(sdkPojo);
+
+        if (!index.attributes.isEmpty()) {
+            unmarshallAttributes(sdkPojo, index, reader);
+        }
+
+        if (index.explicitPayload != null) {
+            Member payload = index.explicitPayload;
+            payload.field.set(sdkPojo, payload.isFlattened ? addFlattened(payload, null, reader)
+                                                           : unmarshallValue(payload, reader));
+        } else {
+            unmarshallElements(sdkPojo, index, reader, unmatchedElementConsumer);
+        }
+
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private void unmarshallElements(SdkPojo sdkPojo,
+                                    FieldIndex index,
+                                    XMLStreamReader reader,
+                                    Consumer<XMLStreamReader> unmatchedElementConsumer) throws XMLStreamException {
+        BitSet seen = null;
+        Object[] flattenedValues = null;
+
+        while (advanceToChildElement(reader)) {
+            Member member = index.elements.get(reader.getLocalName());
+            if (member == null) {
+                if (unmatchedElementConsumer != null) {
+                    unmatchedElementConsumer.accept(reader);
+                } else {
+                    skip(reader);
+                }
+                continue;
+            }
+
+            if (member.isFlattened) {
+                if (flattenedValues == null) {
+                    flattenedValues = new Object[index.flattenedCount];
+                }
+                flattenedValues[member.position] = addFlattened(member, flattenedValues[member.position], reader);
+                continue;
+            }
+
+            if (seen == null) {
+                seen = new BitSet(index.elements.size());
+            }
+            if (seen.get(member.position)) {
+                skip(reader);
+            } else {
+                seen.set(member.position);
+                member.field.set(sdkPojo, unmarshallValue(member, reader));
+            }
+        }
+
+        if (flattenedValues != null) {
+            for (Member member : index.flattened) {
+                if (flattenedValues[member.position] != null) {
+                    member.field.set(sdkPojo, flattenedValues[member.position]);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object addFlattened(Member member, Object values, XMLStreamReader reader) throws XMLStreamException {
+        if (member.type == MarshallingType.MAP) {
+            Map<String, Object> map = values == null ? new HashMap<>() : (Map<String, Object>) values;
+            unmarshallMapEntry(member, reader, map);
+            return map;
+        }
+        List<Object> list = values == null ? new ArrayList<>() : (List<Object>) values;
+        list.add(unmarshallValue(member.listMember, reader));
+        return list;
+    }
+
+    private static void unmarshallAttributes(SdkPojo sdkPojo, FieldIndex index, XMLStreamReader reader) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String key = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            SdkField<?> field = index.attributes.get(key);
+            if (field != null) {
+                field.set(sdkPojo, reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    private Object unmarshallValue(Member member, XMLStreamReader reader) throws XMLStreamException {
+        MarshallingType<?> type = member.type;
+        if (type == MarshallingType.SDK_POJO) {
+            return unmarshallStructure(member.field.constructor().get(), reader, null);
+        }
+        if (type == MarshallingType.LIST) {
+            return unmarshallList(member, reader);
+        }
+        if (type == MarshallingType.MAP) {
+            return unmarshallMap(member, reader);
+        }
+        if (type == MarshallingType.NULL) {
+            skip(reader);
+            return null;
+        }
+        if (member.converter == null) {
+            throw SdkClientException.create("Unable to unmarshall XML member " + member.field.memberName() + " of type "
+                                            + type);
+        }
+        return member.converter.convert(readElementText(reader), member.field);
+    }
+
+    private List<Object> unmarshallList(Member member, XMLStreamReader reader) throws XMLStreamException {
+        List<Object> list = new ArrayList<>();
+        while (advanceToChildElement(reader)) {
+            if (member.listMemberName == null || member.listMemberName.equals(reader.getLocalName())) {
+                list.add(unmarshallValue(member.listMember, reader));
+            } else {
+                skip(reader);
+            }
+        }
+        return list;
+    }
+
+    private Map<String, Object> unmarshallMap(Member member, XMLStreamReader reader) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (advanceToChildElement(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                unmarshallMapEntry(member, reader, map);
+            } else {
+                skip(reader);
+            }
+        }
+        return map;
+    }
+
+    private void unmarshallMapEntry(Member member,
+                                    XMLStreamReader reader,
+                                    Map<String, Object> map) throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        while (advanceToChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (name.equals(member.mapKeyName)) {
+                key = readElementText(reader);
+            } else if (name.equals(member.mapValueName)) {
+                value = unmarshallValue(member.mapValue, reader);
+            } else {
+                skip(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    private static boolean advanceToChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    private static String readElementText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        String run = null;
+        StringBuilder longRun = null;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    // Most elements have a single text event, so only use a builder when the text was split up
+                    if (run == null) {
+                        run = reader.getText();
+                    } else {
+                        if (longRun == null) {
+                            longRun = new StringBuilder(run);
+                        }
+                        longRun.append(reader.getText());
+                    }
+                    continue;
+                case XMLStreamConstants.START_ELEMENT:
+                    skip(reader);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return run == null ? text : longRun == null ? run : longRun.toString();
+                default:
+                    break;
+            }
+            if (run != null) {
+                text = longRun == null ? run : longRun.toString();
+                run = null;
+                longRun = null;
+            }
+        }
+    }
+
+    private static void skip(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static SdkClientException parseException(Exception e) {
+        return SdkClientException.create("Could not parse XML response.", e);
+    }
+
+    private FieldIndex fieldIndex(SdkPojo sdkPojo) {
+        List<SdkField<?>> fields = sdkPojo.sdkFields();
+        FieldIndex index = fieldIndexes.computeIfAbsent(sdkPojo.getClass(), c -> new FieldIndex(fields, this));
+        // Generated POJOs always return the same field list, anything else is indexed on every call.
+        return index.fields == fields ? index : new FieldIndex(fields, this);
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The payload members of an {@link SdkPojo} type, keyed by how they appear in the XML. Computed once per type.
+     */
+    private static final class FieldIndex {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Member> elements = new HashMap<>();
+        private final Map<String, SdkField<?>> attributes = new HashMap<>();
+        private final List<Member> flattened = new ArrayList<>();
+        private final int flattenedCount;
+        private final Member explicitPayload;
+
+        private FieldIndex(List<SdkField<?>> fields, XmlStreamingUnmarshaller unmarshaller) {
+            this.fields = fields;
+            Member payload = null;
+            int elementCount = 0;
+
+            for (SdkField<?> field : fields) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    continue;
+                }
+                if (field.containsTrait(XmlAttributeTrait.class, TraitType.XML_ATTRIBUTE_TRAIT)) {
+                    attributes.put(field.unmarshallLocationName(), field);
+                    continue;
+                }
+
+                boolean isExplicitPayload = field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT);
+                MarshallingType<?> type = field.marshallingType();
+                if (isExplicitPayload && (type == MarshallingType.SDK_BYTES || type == MarshallingType.STRING)) {
+                    continue;
+                }
+
+                String name = field.unmarshallLocationName();
+                if (isExplicitPayload) {
+                    payload = new Member(field, 0, unmarshaller);
+                } else if (!elements.containsKey(name)) {
+                    int position = isFlattened(field) ? flattened.size() : elementCount++;
+                    Member member = new Member(field, position, unmarshaller);
+                    if (member.isFlattened) {
+                        flattened.add(member);
+                    }
+                    elements.put(name, member);
+                }
+            }
+
+            this.flattenedCount = flattened.size();
+            this.explicitPayload = payload;
+        }
+
+        private boolean isFlattened(SdkField<?> field) {
+            if (field.marshallingType() == MarshallingType.LIST) {
+                return field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).isFlattened();
+            }
+            if (field.marshallingType() == MarshallingType.MAP) {
+                return field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).isFlattened();
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Precomputed unmarshalling information for a single {@link SdkField}.
+     */
+    private static final class Member {
+        private final SdkField<Object> field;
+        private final MarshallingType<?> type;
+        private final int position;
+        private final StringToValueConverter.StringToValue<Object> converter;
+        private final boolean isFlattened;
+        private final Member listMember;
+        private final String listMemberName;
+        private final Member mapValue;
+        private final String mapKeyName;
+        private final String mapValueName;
+
+        @SuppressWarnings("unchecked")
+        private Member(SdkField<?> field, int position, XmlStreamingUnmarshaller unmarshaller) {
+            this.field = (SdkField<Object>) field;
+            this.type = field.marshallingType();
+            this.position = position;
+            this.converter = (StringToValueConverter.StringToValue<Object>) unmarshaller.converters.get(type);
+
+            ListTrait listTrait = type == MarshallingType.LIST ? field.getTrait(ListTrait.class, TraitType.LIST_TRAIT) : null;
+            MapTrait mapTrait = type == MarshallingType.MAP ? field.getTrait(MapTrait.class, TraitType.MAP_TRAIT) : null;
+
+            this.isFlattened = listTrait != null ? listTrait.isFlattened() : mapTrait != null && mapTrait.isFlattened();
+            this.listMember = listTrait == null ? null : new Member(listTrait.memberFieldInfo(), 0, unmarshaller);
+            this.listMemberName = listTrait == null || !unmarshaller.matchListMembersByName ? null : listMemberName(listTrait);
+            this.mapValue = mapTrait == null ? null : new Member(mapTrait.valueFieldInfo(), 0, unmarshaller);
+            this.mapKeyName = mapTrait == null ? null : mapTrait.keyLocationName();
+            this.mapValueName = mapTrait == null ? null : mapTrait.valueLocationName();
+        }
+
+        private String listMemberName(ListTrait listTrait) {
+            return listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                          : listTrait.memberFieldInfo().locationName();
+        }
+    }
+
+    /**
+     * Builder for {@link XmlStreamingUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new HashMap<>();
+        private boolean matchListMembersByName;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for scalar members of the given type.
+         *
+         * @param marshallingType Type of the member.
+         * @param converter Converter from the element's text content to the member value.
+         * @return This builder for method chaining.
+         */
+        public <T> Builder converter(MarshallingType<T> marshallingType,
+                                     StringToValueConverter.StringToValue<T> converter) {
+            converters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * Whether the members of non-flattened lists are matched using the member location name of the list. When
+         * false, all direct children of the list element are treated as members, which is what AWS/Query and EC2 do.
+         *
+         * @param matchListMembersByName True to only unmarshall list members with the modeled member name.
+         * @return This builder for method chaining.
+         */
+        public Builder matchListMembersByName(boolean matchListMembersByName) {
+            this.matchListMembersByName = matchListMembersByName;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamingUnmarshaller}.
+         */
+        public XmlStreamingUnmarshaller build() {
+            return new XmlStreamingUnmarshaller(this);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class QueryStreamingUnmarshallingTest {
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "Name"),
+        field(MarshallingType.LONG, "Size"));
+
+    private static final List<SdkField<?>> FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        field(MarshallingType.INSTANT, "TimestampMember"),
+        structField("StructMember", NESTED_FIELDS),
+        listField("ListOfStrings", false, field(MarshallingType.STRING, "member")),
+        listField("ListOfStructs", false, structField("member", NESTED_FIELDS)),
+        listField("FlatList", true, field(MarshallingType.STRING, "FlatList")),
+        mapField("MapOfStrings", false, field(MarshallingType.STRING, "value")),
+        mapField("FlatMap", true, structField("value", NESTED_FIELDS)));
+
+    public static Stream<String> wrappedPayloads() {
+        return Stream.of(
+            "",
+            "<AllTypesResponse/>",
+            "<AllTypesResponse><AllTypesResult/></AllTypesResponse>",
+            "<AllTypesResponse xmlns=\"https://foo.amazonaws.com/doc/2010-05-08/\"><AllTypesResult>"
+            + "<StringMember>foo</StringMember><IntegerMember>42</IntegerMember><BooleanMember>true</BooleanMember>"
+            + "<TimestampMember>2015-01-25T08:00:00.000Z</TimestampMember>"
+            + "<StructMember><Name>a</Name><Size>1</Size><Unknown><Name>b</Name></Unknown></StructMember>"
+            + "</AllTypesResult><ResponseMetadata><RequestId>request-id</RequestId><Other>value</Other>"
+            + "</ResponseMetadata></AllTypesResponse>",
+            "<AllTypesResponse><AllTypesResult>"
+            + "<ListOfStrings><member>a</member><item>b</item></ListOfStrings>"
+            + "<ListOfStructs><member><Name>a</Name></member><member><Size>2</Size></member></ListOfStructs>"
+            + "<FlatList>a</FlatList><StringMember>x</StringMember><FlatList>b</FlatList>"
+            + "<MapOfStrings><entry><key>k1</key><value>v1</value></entry><entry><key>k2</key><value>v2</value></entry>"
+            + "</MapOfStrings><FlatMap><key>k</key><value><Name>n</Name></value></FlatMap>"
+            + "</AllTypesResult></AllTypesResponse>",
+            "<AllTypesResponse><AllTypesResult><StringMember>first</StringMember><StringMember>second</StringMember>"
+            + "</AllTypesResult><AllTypesResult><StringMember>third</StringMember></AllTypesResult></AllTypesResponse>");
+    }
+
+    public static Stream<String> unwrappedPayloads() {
+        return Stream.of(
+            "",
+            "<DescribeResponse/>",
+            "<DescribeResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\"><requestId>request-id</requestId>"
+            + "<StringMember>foo</StringMember><ListOfStrings><item>a</item><item>b</item></ListOfStrings>"
+            + "<StructMember><Name>a</Name></StructMember></DescribeResponse>");
+    }
+
+    @ParameterizedTest
+    @MethodSource("wrappedPayloads")
+    public void unmarshall_withResultWrapper_streamingMatchesDom(String payload) {
+        Pair<TestPojo, Map<String, String>> dom = unmarshall(false, true, payload);
+        Pair<TestPojo, Map<String, String>> streaming = unmarshall(true, true, payload);
+
+        assertThat(streaming.left()).isEqualTo(dom.left());
+        assertThat(streaming.right()).isEqualTo(dom.right());
+    }
+
+    @ParameterizedTest
+    @MethodSource("unwrappedPayloads")
+    public void unmarshall_withoutResultWrapper_streamingMatchesDom(String payload) {
+        Pair<TestPojo, Map<String, String>> dom = unmarshall(false, false, payload);
+        Pair<TestPojo, Map<String, String>> streaming = unmarshall(true, false, payload);
+
+        assertThat(streaming.left()).isEqualTo(dom.left());
+        assertThat(streaming.right()).isEqualTo(dom.right());
+    }
+
+    @Test
+    public void unmarshall_streaming_readsExpectedValuesAndMetadata() {
+        Pair<TestPojo, Map<String, String>> streaming =
+            unmarshall(true, true, "<AllTypesResponse><AllTypesResult><StringMember>foo</StringMember>"
+                                   + "<TimestampMember>2015-01-25T08:00:00Z</TimestampMember>"
+                                   + "<ListOfStrings><member>a</member><member>b</member></ListOfStrings>"
+                                   + "</AllTypesResult><ResponseMetadata><RequestId>request-id</RequestId>"
+                                   + "</ResponseMetadata></AllTypesResponse>");
+
+        assertThat(streaming.left().values).containsEntry("StringMember", "foo")
+                                           .containsEntry("TimestampMember", Instant.parse("2015-01-25T08:00:00Z"))
+                                           .containsEntry("ListOfStrings", Arrays.asList("a", "b"));
+        assertThat(streaming.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    private static Pair<TestPojo, Map<String, String>> unmarshall(boolean streaming, boolean hasResultWrapper,
+                                                                  String payload) {
+        QueryProtocolUnmarshaller unmarshaller = QueryProtocolUnmarshaller.builder()
+                                                                          .hasResultWrapper(hasResultWrapper)
+                                                                          .enableStreamingUnmarshalling(streaming)
+                                                                          .build();
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(
+                                                              new StringInputStream(payload)))
+                                                          .build();
+        return unmarshaller.unmarshall(new TestPojo(FIELDS), response);
+    }
+
+    private static SdkField<?> field(MarshallingType<?> type, String name, Trait... extraTraits) {
+        return fieldBuilder(type, name, extraTraits).build();
+    }
+
+    private static SdkField<?> structField(String name, List<SdkField<?>> fields) {
+        return fieldBuilder(MarshallingType.SDK_POJO, name).constructor(() -> new TestPojo(fields)).build();
+    }
+
+    private static SdkField<?> listField(String name, boolean flattened, SdkField<?> member) {
+        return field(MarshallingType.LIST, name, ListTrait.builder()
+                                                         .memberLocationName(member.locationName())
+                                                         .memberFieldInfo(member)
+                                                         .isFlattened(flattened)
+                                                         .build());
+    }
+
+    private static SdkField<?> mapField(String name, boolean flattened, SdkField<?> value) {
+        return field(MarshallingType.MAP, name, MapTrait.builder()
+                                                        .keyLocationName("key")
+                                                        .valueLocationName("value")
+                                                        .valueFieldInfo(value)
+                                                        .isFlattened(flattened)
+                                                        .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SdkField.Builder<Object> fieldBuilder(MarshallingType<?> type, String name, Trait... extraTraits) {
+        return SdkField.builder((MarshallingType<Object>) type)
+                       .memberName(name)
+                       .setter((o, v) -> ((TestPojo) o).values.put(name, v))
+                       .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build())
+                       .traits(extraTraits);
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        private TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestPojo && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+}
@@ -75,16 +75,20 @@ public class AwsXmlProtocolFactory {
         new OperationMetadataAttribute<>(String.class);
 
     private static final XmlProtocolUnmarshaller XML_PROTOCOL_UNMARSHALLER = XmlProtocolUnmarshaller.create();
+    private static final XmlProtocolUnmarshaller STREAMING_XML_PROTOCOL_UNMARSHALLER = XmlProtocolUnmarshaller.create(true);
 
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final XmlProtocolUnmarshaller responseUnmarshaller;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        this.responseUnmarshaller = builder.enableStreamingUnmarshalling ? STREAMING_XML_PROTOCOL_UNMARSHALLER
+                                                                         : XML_PROTOCOL_UNMARSHALLER;
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
@@ -128,7 +132,7 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    responseUnmarshaller, pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
@@ -136,7 +140,11 @@ public class AwsXmlProtocolFactory {
         Supplier<SdkPojo> pojoSupplier) {
 
         return new AwsXmlResponseTransformer<>(
-            XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
+            responseUnmarshaller, r -> pojoSupplier.get());
+    }
+
+    XmlProtocolUnmarshaller responseUnmarshaller() {
+        return responseUnmarshaller;
     }
 
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
@@ -191,6 +199,7 @@ public class AwsXmlProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
         private SdkClientConfiguration clientConfiguration;
+        private boolean enableStreamingUnmarshalling;
 
         Builder() {
         }
@@ -229,6 +238,19 @@ public class AwsXmlProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML stream, without first parsing them into
+         * an {@link XmlElement} tree. Error responses, including the errors that S3 returns with a successful status, are
+         * always parsed into a tree.
+         *
+         * @param enableStreamingUnmarshalling True to unmarshall successful responses from the XML stream.
+         * @return This builder for method chaining.
+         */
+        public SubclassT enableStreamingUnmarshalling(boolean enableStreamingUnmarshalling) {
+            this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
@@ -17,7 +17,11 @@ package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
 import static software.amazon.awssdk.core.SdkStandardLogger.logRequestId;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Optional;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +33,7 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.utils.IoUtils;
@@ -43,12 +48,14 @@ import software.amazon.awssdk.utils.IoUtils;
 @SdkInternalApi
 public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHandler<Response<OutputT>> {
     private static final Logger log = LoggerFactory.getLogger(AwsXmlPredicatedResponseHandler.class);
+    private static final String ERROR_ROOT_ELEMENT_NAME = "Error";
 
     private final Function<SdkHttpFullResponse, SdkPojo> pojoSupplier;
     private final Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final BiPredicate<SdkPojo, SdkHttpFullResponse> streamSuccessResponse;
 
     /**
      * Standard constructor
@@ -65,11 +72,36 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
 
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, (sdkPojo, response) -> false);
+    }
+
+    /**
+     * Constructor for responses that may be unmarshalled straight from the XML stream
+     * @param pojoSupplier A method that supplies an empty builder of the correct type
+     * @param successResponseTransformer A function that can unmarshall a response object from parsed XML, or from the XML
+     *                                   stream if the context holds no parsed XML
+     * @param errorResponseTransformer A function that can unmarshall an exception object from parsed XML
+     * @param decorateContextWithError A function that determines if the response was an error or not
+     * @param needsConnectionLeftOpen true if the underlying connection should not be closed once parsed
+     * @param streamSuccessResponse A predicate that determines if a response is left for the success response transformer
+     *                              to unmarshall from the XML stream. The response is still parsed if its root element is
+     *                              an error.
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        BiPredicate<SdkPojo, SdkHttpFullResponse> streamSuccessResponse) {
+
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.streamSuccessResponse = streamSuccessResponse;
     }
 
     /**
@@ -113,15 +145,42 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        SdkHttpFullResponse response = httpFullResponse;
+        if (streamSuccessResponse.test(sdkPojo, httpFullResponse)) {
+            AbortableInputStream content = httpFullResponse.content().get();
+            BufferedInputStream bufferedContent = new BufferedInputStream(content);
+            response = httpFullResponse.toBuilder()
+                                       .content(AbortableInputStream.create(bufferedContent, content))
+                                       .build();
+            if (!hasErrorRoot(bufferedContent)) {
+                return AwsXmlUnmarshallingContext.builder()
+                                                 .executionAttributes(executionAttributes)
+                                                 .sdkHttpFullResponse(response)
+                                                 .build();
+            }
+        }
+
+        XmlElement document = XmlResponseParserUtils.parse(sdkPojo, response);
 
         return AwsXmlUnmarshallingContext.builder()
                                          .parsedXml(document)
                                          .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
+                                         .sdkHttpFullResponse(response)
                                          .build();
     }
 
+    private static boolean hasErrorRoot(BufferedInputStream content) {
+        // A document whose root element can't be found up front is parsed, as it may still be an error.
+        try {
+            return XmlResponseParserUtils.peekRootElementName(content)
+                                         .map(ERROR_ROOT_ELEMENT_NAME::equals)
+                                         .orElse(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Handles a successful response from a service call by unmarshalling the results using the
      * specified response handler.
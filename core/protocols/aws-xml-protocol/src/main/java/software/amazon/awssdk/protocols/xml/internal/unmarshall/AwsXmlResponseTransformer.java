@@ -56,8 +56,15 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
 
     @SuppressWarnings("unchecked")
     private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
-        SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
-        T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
+        T result;
+        if (parsedXml == null) {
+            // The body was left unparsed to be unmarshalled straight from the XML stream
+            SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling service response XML stream.");
+            result = unmarshaller.unmarshall(pojoSupplier.apply(response), response);
+        } else {
+            SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
+            result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
+        }
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
@@ -52,7 +52,7 @@ public class AwsXmlUnmarshallingContext {
     }
 
     /**
-     * The parsed XML of the body, or null if there was no body.
+     * The parsed XML of the body, or null if the body was left to be unmarshalled straight from the XML stream.
      */
     public XmlElement parsedRootXml() {
         return parsedXml;
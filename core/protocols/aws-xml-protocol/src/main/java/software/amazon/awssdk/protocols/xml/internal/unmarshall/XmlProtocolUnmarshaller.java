@@ -40,6 +40,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -49,19 +50,44 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final XmlStreamingUnmarshaller STREAMING_UNMARSHALLER = createStreamingUnmarshaller();
 
-    private XmlProtocolUnmarshaller() {
+    private final boolean enableStreamingUnmarshalling;
+
+    private XmlProtocolUnmarshaller(boolean enableStreamingUnmarshalling) {
+        this.enableStreamingUnmarshalling = enableStreamingUnmarshalling;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(false);
+    }
+
+    /**
+     * @param enableStreamingUnmarshalling True if successful responses should be unmarshalled directly from the XML stream
+     * using {@link XmlStreamingUnmarshaller}, instead of being parsed into an {@link XmlElement} tree first.
+     */
+    public static XmlProtocolUnmarshaller create(boolean enableStreamingUnmarshalling) {
+        return new XmlProtocolUnmarshaller(enableStreamingUnmarshalling);
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (isStreamingUnmarshallable(sdkPojo, response)) {
+            return streamingUnmarshall(sdkPojo, response);
+        }
+
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Whether {@link #unmarshall(SdkPojo, SdkHttpFullResponse)} reads the given response straight from the XML stream,
+     * without parsing it into an {@link XmlElement} tree first.
+     */
+    public boolean isStreamingUnmarshallable(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return enableStreamingUnmarshalling && response.isSuccessful() && hasXmlPayload(sdkPojo, response)
+               && sdkPojo.sdkFields().stream().noneMatch(this::isExplicitStringPayloadMember);
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -137,6 +163,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (SdkPojo) ((Buildable) sdkPojo).build();
     }
 
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT streamingUnmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+        return STREAMING_UNMARSHALLER.<TypeT>unmarshall(sdkPojo, response.content().get())
+                                     .orElseGet(() -> unmarshall(sdkPojo, XmlElement.empty(), response));
+    }
+
     private void setExplicitStringPayload(XmlUnmarshaller<Object> unmarshaller, XmlUnmarshallerContext context,
                                              SdkPojo sdkPojo, XmlElement element, SdkField<?> field) {
         SdkBytes sdkBytes = SdkBytes.fromInputStream(context.response().content().get());
@@ -213,6 +256,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static XmlStreamingUnmarshaller createStreamingUnmarshaller() {
+        return XmlStreamingUnmarshaller
+            .builder()
+            .matchListMembersByName(true)
+            .converter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .converter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .converter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .converter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .converter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .converter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .converter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .converter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .converter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .converter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
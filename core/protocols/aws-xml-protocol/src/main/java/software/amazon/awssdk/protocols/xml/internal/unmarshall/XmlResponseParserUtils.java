@@ -15,8 +15,10 @@
 
 package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
@@ -36,6 +38,8 @@ import software.amazon.awssdk.utils.LookaheadInputStream;
  */
 @SdkInternalApi
 public final class XmlResponseParserUtils {
+    private static final int ROOT_ELEMENT_PEEK_LIMIT = 1024;
+
     private XmlResponseParserUtils() {
     }
 
@@ -73,6 +77,80 @@ public final class XmlResponseParserUtils {
         }
     }
 
+    /**
+     * Read the local name of the root element of an XML document without consuming the stream: it is reset to the start
+     * of the document before returning.
+     * @param content the XML document
+     * @return the name of the root element, or empty if the document is empty or its root element does not start within
+     * the first {@value #ROOT_ELEMENT_PEEK_LIMIT} bytes.
+     */
+    public static Optional<String> peekRootElementName(BufferedInputStream content) throws IOException {
+        byte[] prefix = new byte[ROOT_ELEMENT_PEEK_LIMIT];
+        content.mark(ROOT_ELEMENT_PEEK_LIMIT);
+        int length = 0;
+        try {
+            int read = 0;
+            while (read != -1 && length < prefix.length) {
+                read = content.read(prefix, length, prefix.length - length);
+                length += Math.max(read, 0);
+            }
+        } finally {
+            content.reset();
+        }
+
+        int index = indexOf(prefix, length, "<", 0);
+        while (index != -1 && index + 1 < length) {
+            if (prefix[index + 1] == '?') {
+                // Prolog
+                index = indexOf(prefix, length, "<", indexOf(prefix, length, "?>", index));
+            } else if (startsWith(prefix, length, "<!--", index)) {
+                index = indexOf(prefix, length, "<", indexOf(prefix, length, "-->", index));
+            } else if (prefix[index + 1] == '!') {
+                // Document type declaration
+                index = indexOf(prefix, length, "<", indexOf(prefix, length, ">", index));
+            } else {
+                int nameEnd = index + 1;
+                while (nameEnd < length && !isElementNameEnd(prefix[nameEnd])) {
+                    nameEnd++;
+                }
+                if (nameEnd == length || nameEnd == index + 1) {
+                    return Optional.empty();
+                }
+                String name = new String(prefix, index + 1, nameEnd - index - 1, StandardCharsets.UTF_8);
+                return Optional.of(name.substring(name.indexOf(':') + 1));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static int indexOf(byte[] bytes, int length, String target, int from) {
+        if (from < 0) {
+            return -1;
+        }
+        for (int i = from; i <= length - target.length(); i++) {
+            if (startsWith(bytes, length, target, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(byte[] bytes, int length, String target, int offset) {
+        if (offset + target.length() > length) {
+            return false;
+        }
+        for (int i = 0; i < target.length(); i++) {
+            if (bytes[offset + i] != target.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isElementNameEnd(byte b) {
+        return b == '>' || b == '/' || b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
     /**
      * Gets the Member which is a Payload and which is of Blob Type.
      * @param sdkPojo
@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.StringUtils;
+
+public class XmlResponseParserUtilsTest {
+
+    public static Stream<Arguments> documents() {
+        return Stream.of(
+            Arguments.of("<ListBucketResult><Name>bucket</Name></ListBucketResult>", "ListBucketResult"),
+            Arguments.of("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<Error><Code>InternalError</Code></Error>", "Error"),
+            Arguments.of("<!-- <Error/> -->\n<Result xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"/>", "Result"),
+            Arguments.of("<!DOCTYPE Error>\n<s3:Error xmlns:s3=\"http://s3.amazonaws.com/doc/2006-03-01/\">", "Error"),
+            Arguments.of("  \n<Result\n>", "Result"),
+            Arguments.of("<Result/>", "Result"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("documents")
+    public void peekRootElementName_returnsLocalNameAndResetsStream(String document, String rootElementName)
+        throws IOException {
+        BufferedInputStream content = stream(document);
+
+        assertThat(XmlResponseParserUtils.peekRootElementName(content)).hasValue(rootElementName);
+        assertThat(IoUtils.toUtf8String(content)).isEqualTo(document);
+    }
+
+    @Test
+    public void peekRootElementName_emptyDocument_returnsEmpty() throws IOException {
+        assertThat(XmlResponseParserUtils.peekRootElementName(stream(""))).isEmpty();
+        assertThat(XmlResponseParserUtils.peekRootElementName(stream("<?xml version=\"1.0\"?>"))).isEmpty();
+    }
+
+    @Test
+    public void peekRootElementName_rootElementBeyondPeekLimit_returnsEmpty() throws IOException {
+        String document = "<!--" + StringUtils.repeat(" ", 2048) + "--><Error/>";
+        BufferedInputStream content = stream(document);
+
+        assertThat(XmlResponseParserUtils.peekRootElementName(content)).isEqualTo(Optional.empty());
+        assertThat(IoUtils.toUtf8String(content)).isEqualTo(document);
+    }
+
+    private static BufferedInputStream stream(String document) {
+        return new BufferedInputStream(new ByteArrayInputStream(document.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class XmlStreamingUnmarshallingTest {
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "Name"),
+        field(MarshallingType.LONG, "Size"),
+        field(MarshallingType.STRING, "xsi:type", XmlAttributeTrait.create()));
+
+    private static final List<SdkField<?>> TOP_LEVEL_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        field(MarshallingType.DOUBLE, "DoubleMember"),
+        field(MarshallingType.BIG_DECIMAL, "BigDecimalMember"),
+        field(MarshallingType.INSTANT, "TimestampMember"),
+        field(MarshallingType.SDK_BYTES, "BlobMember"),
+        structField("StructMember", NESTED_FIELDS),
+        listField("ListOfStrings", false, field(MarshallingType.STRING, "member")),
+        listField("ListOfStructs", false, structField("item", NESTED_FIELDS)),
+        listField("FlatList", true, field(MarshallingType.STRING, "FlatList")),
+        mapField("MapOfStructs", false, structField("value", NESTED_FIELDS)),
+        mapField("FlatMap", true, field(MarshallingType.STRING, "value")),
+        field(MarshallingType.STRING, "x-amz-header", MarshallLocation.HEADER),
+        field(MarshallingType.INTEGER, "StatusCode", MarshallLocation.STATUS_CODE));
+
+    private static final List<SdkField<?>> EXPLICIT_PAYLOAD_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "x-amz-header", MarshallLocation.HEADER),
+        structField("Payload", NESTED_FIELDS, PayloadTrait.create()));
+
+    public static Stream<String> payloads() {
+        return Stream.of(
+            "",
+            "<Response/>",
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<Response xmlns=\"http://foo.amazonaws.com\">"
+            + "<StringMember>foo &amp; bar</StringMember><IntegerMember>42</IntegerMember>"
+            + "<BooleanMember>true</BooleanMember><DoubleMember>1.5</DoubleMember>"
+            + "<BigDecimalMember>1.23456789012345678901</BigDecimalMember>"
+            + "<TimestampMember>2015-01-25T08:00:00.000Z</TimestampMember><BlobMember>aGVsbG8=</BlobMember></Response>",
+            "<Response><StructMember xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"Typed\">"
+            + "<Name>a</Name><Size>123456789012</Size><Unknown><Name>ignored</Name></Unknown></StructMember></Response>",
+            "<Response><ListOfStrings><member>a</member><other>b</other><member></member></ListOfStrings>"
+            + "<ListOfStructs><item><Name>a</Name></item><item><Size>1</Size></item></ListOfStructs></Response>",
+            "<Response><FlatList>a</FlatList><StringMember>x</StringMember><FlatList>b</FlatList></Response>",
+            "<Response><MapOfStructs><entry><key>k1</key><value><Name>a</Name></value></entry>"
+            + "<entry><value><Name>b</Name></value><key>k2</key></entry></MapOfStructs>"
+            + "<FlatMap><key>a</key><value>1</value></FlatMap><FlatMap><key>b</key><value>2</value></FlatMap></Response>",
+            "<Response><StringMember>first</StringMember><StringMember>second</StringMember>"
+            + "<StructMember><Name>first</Name></StructMember><StructMember><Name>second</Name></StructMember></Response>",
+            "<Response><StringMember>a<!-- comment -->b</StringMember><BooleanMember><![CDATA[true]]></BooleanMember>"
+            + "<StructMember><Name>\n  multi\n  line\n</Name></StructMember></Response>",
+            "<Response><StringMember/><ListOfStrings/><MapOfStructs></MapOfStructs></Response>");
+    }
+
+    @ParameterizedTest
+    @MethodSource("payloads")
+    public void unmarshall_streamingMatchesDom(String payload) {
+        TestPojo dom = unmarshall(false, TOP_LEVEL_FIELDS, payload);
+        TestPojo streaming = unmarshall(true, TOP_LEVEL_FIELDS, payload);
+
+        assertThat(streaming).isEqualTo(dom);
+        assertThat(streaming.values).containsEntry("x-amz-header", "header-value")
+                                    .containsEntry("StatusCode", 200);
+    }
+
+    @ParameterizedTest
+    @MethodSource("payloads")
+    public void unmarshall_explicitPayload_streamingMatchesDom(String payload) {
+        TestPojo dom = unmarshall(false, EXPLICIT_PAYLOAD_FIELDS, payload);
+        TestPojo streaming = unmarshall(true, EXPLICIT_PAYLOAD_FIELDS, payload);
+
+        assertThat(streaming).isEqualTo(dom);
+    }
+
+    @Test
+    public void unmarshall_streaming_readsExpectedValues() {
+        TestPojo streaming = unmarshall(true, TOP_LEVEL_FIELDS,
+                                        "<Response><StringMember>foo</StringMember>"
+                                        + "<TimestampMember>2015-01-25T08:00:00Z</TimestampMember>"
+                                        + "<BigDecimalMember>1.5</BigDecimalMember>"
+                                        + "<FlatList>a</FlatList><FlatList>b</FlatList>"
+                                        + "<ListOfStructs><item><Name>a</Name></item></ListOfStructs></Response>");
+
+        assertThat(streaming.values).containsEntry("StringMember", "foo")
+                                    .containsEntry("TimestampMember", Instant.parse("2015-01-25T08:00:00Z"))
+                                    .containsEntry("BigDecimalMember", new BigDecimal("1.5"))
+                                    .containsEntry("FlatList", Arrays.asList("a", "b"));
+        List<?> structs = (List<?>) streaming.values.get("ListOfStructs");
+        assertThat(structs).hasSize(1);
+        assertThat(((TestPojo) structs.get(0)).values).containsEntry("Name", "a");
+    }
+
+    private static TestPojo unmarshall(boolean streaming, List<SdkField<?>> fields, String payload) {
+        SdkHttpFullResponse response =
+            SdkHttpFullResponse.builder()
+                               .statusCode(200)
+                               .putHeader("x-amz-header", "header-value")
+                               .content(AbortableInputStream.create(
+                                   new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8))))
+                               .build();
+        return XmlProtocolUnmarshaller.create(streaming).unmarshall(new TestPojo(fields), response);
+    }
+
+    private static SdkField<?> field(MarshallingType<?> type, String name, Trait... extraTraits) {
+        return field(type, name, MarshallLocation.PAYLOAD, extraTraits);
+    }
+
+    private static SdkField<?> field(MarshallingType<?> type, String name, MarshallLocation location, Trait... extraTraits) {
+        return fieldBuilder(type, name, location, extraTraits).build();
+    }
+
+    private static SdkField<?> structField(String name, List<SdkField<?>> fields, Trait... extraTraits) {
+        return fieldBuilder(MarshallingType.SDK_POJO, name, MarshallLocation.PAYLOAD, extraTraits)
+            .constructor(() -> new TestPojo(fields))
+            .build();
+    }
+
+    private static SdkField<?> listField(String name, boolean flattened, SdkField<?> member) {
+        return field(MarshallingType.LIST, name, ListTrait.builder()
+                                                         .memberLocationName(member.locationName())
+                                                         .memberFieldInfo(member)
+                                                         .isFlattened(flattened)
+                                                         .build());
+    }
+
+    private static SdkField<?> mapField(String name, boolean flattened, SdkField<?> value) {
+        return field(MarshallingType.MAP, name, MapTrait.builder()
+                                                        .keyLocationName("key")
+                                                        .valueLocationName("value")
+                                                        .valueFieldInfo(value)
+                                                        .isFlattened(flattened)
+                                                        .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SdkField.Builder<Object> fieldBuilder(MarshallingType<?> type,
+                                                         String name,
+                                                         MarshallLocation location,
+                                                         Trait... extraTraits) {
+        return SdkField.builder((MarshallingType<Object>) type)
+                       .memberName(name)
+                       .setter((o, v) -> ((TestPojo) o).values.put(name, v))
+                       .traits(LocationTrait.builder().location(location).locationName(name).build())
+                       .traits(extraTraits);
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        private TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestPojo && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+}
@@ -22,8 +22,8 @@ import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
 /**
- * Configuration options for operations with the RequestCompression trait to disable request configuration and set the minimum
- * compression threshold in bytes.
+ * Configuration options for operations with the RequestCompression trait to disable request configuration, set the minimum
+ * compression threshold in bytes and set the compression level.
  */
 @SdkPublicApi
 public final class CompressionConfiguration implements ToCopyableBuilder<CompressionConfiguration.Builder,
@@ -31,10 +31,12 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
 
     private final Boolean requestCompressionEnabled;
     private final Integer minimumCompressionThresholdInBytes;
+    private final Integer compressionLevel;
 
     private CompressionConfiguration(DefaultBuilder builder) {
         this.requestCompressionEnabled = builder.requestCompressionEnabled;
         this.minimumCompressionThresholdInBytes = builder.minimumCompressionThresholdInBytes;
+        this.compressionLevel = builder.compressionLevel;
     }
 
     /**
@@ -51,6 +53,13 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         return minimumCompressionThresholdInBytes;
     }
 
+    /**
+     * If set, returns the compression level, from 1 (fastest) to 9 (smallest), used to compress requests.
+     */
+    public Integer compressionLevel() {
+        return compressionLevel;
+    }
+
     /**
      * Create a {@link CompressionConfiguration.Builder}, used to create a {@link CompressionConfiguration}.
      */
@@ -68,6 +77,7 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         return ToString.builder("CompressionConfiguration")
                        .add("requestCompressionEnabled", requestCompressionEnabled)
                        .add("minimumCompressionThresholdInBytes", minimumCompressionThresholdInBytes)
+                       .add("compressionLevel", compressionLevel)
                        .build();
     }
 
@@ -85,13 +95,17 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         if (!Objects.equals(requestCompressionEnabled, that.requestCompressionEnabled)) {
             return false;
         }
-        return Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes);
+        if (!Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes)) {
+            return false;
+        }
+        return Objects.equals(compressionLevel, that.compressionLevel);
     }
 
     @Override
     public int hashCode() {
         int result = requestCompressionEnabled != null ? requestCompressionEnabled.hashCode() : 0;
         result = 31 * result + (minimumCompressionThresholdInBytes != null ? minimumCompressionThresholdInBytes.hashCode() : 0);
+        result = 31 * result + (compressionLevel != null ? compressionLevel.hashCode() : 0);
         return result;
     }
 
@@ -116,11 +130,21 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
          * @return This object for method chaining.
          */
         Builder minimumCompressionThresholdInBytes(Integer minimumCompressionThresholdInBytes);
+
+        /**
+         * Configures the compression level used to compress requests, from 1 (fastest, least compression) to 9 (slowest,
+         * most compression). If not set, the compressor's default level is used, which is 6 for gzip.
+         *
+         * @param compressionLevel
+         * @return This object for method chaining.
+         */
+        Builder compressionLevel(Integer compressionLevel);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Boolean requestCompressionEnabled;
         private Integer minimumCompressionThresholdInBytes;
+        private Integer compressionLevel;
 
         private DefaultBuilder() {
         }
@@ -128,6 +152,7 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         private DefaultBuilder(CompressionConfiguration compressionConfiguration) {
             this.requestCompressionEnabled = compressionConfiguration.requestCompressionEnabled;
             this.minimumCompressionThresholdInBytes = compressionConfiguration.minimumCompressionThresholdInBytes;
+            this.compressionLevel = compressionConfiguration.compressionLevel;
         }
 
         @Override
@@ -142,6 +167,12 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
             return this;
         }
 
+        @Override
+        public Builder compressionLevel(Integer compressionLevel) {
+            this.compressionLevel = compressionLevel;
+            return this;
+        }
+
         @Override
         public CompressionConfiguration build() {
             return new CompressionConfiguration(this);
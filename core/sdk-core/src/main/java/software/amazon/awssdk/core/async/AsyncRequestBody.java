@@ -355,7 +355,9 @@ public interface AsyncRequestBody extends SdkPublisher<ByteBuffer> {
      * Creates an {@link AsyncRequestBody} from an {@link InputStream}.
      *
      * <p>An {@link ExecutorService} is required in order to perform the blocking data reads, to prevent blocking the
-     * non-blocking event loop threads owned by the SDK.
+     * non-blocking event loop threads owned by the SDK. On Java 21 and later, an executor that starts a virtual thread for
+     * each task, such as {@code Executors.newVirtualThreadPerTaskExecutor()}, does not hold a platform thread for each
+     * stream being read.
      */
     static AsyncRequestBody fromInputStream(InputStream inputStream, Long contentLength, ExecutorService executor) {
         return fromInputStream(b -> b.inputStream(inputStream).contentLength(contentLength).executor(executor));
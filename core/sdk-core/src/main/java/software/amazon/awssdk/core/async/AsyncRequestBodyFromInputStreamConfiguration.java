@@ -135,7 +135,8 @@ public final class AsyncRequestBodyFromInputStreamConfiguration
         Builder contentLength(Long contentLength);
 
         /**
-         * Configures the {@link ExecutorService} to perform the blocking data reads.
+         * Configures the {@link ExecutorService} to perform the blocking data reads. On Java 21 and later, this can be an
+         * executor that starts a virtual thread for each task, such as {@code Executors.newVirtualThreadPerTaskExecutor()}.
          *
          * @param executor the executor
          * @return This object for method chaining.
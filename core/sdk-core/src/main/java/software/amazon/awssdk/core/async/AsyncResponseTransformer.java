@@ -139,6 +139,7 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
         return AsyncResponseTransformer.SplitResult.<ResponseT, ResultT>builder()
                                             .publisher(transformer)
                                             .resultFuture(future)
+                                            .parallelSplitSupported(true)
                                             .build();
     }
 
@@ -335,6 +336,19 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
          */
         CompletableFuture<ResultT> resultFuture();
 
+        /**
+         * Whether the individual {@link AsyncResponseTransformer}s published by {@link #publisher()} may be used for requests
+         * that are executed concurrently. When true, the individual transformers may receive their response and stream in any
+         * order, except that the first one published must receive its response before any other. The content is still
+         * delivered to the {@code AsyncResponseTransformer} that was split as if the individual transformers had been used one
+         * after the other, in the order in which they were published.
+         *
+         * @return true if the individual transformers may be used concurrently.
+         */
+        default Boolean parallelSplitSupported() {
+            return false;
+        }
+
         static <ResponseT, ResultT> Builder<ResponseT, ResultT> builder() {
             return DefaultAsyncResponseTransformerSplitResult.builder();
         }
@@ -367,6 +381,25 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
              * @return an instance of this Builder
              */
             Builder<ResponseT, ResultT> resultFuture(CompletableFuture<ResultT> future);
+
+            /**
+             * @return whether parallel split is supported, as configured on this Builder instance.
+             */
+            default Boolean parallelSplitSupported() {
+                throw new UnsupportedOperationException();
+            }
+
+            /**
+             * Sets whether the individual {@link AsyncResponseTransformer}s published by the publisher may be used for requests
+             * that are executed concurrently.
+             *
+             * @param parallelSplitSupported true if the individual transformers may be used concurrently.
+             * @return an instance of this Builder
+             * @see SplitResult#parallelSplitSupported()
+             */
+            default Builder<ResponseT, ResultT> parallelSplitSupported(Boolean parallelSplitSupported) {
+                throw new UnsupportedOperationException();
+            }
         }
     }
 }
@@ -84,6 +84,9 @@ public final class BlockingInputStreamAsyncRequestBody implements AsyncRequestBo
      *
      * <p>You can invoke {@link #cancel()} to cancel any blocked write calls to the downstream service (and mark the stream as
      * failed).
+     *
+     * <p>The write waits without holding any monitors, so on Java 21 and later it can be called from a virtual thread without
+     * pinning its carrier thread.
      */
     public long writeInputStream(InputStream inputStream) {
         try {
@@ -17,12 +17,12 @@ package software.amazon.awssdk.core.checksums;
 
 import static software.amazon.awssdk.core.internal.util.HttpChecksumUtils.longToByte;
 
-import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
-import software.amazon.awssdk.core.internal.checksums.factory.SdkCrc32;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
+import software.amazon.awssdk.checksums.internal.JdkCrcChecksum;
 
 /**
  * Implementation of {@link SdkChecksum} to calculate an CRC32 checksum.
@@ -32,17 +32,13 @@ public class Crc32Checksum implements SdkChecksum {
 
     private Checksum crc32;
     private Checksum lastMarkedCrc32;
-    private final boolean isCrtBasedChecksum;
 
     /**
-     * Creates CRT Based Crc32 checksum if Crt classpath for Crc32 is loaded, else create Sdk Implemented Crc32.
+     * Creates a JDK based Crc32 checksum, which is intrinsified by the JVM and faster than both the CRT based and the Sdk
+     * implemented Crc32.
      */
     public Crc32Checksum() {
-        crc32 = CrtBasedChecksumProvider.createCrc32();
-        isCrtBasedChecksum = crc32 != null;
-        if (!isCrtBasedChecksum) {
-            crc32 = SdkCrc32.create();
-        }
+        crc32 = CrcChecksumProvider.crc32Implementation();
     }
 
     @Override
@@ -65,6 +61,11 @@ public class Crc32Checksum implements SdkChecksum {
         crc32.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        ((JdkCrcChecksum) crc32).update(buffer);
+    }
+
     @Override
     public long getValue() {
         return crc32.getValue();
@@ -80,15 +81,6 @@ public class Crc32Checksum implements SdkChecksum {
     }
 
     private Checksum cloneChecksum(Checksum checksum) {
-        if (isCrtBasedChecksum) {
-            try {
-                Method method = checksum.getClass().getDeclaredMethod("clone");
-                return (Checksum) method.invoke(checksum);
-            } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Could not clone checksum class " + checksum.getClass(), e);
-            }
-        } else {
-            return (Checksum) ((SdkCrc32) checksum).clone();
-        }
+        return CrcChecksumProvider.cloneChecksum(checksum);
     }
 }
\ No newline at end of file
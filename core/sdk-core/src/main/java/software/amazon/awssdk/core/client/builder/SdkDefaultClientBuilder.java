@@ -17,16 +17,22 @@ package software.amazon.awssdk.core.client.builder;
 
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.ADAPTIVE_CONCURRENCY;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USE_VIRTUAL_THREADS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ADAPTIVE_CONCURRENCY_LIMITER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CLIENT_RUNTIME_ATTACHMENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CLIENT_TYPE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CLIENT_USER_AGENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_ASYNC_HTTP_CLIENT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_ASYNC_HTTP_CLIENT_BUILDER;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_CLIENT_RUNTIME;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_COMPRESSION_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_RETRY_CONFIGURATOR;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_RETRY_MODE;
@@ -36,6 +42,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SYNC_HTTP_CLIENT_BUILDER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.DEFAULT_RETRY_MODE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_RESOLUTION_CACHE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.HTTP_CLIENT_CONFIG;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.IDENTITY_PROVIDERS;
@@ -48,6 +55,8 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_PO
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.TIMEOUT_SCHEDULER;
+import static software.amazon.awssdk.core.internal.runtime.UnmanagedClientRuntime.unwrapUnmanagedClientRuntime;
 import static software.amazon.awssdk.core.internal.useragent.UserAgentConstant.HTTP;
 import static software.amazon.awssdk.core.internal.useragent.UserAgentConstant.INTERNAL_METADATA_MARKER;
 import static software.amazon.awssdk.core.internal.useragent.UserAgentConstant.IO;
@@ -79,15 +88,21 @@ import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.core.client.config.AdaptiveConcurrencyConfiguration;
 import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientRuntime;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.CompressRequestStage;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimeoutScheduler;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
 import software.amazon.awssdk.core.internal.interceptor.HttpChecksumValidationInterceptor;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetryStrategy;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
@@ -112,11 +127,16 @@ import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.AttributeMap.LazyValueSource;
 import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.ExecutorUtils;
 import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.OptionalUtils;
+import software.amazon.awssdk.utils.ScheduledExecutorUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.VirtualThreads;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -139,6 +159,7 @@ import software.amazon.awssdk.utils.http.SdkHttpUtils;
 @SdkProtectedApi
 public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>, C> implements SdkClientBuilder<B, C> {
 
+    private static final Logger log = Logger.loggerFor(SdkDefaultClientBuilder.class);
     private static final SdkHttpClient.Builder DEFAULT_HTTP_CLIENT_BUILDER = new DefaultSdkHttpClientBuilder();
     private static final SdkAsyncHttpClient.Builder DEFAULT_ASYNC_HTTP_CLIENT_BUILDER = new DefaultSdkAsyncHttpClientBuilder();
 
@@ -312,6 +333,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private SdkClientConfiguration finalizeSyncConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
+                     .lazyOption(CLIENT_RUNTIME_ATTACHMENT, this::resolveClientRuntimeAttachment)
                      .lazyOption(SdkClientOption.SYNC_HTTP_CLIENT, c -> resolveSyncHttpClient(c, config))
                      .option(SdkClientOption.CLIENT_TYPE, SYNC)
                      .build();
@@ -322,8 +344,10 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      */
     private SdkClientConfiguration finalizeAsyncConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
+                     .lazyOption(CLIENT_RUNTIME_ATTACHMENT, this::resolveClientRuntimeAttachment)
                      .lazyOptionIfAbsent(FUTURE_COMPLETION_EXECUTOR, this::resolveAsyncFutureCompletionExecutor)
                      .lazyOption(ASYNC_HTTP_CLIENT, c -> resolveAsyncHttpClient(c, config))
+                     .lazyOption(ADAPTIVE_CONCURRENCY_LIMITER, this::resolveAdaptiveConcurrencyLimiter)
                      .option(SdkClientOption.CLIENT_TYPE, ASYNC)
                      .build();
     }
@@ -334,6 +358,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     private SdkClientConfiguration finalizeConfiguration(SdkClientConfiguration config) {
         return config.toBuilder()
                      .lazyOption(SCHEDULED_EXECUTOR_SERVICE, this::resolveScheduledExecutorService)
+                     .lazyOptionIfAbsent(TIMEOUT_SCHEDULER, this::resolveTimeoutScheduler)
+                     .lazyOption(ENDPOINT_RESOLUTION_CACHE, this::resolveEndpointResolutionCache)
                      .lazyOptionIfAbsent(RETRY_STRATEGY, this::resolveRetryStrategy)
                      .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
                      .lazyOption(CLIENT_USER_AGENT, this::resolveClientUserAgent)
@@ -460,9 +486,12 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
         AttributeMap httpClientConfig = getHttpClientConfig(config, deprecatedConfigDoNotUseThis);
 
+        SdkClientRuntime clientRuntime = clientRuntime(config);
         return Either.fromNullable(httpClient, httpClientBuilder)
                      .map(e -> e.map(Function.identity(), b -> b.buildWithDefaults(httpClientConfig)))
-                     .orElseGet(() -> defaultHttpClientBuilder.buildWithDefaults(httpClientConfig));
+                     .orElseGet(() -> clientRuntime != null
+                                      ? new NonManagedSdkHttpClient(clientRuntime.httpClient(httpClientConfig))
+                                      : defaultHttpClientBuilder.buildWithDefaults(httpClientConfig));
     }
 
     /**
@@ -476,9 +505,12 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
         AttributeMap httpClientConfig = getHttpClientConfig(config, deprecatedConfigDoNotUseThis);
 
+        SdkClientRuntime clientRuntime = clientRuntime(config);
         return Either.fromNullable(config.get(CONFIGURED_ASYNC_HTTP_CLIENT), config.get(CONFIGURED_ASYNC_HTTP_CLIENT_BUILDER))
                      .map(e -> e.map(Function.identity(), b -> b.buildWithDefaults(httpClientConfig)))
-                     .orElseGet(() -> defaultAsyncHttpClientBuilder.buildWithDefaults(httpClientConfig));
+                     .orElseGet(() -> clientRuntime != null
+                                      ? new NonManagedSdkAsyncHttpClient(clientRuntime.asyncHttpClient(httpClientConfig))
+                                      : defaultAsyncHttpClientBuilder.buildWithDefaults(httpClientConfig));
     }
 
     private AttributeMap getHttpClientConfig(LazyValueSource config, SdkClientConfiguration deprecatedConfigDoNotUseThis) {
@@ -511,9 +543,19 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     /**
      * Finalize which async executor service will be used for the created client. The default async executor
      * service has at least 8 core threads and can scale up to at least 64 threads when needed depending
-     * on the number of processors available.
+     * on the number of processors available. When virtual threads are used, each future is completed on a new virtual
+     * thread instead, so completions are never queued or rejected.
      */
     private Executor resolveAsyncFutureCompletionExecutor(LazyValueSource config) {
+        SdkClientRuntime clientRuntime = clientRuntime(config);
+        if (clientRuntime != null) {
+            return ExecutorUtils.unmanagedExecutor(clientRuntime.futureCompletionExecutor());
+        }
+
+        if (useVirtualThreads(config)) {
+            return VirtualThreads.newThreadPerTaskExecutor("sdk-async-response");
+        }
+
         int processors = Runtime.getRuntime().availableProcessors();
         int corePoolSize = Math.max(8, processors);
         int maxPoolSize = Math.max(64, processors * 2);
@@ -529,7 +571,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     /**
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such as async retry attempts and
-     * timeout task.
+     * timeout task. When virtual threads are used, each task runs on a new virtual thread once it is due.
      */
     private ScheduledExecutorService resolveScheduledExecutorService(LazyValueSource c) {
         ScheduledExecutorService executor = c.get(CONFIGURED_SCHEDULED_EXECUTOR_SERVICE);
@@ -537,9 +579,82 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return executor;
         }
 
+        SdkClientRuntime clientRuntime = clientRuntime(c);
+        if (clientRuntime != null) {
+            return ScheduledExecutorUtils.unmanagedScheduledExecutor(clientRuntime.scheduledExecutorService());
+        }
+
+        if (useVirtualThreads(c)) {
+            return VirtualThreads.newScheduledThreadPerTaskExecutor("sdk-ScheduledExecutor");
+        }
         return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor").build());
     }
 
+    /**
+     * Attach the client to its configured {@link SdkClientRuntime}, if any. The attachment is closed with the client
+     * configuration, which releases the client's reference to the runtime.
+     */
+    private SdkAutoCloseable resolveClientRuntimeAttachment(LazyValueSource c) {
+        SdkClientRuntime clientRuntime = unwrapUnmanagedClientRuntime(c.get(CONFIGURED_CLIENT_RUNTIME));
+        if (clientRuntime == null) {
+            return null;
+        }
+        Validate.isTrue(!Boolean.TRUE.equals(c.get(USE_VIRTUAL_THREADS)),
+                        "Virtual threads can't be enabled for a client that is attached to a client runtime, because the "
+                        + "runtime's executors are shared.");
+        return clientRuntime.attach();
+    }
+
+    /**
+     * The runtime that the client is attached to, or null if the client does not use a runtime.
+     */
+    private SdkClientRuntime clientRuntime(LazyValueSource c) {
+        if (c.get(CLIENT_RUNTIME_ATTACHMENT) == null) {
+            return null;
+        }
+        return unwrapUnmanagedClientRuntime(c.get(CONFIGURED_CLIENT_RUNTIME));
+    }
+
+    /**
+     * Whether the threads created by the SDK for this client should be virtual threads. If they are requested on a JVM that
+     * does not support them, platform threads are used.
+     */
+    private boolean useVirtualThreads(LazyValueSource c) {
+        if (!Boolean.TRUE.equals(c.get(USE_VIRTUAL_THREADS))) {
+            return false;
+        }
+        if (!VirtualThreads.isSupported()) {
+            log.warn(() -> "Virtual threads were enabled for the client, but they require Java 21 or later. Platform threads "
+                           + "will be used.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finalize the limiter of in-flight requests of an async client, if an adaptive concurrency limit is configured.
+     */
+    private AdaptiveConcurrencyLimiter resolveAdaptiveConcurrencyLimiter(LazyValueSource c) {
+        AdaptiveConcurrencyConfiguration configuration = c.get(ADAPTIVE_CONCURRENCY);
+        return configuration == null ? null : new AdaptiveConcurrencyLimiter(configuration);
+    }
+
+    /**
+     * Finalize the scheduler of API call and API call attempt timeouts. Timeouts are tracked on a shared timing wheel, and
+     * expired timeout tasks run on the scheduled executor service.
+     */
+    private TimeoutScheduler resolveTimeoutScheduler(LazyValueSource c) {
+        return HashedWheelTimeoutScheduler.create(c.get(SCHEDULED_EXECUTOR_SERVICE));
+    }
+
+    /**
+     * Finalize the cache of resolved endpoints, if a cache size is configured.
+     */
+    private EndpointResolutionCache resolveEndpointResolutionCache(LazyValueSource c) {
+        Integer maxSize = c.get(ENDPOINT_RESOLUTION_CACHE_SIZE);
+        return maxSize == null ? null : new EndpointResolutionCache(maxSize);
+    }
+
     /**
      * Finalize which execution interceptors will be used for the created client.
      */
@@ -577,6 +692,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     public final B asyncConfiguration(ClientAsyncConfiguration asyncConfiguration) {
         clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR, asyncConfiguration.advancedOption(FUTURE_COMPLETION_EXECUTOR));
+        clientConfiguration.option(ADAPTIVE_CONCURRENCY, asyncConfiguration.advancedOption(ADAPTIVE_CONCURRENCY));
         return thisBuilder();
     }
 
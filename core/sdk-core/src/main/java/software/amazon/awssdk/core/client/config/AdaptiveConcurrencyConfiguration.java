@@ -0,0 +1,227 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for the adaptive concurrency limit of an async client, configured with
+ * {@link SdkAdvancedAsyncClientOption#ADAPTIVE_CONCURRENCY}.
+ * <p>
+ * The client limits the number of requests it has in flight, and adjusts the limit from the latency of the responses it
+ * receives: the limit grows while latency stays close to the long-term average, and shrinks when latency rises or when
+ * requests are throttled, time out or fail with an I/O error. Requests beyond the limit wait in a queue, and requests beyond
+ * the queue capacity fail immediately instead of reaching the HTTP client.
+ */
+@SdkPublicApi
+public final class AdaptiveConcurrencyConfiguration
+    implements ToCopyableBuilder<AdaptiveConcurrencyConfiguration.Builder, AdaptiveConcurrencyConfiguration> {
+
+    private static final int DEFAULT_INITIAL_LIMIT = 20;
+    private static final int DEFAULT_MIN_LIMIT = 4;
+    private static final int DEFAULT_MAX_LIMIT = 1000;
+    private static final int DEFAULT_MAX_QUEUED_REQUESTS = 10_000;
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueuedRequests;
+
+    private AdaptiveConcurrencyConfiguration(DefaultBuilder builder) {
+        this.minLimit = Validate.isPositive(builder.minLimit == null ? DEFAULT_MIN_LIMIT : builder.minLimit, "minLimit");
+        this.maxLimit = Validate.isPositive(builder.maxLimit == null ? Math.max(DEFAULT_MAX_LIMIT, minLimit) : builder.maxLimit,
+                                            "maxLimit");
+        Validate.isTrue(minLimit <= maxLimit, "minLimit (%s) must not be greater than maxLimit (%s)", minLimit, maxLimit);
+        int defaultInitialLimit = Math.min(Math.max(DEFAULT_INITIAL_LIMIT, minLimit), maxLimit);
+        this.initialLimit = builder.initialLimit == null ? defaultInitialLimit : builder.initialLimit;
+        Validate.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit,
+                        "initialLimit (%s) must be between minLimit (%s) and maxLimit (%s)", initialLimit, minLimit, maxLimit);
+        this.maxQueuedRequests = Validate.isNotNegative(builder.maxQueuedRequests == null ? DEFAULT_MAX_QUEUED_REQUESTS
+                                                                                           : builder.maxQueuedRequests,
+                                                        "maxQueuedRequests");
+    }
+
+    /**
+     * Create a {@link Builder}, used to create an {@link AdaptiveConcurrencyConfiguration}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create an {@link AdaptiveConcurrencyConfiguration} with the default settings.
+     */
+    public static AdaptiveConcurrencyConfiguration create() {
+        return builder().build();
+    }
+
+    /**
+     * The number of requests that may be in flight before any latency has been observed.
+     */
+    public int initialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * The lowest value the limit is reduced to.
+     */
+    public int minLimit() {
+        return minLimit;
+    }
+
+    /**
+     * The highest value the limit is increased to.
+     */
+    public int maxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * The number of requests that may wait for the in-flight count to drop below the limit.
+     */
+    public int maxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("AdaptiveConcurrencyConfiguration")
+                       .add("initialLimit", initialLimit)
+                       .add("minLimit", minLimit)
+                       .add("maxLimit", maxLimit)
+                       .add("maxQueuedRequests", maxQueuedRequests)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        AdaptiveConcurrencyConfiguration that = (AdaptiveConcurrencyConfiguration) o;
+        return initialLimit == that.initialLimit
+               && minLimit == that.minLimit
+               && maxLimit == that.maxLimit
+               && maxQueuedRequests == that.maxQueuedRequests;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = initialLimit;
+        result = 31 * result + minLimit;
+        result = 31 * result + maxLimit;
+        result = 31 * result + maxQueuedRequests;
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, AdaptiveConcurrencyConfiguration> {
+
+        /**
+         * Configures the number of requests that may be in flight before any latency has been observed. The default value is
+         * 20, bounded by the minimum and maximum limits.
+         *
+         * @param initialLimit
+         * @return This object for method chaining.
+         */
+        Builder initialLimit(Integer initialLimit);
+
+        /**
+         * Configures the lowest value the limit is reduced to. The default value is 4.
+         *
+         * @param minLimit
+         * @return This object for method chaining.
+         */
+        Builder minLimit(Integer minLimit);
+
+        /**
+         * Configures the highest value the limit is increased to. This should not be higher than the maximum concurrency of
+         * the HTTP client. The default value is 1000.
+         *
+         * @param maxLimit
+         * @return This object for method chaining.
+         */
+        Builder maxLimit(Integer maxLimit);
+
+        /**
+         * Configures the number of requests that may wait for the in-flight count to drop below the limit. Requests beyond
+         * this fail immediately with an {@link software.amazon.awssdk.core.exception.SdkClientException}. A value of zero
+         * fails every request that exceeds the limit. The default value is 10,000.
+         *
+         * @param maxQueuedRequests
+         * @return This object for method chaining.
+         */
+        Builder maxQueuedRequests(Integer maxQueuedRequests);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer initialLimit;
+        private Integer minLimit;
+        private Integer maxLimit;
+        private Integer maxQueuedRequests;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(AdaptiveConcurrencyConfiguration configuration) {
+            this.initialLimit = configuration.initialLimit;
+            this.minLimit = configuration.minLimit;
+            this.maxLimit = configuration.maxLimit;
+            this.maxQueuedRequests = configuration.maxQueuedRequests;
+        }
+
+        @Override
+        public Builder initialLimit(Integer initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        @Override
+        public Builder minLimit(Integer minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        @Override
+        public Builder maxLimit(Integer maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        @Override
+        public Builder maxQueuedRequests(Integer maxQueuedRequests) {
+            this.maxQueuedRequests = maxQueuedRequests;
+            return this;
+        }
+
+        @Override
+        public AdaptiveConcurrencyConfiguration build() {
+            return new AdaptiveConcurrencyConfiguration(this);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITION
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESSION_CONFIGURATION;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_CLIENT_RUNTIME;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_COMPRESSION_CONFIGURATION;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_RETRY_CONFIGURATOR;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_RETRY_MODE;
@@ -34,6 +35,8 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.internal.runtime.UnmanagedClientRuntime.unmanagedClientRuntime;
+import static software.amazon.awssdk.core.internal.runtime.UnmanagedClientRuntime.unwrapUnmanagedClientRuntime;
 import static software.amazon.awssdk.utils.ScheduledExecutorUtils.unmanagedScheduledExecutor;
 import static software.amazon.awssdk.utils.ScheduledExecutorUtils.unwrapUnmanagedScheduledExecutor;
 
@@ -111,6 +114,7 @@ public final class ClientOverrideConfiguration
         options.add(EXECUTION_ATTRIBUTES);
         options.add(CONFIGURED_COMPRESSION_CONFIGURATION);
         options.add(CONFIGURED_SCHEDULED_EXECUTOR_SERVICE);
+        options.add(CONFIGURED_CLIENT_RUNTIME);
         options.add(RETRY_POLICY);
         options.add(RETRY_STRATEGY);
         options.add(API_CALL_TIMEOUT);
@@ -281,6 +285,16 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(scheduledExecutorService);
     }
 
+    /**
+     * The optional runtime whose shared resources, such as executors and HTTP clients, are used by this client instead of
+     * resources created for it alone.
+     *
+     * @see Builder#clientRuntime(SdkClientRuntime)
+     */
+    public Optional<SdkClientRuntime> clientRuntime() {
+        return Optional.ofNullable(unwrapUnmanagedClientRuntime(config.option(CONFIGURED_CLIENT_RUNTIME)));
+    }
+
     /**
      * The amount of time to allow the client to complete the execution of an API call. This timeout covers the entire client
      * execution except for marshalling. This includes request handler execution, all HTTP requests including retries,
@@ -394,6 +408,7 @@ public final class ClientOverrideConfiguration
                        .add("profileFile", defaultProfileFile().orElse(null))
                        .add("profileName", defaultProfileName().orElse(null))
                        .add("scheduledExecutorService", scheduledExecutorService().orElse(null))
+                       .add("clientRuntime", clientRuntime().orElse(null))
                        .add("compressionConfiguration", compressionConfiguration().orElse(null))
                        .build();
     }
@@ -579,6 +594,21 @@ public final class ClientOverrideConfiguration
 
         ScheduledExecutorService scheduledExecutorService();        
 
+        /**
+         * Attach the client to a runtime, whose scheduled executor service, future completion executor and HTTP clients are
+         * shared with the other clients attached to it. Resources configured for the client itself are used instead of the
+         * shared ones. Clients share an HTTP client when their service and defaults mode resolve the same HTTP configuration.
+         *
+         * <p>
+         * The client holds a reference to the runtime until the client is closed. The shared resources are shut down once the
+         * runtime and all the clients attached to it have been closed.
+         *
+         * @see SdkClientRuntime
+         */
+        Builder clientRuntime(SdkClientRuntime clientRuntime);
+
+        SdkClientRuntime clientRuntime();
+
         /**
          * Configure an advanced override option. These values are used very rarely, and the majority of SDK customers can ignore
          * them.
@@ -934,6 +964,21 @@ public final class ClientOverrideConfiguration
             return this;
         }
 
+        @Override
+        public Builder clientRuntime(SdkClientRuntime clientRuntime) {
+            config.option(CONFIGURED_CLIENT_RUNTIME, unmanagedClientRuntime(clientRuntime));
+            return this;
+        }
+
+        public void setClientRuntime(SdkClientRuntime clientRuntime) {
+            clientRuntime(clientRuntime);
+        }
+
+        @Override
+        public SdkClientRuntime clientRuntime() {
+            return unwrapUnmanagedClientRuntime(config.option(CONFIGURED_CLIENT_RUNTIME));
+        }
+
         @Override
         public <T> Builder putAdvancedOption(SdkAdvancedClientOption<T> option, T value) {
             config.option(option, value);
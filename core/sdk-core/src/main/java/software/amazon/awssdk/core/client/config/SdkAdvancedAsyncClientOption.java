@@ -55,6 +55,17 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Limit the number of requests the client has in flight, adjusting the limit from the latency of the responses, to keep
+     * latency bounded when the service slows down instead of queueing more requests on the HTTP client's connection pool.
+     * Requests above the limit wait before being sent, and are rejected when too many are already waiting. See
+     * {@link AdaptiveConcurrencyConfiguration}.
+     * <p>
+     * By default, the number of requests in flight is limited only by the HTTP client.
+     */
+    public static final SdkAdvancedAsyncClientOption<AdaptiveConcurrencyConfiguration> ADAPTIVE_CONCURRENCY =
+            new SdkAdvancedAsyncClientOption<>(AdaptiveConcurrencyConfiguration.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
@@ -64,6 +64,47 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Collect the metrics of each API call in a collector that stores values in fixed slots for the metrics declared by the
+     * SDK, instead of in maps, and records them without locking. This reduces the overhead of metric collection for clients
+     * with a {@link ClientOverrideConfiguration#metricPublishers() metric publisher} under high request rates.
+     *
+     * <p>By default, this is false.
+     */
+    public static final SdkAdvancedClientOption<Boolean> USE_INDEXED_METRIC_COLLECTOR =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * The maximum number of resolved endpoints to cache, for services whose endpoint rules allow caching. When set, the
+     * endpoint of a request whose endpoint parameters were seen before is reused instead of being resolved by the endpoint
+     * provider again. Parameters that the endpoint rules do not use, such as S3 object keys, are not part of the cache key.
+     * <p>
+     * The cache assumes that the endpoint provider of the client always resolves the same endpoint for the same parameters.
+     * Do not enable it with a custom endpoint provider that does not.
+     *
+     * <p>By default, endpoints are not cached.
+     */
+    public static final SdkAdvancedClientOption<Integer> ENDPOINT_RESOLUTION_CACHE_SIZE =
+        new SdkAdvancedClientOption<>(Integer.class);
+
+    /**
+     * Use virtual threads, which are available from Java 21, for the threads that the SDK creates for this client. The
+     * future completion executor of an async client starts a virtual thread for each completion, instead of using a bounded
+     * pool that rejects completions when its queue is full, and the scheduler used for retries and timeouts runs on virtual
+     * threads. An executor configured with {@link SdkAdvancedAsyncClientOption#FUTURE_COMPLETION_EXECUTOR} or
+     * {@link ClientOverrideConfiguration#scheduledExecutorService()} is used as configured.
+     * <p>
+     * Sync clients run each request on the calling thread, so calls made from virtual threads already release their
+     * carrier thread while they wait for the HTTP client.
+     * <p>
+     * On Java versions before 21, this option is ignored with a warning and platform threads are used. It can't be enabled for
+     * a client that is attached to an {@link SdkClientRuntime}, whose executors are shared.
+     *
+     * <p>By default, this is false.
+     */
+    public static final SdkAdvancedClientOption<Boolean> USE_VIRTUAL_THREADS =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
@@ -30,6 +30,10 @@ import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
+import software.amazon.awssdk.core.internal.runtime.UnmanagedClientRuntime;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -43,6 +47,7 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * A set of internal options required by the SDK via {@link SdkClientConfiguration}.
@@ -146,6 +151,27 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<ScheduledExecutorService> SCHEDULED_EXECUTOR_SERVICE =
             new SdkClientOption<>(ScheduledExecutorService.class);
 
+    /**
+     * The internal SDK scheduler of API call and API call attempt timeouts. If absent, timeouts are scheduled on the
+     * {@link #SCHEDULED_EXECUTOR_SERVICE}.
+     */
+    public static final SdkClientOption<TimeoutScheduler> TIMEOUT_SCHEDULER =
+        new SdkClientOption<>(TimeoutScheduler.class);
+
+    /**
+     * The limiter of in-flight requests of an async client, created from
+     * {@link SdkAdvancedAsyncClientOption#ADAPTIVE_CONCURRENCY}. Null if the limit is not enabled.
+     */
+    public static final SdkClientOption<AdaptiveConcurrencyLimiter> ADAPTIVE_CONCURRENCY_LIMITER =
+        new SdkClientOption<>(AdaptiveConcurrencyLimiter.class);
+
+    /**
+     * The cache of resolved endpoints of the client, created from
+     * {@link SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE}. Null if endpoint caching is not enabled.
+     */
+    public static final SdkClientOption<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new SdkClientOption<>(EndpointResolutionCache.class);
+
     /**
      * The internal SDK scheduled executor service that is set by the customer. This is likely only useful within configuration
      * classes, and will be converted into a {@link #SCHEDULED_EXECUTOR_SERVICE} for the SDK's runtime.
@@ -319,6 +345,20 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<CompressionConfiguration> COMPRESSION_CONFIGURATION =
         new SdkClientOption<>(CompressionConfiguration.class);
 
+    /**
+     * The {@link SdkClientRuntime} configured by the customer, whose shared resources are used for the resources that are not
+     * configured for the client itself.
+     */
+    public static final SdkClientOption<UnmanagedClientRuntime> CONFIGURED_CLIENT_RUNTIME =
+        new SdkClientOption<>(UnmanagedClientRuntime.class);
+
+    /**
+     * The attachment of the client to its {@link #CONFIGURED_CLIENT_RUNTIME}, which is released when the client is closed. Null
+     * if no runtime is configured.
+     */
+    public static final SdkClientOption<SdkAutoCloseable> CLIENT_RUNTIME_ATTACHMENT =
+        new SdkClientOption<>(SdkAutoCloseable.class);
+
     /**
      * Option to specify a reference to the SDK client in use.
      */
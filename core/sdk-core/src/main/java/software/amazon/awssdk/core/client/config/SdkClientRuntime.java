@@ -0,0 +1,308 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
+import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * Resources that are shared by all clients attached to the runtime with
+ * {@link ClientOverrideConfiguration.Builder#clientRuntime(SdkClientRuntime)}, instead of being created for each client:
+ * <ul>
+ *     <li>The scheduled executor service used for async retry attempts and timeouts.</li>
+ *     <li>The executor used to complete the futures returned by async clients.</li>
+ *     <li>The sync HTTP clients and the async HTTP clients, with their connection pools, which are kept per endpoint. One
+ *     HTTP client is created for each distinct HTTP configuration that attached clients resolve from their service and
+ *     defaults mode, so clients of services with the same HTTP defaults share an HTTP client. To share a Netty
+ *     {@code SdkEventLoopGroup} between all of them, configure the async HTTP client builder with it.</li>
+ * </ul>
+ * <p>
+ * Each resource is created when the first client that uses it is attached. A resource that a client configures itself,
+ * such as with {@link ClientOverrideConfiguration.Builder#scheduledExecutorService(ScheduledExecutorService)} or an HTTP
+ * client set on the client builder, is used instead of the shared one. Metrics are still collected and published for each
+ * client with its own metric publishers. Clients that enable {@link SdkAdvancedClientOption#USE_VIRTUAL_THREADS} cannot be
+ * attached to a runtime, because its executors are shared with clients that use platform threads.
+ * <p>
+ * The runtime is reference counted. Each attached client holds a reference until it is closed, and the creator of the runtime
+ * holds one until it calls {@link #close()}. The shared resources are shut down once all references have been released, so
+ * the runtime can be closed as soon as its clients have been created. Clients cannot be attached to a runtime whose resources
+ * have been shut down.
+ *
+ * <p>For example, to share resources between clients in many regions:
+ * {@snippet :
+ * try (SdkClientRuntime runtime = SdkClientRuntime.create()) {
+ *     for (Region region : regions) {
+ *         clients.add(DynamoDbClient.builder()
+ *                                   .region(region)
+ *                                   .overrideConfiguration(o -> o.clientRuntime(runtime))
+ *                                   .build());
+ *     }
+ * }
+ * }
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class SdkClientRuntime implements SdkAutoCloseable {
+    private final SdkHttpClient.Builder<?> httpClientBuilder;
+    private final SdkAsyncHttpClient.Builder<?> asyncHttpClientBuilder;
+
+    private final Lock lock = new ReentrantLock();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private int references = 1;
+    private ScheduledExecutorService scheduledExecutorService;
+    private ExecutorService futureCompletionExecutor;
+    private final Map<AttributeMap, SdkHttpClient> httpClients = new HashMap<>();
+    private final Map<AttributeMap, SdkAsyncHttpClient> asyncHttpClients = new HashMap<>();
+
+    private SdkClientRuntime(DefaultBuilder builder) {
+        this.httpClientBuilder = builder.httpClientBuilder != null ? builder.httpClientBuilder
+                                                                   : new DefaultSdkHttpClientBuilder();
+        this.asyncHttpClientBuilder = builder.asyncHttpClientBuilder != null ? builder.asyncHttpClientBuilder
+                                                                             : new DefaultSdkAsyncHttpClientBuilder();
+    }
+
+    /**
+     * Create a {@link Builder}, used to create an {@link SdkClientRuntime}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create an {@link SdkClientRuntime} that uses the default HTTP clients.
+     */
+    public static SdkClientRuntime create() {
+        return builder().build();
+    }
+
+    /**
+     * The number of clients attached to this runtime that have not been closed.
+     */
+    public int attachedClients() {
+        lock.lock();
+        try {
+            return closed.get() ? references : references - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Attach a client to this runtime. The returned reference must be closed when the client is closed.
+     *
+     * @throws IllegalStateException If the resources of this runtime have been shut down.
+     */
+    @SdkInternalApi
+    public SdkAutoCloseable attach() {
+        lock.lock();
+        try {
+            Validate.validState(references > 0, "The client runtime has been closed, and its clients have all been closed.");
+            references++;
+        } finally {
+            lock.unlock();
+        }
+
+        AtomicBoolean released = new AtomicBoolean(false);
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+        };
+    }
+
+    /**
+     * The shared scheduled executor service, created when it is first needed.
+     */
+    @SdkInternalApi
+    public ScheduledExecutorService scheduledExecutorService() {
+        lock.lock();
+        try {
+            validateNotShutDown();
+            if (scheduledExecutorService == null) {
+                scheduledExecutorService = Executors.newScheduledThreadPool(
+                    5, new ThreadFactoryBuilder().threadNamePrefix("sdk-runtime-ScheduledExecutor").build());
+            }
+            return scheduledExecutorService;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The shared executor for completing the futures of async clients, created when it is first needed. Like the executor
+     * that is created for a single client, it has at least 8 core threads and can scale up to at least 64 threads.
+     */
+    @SdkInternalApi
+    public Executor futureCompletionExecutor() {
+        lock.lock();
+        try {
+            validateNotShutDown();
+            if (futureCompletionExecutor == null) {
+                int processors = Runtime.getRuntime().availableProcessors();
+                ThreadPoolExecutor executor =
+                    new ThreadPoolExecutor(Math.max(8, processors), Math.max(64, processors * 2),
+                                           10, TimeUnit.SECONDS,
+                                           new LinkedBlockingQueue<>(1_000),
+                                           new ThreadFactoryBuilder().threadNamePrefix("sdk-runtime-async-response").build());
+                executor.allowCoreThreadTimeOut(true);
+                futureCompletionExecutor = executor;
+            }
+            return futureCompletionExecutor;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The shared sync HTTP client for the given HTTP configuration defaults, created when it is first needed.
+     *
+     * @param httpClientDefaults The service and defaults mode HTTP configuration resolved by the attached client.
+     */
+    @SdkInternalApi
+    public SdkHttpClient httpClient(AttributeMap httpClientDefaults) {
+        lock.lock();
+        try {
+            validateNotShutDown();
+            return httpClients.computeIfAbsent(httpClientDefaults, httpClientBuilder::buildWithDefaults);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The shared async HTTP client for the given HTTP configuration defaults, created when it is first needed.
+     *
+     * @param httpClientDefaults The service and defaults mode HTTP configuration resolved by the attached client.
+     */
+    @SdkInternalApi
+    public SdkAsyncHttpClient asyncHttpClient(AttributeMap httpClientDefaults) {
+        lock.lock();
+        try {
+            validateNotShutDown();
+            return asyncHttpClients.computeIfAbsent(httpClientDefaults, asyncHttpClientBuilder::buildWithDefaults);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Release the reference held by the creator of this runtime. The shared resources are shut down once every attached
+     * client has been closed as well.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            references--;
+            if (references > 0) {
+                return;
+            }
+            if (scheduledExecutorService != null) {
+                scheduledExecutorService.shutdown();
+            }
+            if (futureCompletionExecutor != null) {
+                futureCompletionExecutor.shutdown();
+            }
+            httpClients.values().forEach(c -> IoUtils.closeQuietly(c, null));
+            asyncHttpClients.values().forEach(c -> IoUtils.closeQuietly(c, null));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void validateNotShutDown() {
+        Validate.validState(references > 0, "The client runtime has been closed, and its clients have all been closed.");
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("SdkClientRuntime")
+                       .add("attachedClients", attachedClients())
+                       .add("closed", closed.get())
+                       .build();
+    }
+
+    public interface Builder extends SdkBuilder<Builder, SdkClientRuntime> {
+        /**
+         * The builder of the sync HTTP client shared by the attached clients. By default, the HTTP client implementation
+         * found on the classpath is used, as for a single client.
+         */
+        Builder httpClientBuilder(SdkHttpClient.Builder<?> httpClientBuilder);
+
+        /**
+         * The builder of the async HTTP client shared by the attached clients. By default, the async HTTP client
+         * implementation found on the classpath is used, as for a single client. To share a Netty event loop group with
+         * other HTTP clients, configure it on this builder.
+         */
+        Builder asyncHttpClientBuilder(SdkAsyncHttpClient.Builder<?> asyncHttpClientBuilder);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private SdkHttpClient.Builder<?> httpClientBuilder;
+        private SdkAsyncHttpClient.Builder<?> asyncHttpClientBuilder;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder httpClientBuilder(SdkHttpClient.Builder<?> httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        @Override
+        public Builder asyncHttpClientBuilder(SdkAsyncHttpClient.Builder<?> asyncHttpClientBuilder) {
+            this.asyncHttpClientBuilder = asyncHttpClientBuilder;
+            return this;
+        }
+
+        @Override
+        public SdkClientRuntime build() {
+            return new SdkClientRuntime(this);
+        }
+    }
+}
@@ -15,10 +15,11 @@
 
 package software.amazon.awssdk.core.interceptor;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -50,9 +51,11 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
     private static final ConcurrentMap<String, ExecutionAttribute<?>> NAME_HISTORY = new ConcurrentHashMap<>();
-    
+    private static final List<ExecutionAttribute<?>> INDEXED_ATTRIBUTES = new CopyOnWriteArrayList<>();
+
     private final String name;
     private final ValueStorage<T> storage;
+    private final int index;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -69,6 +72,7 @@ public final class ExecutionAttribute<T> {
                        new DefaultValueStorage() :
                        storage;
         ensureUnique();
+        this.index = storage == null ? assignIndex(this) : -1;
     }
 
     /**
@@ -132,6 +136,28 @@ public final class ExecutionAttribute<T> {
         }
     }
 
+    /**
+     * Assigns the next slot of {@link ExecutionAttributeSlots} to an attribute that stores its own value.
+     */
+    private static synchronized int assignIndex(ExecutionAttribute<?> attribute) {
+        INDEXED_ATTRIBUTES.add(attribute);
+        return INDEXED_ATTRIBUTES.size() - 1;
+    }
+
+    /**
+     * The number of attributes that have been assigned a slot so far.
+     */
+    static int indexedAttributeCount() {
+        return INDEXED_ATTRIBUTES.size();
+    }
+
+    /**
+     * The attribute that was assigned the given slot.
+     */
+    static ExecutionAttribute<?> indexedAttribute(int index) {
+        return INDEXED_ATTRIBUTES.get(index);
+    }
+
     @Override
     public String toString() {
         return name;
@@ -214,39 +240,42 @@ public final class ExecutionAttribute<T> {
      */
     interface ValueStorage<T> {
         /**
-         * Retrieve an attribute's value from the provided attribute map.
+         * Retrieve an attribute's value from the provided attribute slots.
          */
-        T get(Map<ExecutionAttribute<?>, Object> attributes);
+        T get(ExecutionAttributeSlots attributes);
 
         /**
-         * Set an attribute's value to the provided attribute map.
+         * Set an attribute's value to the provided attribute slots.
          */
-        void set(Map<ExecutionAttribute<?>, Object> attributes, T value);
+        void set(ExecutionAttributeSlots attributes, T value);
 
         /**
-         * Set an attribute's value to the provided attribute map, if the value is not already in the map.
+         * Set an attribute's value to the provided attribute slots, if the value is not already set.
          */
-        void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value);
+        void setIfAbsent(ExecutionAttributeSlots attributes, T value);
     }
 
     /**
-     * An implementation of {@link ValueStorage} that stores the current execution attribute in the provided attributes map.
+     * An implementation of {@link ValueStorage} that stores the current execution attribute in its slot of the provided
+     * attributes.
      */
     private final class DefaultValueStorage implements ValueStorage<T> {
         @SuppressWarnings("unchecked") // Safe because of the implementation of set()
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
-            return (T) attributes.get(ExecutionAttribute.this);
+        public T get(ExecutionAttributeSlots attributes) {
+            return (T) attributes.get(index);
         }
 
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.put(ExecutionAttribute.this, value);
+        public void set(ExecutionAttributeSlots attributes, T value) {
+            attributes.set(index, value);
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.putIfAbsent(ExecutionAttribute.this, value);
+        public void setIfAbsent(ExecutionAttributeSlots attributes, T value) {
+            if (attributes.get(index) == null) {
+                attributes.set(index, value);
+            }
         }
     }
 
@@ -265,20 +294,19 @@ public final class ExecutionAttribute<T> {
             this.writeMapping = Validate.paramNotNull(builder.writeMapping, "writeMapping");
         }
 
-        @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
-            return readMapping.apply((U) attributes.get(realAttribute.get()));
+        public T get(ExecutionAttributeSlots attributes) {
+            return readMapping.apply(realAttribute.get().storage().get(attributes));
         }
 
-        @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.compute(realAttribute.get(), (k, real) -> writeMapping.apply((U) real, value));
+        public void set(ExecutionAttributeSlots attributes, T value) {
+            ValueStorage<U> realStorage = realAttribute.get().storage();
+            realStorage.set(attributes, writeMapping.apply(realStorage.get(attributes), value));
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
+        public void setIfAbsent(ExecutionAttributeSlots attributes, T value) {
             T currentValue = get(attributes);
             if (currentValue == null) {
                 set(attributes, value);
@@ -303,24 +331,23 @@ public final class ExecutionAttribute<T> {
             this.writeMapping = Validate.paramNotNull(builder.writeMapping, "writeMapping");
         }
 
-        @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public T get(Map<ExecutionAttribute<?>, Object> attributes) {
+        public T get(ExecutionAttributeSlots attributes) {
             return readMapping.apply(
-                (T) attributes.get(backingAttributeSupplier.get()),
-                (U) attributes.get(attributeSupplier.get())
+                backingAttributeSupplier.get().storage().get(attributes),
+                attributeSupplier.get().storage().get(attributes)
             );
         }
 
-        @SuppressWarnings("unchecked") // Safe because of the implementation of set
         @Override
-        public void set(Map<ExecutionAttribute<?>, Object> attributes, T value) {
-            attributes.put(backingAttributeSupplier.get(), value);
-            attributes.compute(attributeSupplier.get(), (k, attr) -> writeMapping.apply((U) attr, value));
+        public void set(ExecutionAttributeSlots attributes, T value) {
+            backingAttributeSupplier.get().storage().set(attributes, value);
+            ValueStorage<U> attributeStorage = attributeSupplier.get().storage();
+            attributeStorage.set(attributes, writeMapping.apply(attributeStorage.get(attributes), value));
         }
 
         @Override
-        public void setIfAbsent(Map<ExecutionAttribute<?>, Object> attributes, T value) {
+        public void setIfAbsent(ExecutionAttributeSlots attributes, T value) {
             T currentValue = get(attributes);
             if (currentValue == null) {
                 set(attributes, value);
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The storage of the values of {@link ExecutionAttributes}. Every {@link ExecutionAttribute} that stores its own value is
+ * assigned a dense index when it is created, and its value is stored at that index of a flat array, so reads and writes do not
+ * hash the attribute or allocate map entries. A null value is equivalent to an absent attribute.
+ * <p>
+ * Copies share the array of the original until either of them is written to, at which point the writer copies the array.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class ExecutionAttributeSlots {
+    private Object[] values;
+    private boolean shared;
+
+    ExecutionAttributeSlots() {
+        this.values = new Object[ExecutionAttribute.indexedAttributeCount()];
+    }
+
+    private ExecutionAttributeSlots(Object[] values) {
+        this.values = values;
+        this.shared = true;
+    }
+
+    Object get(int index) {
+        Object[] currentValues = values;
+        return index < currentValues.length ? currentValues[index] : null;
+    }
+
+    void set(int index, Object value) {
+        if (index >= values.length) {
+            if (value == null) {
+                return;
+            }
+            values = Arrays.copyOf(values, Math.max(index + 1, ExecutionAttribute.indexedAttributeCount()));
+            shared = false;
+        } else if (shared) {
+            values = values.clone();
+            shared = false;
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Returns a copy of these slots. The copy shares the array of values with these slots until either of them is modified.
+     */
+    ExecutionAttributeSlots copy() {
+        shared = true;
+        return new ExecutionAttributeSlots(values);
+    }
+
+    /**
+     * Copies the values of the given slots that are absent in these slots.
+     */
+    void putAbsent(ExecutionAttributeSlots lowerPrecedenceSlots) {
+        Object[] lowerPrecedenceValues = lowerPrecedenceSlots.values;
+        for (int i = 0; i < lowerPrecedenceValues.length; i++) {
+            Object value = lowerPrecedenceValues[i];
+            if (value != null && get(i) == null) {
+                set(i, value);
+            }
+        }
+    }
+
+    Map<ExecutionAttribute<?>, Object> toMap() {
+        Map<ExecutionAttribute<?>, Object> map = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                map.put(ExecutionAttribute.indexedAttribute(i), values[i]);
+            }
+        }
+        return map;
+    }
+}
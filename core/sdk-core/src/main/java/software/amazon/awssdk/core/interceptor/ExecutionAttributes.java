@@ -16,7 +16,6 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -31,20 +30,28 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * retrieve information specific to the current execution.
  *
  * This is useful for sharing data between {@link ExecutionInterceptor} method calls specific to a particular execution.
+ *
+ * <p>Setting an attribute to null is equivalent to removing it from the collection. Copies of the collection are cheap: they
+ * share their storage with the original until either of them is modified.
  */
 @SdkPublicApi
 @NotThreadSafe
 public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-    private final Map<ExecutionAttribute<?>, Object> attributes;
+    private final ExecutionAttributeSlots attributes;
 
     public ExecutionAttributes() {
-        this.attributes = new HashMap<>(32);
+        this.attributes = new ExecutionAttributeSlots();
     }
 
     protected ExecutionAttributes(Map<? extends ExecutionAttribute<?>, ?> attributes) {
-        this.attributes = new HashMap<>(attributes);
+        this.attributes = new ExecutionAttributeSlots();
+        attributes.forEach((attribute, value) -> unsafePut(this.attributes, attribute, value));
+    }
+
+    private ExecutionAttributes(ExecutionAttributeSlots attributes) {
+        this.attributes = attributes;
     }
-    
+
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
      * is not set.
@@ -54,10 +61,10 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
     }
 
     /**
-     * Retrieve the collection of attributes.
+     * Retrieve a snapshot of the collection of attributes.
      */
     public Map<ExecutionAttribute<?>, Object> getAttributes() {
-        return Collections.unmodifiableMap(attributes);
+        return Collections.unmodifiableMap(attributes.toMap());
     }
 
     /**
@@ -88,8 +95,8 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Merge attributes of a higher precedence into the current lower precedence collection.
      */
     public ExecutionAttributes merge(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
-        Map<ExecutionAttribute<?>, Object> copiedAttributes = new HashMap<>(this.attributes);
-        lowerPrecedenceExecutionAttributes.getAttributes().forEach(copiedAttributes::putIfAbsent);
+        ExecutionAttributeSlots copiedAttributes = attributes.copy();
+        copiedAttributes.putAbsent(lowerPrecedenceExecutionAttributes.attributes);
         return new ExecutionAttributes(copiedAttributes);
     }
 
@@ -98,7 +105,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      */
     public void putAbsentAttributes(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
         if (lowerPrecedenceExecutionAttributes != null) {
-            lowerPrecedenceExecutionAttributes.getAttributes().forEach(attributes::putIfAbsent);
+            attributes.putAbsent(lowerPrecedenceExecutionAttributes.attributes);
         }
     }
 
@@ -112,7 +119,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
     }
 
     public ExecutionAttributes copy() {
-        return toBuilder().build();
+        return new ExecutionAttributes(attributes.copy());
     }
 
     @Override
@@ -127,28 +134,37 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
         ExecutionAttributes that = (ExecutionAttributes) o;
 
-        return attributes != null ? attributes.equals(that.attributes) : that.attributes == null;
+        return attributes.toMap().equals(that.attributes.toMap());
     }
 
     @Override
     public int hashCode() {
-        return attributes != null ? attributes.hashCode() : 0;
+        return attributes.toMap().hashCode();
     }
 
     @Override
     public String toString() {
         return ToString.builder("ExecutionAttributes")
-                       .add("attributes", attributes.keySet())
+                       .add("attributes", attributes.toMap().keySet())
                        .build();
     }
 
+    /**
+     * There is no way to make this safe without runtime checks, which we can't do because we don't have the class of T.
+     * This will just throw an exception at runtime if the types don't match up.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> void unsafePut(ExecutionAttributeSlots attributes, ExecutionAttribute<T> key, Object value) {
+        key.storage().set(attributes, (T) value);
+    }
+
     public static ExecutionAttributes unmodifiableExecutionAttributes(ExecutionAttributes attributes) {
         return new UnmodifiableExecutionAttributes(attributes);
     }
 
     private static class UnmodifiableExecutionAttributes extends ExecutionAttributes {
         UnmodifiableExecutionAttributes(ExecutionAttributes executionAttributes) {
-            super(executionAttributes.attributes);
+            super(executionAttributes.attributes.copy());
         }
 
         @Override
@@ -167,13 +183,14 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * copy() if it's because of {@link #unmodifiableExecutionAttributes(ExecutionAttributes)}.
      */
     public static final class Builder implements CopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-        private final Map<ExecutionAttribute<?>, Object> executionAttributes = new HashMap<>(32);
+        private final ExecutionAttributeSlots executionAttributes;
 
         private Builder() {
+            this.executionAttributes = new ExecutionAttributeSlots();
         }
 
         private Builder(ExecutionAttributes source) {
-            this.executionAttributes.putAll(source.attributes);
+            this.executionAttributes = source.attributes.copy();
         }
 
         /**
@@ -189,22 +206,13 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
          * Adds all the attributes from the map provided.
          */
         public ExecutionAttributes.Builder putAll(Map<? extends ExecutionAttribute<?>, ?> attributes) {
-            attributes.forEach(this::unsafePut);
+            attributes.forEach((key, value) -> unsafePut(executionAttributes, key, value));
             return this;
         }
 
-        /**
-         * There is no way to make this safe without runtime checks, which we can't do because we don't have the class of T.
-         * This will just throw an exception at runtime if the types don't match up.
-         */
-        @SuppressWarnings("unchecked")
-        private <T> void unsafePut(ExecutionAttribute<T> key, Object value) {
-            key.storage().set(executionAttributes, (T) value);
-        }
-
         @Override
         public ExecutionAttributes build() {
-            return new ExecutionAttributes(executionAttributes);
+            return new ExecutionAttributes(executionAttributes.copy());
         }
     }
 }
\ No newline at end of file
@@ -25,6 +25,7 @@ import software.amazon.awssdk.core.SelectedAuthScheme;
 import software.amazon.awssdk.core.checksums.ChecksumSpecs;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksum;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
 import software.amazon.awssdk.core.internal.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -91,6 +92,13 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<EndpointProvider> ENDPOINT_PROVIDER =
         new ExecutionAttribute<>("EndpointProvider");
 
+    /**
+     * The cache of endpoints resolved by the {@link #ENDPOINT_PROVIDER}. Absent if endpoint caching is not enabled, or if the
+     * endpoint provider was overridden for the request.
+     */
+    public static final ExecutionAttribute<EndpointResolutionCache> ENDPOINT_RESOLUTION_CACHE =
+        new ExecutionAttribute<>("EndpointResolutionCache");
+
     /**
      * The resolved endpoint as computed by the client's configured {@link EndpointProvider}.
      */
@@ -15,17 +15,21 @@
 
 package software.amazon.awssdk.core.internal.async;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
@@ -47,7 +51,8 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
     @Override
     public CompletableFuture<ResponseBytes<ResponseT>> prepare() {
         cf = new CompletableFuture<>();
-        return cf.thenApply(arr -> ResponseBytes.fromByteArray(response, arr));
+        // The subscriber allocates a new array for every response, so it is safe to hand it out without copying it.
+        return cf.thenApply(arr -> ResponseBytes.fromByteArrayUnsafe(response, arr));
     }
 
     @Override
@@ -57,7 +62,7 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
     @Override
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(cf));
+        publisher.subscribe(new BaosSubscriber(cf, contentLength(response)));
     }
 
     @Override
@@ -65,15 +70,49 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         cf.completeExceptionally(throwable);
     }
 
+    private static long contentLength(Object response) {
+        if (!(response instanceof SdkResponse)) {
+            return -1;
+        }
+        SdkHttpResponse httpResponse = ((SdkResponse) response).sdkHttpResponse();
+        if (httpResponse == null) {
+            return -1;
+        }
+        try {
+            return httpResponse.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong).orElse(-1L);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Collects the published bytes into a single array. If the number of bytes is known up front, they are written directly
+     * into an array of that size. Otherwise, or if more bytes than expected are published, each buffer is copied into a list of
+     * chunks that are joined on completion.
+     */
     static class BaosSubscriber implements Subscriber<ByteBuffer> {
+        private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
         private final CompletableFuture<byte[]> resultFuture;
 
-        private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        private byte[] buffer;
+        private int position;
+        private List<byte[]> chunks;
+        private long size;
 
         private Subscription subscription;
 
         BaosSubscriber(CompletableFuture<byte[]> resultFuture) {
+            this(resultFuture, -1);
+        }
+
+        BaosSubscriber(CompletableFuture<byte[]> resultFuture, long expectedLength) {
             this.resultFuture = resultFuture;
+            if (expectedLength >= 0 && expectedLength <= MAX_ARRAY_SIZE) {
+                this.buffer = new byte[(int) expectedLength];
+            } else {
+                this.chunks = new ArrayList<>();
+            }
         }
 
         @Override
@@ -88,19 +127,55 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            int length = byteBuffer.remaining();
+            if (chunks == null && length <= buffer.length - position) {
+                byteBuffer.duplicate().get(buffer, position, length);
+                position += length;
+            } else {
+                addChunk(BinaryUtils.copyBytesFrom(byteBuffer));
+            }
             subscription.request(1);
         }
 
         @Override
         public void onError(Throwable throwable) {
-            baos = null;
+            buffer = null;
+            chunks = null;
             resultFuture.completeExceptionally(throwable);
         }
 
         @Override
         public void onComplete() {
-            resultFuture.complete(baos.toByteArray());
+            if (chunks == null) {
+                resultFuture.complete(position == buffer.length ? buffer : Arrays.copyOf(buffer, position));
+                return;
+            }
+
+            if (size > MAX_ARRAY_SIZE) {
+                resultFuture.completeExceptionally(new IllegalStateException(
+                    "The response body of " + size + " bytes is too large to fit in a byte array."));
+                return;
+            }
+
+            byte[] result = new byte[(int) size];
+            int offset = 0;
+            for (byte[] chunk : chunks) {
+                System.arraycopy(chunk, 0, result, offset, chunk.length);
+                offset += chunk.length;
+            }
+            resultFuture.complete(result);
+        }
+
+        private void addChunk(byte[] chunk) {
+            if (chunks == null) {
+                // More bytes were published than expected, so fall back to collecting chunks.
+                chunks = new ArrayList<>();
+                chunks.add(Arrays.copyOf(buffer, position));
+                size = position;
+                buffer = null;
+            }
+            chunks.add(chunk);
+            size += chunk.length;
         }
     }
 }
@@ -57,7 +57,7 @@ public class CompressionAsyncRequestBody implements AsyncRequestBody {
         SdkPublisher<Iterable<ByteBuffer>> split =
             split(wrapped).addTrailingData(() -> Collections.singleton(getBufferedDataIfPresent()));
         SdkPublisher<ByteBuffer> flattening = flattening(split);
-        flattening.map(compressor::compress).subscribe(s);
+        compressor.compress(flattening).subscribe(s);
     }
 
     @Override
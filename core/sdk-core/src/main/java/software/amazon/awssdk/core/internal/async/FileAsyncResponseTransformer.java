@@ -31,9 +31,12 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import org.reactivestreams.Subscriber;
@@ -41,9 +44,12 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
@@ -140,7 +146,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
             // onStream may be called multiple times so reset the file channel every time
             this.fileChannel = createChannel(path);
             publisher.subscribe(new FileSubscriber(this.fileChannel, path, cf, this::exceptionOccurred,
-                                                   position));
+                                                   position, true));
         } catch (Throwable e) {
             exceptionOccurred(e);
         }
@@ -169,6 +175,230 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         }
     }
 
+    /**
+     * When a {@link SplittingTransformerConfiguration#parallelSplit() parallel split} is requested, splits this transformer so
+     * that the content received by each individual transformer is written directly at its position in the file, as indicated by
+     * the {@code Content-Range} of its response, instead of being sent to this transformer in order. The individual transformers
+     * can therefore be used for requests that are executed concurrently, and no content is buffered in memory. Otherwise, this
+     * uses the default ordered split.
+     */
+    @Override
+    public SplitResult<ResponseT, ResponseT> split(SplittingTransformerConfiguration splitConfig) {
+        Validate.notNull(splitConfig, "splitConfig must not be null");
+        if (!Boolean.TRUE.equals(splitConfig.parallelSplit())) {
+            return AsyncResponseTransformer.super.split(splitConfig);
+        }
+        CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        return SplitResult.<ResponseT, ResponseT>builder()
+                          .publisher(new PositionalWriteSplitPublisher(future))
+                          .resultFuture(future)
+                          .parallelSplitSupported(true)
+                          .build();
+    }
+
+    private synchronized AsynchronousFileChannel splitFileChannel() throws IOException {
+        if (fileChannel == null) {
+            fileChannel = createChannel(path);
+        }
+        return fileChannel;
+    }
+
+    /**
+     * Returns the offset of the first byte of the response content, as indicated by its {@code Content-Range} header, if any.
+     */
+    private static Optional<Long> contentRangeStart(Object response) {
+        if (!(response instanceof SdkResponse) || ((SdkResponse) response).sdkHttpResponse() == null) {
+            return Optional.empty();
+        }
+        return ((SdkResponse) response).sdkHttpResponse()
+                                       .firstMatchingHeader("Content-Range")
+                                       .map(range -> {
+                                           // Content-Range: bytes <start>-<end>/<length>
+                                           int start = range.indexOf(' ') + 1;
+                                           return Long.parseLong(range.substring(start, range.indexOf('-', start)).trim());
+                                       });
+    }
+
+    /**
+     * Publishes the individual transformers of a {@link #split(SplittingTransformerConfiguration) split}. Completes the
+     * downstream subscriber, closes the file and completes the result future once the subscription was cancelled and all the
+     * individual transformers used so far have completed.
+     */
+    private final class PositionalWriteSplitPublisher implements SdkPublisher<AsyncResponseTransformer<ResponseT, ResponseT>> {
+        private final CompletableFuture<ResponseT> resultFuture;
+        private final AtomicBoolean prepareCalled = new AtomicBoolean(false);
+        private final AtomicBoolean isCancelled = new AtomicBoolean(false);
+        private final AtomicBoolean isDone = new AtomicBoolean(false);
+        private final AtomicInteger partsInFlight = new AtomicInteger(0);
+        private final AtomicLong outstandingDemand = new AtomicLong(0);
+        private final AtomicBoolean emitting = new AtomicBoolean(false);
+        private volatile Long firstPartRangeStart;
+        private int transformersPublished;
+        private Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> downstreamSubscriber;
+
+        private PositionalWriteSplitPublisher(CompletableFuture<ResponseT> resultFuture) {
+            this.resultFuture = resultFuture;
+            resultFuture.whenComplete((r, e) -> {
+                if (e != null && isDone.compareAndSet(false, true)) {
+                    exceptionOccurred(e);
+                    if (downstreamSubscriber != null) {
+                        downstreamSubscriber.onError(e);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber) {
+            if (subscriber == null) {
+                throw new NullPointerException("subscriber must not be null");
+            }
+            this.downstreamSubscriber = subscriber;
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n <= 0) {
+                        subscriber.onError(new IllegalArgumentException("Amount requested must be positive"));
+                        return;
+                    }
+                    outstandingDemand.updateAndGet(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+                    emit();
+                }
+
+                @Override
+                public void cancel() {
+                    if (isCancelled.compareAndSet(false, true)) {
+                        completeIfDone();
+                    }
+                }
+            });
+        }
+
+        private void emit() {
+            do {
+                if (!emitting.compareAndSet(false, true)) {
+                    return;
+                }
+                try {
+                    while (outstandingDemand.get() > 0 && !isCancelled.get() && !isDone.get()) {
+                        outstandingDemand.decrementAndGet();
+                        downstreamSubscriber.onNext(new PositionalWriteTransformer(transformersPublished++ == 0));
+                    }
+                } finally {
+                    emitting.set(false);
+                }
+            } while (outstandingDemand.get() > 0 && !isCancelled.get() && !isDone.get());
+        }
+
+        private void completeIfDone() {
+            if (!isCancelled.get() || partsInFlight.get() != 0 || !isDone.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (fileChannel != null) {
+                    invokeSafely(fileChannel::close);
+                }
+                if (cf != null) {
+                    cf.complete(null);
+                } else {
+                    resultFuture.complete(null);
+                }
+            } catch (RuntimeException e) {
+                resultFuture.completeExceptionally(e);
+            }
+            downstreamSubscriber.onComplete();
+        }
+
+        private void partFailed(Throwable error) {
+            if (isDone.compareAndSet(false, true)) {
+                FileAsyncResponseTransformer.this.exceptionOccurred(error);
+                resultFuture.completeExceptionally(error);
+                downstreamSubscriber.onError(error);
+            }
+        }
+
+        private final class PositionalWriteTransformer implements AsyncResponseTransformer<ResponseT, ResponseT> {
+            private final boolean isFirstPart;
+            private volatile CompletableFuture<ResponseT> partFuture;
+            private volatile ResponseT partResponse;
+            private volatile Optional<Long> partRangeStart;
+
+            private PositionalWriteTransformer(boolean isFirstPart) {
+                this.isFirstPart = isFirstPart;
+            }
+
+            @Override
+            public CompletableFuture<ResponseT> prepare() {
+                partFuture = new CompletableFuture<>();
+                if (prepareCalled.compareAndSet(false, true)) {
+                    CompletableFutureUtils.forwardResultTo(FileAsyncResponseTransformer.this.prepare(), resultFuture);
+                }
+                partsInFlight.incrementAndGet();
+                partFuture.whenComplete((r, e) -> {
+                    if (e == null) {
+                        partsInFlight.decrementAndGet();
+                        completeIfDone();
+                    }
+                });
+                resultFuture.whenComplete((r, e) -> {
+                    if (e != null) {
+                        partFuture.completeExceptionally(e);
+                    }
+                });
+                return partFuture;
+            }
+
+            @Override
+            public void onResponse(ResponseT response) {
+                this.partResponse = response;
+                this.partRangeStart = contentRangeStart(response);
+                if (isFirstPart) {
+                    firstPartRangeStart = partRangeStart.orElse(0L);
+                    FileAsyncResponseTransformer.this.onResponse(response);
+                }
+            }
+
+            @Override
+            public void onStream(SdkPublisher<ByteBuffer> publisher) {
+                try {
+                    long writePosition = position + relativePartPosition();
+                    CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+                    writeFuture.whenComplete((r, e) -> {
+                        if (e != null) {
+                            exceptionOccurred(e);
+                        } else {
+                            partFuture.complete(partResponse);
+                        }
+                    });
+                    publisher.subscribe(new FileSubscriber(splitFileChannel(), path, writeFuture, this::exceptionOccurred,
+                                                           writePosition, false));
+                } catch (Throwable e) {
+                    exceptionOccurred(e);
+                }
+            }
+
+            private long relativePartPosition() {
+                if (isFirstPart) {
+                    return 0L;
+                }
+                Long firstStart = firstPartRangeStart;
+                if (firstStart == null) {
+                    throw new IllegalStateException("The first part must receive its response before any other part.");
+                }
+                return partRangeStart.orElseThrow(() -> new IllegalStateException(
+                    "The response of each part must have a Content-Range to write it at its position in the file.")) - firstStart;
+            }
+
+            @Override
+            public void exceptionOccurred(Throwable error) {
+                if (partFuture != null) {
+                    partFuture.completeExceptionally(error);
+                }
+                partFailed(error);
+            }
+        }
+    }
+
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
@@ -178,6 +408,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         private final Path path;
         private final CompletableFuture<Void> future;
         private final Consumer<Throwable> onErrorMethod;
+        private final boolean closeChannelOnComplete;
 
         private volatile boolean writeInProgress = false;
         private volatile boolean closeOnLastWrite = false;
@@ -185,11 +416,17 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
                        Consumer<Throwable> onErrorMethod, long startingPosition) {
+            this(fileChannel, path, future, onErrorMethod, startingPosition, true);
+        }
+
+        FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
+                       Consumer<Throwable> onErrorMethod, long startingPosition, boolean closeChannelOnComplete) {
             this.fileChannel = fileChannel;
             this.path = path;
             this.future = future;
             this.onErrorMethod = onErrorMethod;
             this.position = new AtomicLong(startingPosition);
+            this.closeChannelOnComplete = closeChannelOnComplete;
         }
 
         @Override
@@ -264,7 +501,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         private void close() {
             try {
-                if (fileChannel != null) {
+                if (fileChannel != null && closeChannelOnComplete) {
                     invokeSafely(fileChannel::close);
                 }
                 log.trace(() -> "Completing File async transformer future future");
@@ -25,6 +25,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -46,7 +48,11 @@ import software.amazon.awssdk.utils.Logger;
 public class InputStreamWithExecutorAsyncRequestBody implements AsyncRequestBody {
     private static final Logger log = Logger.loggerFor(InputStreamWithExecutorAsyncRequestBody.class);
 
-    private final Object subscribeLock = new Object();
+    /**
+     * Held while waiting for the previous write to be cancelled. A lock is used instead of synchronizing so that the wait does
+     * not pin the carrier thread when the executor runs virtual threads.
+     */
+    private final Lock subscribeLock = new ReentrantLock();
     private final InputStream inputStream;
     private final Long contentLength;
     private final ExecutorService executor;
@@ -68,21 +74,22 @@ public class InputStreamWithExecutorAsyncRequestBody implements AsyncRequestBody
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
         // Each subscribe cancels the previous subscribe.
-        synchronized (subscribeLock) {
-            try {
-                if (writeFuture != null) {
-                    writeFuture.cancel(true);
-                    waitForCancellation(writeFuture); // Wait for the cancellation
-                    tryReset(inputStream);
-                }
-
-                BlockingInputStreamAsyncRequestBody delegate = AsyncRequestBody.forBlockingInputStream(contentLength);
-                writeFuture = executor.submit(() -> doBlockingWrite(delegate));
-                delegate.subscribe(s);
-            } catch (Throwable t) {
-                s.onSubscribe(new NoopSubscription(s));
-                s.onError(t);
+        subscribeLock.lock();
+        try {
+            if (writeFuture != null) {
+                writeFuture.cancel(true);
+                waitForCancellation(writeFuture); // Wait for the cancellation
+                tryReset(inputStream);
             }
+
+            BlockingInputStreamAsyncRequestBody delegate = AsyncRequestBody.forBlockingInputStream(contentLength);
+            writeFuture = executor.submit(() -> doBlockingWrite(delegate));
+            delegate.subscribe(s);
+        } catch (Throwable t) {
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(t);
+        } finally {
+            subscribeLock.unlock();
         }
     }
 
@@ -97,8 +104,11 @@ public class InputStreamWithExecutorAsyncRequestBody implements AsyncRequestBody
 
     @SdkTestInternalApi
     public Future<?> activeWriteFuture() {
-        synchronized (subscribeLock) {
+        subscribeLock.lock();
+        try {
             return writeFuture;
+        } finally {
+            subscribeLock.unlock();
         }
     }
 
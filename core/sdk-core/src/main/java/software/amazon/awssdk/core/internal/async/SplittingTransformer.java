@@ -16,6 +16,12 @@
 package software.amazon.awssdk.core.internal.async;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -42,6 +48,12 @@ import software.amazon.awssdk.utils.async.SimplePublisher;
  * <p>
  * Cancelling the subscription to this publisher signals that no more data needs to be sent to the upstream transformer. This
  * publisher will then send all data currently buffered to the upstream transformer and complete the downstream subscriber.
+ * <p>
+ * The individual transformers may be used for requests that are executed concurrently. Data is always sent to the upstream
+ * transformer in the order in which the individual transformers were published: data received by an individual transformer
+ * is held in memory until all the transformers published before it have completed, and the future returned by its
+ * {@code prepare()} method only completes once all of its data was sent to the upstream transformer. The amount of data held
+ * this way is therefore bounded by the number of requests the downstream subscriber executes concurrently.
  */
 @SdkInternalApi
 public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<AsyncResponseTransformer<ResponseT, ResponseT>> {
@@ -111,6 +123,29 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
 
     private final Object cancelLock = new Object();
 
+    /**
+     * Guards the ordering state below, so that data of the individual transformers is sent to the upstream transformer in the
+     * order in which they were published.
+     */
+    private final Object orderLock = new Object();
+
+    /**
+     * The number of individual transformers published so far. Only updated by the thread that is currently emitting.
+     */
+    private int transformersPublished;
+
+    /**
+     * The index of the individual transformer whose data is currently being sent to the upstream transformer. Data received by
+     * transformers with a higher index is held until this transformer completes.
+     */
+    private int nextPartToForward;
+
+    /**
+     * The subscribers of the individual transformers which have started streaming, but have not yet sent all their data to the
+     * upstream transformer, keyed by the index of their transformer.
+     */
+    private final Map<Integer, IndividualPartSubscriber<?>> pendingParts = new HashMap<>();
+
     private SplittingTransformer(AsyncResponseTransformer<ResponseT, ResultT> upstreamResponseTransformer,
                                  Long maximumBufferSizeInBytes,
                                  CompletableFuture<ResultT> resultFuture) {
@@ -198,7 +233,7 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
             }
             if (outstandingDemand.get() > 0) {
                 demand = outstandingDemand.decrementAndGet();
-                downstreamSubscriber.onNext(new IndividualTransformer());
+                downstreamSubscriber.onNext(new IndividualTransformer(transformersPublished++));
             }
         }
         return false;
@@ -259,9 +294,14 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
      * body publisher.
      */
     private class IndividualTransformer implements AsyncResponseTransformer<ResponseT, ResponseT> {
+        private final int partIndex;
         private ResponseT response;
         private CompletableFuture<ResponseT> individualFuture;
 
+        IndividualTransformer(int partIndex) {
+            this.partIndex = partIndex;
+        }
+
         @Override
         public CompletableFuture<ResponseT> prepare() {
             this.individualFuture = new CompletableFuture<>();
@@ -314,7 +354,7 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
                     );
                 }
             }
-            publisher.subscribe(new IndividualPartSubscriber<>(this.individualFuture, response));
+            publisher.subscribe(new IndividualPartSubscriber<>(partIndex, this.individualFuture, response));
         }
 
         @Override
@@ -330,11 +370,15 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
      */
     class IndividualPartSubscriber<T> implements Subscriber<ByteBuffer> {
 
+        private final int partIndex;
         private final CompletableFuture<T> future;
         private final T response;
+        private final Queue<ByteBuffer> heldBuffers = new ArrayDeque<>();
+        private boolean complete;
         private Subscription subscription;
 
-        IndividualPartSubscriber(CompletableFuture<T> future, T response) {
+        IndividualPartSubscriber(int partIndex, CompletableFuture<T> future, T response) {
+            this.partIndex = partIndex;
             this.future = future;
             this.response = response;
         }
@@ -346,6 +390,9 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
                 return;
             }
             this.subscription = s;
+            synchronized (orderLock) {
+                pendingParts.put(partIndex, this);
+            }
             s.request(1);
         }
 
@@ -354,6 +401,18 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
             if (byteBuffer == null) {
                 throw new NullPointerException("onNext must not be called with null byteBuffer");
             }
+            boolean held;
+            synchronized (orderLock) {
+                // Hold the data if a part published before this one has not sent all its data yet
+                held = partIndex != nextPartToForward;
+                if (held) {
+                    heldBuffers.add(byteBuffer);
+                }
+            }
+            if (held) {
+                subscription.request(1);
+                return;
+            }
             publisherToUpstream.send(byteBuffer).whenComplete((r, t) -> {
                 if (t != null) {
                     handleError(t);
@@ -372,6 +431,35 @@ public class SplittingTransformer<ResponseT, ResultT> implements SdkPublisher<As
 
         @Override
         public void onComplete() {
+            List<IndividualPartSubscriber<?>> forwardedParts = new ArrayList<>();
+            synchronized (orderLock) {
+                complete = true;
+                IndividualPartSubscriber<?> part = this;
+                while (part != null && part.complete && part.partIndex == nextPartToForward) {
+                    pendingParts.remove(nextPartToForward);
+                    forwardedParts.add(part);
+                    nextPartToForward++;
+                    part = pendingParts.get(nextPartToForward);
+                    if (part != null) {
+                        part.sendHeldBuffers();
+                    }
+                }
+            }
+            forwardedParts.forEach(IndividualPartSubscriber::completeFuture);
+        }
+
+        private void sendHeldBuffers() {
+            ByteBuffer byteBuffer;
+            while ((byteBuffer = heldBuffers.poll()) != null) {
+                publisherToUpstream.send(byteBuffer).whenComplete((r, t) -> {
+                    if (t != null) {
+                        handleError(t);
+                    }
+                });
+            }
+        }
+
+        private void completeFuture() {
             future.complete(response);
         }
 
@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.capacity;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.AdaptiveConcurrencyConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Limits the number of requests a client has in flight, adjusting the limit from the observed round-trip times.
+ * <p>
+ * The limit follows a gradient algorithm: each round-trip time is compared with a slow-moving average of previous round-trip
+ * times. While the ratio stays within a tolerance, the limit grows by about the square root of the limit, so the queue that
+ * builds up in the service and the connection pool stays small. When round-trip times rise, the limit shrinks in proportion.
+ * Requests that were throttled, timed out or failed with an I/O error shrink the limit multiplicatively.
+ * <p>
+ * Requests that exceed the limit wait in a FIFO queue and are dispatched as in-flight requests complete. Requests that
+ * exceed the queue capacity are rejected.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class AdaptiveConcurrencyLimiter {
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_WEIGHT = 2.0 / (600 + 1);
+    private static final double LONG_RTT_DECAY = 0.95;
+    private static final double DROP_BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueuedRequests;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<CompletableFuture<Void>> waiters = new ConcurrentLinkedQueue<>();
+
+    private volatile int limit;
+
+    // Guarded by this
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(AdaptiveConcurrencyConfiguration configuration) {
+        this.minLimit = configuration.minLimit();
+        this.maxLimit = configuration.maxLimit();
+        this.maxQueuedRequests = configuration.maxQueuedRequests();
+        this.limit = configuration.initialLimit();
+        this.estimatedLimit = configuration.initialLimit();
+    }
+
+    /**
+     * Acquire permission to send a request. The returned future completes once the request may be sent, or completes
+     * exceptionally if the queue of waiting requests is full. Once the future completes successfully, the caller must call
+     * {@link #release(long, boolean)} or {@link #release()}. If the caller gives up on the request before the future completes,
+     * it must call {@link #cancel(CompletableFuture)}.
+     */
+    public CompletableFuture<Void> acquire() {
+        if (waiters.isEmpty() && tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (queued.incrementAndGet() > maxQueuedRequests) {
+            queued.decrementAndGet();
+            CompletableFuture<Void> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(
+                SdkClientException.create("Unable to send the request because " + inFlight.get() + " requests are in "
+                                          + "flight, which reaches the adaptive concurrency limit of " + limit + ", and "
+                                          + maxQueuedRequests + " requests are already waiting."));
+            return rejected;
+        }
+
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        dispatchWaiters();
+        return waiter;
+    }
+
+    /**
+     * Stop waiting for a permit. If the permit was already granted, it must be released instead.
+     */
+    public void cancel(CompletableFuture<Void> waiter) {
+        if (waiters.remove(waiter)) {
+            queued.decrementAndGet();
+        }
+    }
+
+    /**
+     * Release a permit, recording the round-trip time of the request. A dropped request was throttled, timed out or failed
+     * with an I/O error, and its round-trip time is ignored.
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int previousInFlight = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (dropped) {
+                estimatedLimit *= DROP_BACKOFF_RATIO;
+            } else {
+                onSample(Math.max(1, rttNanos), previousInFlight);
+            }
+            estimatedLimit = Math.min(maxLimit, Math.max(minLimit, estimatedLimit));
+            limit = (int) estimatedLimit;
+        }
+        dispatchWaiters();
+    }
+
+    /**
+     * Release a permit without recording a round-trip time, such as when the request was not sent.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+        dispatchWaiters();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int queued() {
+        return queued.get();
+    }
+
+    private void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+        }
+
+        // Latency dropped well below the long-term average (e.g. after a slow period), so let the average catch up faster.
+        if (longRttNanos / rttNanos > 2) {
+            longRttNanos *= LONG_RTT_DECAY;
+        }
+
+        // Don't grow the limit when the client isn't using it, or it would grow without bound while idle.
+        if (inFlightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRttNanos / rttNanos));
+        double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void dispatchWaiters() {
+        while (!waiters.isEmpty() && tryAcquire()) {
+            CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter == null) {
+                // Another thread dispatched or cancelled the waiter; check again in case a new one was added meanwhile.
+                inFlight.decrementAndGet();
+                continue;
+            }
+            queued.decrementAndGet();
+            waiter.complete(null);
+        }
+    }
+}
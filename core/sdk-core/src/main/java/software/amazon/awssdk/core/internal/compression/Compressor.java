@@ -17,8 +17,10 @@ package software.amazon.awssdk.core.internal.compression;
 
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.CompressRequestStage;
 
 /**
@@ -53,7 +55,10 @@ public interface Compressor {
     }
 
     /**
-     * Compress an {@link InputStream} payload.
+     * Compress an {@link InputStream} payload. Closing the returned stream closes the given stream.
+     * <p>
+     * By default, this reads the whole payload into memory before compressing it. Implementations should override this to
+     * compress the payload as the returned stream is read.
      *
      * @param content
      * @return The compressed {@link InputStream}.
@@ -71,4 +76,17 @@ public interface Compressor {
     default ByteBuffer compress(ByteBuffer content) {
         return compress(SdkBytes.fromByteBuffer(content)).asByteBuffer();
     }
-}
\ No newline at end of file
+
+    /**
+     * Compress a stream of {@link ByteBuffer}s, without buffering the whole stream.
+     * <p>
+     * By default, each published buffer is compressed independently with {@link #compress(ByteBuffer)}. This is only valid
+     * for formats, like gzip, whose compressed frames can be concatenated. Other implementations must override it.
+     *
+     * @param content
+     * @return The compressed {@link SdkPublisher}.
+     */
+    default SdkPublisher<ByteBuffer> compress(Publisher<ByteBuffer> content) {
+        return SdkPublisher.adapt(content).map(this::compress);
+    }
+}
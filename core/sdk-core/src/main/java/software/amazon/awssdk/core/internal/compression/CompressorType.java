@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.Validate;
 
@@ -32,9 +33,10 @@ public final class CompressorType {
 
     public static final CompressorType GZIP = CompressorType.of("gzip");
 
-    private static Map<String, Compressor> compressorMap = new HashMap<String, Compressor>() {{
-            put("gzip", new GzipCompressor());
-        }};
+    private static Map<String, Function<Integer, Compressor>> compressorMap =
+        new HashMap<String, Function<Integer, Compressor>>() {{
+                put("gzip", GzipCompressor::create);
+            }};
 
     private final String id;
 
@@ -68,12 +70,20 @@ public final class CompressorType {
      * Maps the {@link CompressorType} to its corresponding {@link Compressor}.
      */
     public Compressor newCompressor() {
-        Compressor compressor = compressorMap.getOrDefault(this.id, null);
-        if (compressor == null) {
+        return newCompressor(null);
+    }
+
+    /**
+     * Maps the {@link CompressorType} to its corresponding {@link Compressor}, using the given compression level, or the
+     * compressor's default compression level if it is null.
+     */
+    public Compressor newCompressor(Integer compressionLevel) {
+        Function<Integer, Compressor> compressorFactory = compressorMap.getOrDefault(this.id, null);
+        if (compressorFactory == null) {
             throw new UnsupportedOperationException("The compression type " + id + " does not have an implementation of "
                                                     + "Compressor");
         }
-        return compressor;
+        return compressorFactory.apply(compressionLevel);
     }
 
     @Override
@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An {@link InputStream} that gzip-compresses the wrapped stream as it is read, so that neither the uncompressed nor the
+ * compressed payload needs to be held in memory in full.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class GzipCompressionInputStream extends InputStream {
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final InputStream source;
+    private final GzipEncoder encoder;
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private boolean finished;
+    private boolean closed;
+
+    GzipCompressionInputStream(InputStream source, int compressionLevel) {
+        this.source = source;
+        this.encoder = new GzipEncoder(compressionLevel);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] singleByte = new byte[1];
+        int read = read(singleByte, 0, 1);
+        return read == -1 ? -1 : singleByte[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        while (encoder.pending() == 0) {
+            if (finished) {
+                return -1;
+            }
+            int read = source.read(readBuffer, 0, readBuffer.length);
+            if (read == -1) {
+                encoder.finish();
+                finished = true;
+            } else {
+                encoder.deflate(readBuffer, 0, read);
+            }
+        }
+        return encoder.read(b, off, len);
+    }
+
+    @Override
+    public int available() {
+        return closed ? 0 : encoder.pending();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            encoder.end();
+            source.close();
+        }
+    }
+}
@@ -15,22 +15,51 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
-import static software.amazon.awssdk.utils.IoUtils.closeQuietly;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.zip.GZIPOutputStream;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
 
+/**
+ * A {@link Compressor} that produces gzip data.
+ * <p>
+ * Payloads compressed in one call reuse a {@link Deflater} that is pooled per thread, instead of allocating a new native
+ * deflater for every payload. Streams returned by {@link #compress(InputStream)} own their deflater, and release it when they
+ * are closed.
+ */
 @SdkInternalApi
 public final class GzipCompressor implements Compressor {
 
     private static final String COMPRESSOR_TYPE = "gzip";
-    private static final Logger log = LoggerFactory.getLogger(GzipCompressor.class);
+    private static final GzipCompressor DEFAULT = new GzipCompressor();
+    private static final ThreadLocal<GzipEncoder> ENCODERS =
+        ThreadLocal.withInitial(() -> new GzipEncoder(Deflater.DEFAULT_COMPRESSION));
+
+    private final int compressionLevel;
+
+    public GzipCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param compressionLevel The compression level, from 1 (fastest) to 9 (smallest), or {@link Deflater#DEFAULT_COMPRESSION}.
+     */
+    public GzipCompressor(int compressionLevel) {
+        Validate.isTrue(compressionLevel == Deflater.DEFAULT_COMPRESSION
+                        || compressionLevel >= Deflater.BEST_SPEED && compressionLevel <= Deflater.BEST_COMPRESSION,
+                        "The compression level must be between %s and %s.", Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION);
+        this.compressionLevel = compressionLevel;
+    }
+
+    /**
+     * Create a compressor with the given compression level, or with the default compression level if it is null.
+     */
+    public static GzipCompressor create(Integer compressionLevel) {
+        return compressionLevel == null ? DEFAULT : new GzipCompressor(compressionLevel);
+    }
 
     @Override
     public String compressorType() {
@@ -39,17 +68,32 @@ public final class GzipCompressor implements Compressor {
 
     @Override
     public SdkBytes compress(SdkBytes content) {
-        GZIPOutputStream gzipOutputStream = null;
-        try {
-            ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
-            gzipOutputStream = new GZIPOutputStream(compressedOutputStream);
-            gzipOutputStream.write(content.asByteArray());
-            gzipOutputStream.close();
-            return SdkBytes.fromByteArray(compressedOutputStream.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        } finally {
-            closeQuietly(gzipOutputStream, log);
+        return SdkBytes.fromByteArrayUnsafe(compress(content.asByteArrayUnsafe()));
+    }
+
+    @Override
+    public byte[] compress(byte[] content) {
+        return compress(content, 0, content.length);
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer content) {
+        if (content.hasArray()) {
+            return ByteBuffer.wrap(compress(content.array(), content.arrayOffset() + content.position(), content.remaining()));
         }
+        return ByteBuffer.wrap(compress(BinaryUtils.copyBytesFrom(content)));
+    }
+
+    @Override
+    public InputStream compress(InputStream content) {
+        return new GzipCompressionInputStream(content, compressionLevel);
+    }
+
+    private byte[] compress(byte[] content, int offset, int length) {
+        GzipEncoder encoder = ENCODERS.get();
+        encoder.reset(compressionLevel);
+        encoder.deflate(content, offset, length);
+        encoder.finish();
+        return encoder.takeOutput();
     }
-}
\ No newline at end of file
+}
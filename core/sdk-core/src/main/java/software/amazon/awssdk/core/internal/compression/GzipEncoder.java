@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Produces gzip (RFC 1952) data from a raw {@link Deflater}.
+ * <p>
+ * Unlike {@link java.util.zip.GZIPOutputStream}, which allocates a new native deflater for every stream, an encoder can be
+ * {@link #reset(int)} and reused for any number of payloads. Compressed output is accumulated in an internal buffer, which is
+ * drained with {@link #read(byte[], int, int)} or {@link #takeOutput()}.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class GzipEncoder {
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_SIZE = 8;
+    private static final int MIN_DEFLATE_SPACE = 512;
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * Buffers that grew larger than this while compressing a payload are not kept for the next one.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int position;
+    private int count;
+    private boolean headerWritten;
+
+    GzipEncoder(int compressionLevel) {
+        this.deflater = new Deflater(compressionLevel, true);
+    }
+
+    /**
+     * Prepare this encoder to compress a new payload at the given compression level, discarding any pending output.
+     */
+    void reset(int compressionLevel) {
+        deflater.reset();
+        deflater.setLevel(compressionLevel);
+        crc.reset();
+        position = 0;
+        count = 0;
+        headerWritten = false;
+        if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+    }
+
+    /**
+     * Compress the given bytes. Output may be held back by the deflater until more input is provided or the encoder is
+     * finished.
+     */
+    void deflate(byte[] input, int offset, int length) {
+        writeHeaderIfNeeded();
+        crc.update(input, offset, length);
+        deflater.setInput(input, offset, length);
+        while (!deflater.needsInput()) {
+            deflateToBuffer(Deflater.NO_FLUSH);
+        }
+    }
+
+    /**
+     * Write the remaining compressed data and the gzip trailer. No more input may be provided until the encoder is reset.
+     */
+    void finish() {
+        writeHeaderIfNeeded();
+        deflater.finish();
+        while (!deflater.finished()) {
+            deflateToBuffer(Deflater.NO_FLUSH);
+        }
+        ensureSpace(TRAILER_SIZE);
+        writeIntLittleEndian(crc.getValue());
+        writeIntLittleEndian(deflater.getBytesRead());
+    }
+
+    /**
+     * The number of compressed bytes that have not been drained yet.
+     */
+    int pending() {
+        return count - position;
+    }
+
+    /**
+     * Drain up to {@code length} pending compressed bytes into the destination.
+     */
+    int read(byte[] destination, int offset, int length) {
+        int read = Math.min(length, pending());
+        System.arraycopy(buffer, position, destination, offset, read);
+        position += read;
+        if (position == count) {
+            position = 0;
+            count = 0;
+        }
+        return read;
+    }
+
+    /**
+     * Drain all pending compressed bytes into a new array.
+     */
+    byte[] takeOutput() {
+        byte[] output = Arrays.copyOfRange(buffer, position, count);
+        position = 0;
+        count = 0;
+        return output;
+    }
+
+    /**
+     * Release the native resources of the deflater. The encoder cannot be used afterwards.
+     */
+    void end() {
+        deflater.end();
+    }
+
+    private void writeHeaderIfNeeded() {
+        if (!headerWritten) {
+            ensureSpace(HEADER.length);
+            System.arraycopy(HEADER, 0, buffer, count, HEADER.length);
+            count += HEADER.length;
+            headerWritten = true;
+        }
+    }
+
+    private void deflateToBuffer(int flush) {
+        ensureSpace(MIN_DEFLATE_SPACE);
+        count += deflater.deflate(buffer, count, buffer.length - count, flush);
+    }
+
+    private void ensureSpace(int space) {
+        if (buffer.length - count < space) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + space));
+        }
+    }
+
+    private void writeIntLittleEndian(long value) {
+        buffer[count++] = (byte) value;
+        buffer[count++] = (byte) (value >> 8);
+        buffer[count++] = (byte) (value >> 16);
+        buffer[count++] = (byte) (value >> 24);
+    }
+}
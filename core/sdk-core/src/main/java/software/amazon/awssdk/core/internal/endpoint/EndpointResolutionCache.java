@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.endpoint;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.utils.cache.SetAssociativeCache;
+
+/**
+ * A bounded, lock-free cache of the endpoints resolved by a client's endpoint providers, keyed on the provider instance and
+ * the endpoint parameters the provider was invoked with. Endpoint parameters must be immutable and implement
+ * {@link Object#equals} and {@link Object#hashCode} by value.
+ * <p>
+ * Entries are stored in a {@link SetAssociativeCache} keyed on the endpoint parameters. The provider is stored with the
+ * endpoint and compared by identity on lookup, so a hit does not take a lock or allocate.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class EndpointResolutionCache {
+    private final SetAssociativeCache<Object, ResolvedEndpoint> cache;
+
+    /**
+     * @param maxSize the maximum number of entries of the cache. This is rounded up to a power of two of at least four.
+     */
+    public EndpointResolutionCache(int maxSize) {
+        this.cache = new SetAssociativeCache<>(maxSize);
+    }
+
+    /**
+     * Returns the endpoint cached for the given provider and parameters, or null if none is cached.
+     */
+    public Endpoint get(EndpointProvider provider, Object params) {
+        ResolvedEndpoint resolved = cache.get(params);
+        return resolved != null && resolved.provider == provider ? resolved.endpoint : null;
+    }
+
+    /**
+     * Adds the endpoint resolved by the given provider for the given parameters to the cache.
+     */
+    public void put(EndpointProvider provider, Object params, Endpoint endpoint) {
+        cache.put(params, new ResolvedEndpoint(provider, endpoint));
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the maximum number of entries the cache can hold.
+     */
+    public int getMaxSize() {
+        return cache.getMaxSize();
+    }
+
+    private static final class ResolvedEndpoint {
+        private final EndpointProvider provider;
+        private final Endpoint endpoint;
+
+        private ResolvedEndpoint(EndpointProvider provider, Endpoint endpoint) {
+            this.provider = provider;
+            this.endpoint = endpoint;
+        }
+    }
+}
@@ -218,7 +218,7 @@ public abstract class BaseClientHandler {
         interceptorChain.beforeExecution(interceptorContext, executionAttributes);
         interceptorContext = interceptorChain.modifyRequest(interceptorContext, executionAttributes);
 
-        MetricCollector metricCollector = resolveMetricCollector(params);
+        MetricCollector metricCollector = resolveMetricCollector(params, clientConfiguration);
 
         return ExecutionContext.builder()
                                .interceptorChain(interceptorChain)
@@ -337,10 +337,11 @@ public abstract class BaseClientHandler {
         return (x, y) -> function2.apply(function1.apply(x, y), y);
     }
 
-    private MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                   SdkClientConfiguration clientConfiguration) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfiguration);
         }
         return metricCollector;
     }
@@ -36,6 +36,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncApiCallAtt
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncApiCallMetricCollectionStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncApiCallTimeoutTrackingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncBeforeTransmissionExecutionInterceptorsStage;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncConcurrencyLimitingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncExecutionFailureExceptionReportingStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncRetryableStage2;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncSigningStage;
@@ -205,6 +206,7 @@ public final class AmazonAsyncHttpClient implements SdkAutoCloseable {
                                         .then(AsyncBeforeTransmissionExecutionInterceptorsStage::new)
                                         .then(d -> new MakeAsyncHttpRequestStage<>(responseHandler, d))
                                         .wrappedWith(AsyncApiCallAttemptMetricCollectionStage::new)
+                                        .wrappedWith(AsyncConcurrencyLimitingStage::new)
                                         .wrappedWith((deps, wrapped) -> new AsyncRetryableStage2<>(responseHandler, deps,
                                                                                                    wrapped))
                                         .then(async(() -> new UnwrapResponseContainer<>()))
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.metrics.SdkErrorType;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Wrapper around a single request attempt that holds it back while the client's {@link AdaptiveConcurrencyLimiter} is at its
+ * limit, and reports the round-trip time of the attempt back to the limiter. Does nothing if the client has no limiter.
+ */
+@SdkInternalApi
+public final class AsyncConcurrencyLimitingStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
+    CompletableFuture<Response<OutputT>>> {
+
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> wrapped;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public AsyncConcurrencyLimitingStage(HttpClientDependencies dependencies,
+                                         RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> wrapped) {
+        this.wrapped = wrapped;
+        this.limiter = dependencies.clientConfiguration().option(SdkClientOption.ADAPTIVE_CONCURRENCY_LIMITER);
+    }
+
+    @Override
+    public CompletableFuture<Response<OutputT>> execute(SdkHttpFullRequest input,
+                                                        RequestExecutionContext context) throws Exception {
+        if (limiter == null) {
+            return wrapped.execute(input, context);
+        }
+
+        CompletableFuture<Void> permit = limiter.acquire();
+        CompletableFuture<Response<OutputT>> future = new CompletableFuture<>();
+        permit.whenComplete((r, t) -> {
+            if (t != null) {
+                future.completeExceptionally(t);
+            } else {
+                executeWithPermit(input, context, future);
+            }
+        });
+        future.whenComplete((r, t) -> {
+            if (!permit.isDone()) {
+                limiter.cancel(permit);
+            }
+        });
+        return future;
+    }
+
+    private void executeWithPermit(SdkHttpFullRequest input,
+                                   RequestExecutionContext context,
+                                   CompletableFuture<Response<OutputT>> future) {
+        if (future.isDone()) {
+            // The call was cancelled or timed out while waiting.
+            limiter.release();
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        CompletableFuture<Response<OutputT>> executeFuture;
+        try {
+            executeFuture = wrapped.execute(input, context);
+        } catch (Throwable t) {
+            limiter.release();
+            future.completeExceptionally(t);
+            return;
+        }
+
+        executeFuture.whenComplete((r, t) -> {
+            limiter.release(roundTripTime(context, startTime), isDropped(r, t));
+            if (t != null) {
+                future.completeExceptionally(t);
+            } else {
+                future.complete(r);
+            }
+        });
+        CompletableFutureUtils.forwardExceptionTo(future, executeFuture);
+    }
+
+    /**
+     * The time until the response headers were read, so that the time spent streaming large response bodies does not count
+     * as latency. Falls back to the time until the attempt completed.
+     */
+    private static long roundTripTime(RequestExecutionContext context, long startTime) {
+        Long headersReadEndTime =
+            context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.HEADERS_READ_END_NANO_TIME);
+        if (headersReadEndTime != null && headersReadEndTime - startTime > 0) {
+            return headersReadEndTime - startTime;
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    private static boolean isDropped(Response<?> response, Throwable t) {
+        Throwable error = t;
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error == null && response != null && !Boolean.TRUE.equals(response.isSuccess())) {
+            error = response.exception();
+        }
+        if (error == null) {
+            return false;
+        }
+
+        SdkErrorType errorType = SdkErrorType.fromException(error);
+        return errorType == SdkErrorType.THROTTLING
+               || errorType == SdkErrorType.CONFIGURED_TIMEOUT
+               || errorType == SdkErrorType.IO
+               || error.getCause() instanceof IOException;
+    }
+}
@@ -26,7 +26,6 @@ import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
-import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
@@ -48,6 +47,8 @@ import software.amazon.awssdk.utils.IoUtils;
 public class CompressRequestStage implements MutableRequestToRequestPipeline {
     public static final int DEFAULT_MIN_COMPRESSION_SIZE = 10_240;
     private static final int MIN_COMPRESSION_SIZE_LIMIT = 10_485_760;
+    private static final int MIN_COMPRESSION_LEVEL = 1;
+    private static final int MAX_COMPRESSION_LEVEL = 9;
     private final CompressionConfiguration compressionConfig;
 
     public CompressRequestStage(HttpClientDependencies dependencies) {
@@ -62,12 +63,12 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
             return input;
         }
 
-        Compressor compressor = resolveCompressorType(context.executionAttributes());
+        Compressor compressor = resolveCompressorType(context.executionAttributes())
+            .newCompressor(resolveCompressionLevel(context));
 
         if (!isStreaming(context)) {
             compressEntirePayload(input, compressor);
             updateContentEncodingHeader(input, compressor);
-            updateContentLengthHeader(input);
             return input;
         }
 
@@ -111,10 +112,19 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).isStreaming();
     }
 
+    /**
+     * Compress the payload once, streaming it through the compressor, and keep only the compressed bytes. They are needed up
+     * front for the Content-Length header, and are reused if the request is retried.
+     */
     private void compressEntirePayload(SdkHttpFullRequest.Builder input, Compressor compressor) {
-        ContentStreamProvider wrappedProvider = input.contentStreamProvider();
-        ContentStreamProvider compressedStreamProvider = () -> compressor.compress(wrappedProvider.newStream());
-        input.contentStreamProvider(compressedStreamProvider);
+        byte[] compressedPayload;
+        try (InputStream compressedStream = compressor.compress(input.contentStreamProvider().newStream())) {
+            compressedPayload = IoUtils.toByteArray(compressedStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        input.contentStreamProvider(ContentStreamProvider.fromByteArrayUnsafe(compressedPayload));
+        input.putHeader("Content-Length", String.valueOf(compressedPayload.length));
     }
 
     private void updateContentEncodingHeader(SdkHttpFullRequest.Builder input,
@@ -126,31 +136,20 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         }
     }
 
-    private void updateContentLengthHeader(SdkHttpFullRequest.Builder input) {
-        InputStream inputStream = input.contentStreamProvider().newStream();
-        try {
-            byte[] bytes = IoUtils.toByteArray(inputStream);
-            String length = String.valueOf(bytes.length);
-            input.putHeader("Content-Length", length);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     private boolean isTransferEncodingChunked(SdkHttpFullRequest.Builder input) {
         return input.firstMatchingHeader("Transfer-Encoding")
                     .map(headerValue -> headerValue.equals("chunked"))
                     .orElse(false);
     }
 
-    private Compressor resolveCompressorType(ExecutionAttributes executionAttributes) {
+    private CompressorType resolveCompressorType(ExecutionAttributes executionAttributes) {
         List<String> encodings =
             executionAttributes.getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).getEncodings();
 
         for (String encoding: encodings) {
             encoding = encoding.toLowerCase(Locale.ROOT);
             if (CompressorType.isSupported(encoding)) {
-                return CompressorType.of(encoding).newCompressor();
+                return CompressorType.of(encoding);
             }
         }
         return null;
@@ -177,8 +176,29 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     private boolean isRequestSizeWithinThreshold(SdkHttpFullRequest.Builder input, RequestExecutionContext context) {
         int minimumCompressionThreshold = resolveMinCompressionSize(context);
         validateMinCompressionSizeInput(minimumCompressionThreshold);
-        int requestSize = SdkBytes.fromInputStream(input.contentStreamProvider().newStream()).asByteArray().length;
-        return requestSize >= minimumCompressionThreshold;
+        try (InputStream content = input.contentStreamProvider().newStream()) {
+            return hasAtLeast(content, minimumCompressionThreshold);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Whether the stream has at least the given number of bytes. Only that many bytes are read, and none are buffered.
+     */
+    private static boolean hasAtLeast(InputStream content, int size) throws IOException {
+        long remaining = size;
+        while (remaining > 0) {
+            long skipped = content.skip(remaining);
+            if (skipped > 0) {
+                remaining -= skipped;
+            } else if (content.read() != -1) {
+                remaining--;
+            } else {
+                return false;
+            }
+        }
+        return true;
     }
 
     private int resolveMinCompressionSize(RequestExecutionContext context) {
@@ -199,6 +219,26 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return DEFAULT_MIN_COMPRESSION_SIZE;
     }
 
+    private Integer resolveCompressionLevel(RequestExecutionContext context) {
+
+        Optional<Integer> compressionLevelRequestLevel =
+            context.originalRequest().overrideConfiguration()
+                   .flatMap(RequestOverrideConfiguration::compressionConfiguration)
+                   .map(CompressionConfiguration::compressionLevel);
+        Integer compressionLevel = compressionLevelRequestLevel.orElseGet(compressionConfig::compressionLevel);
+        if (compressionLevel != null) {
+            validateCompressionLevelInput(compressionLevel);
+        }
+        return compressionLevel;
+    }
+
+    private void validateCompressionLevelInput(int compressionLevel) {
+        if (compressionLevel < MIN_COMPRESSION_LEVEL || compressionLevel > MAX_COMPRESSION_LEVEL) {
+            throw SdkClientException.create("The compression level must be between " + MIN_COMPRESSION_LEVEL + " and "
+                                            + MAX_COMPRESSION_LEVEL + ".", new IllegalArgumentException());
+        }
+    }
+
     private void validateMinCompressionSizeInput(int minCompressionSize) {
         if (!(minCompressionSize >= 0 && minCompressionSize <= MIN_COMPRESSION_SIZE_LIMIT)) {
             throw SdkClientException.create("The minimum compression size must be non-negative with a maximum value of "
@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link TimeoutScheduler} backed by a {@link HashedWheelTimer}, which schedules and cancels timeouts in constant time
+ * without taking a lock. Expired timeouts are handed to an {@link Executor} to run, so that timeout tasks never hold up the
+ * timer thread.
+ * <p>
+ * All schedulers created with {@link #create(Executor)} share a single timer thread.
+ */
+@SdkInternalApi
+public final class HashedWheelTimeoutScheduler implements TimeoutScheduler {
+    private static final long TICK_DURATION_MILLIS = 10;
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+
+    @SdkTestInternalApi
+    HashedWheelTimeoutScheduler(HashedWheelTimer timer, Executor executor) {
+        this.timer = Validate.paramNotNull(timer, "timer");
+        this.executor = Validate.paramNotNull(executor, "executor");
+    }
+
+    /**
+     * Create a scheduler using the shared timer, that runs expired timeout tasks on the given executor.
+     */
+    public static HashedWheelTimeoutScheduler create(Executor executor) {
+        return new HashedWheelTimeoutScheduler(SharedTimerHolder.TIMER, executor);
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delayInMillis) {
+        return timer.newTimeout(task, executor, delayInMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static final class SharedTimerHolder {
+        private static final HashedWheelTimer TIMER =
+            new HashedWheelTimer(new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-timer").build(),
+                                 TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A hashed timing wheel, as described by Varghese and Lauck in "Hashed and Hierarchical Timing Wheels".
+ * <p>
+ * Time is divided into ticks, and the wheel is a ring of buckets, one per tick. A timeout is placed in the bucket of the tick
+ * in which it expires, along with the number of full rotations of the wheel that must pass first. A single worker thread
+ * advances the wheel one bucket per tick and expires the due timeouts in that bucket.
+ * <p>
+ * Callers never touch the buckets directly: new and cancelled timeouts are handed to the worker through lock-free queues, so
+ * both scheduling and cancellation are constant-time and uncontended. Timeouts may expire up to one tick late, which is
+ * acceptable for request timeouts that are orders of magnitude longer than the tick.
+ */
+@ThreadSafe
+@SdkInternalApi
+final class HashedWheelTimer {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_SHUTDOWN = 2;
+
+    /**
+     * The maximum number of new timeouts moved into the wheel per tick, so that a burst of scheduling cannot starve expiry.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final CountDownLatch startTimeInitialized = new CountDownLatch(1);
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final Thread workerThread;
+    private final long tickDurationNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private volatile long startTime;
+
+    HashedWheelTimer(ThreadFactory threadFactory, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        Validate.paramNotNull(threadFactory, "threadFactory");
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isPositive(ticksPerWheel, "ticksPerWheel");
+        int wheelSize = ticksPerWheel == 1 ? 1 : Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.tickDurationNanos = unit.toNanos(tickDuration);
+        this.workerThread = threadFactory.newThread(this::runWorker);
+    }
+
+    /**
+     * Schedule the given task to be run on the given executor once the given delay has elapsed. The worker thread is started
+     * on the first call.
+     */
+    Timeout newTimeout(Runnable task, Executor executor, long delay, TimeUnit unit) {
+        start();
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        if (delay > 0 && deadline < 0) {
+            // Guard against overflow for very long delays
+            deadline = Long.MAX_VALUE;
+        }
+        Timeout timeout = new Timeout(this, task, executor, deadline);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stop the worker thread. Timeouts that have not yet expired will never run.
+     */
+    void stop() {
+        if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+            workerThread.interrupt();
+        }
+    }
+
+    /**
+     * The number of timeouts that have been scheduled but not yet expired, cancelled or moved into the wheel.
+     */
+    int pendingTimeouts() {
+        return pendingTimeouts.size();
+    }
+
+    private void start() {
+        switch (workerState.get()) {
+            case WORKER_INIT:
+                if (workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STARTED:
+                break;
+            default:
+                throw new IllegalStateException("The timer has been stopped.");
+        }
+
+        boolean interrupted = false;
+        while (startTime == 0) {
+            try {
+                startTimeInitialized.await();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWorker() {
+        long now = System.nanoTime();
+        // Zero means "not yet started"
+        startTime = now == 0 ? 1 : now;
+        startTimeInitialized.countDown();
+
+        long tick = 0;
+        while (workerState.get() == WORKER_STARTED) {
+            if (waitForNextTick(tick) > 0) {
+                processCancelledTimeouts();
+                transferTimeoutsToBuckets(tick);
+                wheel[(int) (tick & mask)].expireTimeouts();
+                tick++;
+            }
+        }
+    }
+
+    /**
+     * Sleep until the end of the given tick, returning the elapsed time since the timer started, or a negative value if the
+     * timer was stopped.
+     */
+    private long waitForNextTick(long tick) {
+        long deadline = tickDurationNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTimeMillis = (deadline - currentTime + 999_999) / 1_000_000;
+            if (sleepTimeMillis <= 0) {
+                return currentTime;
+            }
+            try {
+                Thread.sleep(sleepTimeMillis);
+            } catch (InterruptedException e) {
+                if (workerState.get() == WORKER_SHUTDOWN) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            timeout.remove();
+        }
+    }
+
+    private void transferTimeoutsToBuckets(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expiryTick = timeout.deadline / tickDurationNanos;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            // Timeouts that are already due go into the current bucket
+            long ticks = Math.max(expiryTick, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A scheduled task. The bucket links are only accessed by the worker thread.
+     */
+    static final class Timeout implements TimeoutScheduler.ScheduledTimeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadline;
+
+        private volatile int state = INIT;
+
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout prev;
+        private Bucket bucket;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, Executor executor, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void cancel() {
+            if (STATE_UPDATER.compareAndSet(this, INIT, CANCELLED)) {
+                // Let the worker unlink the timeout, so that cancelled timeouts do not linger until their deadline
+                timer.cancelledTimeouts.add(this);
+            }
+        }
+
+        boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        private void remove() {
+            if (bucket != null) {
+                bucket.remove(this);
+            }
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, INIT, EXPIRED)) {
+                return;
+            }
+            try {
+                executor.execute(task);
+            } catch (Throwable t) {
+                log.warn(() -> "Failed to run an expired timeout task.", t);
+            }
+        }
+    }
+
+    /**
+     * A doubly-linked list of the timeouts in one slot of the wheel. Only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    // A timeout is only placed in the bucket of the tick in which it expires, so it is now due
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
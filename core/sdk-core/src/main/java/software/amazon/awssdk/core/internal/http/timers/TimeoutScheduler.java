@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Schedules the {@link TimeoutTask}s used to enforce API call and API call attempt timeouts.
+ * <p>
+ * Nearly every timeout is cancelled before it fires, so implementations should make scheduling and cancellation cheap.
+ *
+ * @see ExecutorTimeoutScheduler
+ * @see HashedWheelTimeoutScheduler
+ */
+@ThreadSafe
+@SdkInternalApi
+public interface TimeoutScheduler {
+
+    /**
+     * Schedule the given task to run once the given delay has elapsed.
+     *
+     * @param task the task to run
+     * @param delayInMillis the delay in milliseconds
+     * @return a handle that can be used to cancel the task before it runs
+     */
+    ScheduledTimeout schedule(Runnable task, long delayInMillis);
+
+    /**
+     * A task scheduled by a {@link TimeoutScheduler}.
+     */
+    interface ScheduledTimeout {
+
+        /**
+         * Best-effort attempt to prevent the task from running, if it has not started running already.
+         */
+        void cancel();
+    }
+}
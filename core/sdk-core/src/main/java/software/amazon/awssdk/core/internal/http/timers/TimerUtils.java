@@ -19,10 +19,10 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.utils.OptionalUtils;
 
@@ -47,17 +47,33 @@ public final class TimerUtils {
                                                            ScheduledExecutorService timeoutExecutor,
                                                            Supplier<SdkClientException> exceptionSupplier,
                                                            long timeoutInMills) {
+        return timeAsyncTaskIfNeeded(completableFuture, new ExecutorTimeoutScheduler(timeoutExecutor), exceptionSupplier,
+                                     timeoutInMills);
+    }
+
+    /**
+     * Schedule a {@link TimeoutTask} and exceptional completes a {@link CompletableFuture} with the provide exception
+     * if not otherwise completed before the given timeout.
+     *
+     * @param completableFuture the completableFuture to be timed
+     * @param timeoutScheduler the scheduler of the {@link TimeoutTask}
+     * @param exceptionSupplier the exception to thrown after timeout
+     * @param timeoutInMills the timeout in milliseconds.
+     * @param <T> the type of the {@link CompletableFuture}
+     * @return a {@link TimeoutTracker}
+     */
+    public static <T> TimeoutTracker timeAsyncTaskIfNeeded(CompletableFuture<T> completableFuture,
+                                                           TimeoutScheduler timeoutScheduler,
+                                                           Supplier<SdkClientException> exceptionSupplier,
+                                                           long timeoutInMills) {
         if (timeoutInMills <= 0) {
             return NoOpTimeoutTracker.INSTANCE;
         }
 
         TimeoutTask timeoutTask = new AsyncTimeoutTask(completableFuture, exceptionSupplier);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        TimeoutScheduler.ScheduledTimeout scheduledTimeout = timeoutScheduler.schedule(timeoutTask, timeoutInMills);
+        TimeoutTracker timeoutTracker = new ApiCallTimeoutTracker(timeoutTask, scheduledTimeout);
 
         completableFuture.whenComplete((o, t) -> timeoutTracker.cancel());
 
@@ -75,17 +91,41 @@ public final class TimerUtils {
     public static TimeoutTracker timeSyncTaskIfNeeded(ScheduledExecutorService timeoutExecutor,
                                                       long timeoutInMills,
                                                       Thread threadToInterrupt) {
+        return timeSyncTaskIfNeeded(new ExecutorTimeoutScheduler(timeoutExecutor), timeoutInMills, threadToInterrupt);
+    }
+
+    /**
+     * Schedule a {@link TimeoutTask} that aborts the task if not otherwise completed before the given timeout.
+     *
+     * @param timeoutScheduler the scheduler of the {@link TimeoutTask}
+     * @param timeoutInMills the timeout in milliseconds.
+     * @param threadToInterrupt the thread to interrupt
+     * @return a {@link TimeoutTracker}
+     */
+    public static TimeoutTracker timeSyncTaskIfNeeded(TimeoutScheduler timeoutScheduler,
+                                                      long timeoutInMills,
+                                                      Thread threadToInterrupt) {
         if (timeoutInMills <= 0) {
             return NoOpTimeoutTracker.INSTANCE;
         }
 
         SyncTimeoutTask timeoutTask = new SyncTimeoutTask(threadToInterrupt);
 
-        ScheduledFuture<?> scheduledFuture =
-            timeoutExecutor.schedule(timeoutTask,
-                                     timeoutInMills,
-                                     TimeUnit.MILLISECONDS);
-        return new ApiCallTimeoutTracker(timeoutTask, scheduledFuture);
+        TimeoutScheduler.ScheduledTimeout scheduledTimeout = timeoutScheduler.schedule(timeoutTask, timeoutInMills);
+        return new ApiCallTimeoutTracker(timeoutTask, scheduledTimeout);
+    }
+
+    /**
+     * Resolve the {@link TimeoutScheduler} of the client, falling back to scheduling timeouts on the client's
+     * {@link SdkClientOption#SCHEDULED_EXECUTOR_SERVICE} if none is configured. Returns null if neither is configured.
+     */
+    public static TimeoutScheduler resolveTimeoutScheduler(SdkClientConfiguration clientConfiguration) {
+        TimeoutScheduler timeoutScheduler = clientConfiguration.option(SdkClientOption.TIMEOUT_SCHEDULER);
+        if (timeoutScheduler != null) {
+            return timeoutScheduler;
+        }
+        ScheduledExecutorService executor = clientConfiguration.option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        return executor == null ? null : new ExecutorTimeoutScheduler(executor);
     }
 
     public static long resolveTimeoutInMillis(Supplier<Optional<Duration>> supplier, Duration fallback) {
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.runtime;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientRuntime;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A reference to an {@link SdkClientRuntime} that cannot be closed. The runtime is stored in the client configuration in this
+ * form so that closing a client releases its attachment to the runtime instead of closing the runtime.
+ */
+@SdkInternalApi
+public final class UnmanagedClientRuntime {
+    private final SdkClientRuntime runtime;
+
+    private UnmanagedClientRuntime(SdkClientRuntime runtime) {
+        this.runtime = Validate.paramNotNull(runtime, "runtime");
+    }
+
+    /**
+     * Wrap a runtime in a reference that cannot be closed, or return null if the runtime is null.
+     */
+    public static UnmanagedClientRuntime unmanagedClientRuntime(SdkClientRuntime runtime) {
+        return runtime == null ? null : new UnmanagedClientRuntime(runtime);
+    }
+
+    /**
+     * Unwrap the runtime, or return null if the reference is null.
+     */
+    public static SdkClientRuntime unwrapUnmanagedClientRuntime(UnmanagedClientRuntime reference) {
+        return reference == null ? null : reference.runtime;
+    }
+
+    public SdkClientRuntime runtime() {
+        return runtime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return runtime.equals(((UnmanagedClientRuntime) o).runtime);
+    }
+
+    @Override
+    public int hashCode() {
+        return runtime.hashCode();
+    }
+}
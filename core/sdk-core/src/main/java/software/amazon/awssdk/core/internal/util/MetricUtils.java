@@ -27,6 +27,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -37,6 +39,7 @@ import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.internal.IndexedMetricCollector;
 import software.amazon.awssdk.utils.Pair;
 
 /**
@@ -129,6 +132,17 @@ public final class MetricUtils {
         }
     }
 
+    /**
+     * Create the root metric collector of an API call, using the {@link IndexedMetricCollector} if the client enabled
+     * {@link SdkAdvancedClientOption#USE_INDEXED_METRIC_COLLECTOR}.
+     */
+    public static MetricCollector createApiCallMetricCollector(SdkClientConfiguration clientConfiguration) {
+        if (Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.USE_INDEXED_METRIC_COLLECTOR))) {
+            return IndexedMetricCollector.create("ApiCall");
+        }
+        return MetricCollector.create("ApiCall");
+    }
+
     public static MetricCollector createAttemptMetricsCollector(RequestExecutionContext context) {
         MetricCollector parentCollector = context.executionContext().metricCollector();
         if (parentCollector != null) {
@@ -162,6 +162,14 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> ENDPOINT_RESOLVE_DURATION =
         metric("EndpointResolveDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the endpoint used for the API call was found in the client's endpoint resolution cache. Only reported when the
+     * cache is enabled with
+     * {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE}.
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLUTION_CACHE_HIT =
+        metric("EndpointResolutionCacheHit", Boolean.class, MetricLevel.INFO);
+
 
     /**
      * The type of error that occurred for a call attempt.
@@ -15,20 +15,39 @@
 
 package software.amazon.awssdk.core.pagination.async;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of the {@link Subscription} interface that can be used to signal and cancel demand for
  * paginated response pages.
+ * <p>
+ * If prefetching is enabled, the next page is requested as soon as the previous page has been received, and up to
+ * {@code prefetchPages} pages are buffered until the subscriber signals demand for them. Without prefetching, a page is only
+ * requested when the subscriber has signaled demand for it.
  *
  * @param <ResponseT> The type of a single response page
  */
 @SdkProtectedApi
 public final class ResponsesSubscription<ResponseT> extends PaginationSubscription<ResponseT> {
 
+    private final int prefetchPages;
+
+    // The state below is only used when prefetching, and is guarded by this subscription.
+    private final Deque<ResponseT> bufferedPages = new ArrayDeque<>();
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private ResponseT lastRequestedPage;
+    private boolean pageRequestInFlight;
+    private boolean allPagesRequested;
+    private Throwable pageRequestError;
+
     private ResponsesSubscription(BuilderImpl builder) {
         super(builder);
+        this.prefetchPages = Validate.isNotNegative(builder.prefetchPages, "prefetchPages");
     }
 
     /**
@@ -40,6 +59,13 @@ public final class ResponsesSubscription<ResponseT> extends PaginationSubscripti
 
     @Override
     protected void handleRequests() {
+        if (prefetchPages > 0) {
+            // Demand is tracked by the drain loop, so later requests have to restart it.
+            stopTask();
+            drainBufferedPages();
+            return;
+        }
+
         if (!hasNextPage()) {
             completeSubscription();
             return;
@@ -69,13 +95,104 @@ public final class ResponsesSubscription<ResponseT> extends PaginationSubscripti
         }
     }
 
+    /**
+     * Deliver the buffered pages that the subscriber has demand for, then request more pages if the buffer has room. Only one
+     * thread drains at a time; calls made while another thread is draining make that thread drain again.
+     */
+    private void drainBufferedPages() {
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            deliverBufferedPages();
+            requestNextPageIfBufferHasRoom();
+            missed = drainRequests.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliverBufferedPages() {
+        while (true) {
+            ResponseT page;
+            synchronized (this) {
+                if (isTerminated() || bufferedPages.isEmpty() || outstandingRequests.get() <= 0) {
+                    break;
+                }
+                page = bufferedPages.poll();
+                outstandingRequests.getAndDecrement();
+            }
+            subscriber.onNext(page);
+        }
+
+        Throwable error;
+        boolean complete;
+        synchronized (this) {
+            if (isTerminated() || !bufferedPages.isEmpty() || pageRequestInFlight) {
+                return;
+            }
+            error = pageRequestError;
+            complete = allPagesRequested;
+        }
+
+        if (error != null) {
+            subscriber.onError(error);
+            cleanup();
+        } else if (complete) {
+            completeSubscription();
+        }
+    }
+
+    private void requestNextPageIfBufferHasRoom() {
+        ResponseT previousPage;
+        synchronized (this) {
+            if (isTerminated() || pageRequestInFlight || allPagesRequested || pageRequestError != null
+                || bufferedPages.size() >= prefetchPages) {
+                return;
+            }
+            pageRequestInFlight = true;
+            previousPage = lastRequestedPage;
+        }
+
+        nextPageFetcher.nextPage(previousPage)
+                       .whenComplete((response, error) -> {
+                           synchronized (this) {
+                               pageRequestInFlight = false;
+                               if (error != null) {
+                                   pageRequestError = error;
+                               } else if (response == null) {
+                                   allPagesRequested = true;
+                               } else {
+                                   bufferedPages.add(response);
+                                   lastRequestedPage = response;
+                                   currentPage = response;
+                                   allPagesRequested = !nextPageFetcher.hasNextPage(response);
+                               }
+                           }
+                           drainBufferedPages();
+                       });
+    }
+
     public interface Builder extends PaginationSubscription.Builder<ResponsesSubscription, Builder> {
+        /**
+         * The number of pages to request and buffer ahead of the subscriber's demand. Defaults to 0, which only requests
+         * pages that the subscriber has signaled demand for.
+         */
+        Builder prefetchPages(int prefetchPages);
+
         @Override
         ResponsesSubscription build();
     }
 
     private static final class BuilderImpl extends PaginationSubscription.BuilderImpl<ResponsesSubscription, Builder>
         implements Builder {
+        private int prefetchPages;
+
+        @Override
+        public Builder prefetchPages(int prefetchPages) {
+            this.prefetchPages = prefetchPages;
+            return this;
+        }
 
         @Override
         public ResponsesSubscription build() {
@@ -15,15 +15,25 @@
 
 package software.amazon.awssdk.core.pagination.sync;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Iterator for all response pages in a paginated operation.
  *
  * This class is used to iterate through all the pages of an operation.
  * SDK makes service calls to retrieve the next page when next() method is called.
+ * <p>
+ * If prefetching is enabled, the SDK starts retrieving up to {@code prefetchPages} pages ahead on the prefetch executor as
+ * soon as the previous page has been received, instead of waiting for the next call to next(). Pages that have been
+ * prefetched when the iteration is abandoned are discarded.
  *
  * @param <ResponseT> The type of a single response page
  */
@@ -31,6 +41,12 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 public final class PaginatedResponsesIterator<ResponseT> implements Iterator<ResponseT> {
 
     private final SyncPageFetcher<ResponseT> nextPageFetcher;
+    private final int prefetchPages;
+    private final Executor prefetchExecutor;
+
+    // Pages that are being retrieved ahead of the iteration, in order. Each page completes with null when there are no more
+    // pages after the previous one.
+    private final Deque<CompletableFuture<ResponseT>> prefetchedPages = new ArrayDeque<>();
 
     // This is null when the object is created. It gets initialized in next() method
     // where SDK make service calls.
@@ -38,6 +54,9 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
 
     private PaginatedResponsesIterator(BuilderImpl builder) {
         this.nextPageFetcher = builder.nextPageFetcher;
+        this.prefetchPages = Validate.isNotNegative(builder.prefetchPages, "prefetchPages");
+        this.prefetchExecutor = prefetchPages > 0 ? Validate.paramNotNull(builder.prefetchExecutor, "prefetchExecutor")
+                                                  : null;
     }
 
     public static Builder builder() {
@@ -55,19 +74,66 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
             throw new NoSuchElementException("No more pages left");
         }
 
-        oldResponse = nextPageFetcher.nextPage(oldResponse);
+        CompletableFuture<ResponseT> prefetchedPage = prefetchedPages.poll();
+        if (prefetchedPage != null) {
+            try {
+                oldResponse = CompletableFutureUtils.joinLikeSync(prefetchedPage);
+            } catch (RuntimeException e) {
+                // The pages after a failed page fail as well. Calling next() again retries the failed page.
+                prefetchedPages.clear();
+                throw e;
+            }
+        } else {
+            oldResponse = nextPageFetcher.nextPage(oldResponse);
+        }
 
+        prefetch();
         return oldResponse;
     }
 
+    /**
+     * Start retrieving the pages after the last requested page, until {@link #prefetchPages} pages are being retrieved ahead
+     * of the iteration.
+     */
+    private void prefetch() {
+        while (prefetchedPages.size() < prefetchPages) {
+            CompletableFuture<ResponseT> previousPage = prefetchedPages.isEmpty()
+                                                        ? CompletableFuture.completedFuture(oldResponse)
+                                                        : prefetchedPages.peekLast();
+            if (previousPage.isDone() && !previousPage.isCompletedExceptionally() && !hasNextPage(previousPage.join())) {
+                return;
+            }
+            prefetchedPages.add(previousPage.thenApplyAsync(page -> hasNextPage(page) ? nextPageFetcher.nextPage(page) : null,
+                                                            prefetchExecutor));
+        }
+    }
+
+    private boolean hasNextPage(ResponseT page) {
+        return page != null && nextPageFetcher.hasNextPage(page);
+    }
+
     public interface Builder {
         Builder nextPageFetcher(SyncPageFetcher nextPageFetcher);
 
+        /**
+         * The number of pages to retrieve ahead of the iteration. Defaults to 0, which retrieves each page when next() is
+         * called.
+         */
+        Builder prefetchPages(int prefetchPages);
+
+        /**
+         * The executor used to retrieve pages ahead of the iteration. Required when {@link #prefetchPages(int)} is greater
+         * than 0.
+         */
+        Builder prefetchExecutor(Executor prefetchExecutor);
+
         PaginatedResponsesIterator build();
     }
 
     private static final class BuilderImpl implements Builder {
         private SyncPageFetcher nextPageFetcher;
+        private int prefetchPages;
+        private Executor prefetchExecutor;
 
         protected BuilderImpl() {
         }
@@ -78,6 +144,18 @@ public final class PaginatedResponsesIterator<ResponseT> implements Iterator<Res
             return this;
         }
 
+        @Override
+        public Builder prefetchPages(int prefetchPages) {
+            this.prefetchPages = prefetchPages;
+            return this;
+        }
+
+        @Override
+        public Builder prefetchExecutor(Executor prefetchExecutor) {
+            this.prefetchExecutor = prefetchExecutor;
+            return this;
+        }
+
         @Override
         public PaginatedResponsesIterator build() {
             return new PaginatedResponsesIterator(this);
@@ -35,6 +35,7 @@ public class CompressionConfigurationTest {
             CompressionConfiguration.builder()
                                     .requestCompressionEnabled(true)
                                     .minimumCompressionThresholdInBytes(99999)
+                                    .compressionLevel(9)
                                     .build();
 
         CompressionConfiguration another = configuration.toBuilder().build();
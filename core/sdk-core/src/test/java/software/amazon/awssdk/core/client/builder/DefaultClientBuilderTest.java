@@ -23,10 +23,12 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USE_VIRTUAL_THREADS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ADDITIONAL_HTTP_HEADERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_TIMEOUT;
@@ -54,8 +56,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -69,6 +74,7 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientRuntime;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
@@ -83,6 +89,7 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.VirtualThreads;
 
 /**
  * Validate the functionality of the {@link SdkDefaultClientBuilder}.
@@ -332,6 +339,36 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, times(1)).buildWithDefaults(any());
     }
 
+    @Test
+    public void useVirtualThreads_asyncClient_sdkExecutorsUseVirtualThreadsWhenSupported() throws Exception {
+        TestAsyncClient client = testAsyncClientBuilder()
+            .overrideConfiguration(c -> c.putAdvancedOption(USE_VIRTUAL_THREADS, true))
+            .build();
+
+        Executor futureCompletionExecutor = client.clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR);
+        ScheduledExecutorService scheduledExecutor = client.clientConfiguration.option(SCHEDULED_EXECUTOR_SERVICE);
+        Thread completionThread = CompletableFuture.supplyAsync(Thread::currentThread, futureCompletionExecutor)
+                                                   .get(10, TimeUnit.SECONDS);
+        Thread scheduledThread = scheduledExecutor.schedule(Thread::currentThread, 0, TimeUnit.MILLISECONDS)
+                                                  .get(10, TimeUnit.SECONDS);
+
+        assertThat(VirtualThreads.isVirtual(completionThread)).isEqualTo(VirtualThreads.isSupported());
+        assertThat(VirtualThreads.isVirtual(scheduledThread)).isEqualTo(VirtualThreads.isSupported());
+        assertThat(completionThread.getName()).startsWith("sdk-async-response-");
+        assertThat(scheduledThread.getName()).startsWith("sdk-ScheduledExecutor-");
+    }
+
+    @Test
+    public void useVirtualThreadsNotSet_asyncClient_sdkExecutorsUsePlatformThreads() throws Exception {
+        TestAsyncClient client = testAsyncClientBuilder().build();
+
+        Executor futureCompletionExecutor = client.clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR);
+        Thread completionThread = CompletableFuture.supplyAsync(Thread::currentThread, futureCompletionExecutor)
+                                                   .get(10, TimeUnit.SECONDS);
+
+        assertThat(VirtualThreads.isVirtual(completionThread)).isFalse();
+    }
+
     @Test
     public void clientFactoryProvided_ClientIsManagedBySdk() {
         TestClient client = testClientBuilder().httpClientBuilder((SdkHttpClient.Builder) serviceDefaults -> {
@@ -378,6 +415,78 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void clientRuntimeProvided_clientsShareRuntimeHttpClient() {
+        SdkHttpClient httpClient = mock(SdkHttpClient.class);
+        SdkClientRuntime runtime = SdkClientRuntime.builder()
+                                                   .httpClientBuilder((SdkHttpClient.Builder) serviceDefaults -> {
+                                                       assertThat(serviceDefaults).isEqualTo(MOCK_DEFAULTS);
+                                                       return httpClient;
+                                                   })
+                                                   .build();
+
+        TestClient first = testClientBuilder().overrideConfiguration(c -> c.clientRuntime(runtime)).build();
+        TestClient second = testClientBuilder().overrideConfiguration(c -> c.clientRuntime(runtime)).build();
+        runtime.close();
+
+        assertThat(first.clientConfiguration.option(SdkClientOption.SYNC_HTTP_CLIENT))
+                .isInstanceOf(SdkDefaultClientBuilder.NonManagedSdkHttpClient.class);
+        assertThat(runtime.attachedClients()).isEqualTo(2);
+        verify(defaultHttpClientFactory, never()).buildWithDefaults(any());
+
+        first.clientConfiguration.close();
+        verify(httpClient, never()).close();
+
+        second.clientConfiguration.close();
+        assertThat(runtime.attachedClients()).isZero();
+        verify(httpClient).close();
+    }
+
+    @Test
+    public void clientRuntimeProvided_asyncClientsShareRuntimeExecutors() throws Exception {
+        SdkAsyncHttpClient httpClient = mock(SdkAsyncHttpClient.class);
+        SdkClientRuntime runtime = SdkClientRuntime.builder()
+                                                   .asyncHttpClientBuilder((SdkAsyncHttpClient.Builder) serviceDefaults -> httpClient)
+                                                   .build();
+
+        TestAsyncClient first = testAsyncClientBuilder().overrideConfiguration(c -> c.clientRuntime(runtime)).build();
+        TestAsyncClient second = testAsyncClientBuilder().overrideConfiguration(c -> c.clientRuntime(runtime)).build();
+        ScheduledExecutorService scheduledExecutor = runtime.scheduledExecutorService();
+
+        Thread completionThread =
+            CompletableFuture.supplyAsync(Thread::currentThread, first.clientConfiguration.option(FUTURE_COMPLETION_EXECUTOR))
+                             .get(10, TimeUnit.SECONDS);
+        Thread scheduledThread =
+            second.clientConfiguration.option(SCHEDULED_EXECUTOR_SERVICE)
+                                      .schedule(Thread::currentThread, 0, TimeUnit.MILLISECONDS)
+                                      .get(10, TimeUnit.SECONDS);
+        assertThat(completionThread.getName()).startsWith("sdk-runtime-async-response-");
+        assertThat(scheduledThread.getName()).startsWith("sdk-runtime-ScheduledExecutor-");
+        verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
+
+        first.clientConfiguration.close();
+        second.clientConfiguration.close();
+        assertThat(scheduledExecutor.isShutdown()).isFalse();
+        verify(httpClient, never()).close();
+
+        runtime.close();
+        assertThat(scheduledExecutor.isShutdown()).isTrue();
+        verify(httpClient).close();
+    }
+
+    @Test
+    public void clientRuntimeProvided_virtualThreadsEnabled_throwsException() {
+        SdkClientRuntime runtime = SdkClientRuntime.create();
+
+        assertThatThrownBy(() -> testAsyncClientBuilder().overrideConfiguration(c -> c.clientRuntime(runtime)
+                                                                                       .putAdvancedOption(USE_VIRTUAL_THREADS,
+                                                                                                          true))
+                                                         .build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Virtual threads");
+        runtime.close();
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         // Mutating properties might not have bean equivalents. This is probably fine, since very few customers require
@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+public class SdkClientRuntimeTest {
+    private SdkHttpClient httpClient;
+    private SdkHttpClient.Builder<?> httpClientBuilder;
+    private SdkAsyncHttpClient asyncHttpClient;
+    private SdkAsyncHttpClient.Builder<?> asyncHttpClientBuilder;
+    private SdkClientRuntime runtime;
+
+    @BeforeEach
+    public void setup() {
+        httpClient = mock(SdkHttpClient.class);
+        httpClientBuilder = mock(SdkHttpClient.Builder.class);
+        when(httpClientBuilder.buildWithDefaults(AttributeMap.empty())).thenReturn(httpClient);
+
+        asyncHttpClient = mock(SdkAsyncHttpClient.class);
+        asyncHttpClientBuilder = mock(SdkAsyncHttpClient.Builder.class);
+        when(asyncHttpClientBuilder.buildWithDefaults(AttributeMap.empty())).thenReturn(asyncHttpClient);
+
+        runtime = SdkClientRuntime.builder()
+                                  .httpClientBuilder(httpClientBuilder)
+                                  .asyncHttpClientBuilder(asyncHttpClientBuilder)
+                                  .build();
+    }
+
+    @Test
+    public void resources_createdOnceWhenFirstNeeded() {
+        verify(httpClientBuilder, never()).buildWithDefaults(AttributeMap.empty());
+
+        assertThat(runtime.httpClient(AttributeMap.empty())).isSameAs(httpClient).isSameAs(runtime.httpClient(AttributeMap.empty()));
+        assertThat(runtime.asyncHttpClient(AttributeMap.empty())).isSameAs(asyncHttpClient).isSameAs(runtime.asyncHttpClient(AttributeMap.empty()));
+        assertThat(runtime.scheduledExecutorService()).isSameAs(runtime.scheduledExecutorService());
+        assertThat(runtime.futureCompletionExecutor()).isSameAs(runtime.futureCompletionExecutor());
+        verify(httpClientBuilder).buildWithDefaults(AttributeMap.empty());
+        verify(asyncHttpClientBuilder).buildWithDefaults(AttributeMap.empty());
+
+        runtime.close();
+    }
+
+    @Test
+    public void httpClient_differentDefaults_createsHttpClientPerDefaults() {
+        AttributeMap http2Defaults = AttributeMap.builder()
+                                                 .put(SdkHttpConfigurationOption.PROTOCOL, Protocol.HTTP2)
+                                                 .build();
+        SdkAsyncHttpClient http2Client = mock(SdkAsyncHttpClient.class);
+        when(asyncHttpClientBuilder.buildWithDefaults(http2Defaults)).thenReturn(http2Client);
+
+        assertThat(runtime.asyncHttpClient(AttributeMap.empty())).isSameAs(asyncHttpClient);
+        assertThat(runtime.asyncHttpClient(http2Defaults)).isSameAs(http2Client);
+        assertThat(runtime.asyncHttpClient(AttributeMap.builder()
+                                                       .put(SdkHttpConfigurationOption.PROTOCOL, Protocol.HTTP2)
+                                                       .build()))
+            .isSameAs(http2Client);
+        verify(asyncHttpClientBuilder).buildWithDefaults(http2Defaults);
+
+        runtime.close();
+        verify(asyncHttpClient).close();
+        verify(http2Client).close();
+    }
+
+    @Test
+    public void close_noAttachedClients_shutsDownResources() {
+        ScheduledExecutorService scheduledExecutorService = runtime.scheduledExecutorService();
+        runtime.httpClient(AttributeMap.empty());
+        runtime.asyncHttpClient(AttributeMap.empty());
+
+        runtime.close();
+
+        assertThat(scheduledExecutorService.isShutdown()).isTrue();
+        verify(httpClient).close();
+        verify(asyncHttpClient).close();
+    }
+
+    @Test
+    public void close_attachedClients_shutsDownResourcesWhenLastClientReleased() {
+        SdkAutoCloseable first = runtime.attach();
+        SdkAutoCloseable second = runtime.attach();
+        ScheduledExecutorService scheduledExecutorService = runtime.scheduledExecutorService();
+        runtime.httpClient(AttributeMap.empty());
+        assertThat(runtime.attachedClients()).isEqualTo(2);
+
+        runtime.close();
+        first.close();
+        assertThat(runtime.attachedClients()).isEqualTo(1);
+        assertThat(scheduledExecutorService.isShutdown()).isFalse();
+        verify(httpClient, never()).close();
+
+        second.close();
+        assertThat(runtime.attachedClients()).isZero();
+        assertThat(scheduledExecutorService.isShutdown()).isTrue();
+        verify(httpClient).close();
+    }
+
+    @Test
+    public void release_calledTwice_onlyReleasesOneReference() {
+        SdkAutoCloseable first = runtime.attach();
+        SdkAutoCloseable second = runtime.attach();
+        runtime.close();
+        runtime.close();
+
+        first.close();
+        first.close();
+
+        assertThat(runtime.attachedClients()).isEqualTo(1);
+        second.close();
+        assertThat(runtime.attachedClients()).isZero();
+    }
+
+    @Test
+    public void attach_afterResourcesShutDown_throwsException() {
+        runtime.close();
+
+        assertThatThrownBy(runtime::attach).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> runtime.httpClient(AttributeMap.empty())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void attach_afterRuntimeClosedWithAttachedClients_succeeds() {
+        SdkAutoCloseable first = runtime.attach();
+        runtime.close();
+
+        SdkAutoCloseable second = runtime.attach();
+        first.close();
+        assertThat(runtime.httpClient(AttributeMap.empty())).isSameAs(httpClient);
+        second.close();
+        verify(httpClient).close();
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.interceptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 
@@ -80,4 +81,83 @@ public class ExecutionAttributesTest {
 
         assertThat(executionAttributes1.hashCode()).isEqualTo(executionAttributes2.hashCode());
     }
+
+    @Test
+    public void copy_modifiedAfterCopy_doesNotAffectOtherCopy() {
+        ExecutionAttributes original = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttributes copy = original.copy();
+
+        original.putAttribute(ATTR_2, "world");
+        copy.putAttribute(ATTR_1, "goodbye");
+
+        assertThat(original.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(original.getAttribute(ATTR_2)).isEqualTo("world");
+        assertThat(copy.getAttribute(ATTR_1)).isEqualTo("goodbye");
+        assertThat(copy.getAttribute(ATTR_2)).isNull();
+    }
+
+    @Test
+    public void toBuilder_modifiedAfterBuild_doesNotAffectBuiltAttributes() {
+        ExecutionAttributes.Builder builder = new ExecutionAttributes().putAttribute(ATTR_1, "hello").toBuilder();
+        ExecutionAttributes built = builder.build();
+
+        builder.put(ATTR_1, "goodbye");
+
+        assertThat(built.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(builder.build().getAttribute(ATTR_1)).isEqualTo("goodbye");
+    }
+
+    @Test
+    public void unmodifiableExecutionAttributes_isSnapshotOfOriginal() {
+        ExecutionAttributes original = new ExecutionAttributes().putAttribute(ATTR_1, "hello");
+        ExecutionAttributes unmodifiable = ExecutionAttributes.unmodifiableExecutionAttributes(original);
+
+        original.putAttribute(ATTR_1, "goodbye");
+
+        assertThat(unmodifiable.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThatThrownBy(() -> unmodifiable.putAttribute(ATTR_1, "goodbye"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void merge_keepsHigherPrecedenceValues() {
+        ExecutionAttributes higher = new ExecutionAttributes().putAttribute(ATTR_1, "higher");
+        ExecutionAttributes lower = new ExecutionAttributes().putAttribute(ATTR_1, "lower").putAttribute(ATTR_2, "lower");
+
+        ExecutionAttributes merged = higher.merge(lower);
+
+        assertThat(merged.getAttribute(ATTR_1)).isEqualTo("higher");
+        assertThat(merged.getAttribute(ATTR_2)).isEqualTo("lower");
+        assertThat(higher.getAttribute(ATTR_2)).isNull();
+    }
+
+    @Test
+    public void putAbsentAttributes_onlyAddsAbsentAttributes() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(ATTR_1, "higher");
+        ExecutionAttributes lower = new ExecutionAttributes().putAttribute(ATTR_1, "lower").putAttribute(ATTR_2, "lower");
+
+        attributes.putAbsentAttributes(lower);
+
+        assertThat(attributes.getAttribute(ATTR_1)).isEqualTo("higher");
+        assertThat(attributes.getAttribute(ATTR_2)).isEqualTo("lower");
+    }
+
+    @Test
+    public void getAttributes_containsSetAttributes() {
+        ExecutionAttributes attributes = new ExecutionAttributes().putAttribute(ATTR_1, "hello")
+                                                                  .putAttribute(ATTR_2, "world")
+                                                                  .putAttribute(ATTR_2, null);
+
+        assertThat(attributes.getAttributes()).containsOnlyKeys(ATTR_1).containsEntry(ATTR_1, "hello");
+    }
+
+    @Test
+    public void attributeCreatedAfterAttributes_canBeStored() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        ExecutionAttribute<String> lateAttribute = new ExecutionAttribute<>("ExecutionAttributesTest.LateAttribute");
+
+        attributes.putAttribute(lateAttribute, "late");
+
+        assertThat(attributes.getAttribute(lateAttribute)).isEqualTo("late");
+    }
 }
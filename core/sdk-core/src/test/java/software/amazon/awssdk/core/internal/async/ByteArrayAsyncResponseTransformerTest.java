@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+public class ByteArrayAsyncResponseTransformerTest {
+    private static final String CONTENT = "Hello, world! This is the response body.";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "0", "5", "40", "100", "invalid"})
+    public void toBytes_anyContentLength_returnsAllBytes(String contentLength) {
+        SdkHttpResponse.Builder httpResponse = SdkHttpResponse.builder().statusCode(200);
+        if (!contentLength.isEmpty()) {
+            httpResponse.putHeader("Content-Length", contentLength);
+        }
+
+        ResponseBytes<SdkResponse> result = transform(VoidSdkResponse.builder().sdkHttpResponse(httpResponse.build()).build(),
+                                                      "Hello, ", "world! ", "This is the ", "response body.");
+
+        assertThat(result.asUtf8String()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    public void toBytes_noHttpResponse_returnsAllBytes() {
+        ResponseBytes<SdkResponse> result = transform(VoidSdkResponse.builder().build(), "Hello, ", "world!");
+
+        assertThat(result.asUtf8String()).isEqualTo("Hello, world!");
+    }
+
+    @Test
+    public void toBytes_emptyBody_returnsEmptyArray() {
+        SdkHttpResponse httpResponse = SdkHttpResponse.builder().statusCode(200).putHeader("Content-Length", "0").build();
+
+        ResponseBytes<SdkResponse> result = transform(VoidSdkResponse.builder().sdkHttpResponse(httpResponse).build());
+
+        assertThat(result.asByteArrayUnsafe()).isEmpty();
+    }
+
+    @Test
+    public void toBytes_doesNotConsumeBuffers() {
+        ByteBuffer buffer = ByteBuffer.wrap(CONTENT.getBytes(StandardCharsets.UTF_8));
+        SdkHttpResponse httpResponse = SdkHttpResponse.builder().statusCode(200).putHeader("Content-Length", "40").build();
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(VoidSdkResponse.builder().sdkHttpResponse(httpResponse).build());
+
+        transformer.onStream(SdkPublisher.adapt(Flowable.just(buffer)));
+
+        assertThat(future.join().asUtf8String()).isEqualTo(CONTENT);
+        assertThat(buffer.remaining()).isEqualTo(40);
+    }
+
+    @Test
+    public void toBytes_streamFails_completesExceptionally() {
+        SdkHttpResponse httpResponse = SdkHttpResponse.builder().statusCode(200).putHeader("Content-Length", "40").build();
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(VoidSdkResponse.builder().sdkHttpResponse(httpResponse).build());
+
+        RuntimeException error = new RuntimeException("boom");
+        transformer.onStream(SdkPublisher.adapt(Flowable.<ByteBuffer>error(error)));
+
+        assertThatThrownBy(future::join).isInstanceOf(CompletionException.class).hasCause(error);
+    }
+
+    private static ResponseBytes<SdkResponse> transform(SdkResponse response, String... chunks) {
+        ByteArrayAsyncResponseTransformer<SdkResponse> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<SdkResponse>> future = transformer.prepare();
+        transformer.onResponse(response);
+        transformer.onStream(SdkPublisher.adapt(Flowable.fromArray(chunks)
+                                                        .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)))));
+        return future.join();
+    }
+}
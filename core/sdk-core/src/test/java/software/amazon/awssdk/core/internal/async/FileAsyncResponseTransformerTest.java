@@ -17,6 +17,8 @@ package software.amazon.awssdk.core.internal.async;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior.DELETE;
 import static software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior.LEAVE;
 
@@ -47,11 +49,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.SdkHttpResponse;
 
 /**
  * Tests for {@link FileAsyncResponseTransformer}.
@@ -315,6 +322,152 @@ class FileAsyncResponseTransformerTest {
         assertThat(future).isCompletedExceptionally();
     }
 
+    @Test
+    void split_partsStreamedOutOfOrder_writesEachPartAtItsContentRange() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        FileAsyncResponseTransformer<SdkResponse> transformer = new FileAsyncResponseTransformer<>(testPath);
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            transformer.split(SplittingTransformerConfiguration.builder()
+                                                              .bufferSizeInBytes(1024L)
+                                                              .parallelSplit(true)
+                                                              .build());
+        assertThat(split.parallelSplitSupported()).isTrue();
+
+        List<AsyncResponseTransformer<SdkResponse, SdkResponse>> parts = new ArrayList<>();
+        Subscription[] subscription = new Subscription[1];
+        split.publisher().subscribe(new Subscriber<AsyncResponseTransformer<SdkResponse, SdkResponse>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+                s.request(3);
+            }
+
+            @Override
+            public void onNext(AsyncResponseTransformer<SdkResponse, SdkResponse> part) {
+                parts.add(part);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        SdkResponse firstResponse = rangeResponse("bytes 0-3/10");
+        List<CompletableFuture<SdkResponse>> partFutures = new ArrayList<>();
+        parts.forEach(part -> partFutures.add(part.prepare()));
+        parts.get(0).onResponse(firstResponse);
+        parts.get(2).onResponse(rangeResponse("bytes 8-9/10"));
+        parts.get(2).onStream(testPublisher("89"));
+        parts.get(1).onResponse(rangeResponse("bytes 4-7/10"));
+        parts.get(1).onStream(testPublisher("4567"));
+        parts.get(0).onStream(testPublisher("0123"));
+        CompletableFuture.allOf(partFutures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        assertThat(split.resultFuture()).isNotDone();
+        subscription[0].cancel();
+        assertThat(split.resultFuture().get(10, TimeUnit.SECONDS)).isSameAs(firstResponse);
+        assertThat(testPath).hasContent("0123456789");
+    }
+
+    @Test
+    void split_partWithoutContentRange_completesResultExceptionally() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        FileAsyncResponseTransformer<SdkResponse> transformer = new FileAsyncResponseTransformer<>(testPath);
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            transformer.split(SplittingTransformerConfiguration.builder()
+                                                              .bufferSizeInBytes(1024L)
+                                                              .parallelSplit(true)
+                                                              .build());
+
+        List<AsyncResponseTransformer<SdkResponse, SdkResponse>> parts = new ArrayList<>();
+        split.publisher().subscribe(new Subscriber<AsyncResponseTransformer<SdkResponse, SdkResponse>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(2);
+            }
+
+            @Override
+            public void onNext(AsyncResponseTransformer<SdkResponse, SdkResponse> part) {
+                parts.add(part);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        parts.forEach(AsyncResponseTransformer::prepare);
+        parts.get(0).onResponse(rangeResponse("bytes 0-3/10"));
+        parts.get(1).onResponse(mock(SdkResponse.class));
+        parts.get(1).onStream(testPublisher("4567"));
+
+        assertThat(split.resultFuture()).failsWithin(10, TimeUnit.SECONDS)
+                                        .withThrowableOfType(ExecutionException.class)
+                                        .withMessageContaining("Content-Range");
+    }
+
+    @Test
+    void split_nonParallelSplitWithoutContentRange_writesPartsInOrder() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        FileAsyncResponseTransformer<SdkResponse> transformer = new FileAsyncResponseTransformer<>(testPath);
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            transformer.split(SplittingTransformerConfiguration.builder().bufferSizeInBytes(1024L).build());
+
+        List<AsyncResponseTransformer<SdkResponse, SdkResponse>> parts = new ArrayList<>();
+        Subscription[] subscription = new Subscription[1];
+        split.publisher().subscribe(new Subscriber<AsyncResponseTransformer<SdkResponse, SdkResponse>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(AsyncResponseTransformer<SdkResponse, SdkResponse> part) {
+                parts.add(part);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        SdkResponse firstResponse = mock(SdkResponse.class);
+        String[] content = {"0123", "4567", "89"};
+        for (int i = 0; i < content.length; i++) {
+            subscription[0].request(1);
+            AsyncResponseTransformer<SdkResponse, SdkResponse> part = parts.get(i);
+            CompletableFuture<SdkResponse> partFuture = part.prepare();
+            part.onResponse(i == 0 ? firstResponse : mock(SdkResponse.class));
+            part.onStream(testPublisher(content[i]));
+            partFuture.get(10, TimeUnit.SECONDS);
+        }
+        subscription[0].cancel();
+
+        assertThat(split.resultFuture().get(10, TimeUnit.SECONDS)).isSameAs(firstResponse);
+        assertThat(testPath).hasContent("0123456789");
+    }
+
+    private static SdkResponse rangeResponse(String contentRange) {
+        SdkResponse response = mock(SdkResponse.class);
+        when(response.sdkHttpResponse()).thenReturn(SdkHttpResponse.builder()
+                                                                    .statusCode(206)
+                                                                    .putHeader("Content-Range", contentRange)
+                                                                    .build());
+        return response;
+    }
+
     private static void stubSuccessfulStreaming(String newContent, FileAsyncResponseTransformer<String> transformer) throws Exception {
         CompletableFuture<String> future = transformer.prepare();
         transformer.onResponse("foobar");
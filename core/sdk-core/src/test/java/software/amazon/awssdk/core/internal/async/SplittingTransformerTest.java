@@ -20,6 +20,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -32,6 +35,7 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
 
 class SplittingTransformerTest {
     private static final Logger log = Logger.loggerFor(SplittingTransformerTest.class);
@@ -117,6 +121,87 @@ class SplittingTransformerTest {
         assertThat(upstreamTestTransformer.contentAsString()).isEqualTo(expected);
     }
 
+    @Test
+    void whenIndividualTransformersStreamOutOfOrder_upstreamReceivesDataInPublishedOrder() {
+        UpstreamTestTransformer upstreamTestTransformer = new UpstreamTestTransformer();
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        SplittingTransformer<TestResultObject, Object> split =
+            SplittingTransformer.<TestResultObject, Object>builder()
+                                .upstreamResponseTransformer(upstreamTestTransformer)
+                                .maximumBufferSizeInBytes(1024 * 1024 * 32L)
+                                .resultFuture(future)
+                                .build();
+        List<AsyncResponseTransformer<TestResultObject, TestResultObject>> transformers = new ArrayList<>();
+        Subscription[] subscription = new Subscription[1];
+        split.subscribe(new Subscriber<AsyncResponseTransformer<TestResultObject, TestResultObject>>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription[0] = s;
+                s.request(4);
+            }
+
+            @Override
+            public void onNext(AsyncResponseTransformer<TestResultObject, TestResultObject> transformer) {
+                transformers.add(transformer);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail("unexpected onError", t);
+            }
+
+            @Override
+            public void onComplete() {
+                // do nothing, test only
+            }
+        });
+
+        List<CompletableFuture<TestResultObject>> partFutures =
+            transformers.stream().map(AsyncResponseTransformer::prepare).collect(Collectors.toList());
+        for (int i = transformers.size() - 1; i >= 0; i--) {
+            transformers.get(i).onResponse(new TestResultObject("container msg: " + i));
+            transformers.get(i).onStream(AsyncRequestBody.fromString(String.format("This is the body of %d.", i)));
+        }
+
+        assertThat(partFutures).allSatisfy(partFuture -> assertThat(partFuture).isCompleted());
+        subscription[0].cancel();
+        future.join();
+        String expected = "This is the body of 0.This is the body of 1.This is the body of 2.This is the body of 3.";
+        assertThat(upstreamTestTransformer.contentAsString()).isEqualTo(expected);
+    }
+
+    @Test
+    void whenLaterPartCompletesFirst_itsFutureCompletesOnceEarlierPartsComplete() {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        SplittingTransformer<TestResultObject, Object> split =
+            SplittingTransformer.<TestResultObject, Object>builder()
+                                .upstreamResponseTransformer(new UpstreamTestTransformer())
+                                .maximumBufferSizeInBytes(1024L)
+                                .resultFuture(future)
+                                .build();
+        List<AsyncResponseTransformer<TestResultObject, TestResultObject>> transformers = new ArrayList<>();
+        split.subscribe(new RequestingTestSubscriber(2) {
+            @Override
+            public void onNext(AsyncResponseTransformer<TestResultObject, TestResultObject> transformer) {
+                transformers.add(transformer);
+            }
+        });
+
+        CompletableFuture<TestResultObject> first = transformers.get(0).prepare();
+        CompletableFuture<TestResultObject> second = transformers.get(1).prepare();
+        SimplePublisher<ByteBuffer> firstBody = new SimplePublisher<>();
+        transformers.get(0).onResponse(new TestResultObject("first"));
+        transformers.get(0).onStream(SdkPublisher.adapt(firstBody));
+        transformers.get(1).onResponse(new TestResultObject("second"));
+        transformers.get(1).onStream(AsyncRequestBody.fromString("second"));
+
+        assertThat(second).isNotDone();
+        firstBody.send(ByteBuffer.wrap("first".getBytes(StandardCharsets.UTF_8)));
+        firstBody.complete();
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+
     @Test
     void negativeBufferSize_shouldThrowIllegalArgument() {
             assertThatThrownBy(() -> SplittingTransformer.<TestResultObject, Object>builder()
@@ -0,0 +1,156 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.capacity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.AdaptiveConcurrencyConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+public class AdaptiveConcurrencyLimiterTest {
+    private static final long RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    public void acquire_belowLimit_completesImmediately() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10, 10);
+
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void acquire_atLimit_waitsUntilRelease() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 10, 10);
+        limiter.acquire();
+
+        CompletableFuture<Void> second = limiter.acquire();
+        CompletableFuture<Void> third = limiter.acquire();
+        assertThat(second).isNotDone();
+        assertThat(limiter.queued()).isEqualTo(2);
+
+        limiter.release();
+        assertThat(second).isCompleted();
+        assertThat(third).isNotDone();
+
+        limiter.release();
+        assertThat(third).isCompleted();
+        assertThat(limiter.queued()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    public void acquire_queueFull_rejects() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 10, 1);
+        limiter.acquire();
+        limiter.acquire();
+
+        CompletableFuture<Void> rejected = limiter.acquire();
+
+        assertThatThrownBy(rejected::join).isInstanceOf(CompletionException.class)
+                                          .hasCauseInstanceOf(SdkClientException.class);
+        assertThat(limiter.queued()).isEqualTo(1);
+    }
+
+    @Test
+    public void cancel_removesWaiterFromQueue() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1, 10, 10);
+        limiter.acquire();
+        CompletableFuture<Void> cancelled = limiter.acquire();
+        CompletableFuture<Void> next = limiter.acquire();
+
+        limiter.cancel(cancelled);
+        limiter.release();
+
+        assertThat(cancelled).isNotDone();
+        assertThat(next).isCompleted();
+        assertThat(limiter.queued()).isZero();
+    }
+
+    @Test
+    public void release_steadyLatencyAtLimit_increasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1, 100, 1000);
+
+        runSaturated(limiter, 200, RTT);
+
+        assertThat(limiter.limit()).isEqualTo(100);
+    }
+
+    @Test
+    public void release_risingLatency_decreasesLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(50, 1, 100, 1000);
+        runSaturated(limiter, 50, RTT);
+        int limitBefore = limiter.limit();
+
+        runSaturated(limiter, 1, RTT * 10);
+
+        assertThat(limiter.limit()).isLessThan(limitBefore);
+    }
+
+    @Test
+    public void release_dropped_decreasesLimitToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(50, 5, 100, 1000);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(0, true);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    public void release_underused_doesNotIncreaseLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20, 1, 100, 1000);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+            limiter.release(RTT, false);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(20);
+    }
+
+    private static void runSaturated(AdaptiveConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            List<CompletableFuture<Void>> permits = new ArrayList<>();
+            int limit = limiter.limit();
+            for (int i = 0; i < limit; i++) {
+                permits.add(limiter.acquire());
+            }
+            for (CompletableFuture<Void> permit : permits) {
+                assertThat(permit).isCompleted();
+                limiter.release(rttNanos, false);
+            }
+        }
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit, int maxQueuedRequests) {
+        return new AdaptiveConcurrencyLimiter(AdaptiveConcurrencyConfiguration.builder()
+                                                                              .initialLimit(initialLimit)
+                                                                              .minLimit(minLimit)
+                                                                              .maxLimit(maxLimit)
+                                                                              .maxQueuedRequests(maxQueuedRequests)
+                                                                              .build());
+    }
+}
@@ -20,19 +20,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.zip.Checksum;
 import org.junit.Test;
-import software.amazon.awssdk.core.internal.checksums.factory.CrtBasedChecksumProvider;
+import software.amazon.awssdk.checksums.internal.CrcChecksumProvider;
 
 public class CrtBasedChecksumTest {
 
-    @Test
-    public void doNot_loadCrc32CrtPathClassesInCore() {
-        Checksum checksum = CrtBasedChecksumProvider.createCrc32();
-        assertThat(checksum).isNull();
-    }
-
     @Test
     public void doNot_loadCrc32_C_CrtPathClassesInCore() {
-        Checksum checksum = CrtBasedChecksumProvider.createCrc32C();
+        Checksum checksum = CrcChecksumProvider.createCrtCrc32C();
         assertThat(checksum).isNull();
     }
 }
@@ -22,9 +22,15 @@ import static org.hamcrest.core.Is.is;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
 
 public class GzipCompressorTest {
     private static final Compressor gzipCompressor = new GzipCompressor();
@@ -53,4 +59,102 @@ public class GzipCompressorTest {
 
         assertThat(decompressedData, is(originalData));
     }
+
+    @Test
+    public void compressedStream_decompressesCorrectly() throws IOException {
+        byte[] originalData = largeCompressibleData();
+
+        byte[] compressedData = IoUtils.toByteArray(gzipCompressor.compress(new ByteArrayInputStream(originalData)));
+
+        assertThat(compressedData.length, lessThan(originalData.length));
+        assertThat(decompress(compressedData), is(originalData));
+    }
+
+    @Test
+    public void compressedStream_matchesCompressedBytes() throws IOException {
+        byte[] originalData = largeCompressibleData();
+
+        byte[] streamCompressedData = IoUtils.toByteArray(gzipCompressor.compress(new ByteArrayInputStream(originalData)));
+
+        assertThat(streamCompressedData, is(gzipCompressor.compress(originalData)));
+    }
+
+    @Test
+    public void compressedStream_emptyInput_decompressesToEmpty() throws IOException {
+        byte[] compressedData = IoUtils.toByteArray(gzipCompressor.compress(new ByteArrayInputStream(new byte[0])));
+
+        assertThat(decompress(compressedData), is(new byte[0]));
+    }
+
+    @Test
+    public void compressedStream_close_closesSourceStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        InputStream source = new ByteArrayInputStream(largeCompressibleData()) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        gzipCompressor.compress(source).close();
+
+        assertThat(closed.get(), is(true));
+    }
+
+    @Test
+    public void compressedByteBuffer_decompressesCorrectly_andKeepsPosition() throws IOException {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(originalData.length + 10);
+        buffer.position(5);
+        buffer.put(originalData);
+        buffer.position(5);
+        buffer.limit(5 + originalData.length);
+
+        ByteBuffer compressed = gzipCompressor.compress(buffer);
+
+        assertThat(buffer.position(), is(5));
+        assertThat(decompress(BinaryUtils.copyBytesFrom(compressed)), is(originalData));
+    }
+
+    @Test
+    public void compressedData_repeatedCalls_produceSameOutput() {
+        byte[] originalData = largeCompressibleData();
+
+        byte[] first = gzipCompressor.compress(originalData);
+        gzipCompressor.compress(COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8));
+        byte[] second = gzipCompressor.compress(originalData);
+
+        assertThat(second, is(first));
+    }
+
+    @Test
+    public void compressionLevel_isApplied() throws IOException {
+        byte[] originalData = largeCompressibleData();
+
+        byte[] fastest = new GzipCompressor(Deflater.BEST_SPEED).compress(originalData);
+        byte[] smallest = new GzipCompressor(Deflater.BEST_COMPRESSION).compress(originalData);
+
+        assertThat(decompress(fastest), is(originalData));
+        assertThat(decompress(smallest), is(originalData));
+        assertThat(smallest.length, lessThan(fastest.length));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compressionLevel_outOfRange_throws() {
+        new GzipCompressor(10);
+    }
+
+    private static byte[] largeCompressibleData() {
+        StringBuilder data = new StringBuilder();
+        for (int i = 0; data.length() < 1024 * 1024; i++) {
+            data.append(COMPRESSABLE_STRING).append(i);
+        }
+        return data.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] decompress(byte[] compressedData) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressedData))) {
+            return IoUtils.toByteArray(gzipInputStream);
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.endpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+
+public class EndpointResolutionCacheTest {
+    private static final EndpointProvider PROVIDER1 = new EndpointProvider() {
+    };
+    private static final EndpointProvider PROVIDER2 = new EndpointProvider() {
+    };
+
+    @Test
+    public void get_matchingEntry_returnsEndpoint() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(8);
+        Endpoint east = endpoint("us-east-1");
+        Endpoint west = endpoint("us-west-2");
+        cache.put(PROVIDER1, "us-east-1", east);
+        cache.put(PROVIDER1, "us-west-2", west);
+
+        assertSame(east, cache.get(PROVIDER1, new String("us-east-1")));
+        assertSame(west, cache.get(PROVIDER1, "us-west-2"));
+        assertNull(cache.get(PROVIDER1, "eu-west-1"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_differentProvider_returnsNull() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(8);
+        cache.put(PROVIDER1, "us-east-1", endpoint("us-east-1"));
+
+        assertNull(cache.get(PROVIDER2, "us-east-1"));
+    }
+
+    @Test
+    public void put_sameKey_replacesEntry() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(8);
+        Endpoint replacement = endpoint("replacement");
+        cache.put(PROVIDER1, "us-east-1", endpoint("us-east-1"));
+        cache.put(PROVIDER1, "us-east-1", replacement);
+
+        assertEquals(1, cache.size());
+        assertSame(replacement, cache.get(PROVIDER1, "us-east-1"));
+    }
+
+    @Test
+    public void put_moreEntriesThanCapacity_staysBounded() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(16);
+        Endpoint last = endpoint("last");
+        for (int i = 0; i < 1000; i++) {
+            cache.put(PROVIDER1, "bucket" + i, endpoint("bucket" + i));
+        }
+        cache.put(PROVIDER1, "last", last);
+
+        assertEquals(16, cache.getMaxSize());
+        assertTrue(cache.size() <= 16);
+        assertSame(last, cache.get(PROVIDER1, "last"));
+    }
+
+    @Test
+    public void concurrentAccess_alwaysReturnsEndpointForRequestedParams() {
+        EndpointResolutionCache cache = new EndpointResolutionCache(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String params = "bucket" + (i % 32);
+                        Endpoint endpoint = cache.get(PROVIDER1, params);
+                        if (endpoint == null) {
+                            cache.put(PROVIDER1, params, endpoint(params));
+                        } else {
+                            assertEquals(URI.create("https://" + params + ".example.com"), endpoint.url());
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Endpoint endpoint(String host) {
+        return Endpoint.builder().url(URI.create("https://" + host + ".example.com")).build();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.AdaptiveConcurrencyConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.capacity.AdaptiveConcurrencyLimiter;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import utils.ValidSdkObjects;
+
+public class AsyncConcurrencyLimitingStageTest {
+    private final List<CompletableFuture<Response<String>>> attempts = new ArrayList<>();
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<String>>> wrapped = (r, c) -> {
+        CompletableFuture<Response<String>> attempt = new CompletableFuture<>();
+        attempts.add(attempt);
+        return attempt;
+    };
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private AsyncConcurrencyLimitingStage<String> stage;
+
+    @BeforeEach
+    public void setup() {
+        limiter = new AdaptiveConcurrencyLimiter(AdaptiveConcurrencyConfiguration.builder()
+                                                                                 .initialLimit(10)
+                                                                                 .minLimit(1)
+                                                                                 .maxLimit(10)
+                                                                                 .maxQueuedRequests(10)
+                                                                                 .build());
+        SdkClientConfiguration configuration = SdkClientConfiguration.builder()
+                                                                     .option(SdkClientOption.ADAPTIVE_CONCURRENCY_LIMITER, limiter)
+                                                                     .build();
+        stage = new AsyncConcurrencyLimitingStage<>(HttpClientDependencies.builder().clientConfiguration(configuration).build(),
+                                                    wrapped);
+    }
+
+    @Test
+    public void execute_aboveLimit_sendsWhenEarlierRequestCompletes() throws Exception {
+        List<CompletableFuture<Response<String>>> results = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            results.add(stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context()));
+        }
+        assertThat(attempts).hasSize(10);
+        assertThat(limiter.queued()).isEqualTo(1);
+
+        attempts.get(0).complete(Response.<String>builder().isSuccess(true).response("done").build());
+
+        assertThat(results.get(0)).isCompletedWithValue(attempts.get(0).join());
+        assertThat(attempts).hasSize(11);
+        assertThat(limiter.inFlight()).isEqualTo(10);
+    }
+
+    @Test
+    public void execute_cancelledWhileWaiting_isNotSent() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context());
+        }
+        CompletableFuture<Response<String>> waiting = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context());
+
+        waiting.cancel(false);
+        attempts.get(0).complete(Response.<String>builder().isSuccess(true).build());
+
+        assertThat(attempts).hasSize(10);
+        assertThat(limiter.queued()).isZero();
+        assertThat(limiter.inFlight()).isEqualTo(9);
+    }
+
+    @Test
+    public void execute_throttled_decreasesLimit() throws Exception {
+        stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context());
+
+        SdkServiceException throttling = SdkServiceException.builder().statusCode(429).build();
+        attempts.get(0).complete(Response.<String>builder().isSuccess(false).exception(throttling).build());
+
+        assertThat(limiter.limit()).isEqualTo(9);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    public void execute_attemptFails_releasesPermit() throws Exception {
+        CompletableFuture<Response<String>> result = stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context());
+
+        attempts.get(0).completeExceptionally(new RuntimeException("boom"));
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    private static RequestExecutionContext context() {
+        return RequestExecutionContext.builder()
+                                      .originalRequest(NoopTestRequest.builder().build())
+                                      .executionContext(ClientExecutionAndRequestTimerTestUtils
+                                                            .executionContext(ValidSdkObjects.sdkHttpFullRequest().build()))
+                                      .build();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelTimerTest {
+    private HashedWheelTimer timer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        // A small wheel, so that timeouts span several rotations
+        timer = new HashedWheelTimer(new ThreadFactoryBuilder().threadNamePrefix("test-timer").build(), 5,
+                                     TimeUnit.MILLISECONDS, 8);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void teardown() {
+        timer.stop();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void timeout_runsOnExecutorAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(latch::countDown, executor, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(100);
+        assertThat(timeout.isExpired()).isTrue();
+    }
+
+    @Test
+    public void timeout_longerThanOneRotation_runsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        // The wheel covers 40ms per rotation
+        timer.newTimeout(latch::countDown, executor, 150, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(150);
+    }
+
+    @Test
+    public void cancelledTimeout_doesNotRun() throws InterruptedException {
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        HashedWheelTimer.Timeout cancelled =
+            timer.newTimeout(cancelledRuns::incrementAndGet, executor, 20, TimeUnit.MILLISECONDS);
+        cancelled.cancel();
+        timer.newTimeout(latch::countDown, executor, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledRuns.get()).isZero();
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(cancelled.isExpired()).isFalse();
+    }
+
+    @Test
+    public void manyTimeouts_cancelledAndExpired_onlyUncancelledRun() throws InterruptedException {
+        int count = 1000;
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(count / 2);
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            timeouts.add(timer.newTimeout(() -> {
+                runs.incrementAndGet();
+                latch.countDown();
+            }, executor, 10 + i % 100, TimeUnit.MILLISECONDS));
+        }
+        for (int i = 0; i < count; i += 2) {
+            timeouts.get(i).cancel();
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        assertThat(runs.get()).isEqualTo(count / 2);
+    }
+
+    @Test
+    public void zeroDelay_runsOnNextTick() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        timer.newTimeout(latch::countDown, executor, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void stoppedTimer_rejectsNewTimeouts() {
+        timer.newTimeout(() -> { }, executor, 10, TimeUnit.MILLISECONDS);
+        timer.stop();
+
+        assertThatThrownBy(() -> timer.newTimeout(() -> { }, executor, 10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void timeoutScheduler_cancelledTracker_timeoutTaskNotExecuted() throws InterruptedException {
+        TimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(timer, executor);
+
+        TimeoutTracker tracker = TimerUtils.timeSyncTaskIfNeeded(scheduler, 20, Thread.currentThread());
+        tracker.cancel();
+        Thread.sleep(100);
+
+        assertThat(tracker.hasExecuted()).isFalse();
+        assertThat(Thread.interrupted()).isFalse();
+    }
+
+    @Test
+    public void timeoutScheduler_expiredTracker_timeoutTaskExecuted() throws InterruptedException {
+        TimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(timer, executor);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        TimeoutTracker tracker = TimerUtils.timeSyncTaskIfNeeded(scheduler, 20, new Thread(() -> { }));
+        tracker.abortable(latch::countDown);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(tracker.hasExecuted()).isTrue();
+    }
+}
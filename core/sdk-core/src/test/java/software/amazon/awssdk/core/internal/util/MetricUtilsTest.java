@@ -28,12 +28,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
+import software.amazon.awssdk.metrics.internal.IndexedMetricCollector;
 import software.amazon.awssdk.utils.Pair;
 
 public class MetricUtilsTest {
@@ -193,4 +197,24 @@ public class MetricUtilsTest {
         verify(mockCollector).reportMetric(CoreMetric.AWS_REQUEST_ID, amznRequestId);
         verify(mockCollector).reportMetric(CoreMetric.AWS_EXTENDED_REQUEST_ID, requestId2);
     }
+
+    @Test
+    public void createApiCallMetricCollector_indexedCollectorNotEnabled_createsDefaultCollector() {
+        MetricCollector collector = MetricUtils.createApiCallMetricCollector(SdkClientConfiguration.builder().build());
+
+        assertThat(collector).isInstanceOf(DefaultMetricCollector.class);
+        assertThat(collector.name()).isEqualTo("ApiCall");
+    }
+
+    @Test
+    public void createApiCallMetricCollector_indexedCollectorEnabled_createsIndexedCollector() {
+        SdkClientConfiguration config = SdkClientConfiguration.builder()
+                                                              .option(SdkAdvancedClientOption.USE_INDEXED_METRIC_COLLECTOR, true)
+                                                              .build();
+
+        MetricCollector collector = MetricUtils.createApiCallMetricCollector(config);
+
+        assertThat(collector).isInstanceOf(IndexedMetricCollector.class);
+        assertThat(collector.name()).isEqualTo("ApiCall");
+    }
 }
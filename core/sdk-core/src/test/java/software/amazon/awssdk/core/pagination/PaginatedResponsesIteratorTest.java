@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.pagination;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.PaginatedResponsesIterator;
+import software.amazon.awssdk.core.pagination.sync.SyncPageFetcher;
+
+public class PaginatedResponsesIteratorTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void next_noPrefetch_fetchesPageWhenCalled() {
+        PageFetcher fetcher = new PageFetcher(3);
+        Iterator<Integer> iterator = iterator(fetcher, 0);
+
+        assertThat(iterator.next()).isEqualTo(0);
+        assertThat(fetcher.fetchedPages.get()).isEqualTo(1);
+        assertThat(collect(iterator)).containsExactly(1, 2);
+        assertThat(fetcher.fetchedPages.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void next_prefetch_fetchesNextPagesBeforeNextIsCalled() throws InterruptedException {
+        PageFetcher fetcher = new PageFetcher(5);
+        Iterator<Integer> iterator = iterator(fetcher, 2);
+
+        assertThat(iterator.next()).isEqualTo(0);
+        assertThat(fetcher.pagesFetched.tryAcquire(3, 10, TimeUnit.SECONDS)).isTrue();
+        assertThat(fetcher.pagesFetched.tryAcquire(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(fetcher.fetchedPages.get()).isEqualTo(3);
+
+        assertThat(collect(iterator)).containsExactly(1, 2, 3, 4);
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(fetcher.fetchedPages.get()).isEqualTo(5);
+    }
+
+    @Test
+    public void next_prefetchMorePagesThanAvailable_returnsAllPages() {
+        PageFetcher fetcher = new PageFetcher(2);
+
+        assertThat(collect(iterator(fetcher, 10))).containsExactly(0, 1);
+        assertThat(fetcher.fetchedPages.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void next_prefetchedPageFails_throwsExceptionAndRetriesOnNextCall() {
+        PageFetcher fetcher = new PageFetcher(4);
+        fetcher.failingPage = 2;
+        Iterator<Integer> iterator = iterator(fetcher, 2);
+
+        assertThat(iterator.next()).isEqualTo(0);
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThatThrownBy(iterator::next).isInstanceOf(SdkClientException.class);
+
+        fetcher.failingPage = -1;
+        assertThat(collect(iterator)).containsExactly(2, 3);
+    }
+
+    @Test
+    public void build_prefetchWithoutExecutor_throwsException() {
+        assertThatThrownBy(() -> PaginatedResponsesIterator.builder()
+                                                           .nextPageFetcher(new PageFetcher(1))
+                                                           .prefetchPages(1)
+                                                           .build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("prefetchExecutor");
+    }
+
+    private Iterator<Integer> iterator(PageFetcher fetcher, int prefetchPages) {
+        return PaginatedResponsesIterator.builder()
+                                         .nextPageFetcher(fetcher)
+                                         .prefetchPages(prefetchPages)
+                                         .prefetchExecutor(executor)
+                                         .build();
+    }
+
+    private static List<Integer> collect(Iterator<Integer> iterator) {
+        List<Integer> pages = new ArrayList<>();
+        iterator.forEachRemaining(pages::add);
+        return pages;
+    }
+
+    /**
+     * Returns the page numbers as pages.
+     */
+    private static final class PageFetcher implements SyncPageFetcher<Integer> {
+        private final int pages;
+        private final AtomicInteger fetchedPages = new AtomicInteger();
+        private final Semaphore pagesFetched = new Semaphore(0);
+        private volatile int failingPage = -1;
+
+        private PageFetcher(int pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNextPage(Integer oldPage) {
+            return oldPage + 1 < pages;
+        }
+
+        @Override
+        public Integer nextPage(Integer oldPage) {
+            int page = oldPage == null ? 0 : oldPage + 1;
+            if (page == failingPage) {
+                throw SdkClientException.create("Failed to fetch page " + page);
+            }
+            fetchedPages.incrementAndGet();
+            pagesFetched.release();
+            return page;
+        }
+    }
+}
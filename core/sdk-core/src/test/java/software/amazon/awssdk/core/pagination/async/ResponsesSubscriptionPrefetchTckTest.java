@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.pagination.async;
+
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+
+/**
+ * TCK verification test for {@link ResponsesSubscription} with page prefetching enabled.
+ */
+public class ResponsesSubscriptionPrefetchTckTest extends PublisherVerification<Long> {
+
+    public ResponsesSubscriptionPrefetchTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Publisher<Long> createPublisher(long l) {
+        return subscriber -> subscriber.onSubscribe(ResponsesSubscription.builder()
+                                                                         .subscriber(subscriber)
+                                                                         .nextPageFetcher(new PageFetcher(l))
+                                                                         .prefetchPages(2)
+                                                                         .build());
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        // return null to skip related tests
+        return null;
+    }
+
+    /**
+     * Simple {@link AsyncPageFetcher} that returns the page numbers as pages.
+     */
+    private static class PageFetcher implements AsyncPageFetcher<Long> {
+        private final long pages;
+
+        private PageFetcher(long pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNextPage(Long oldPage) {
+            return oldPage + 1 < pages;
+        }
+
+        @Override
+        public CompletableFuture<Long> nextPage(Long oldPage) {
+            long page = oldPage == null ? 0 : oldPage + 1;
+            return CompletableFuture.completedFuture(page < pages ? page : null);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.pagination.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+public class ResponsesSubscriptionTest {
+
+    @Test
+    public void request_noPrefetch_requestsOnlyDemandedPages() {
+        PageFetcher fetcher = new PageFetcher(5);
+        TestSubscriber subscriber = new TestSubscriber();
+        subscribe(subscriber, fetcher, 0);
+
+        subscriber.subscription.request(1);
+        fetcher.completeNextPage();
+
+        assertThat(subscriber.pages).containsExactly(0L);
+        assertThat(fetcher.pendingPages).isEmpty();
+        assertThat(fetcher.requestedPages).containsExactly(0L);
+    }
+
+    @Test
+    public void request_prefetch_requestsNextPageBeforeDemand() {
+        PageFetcher fetcher = new PageFetcher(5);
+        TestSubscriber subscriber = new TestSubscriber();
+        subscribe(subscriber, fetcher, 2);
+
+        subscriber.subscription.request(1);
+        fetcher.completeNextPage();
+
+        assertThat(subscriber.pages).containsExactly(0L);
+        assertThat(fetcher.requestedPages).containsExactly(0L, 1L);
+    }
+
+    @Test
+    public void request_prefetch_buffersAtMostPrefetchPages() {
+        PageFetcher fetcher = new PageFetcher(10);
+        TestSubscriber subscriber = new TestSubscriber();
+        subscribe(subscriber, fetcher, 2);
+
+        subscriber.subscription.request(1);
+        for (int i = 0; i < 5; i++) {
+            fetcher.completeNextPage();
+        }
+
+        assertThat(subscriber.pages).containsExactly(0L);
+        assertThat(fetcher.requestedPages).containsExactly(0L, 1L, 2L);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        while (!fetcher.pendingPages.isEmpty()) {
+            fetcher.completeNextPage();
+        }
+
+        assertThat(subscriber.pages).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void request_prefetchedPageFails_deliversBufferedPagesBeforeError() {
+        PageFetcher fetcher = new PageFetcher(5);
+        TestSubscriber subscriber = new TestSubscriber();
+        subscribe(subscriber, fetcher, 2);
+
+        subscriber.subscription.request(1);
+        fetcher.completeNextPage();
+        fetcher.completeNextPage();
+        fetcher.pendingPages.remove(0).completeExceptionally(SdkClientException.create("Failed to fetch page"));
+
+        assertThat(subscriber.pages).containsExactly(0L);
+        assertThat(subscriber.error).isNull();
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.pages).containsExactly(0L, 1L);
+        assertThat(subscriber.error).isInstanceOf(SdkClientException.class);
+    }
+
+    private static void subscribe(TestSubscriber subscriber, PageFetcher fetcher, int prefetchPages) {
+        subscriber.onSubscribe(ResponsesSubscription.builder()
+                                                    .subscriber(subscriber)
+                                                    .nextPageFetcher(fetcher)
+                                                    .prefetchPages(prefetchPages)
+                                                    .build());
+    }
+
+    /**
+     * {@link AsyncPageFetcher} that returns the page numbers as pages, when the test completes them.
+     */
+    private static final class PageFetcher implements AsyncPageFetcher<Long> {
+        private final long pages;
+        private final List<Long> requestedPages = new ArrayList<>();
+        private final List<CompletableFuture<Long>> pendingPages = new ArrayList<>();
+
+        private PageFetcher(long pages) {
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNextPage(Long oldPage) {
+            return oldPage + 1 < pages;
+        }
+
+        @Override
+        public CompletableFuture<Long> nextPage(Long oldPage) {
+            requestedPages.add(oldPage == null ? 0 : oldPage + 1);
+            CompletableFuture<Long> page = new CompletableFuture<>();
+            pendingPages.add(page);
+            return page;
+        }
+
+        private void completeNextPage() {
+            if (pendingPages.isEmpty()) {
+                return;
+            }
+            CompletableFuture<Long> page = pendingPages.remove(0);
+            page.complete(requestedPages.get(requestedPages.size() - 1));
+        }
+    }
+
+    private static final class TestSubscriber implements Subscriber<Long> {
+        private final List<Long> pages = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Long page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -50,4 +50,20 @@ public interface SdkAsyncHttpResponseHandler {
      */
     void onError(Throwable error);
 
+    /**
+     * Whether the {@link ByteBuffer}s signalled to the subscriber of the stream passed to {@link #onStream(Publisher)} may be
+     * read-only views over memory that is owned by the HTTP client, rather than copies of it.
+     * <p>
+     * When this returns true, HTTP clients that support it may avoid copying each chunk of the response body. A buffer
+     * published this way is only valid until the subscriber's {@code onNext} call for it returns, after which the HTTP
+     * client reclaims the underlying memory. Subscribers must therefore fully consume, or copy, each buffer before returning
+     * from {@code onNext}, and must not retain a reference to it.
+     * <p>
+     * HTTP clients that do not support this always publish buffers that the subscriber owns. By default, this returns false.
+     *
+     * @return True if the subscriber consumes each published buffer before returning from {@code onNext}.
+     */
+    default boolean supportsReadOnlyBorrowedBuffers() {
+        return false;
+    }
 }
@@ -279,6 +279,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         private final ChannelHandlerContext channelContext;
         private final RequestContext requestContext;
         private final CompletableFuture<Void> executeFuture;
+        private final boolean publishBorrowedBuffers;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
         PublisherAdapter(StreamedHttpResponse response, ChannelHandlerContext channelContext,
@@ -287,6 +288,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
             this.channelContext = channelContext;
             this.requestContext = requestContext;
             this.executeFuture = executeFuture;
+            this.publishBorrowedBuffers = requestContext.handler().supportsReadOnlyBorrowedBuffers();
         }
 
         @Override
@@ -330,6 +332,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (publishBorrowedBuffers) {
+                        publishBorrowed(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -345,6 +352,22 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publishes a read-only view over the content without copying it. The handler has agreed to consume the
+                 * buffer before its onNext returns, so the content can be released as soon as it does.
+                 */
+                private void publishBorrowed(HttpContent httpContent) {
+                    try {
+                        ByteBuffer byteBuffer = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                        tryCatch(() -> subscriber.onNext(byteBuffer),
+                                 this::notifyError);
+                    } catch (RuntimeException e) {
+                        onError(e);
+                    } finally {
+                        ReferenceCountUtil.release(httpContent);
+                    }
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
@@ -26,8 +26,10 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.EventLoopGroup;
@@ -40,7 +42,15 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -81,6 +91,11 @@ public class PublisherAdapterTest {
     private CompletableFuture<Void> executeFuture;
     private ResponseHandler nettyResponseHandler;
 
+    /**
+     * Every pooled content allocated by the test, which must all have been released once the test completes.
+     */
+    private final List<HttpContent> allocatedContents = new ArrayList<>();
+
     @Before
     public void setUp() throws Exception {
         executeFuture = new CompletableFuture<>();
@@ -112,6 +127,12 @@ public class PublisherAdapterTest {
         nettyResponseHandler.channelRead0(ctx, defaultFullHttpResponse);
     }
 
+    @After
+    public void noPooledMemoryLeaked() {
+        assertThat(allocatedContents).as("Pooled content that was not released")
+                                     .allSatisfy(content -> assertThat(content.refCnt()).isZero());
+    }
+
     @Test
     public void successfulStreaming_shouldNotInvokeChannelRead() {
         Flowable<HttpContent> testPublisher = Flowable.just(fullHttpResponse);
@@ -285,11 +306,148 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
+    @Test
+    public void borrowedBuffers_publishesReadOnlyViewsAndReleasesContentAfterOnNext() {
+        when(responseHandler.supportsReadOnlyBorrowedBuffers()).thenReturn(true);
+        List<HttpContent> contents = pooledContents("foo", "bar");
+        List<String> received = new ArrayList<>();
+
+        TestSubscriber subscriber = new TestSubscriber(byteBuffer -> {
+            assertThat(byteBuffer.isReadOnly()).isTrue();
+            assertThat(byteBuffer.isDirect()).isTrue();
+            assertThat(contents.get(received.size()).refCnt()).isEqualTo(1);
+            received.add(StandardCharsets.UTF_8.decode(byteBuffer).toString());
+        });
+        subscribe(Flowable.fromIterable(contents), subscriber);
+
+        assertThat(received).containsExactly("foo", "bar");
+        assertThat(subscriber.isCompleted).isTrue();
+        assertReleased(contents);
+        executeFuture.join();
+    }
+
+    @Test
+    public void borrowedBuffers_subscriberThrowsInOnNext_contentReleased() {
+        when(responseHandler.supportsReadOnlyBorrowedBuffers()).thenReturn(true);
+        List<HttpContent> contents = pooledContents("foo");
+        RuntimeException exception = new RuntimeException("boom");
+
+        subscribe(Flowable.fromIterable(contents), new TestSubscriber(byteBuffer -> {
+            throw exception;
+        }));
+
+        assertReleased(contents);
+        verify(responseHandler).onError(exception);
+        assertThat(executeFuture).isCompletedExceptionally();
+    }
+
+    @Test
+    public void borrowedBuffers_subscriptionCancelled_allContentReleased() {
+        when(responseHandler.supportsReadOnlyBorrowedBuffers()).thenReturn(true);
+        List<HttpContent> contents = pooledContents("foo", "bar", "baz");
+        TestSubscriber subscriber = new TestSubscriber(byteBuffer -> { });
+        subscriber.cancelOnNext = true;
+
+        // Ignores the cancel signal and publishes all the content, like a publisher with content already buffered
+        Publisher<HttpContent> publisher = s -> s.onSubscribe(new Subscription() {
+            @Override
+            public void request(long l) {
+                contents.forEach(s::onNext);
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscribe(publisher, subscriber);
+
+        assertReleased(contents);
+        assertThat(executeFuture).isCompletedExceptionally();
+    }
+
+    @Test
+    public void borrowedBuffers_manyResponsesCompletedFailedAndCancelled_leakNoPooledMemory() {
+        when(responseHandler.supportsReadOnlyBorrowedBuffers()).thenReturn(true);
+        RuntimeException exception = new RuntimeException("boom");
+
+        for (int i = 0; i < 300; i++) {
+            executeFuture = new CompletableFuture<>();
+            List<HttpContent> contents = pooledContents("foo", "bar", "baz");
+            TestSubscriber subscriber;
+            switch (i % 3) {
+                case 0:
+                    subscriber = new TestSubscriber(byteBuffer -> { });
+                    break;
+                case 1:
+                    subscriber = new TestSubscriber(byteBuffer -> {
+                        throw exception;
+                    });
+                    break;
+                default:
+                    subscriber = new TestSubscriber(byteBuffer -> { });
+                    subscriber.cancelOnNext = true;
+                    break;
+            }
+
+            Set<HttpContent> published = Collections.newSetFromMap(new IdentityHashMap<>());
+            subscribe(Flowable.fromIterable(contents).doOnNext(published::add), subscriber);
+
+            assertThat(published).allSatisfy(content -> assertThat(content.refCnt()).isZero());
+            // Content that the stream never published is still owned by the stream
+            contents.stream().filter(c -> !published.contains(c)).forEach(HttpContent::release);
+        }
+    }
+
+    @Test
+    public void borrowedBuffersNotSupported_publishesCopiesAndReleasesContent() {
+        List<HttpContent> contents = pooledContents("foo");
+        List<ByteBuffer> received = new ArrayList<>();
+
+        subscribe(Flowable.fromIterable(contents), new TestSubscriber(received::add));
+
+        assertReleased(contents);
+        assertThat(received).hasSize(1);
+        assertThat(received.get(0).isReadOnly()).isFalse();
+        assertThat(StandardCharsets.UTF_8.decode(received.get(0)).toString()).isEqualTo("foo");
+    }
+
+    private void subscribe(Publisher<HttpContent> publisher, Subscriber<ByteBuffer> subscriber) {
+        StreamedHttpResponse streamedHttpResponse = new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                                                                    HttpResponseStatus.OK,
+                                                                                    publisher);
+        new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, requestContext, executeFuture).subscribe(subscriber);
+    }
+
+    private List<HttpContent> pooledContents(String... chunks) {
+        List<HttpContent> contents = new ArrayList<>();
+        for (String chunk : chunks) {
+            ByteBuf buf = PooledByteBufAllocator.DEFAULT.directBuffer();
+            buf.writeCharSequence(chunk, StandardCharsets.UTF_8);
+            contents.add(new DefaultHttpContent(buf));
+        }
+        allocatedContents.addAll(contents);
+        return contents;
+    }
+
+    private static void assertReleased(List<HttpContent> contents) {
+        assertThat(contents).allSatisfy(content -> assertThat(content.refCnt()).isZero());
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
+        private final Consumer<ByteBuffer> consumer;
         private Subscription subscription;
         private boolean isCompleted = false;
         private boolean errorOccurred = false;
+        private boolean cancelOnNext = false;
+
+        TestSubscriber() {
+            this(byteBuffer -> { });
+        }
+
+        TestSubscriber(Consumer<ByteBuffer> consumer) {
+            this.consumer = consumer;
+        }
 
         @Override
         public void onSubscribe(Subscription s) {
@@ -299,7 +457,12 @@ public class PublisherAdapterTest {
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            subscription.request(1);
+            consumer.accept(byteBuffer);
+            if (cancelOnNext) {
+                subscription.cancel();
+            } else {
+                subscription.request(1);
+            }
         }
 
         @Override
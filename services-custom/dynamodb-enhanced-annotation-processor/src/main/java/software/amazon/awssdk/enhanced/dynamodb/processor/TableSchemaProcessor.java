@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_IMMUTABLE;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ElementUtils;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemIntrospector;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemModel;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.TableSchemaGenerator;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.UnsupportedItemException;
+
+/**
+ * Annotation processor that generates the table schema of classes annotated with {@code @DynamoDbBean} or
+ * {@code @DynamoDbImmutable} at compile time. {@code TableSchema.fromClass} returns the generated schema when it is present,
+ * instead of introspecting the class with reflection, which reduces the time taken to create the first schema of a class and
+ * does not require reflection configuration for native images.
+ * <p>
+ * To use it, add this module to the annotation processor path of the module containing the annotated classes. For a class
+ * {@code com.example.Customer} the processor generates {@code com.example.Customer_TableSchema}.
+ * <p>
+ * A class that cannot be mapped exactly like the reflective table schemas would map it at runtime, for example because it is
+ * recursive, generic, or uses a custom attribute tag annotation, is skipped with a note and keeps using the reflective
+ * schemas.
+ */
+@SdkPublicApi
+@SupportedAnnotationTypes({DYNAMO_DB_BEAN, DYNAMO_DB_IMMUTABLE})
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private final Set<String> generatedClasses = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        ElementUtils elementUtils = new ElementUtils(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        ItemIntrospector introspector = new ItemIntrospector(elementUtils);
+        TableSchemaGenerator generator = new TableSchemaGenerator(processingEnv.getElementUtils());
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement
+                    && generatedClasses.add(((TypeElement) element).getQualifiedName().toString())) {
+                    generate((TypeElement) element, introspector, generator);
+                }
+            }
+        }
+
+        // The annotations are also read at runtime, so leave them to any other processor
+        return false;
+    }
+
+    private void generate(TypeElement itemType, ItemIntrospector introspector, TableSchemaGenerator generator) {
+        try {
+            ItemModel model = introspector.introspect(itemType);
+            generator.generate(model).writeTo(processingEnv.getFiler());
+        } catch (UnsupportedItemException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "No table schema was generated for " + itemType.getQualifiedName() + " because " + e.getMessage()
+                + ". TableSchema.fromClass will create its schema with reflection.",
+                itemType);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "Could not write the table schema for " + itemType.getQualifiedName() + ": " + e.getMessage(),
+                itemType);
+        }
+    }
+}
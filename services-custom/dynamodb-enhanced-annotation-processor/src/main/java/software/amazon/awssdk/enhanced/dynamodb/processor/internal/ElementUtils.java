@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_IMMUTABLE;
+
+import java.util.Map;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Element and type helpers shared by the processor classes.
+ */
+@SdkInternalApi
+public final class ElementUtils {
+    private final Elements elements;
+    private final Types types;
+
+    public ElementUtils(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    public Elements elements() {
+        return elements;
+    }
+
+    public Types types() {
+        return types;
+    }
+
+    /**
+     * Returns the annotation of the given type on the element, or null if it is not annotated with it.
+     */
+    public AnnotationMirror annotation(Element element, String annotationName) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (qualifiedName(annotation).equals(annotationName)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    public boolean hasAnnotation(Element element, String annotationName) {
+        return annotation(element, annotationName) != null;
+    }
+
+    /**
+     * Returns the value of an annotation element, falling back to its default value.
+     */
+    public Object annotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+            elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+        throw new IllegalArgumentException(qualifiedName(annotation) + " has no element named " + name);
+    }
+
+    public String qualifiedName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Whether the type is annotated as a DynamoDb item, and so is mapped as a nested document rather than with a converter.
+     */
+    public boolean isAnnotatedItem(TypeElement type) {
+        return hasAnnotation(type, DYNAMO_DB_IMMUTABLE) || hasAnnotation(type, DYNAMO_DB_BEAN);
+    }
+
+    /**
+     * Whether code in the given package can refer to the type by name.
+     */
+    public boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        boolean samePackage = elements.getPackageOf(type).equals(fromPackage);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)
+                || !element.getModifiers().contains(Modifier.PUBLIC) && !samePackage) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether code in the given package can refer to the type and, for a parameterized or array type, to all the types it
+     * is composed of.
+     */
+    public boolean isAccessible(TypeMirror type, PackageElement fromPackage) {
+        if (type.getKind().isPrimitive()) {
+            return true;
+        }
+
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType(), fromPackage);
+        }
+
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+
+        DeclaredType declaredType = (DeclaredType) type;
+        if (!isAccessible((TypeElement) declaredType.asElement(), fromPackage)) {
+            return false;
+        }
+
+        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+            if (!isAccessible(typeArgument, fromPackage)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the class can be instantiated with a public no-argument constructor.
+     */
+    public boolean hasPublicNoArgConstructor(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    /**
+     * Whether the type refers to a type variable or wildcard, which the reflective table schemas cannot resolve either.
+     */
+    public boolean isGeneric(TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+            case WILDCARD:
+                return true;
+            case ARRAY:
+                return isGeneric(((ArrayType) type).getComponentType());
+            case DECLARED:
+                return ((DeclaredType) type).getTypeArguments().stream().anyMatch(this::isGeneric);
+            default:
+                return false;
+        }
+    }
+
+    public boolean isSameErasure(TypeMirror first, TypeMirror second) {
+        return types.isSameType(types.erasure(first), types.erasure(second));
+    }
+
+    public boolean isClass(TypeMirror type, Class<?> clazz) {
+        return type.getKind() == TypeKind.DECLARED
+               && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(clazz.getName());
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.ENHANCED_TYPE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.TABLE_SCHEMA;
+
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.List;
+import java.util.Map;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Creates the expressions building the {@code EnhancedType} of an attribute. This follows the type conversion of the bean
+ * and immutable table schemas: lists and maps are unwrapped so that nested annotated classes are mapped as documents with
+ * their own table schema, and any other type is passed to the enhanced client as is.
+ */
+@SdkInternalApi
+public final class EnhancedTypeExpressions {
+    private final ElementUtils elementUtils;
+    private final PackageElement generatedPackage;
+
+    public EnhancedTypeExpressions(ElementUtils elementUtils, PackageElement generatedPackage) {
+        this.elementUtils = elementUtils;
+        this.generatedPackage = generatedPackage;
+    }
+
+    /**
+     * Returns the expression creating the {@code EnhancedType} for an attribute of the given type.
+     *
+     * @throws UnsupportedItemException if the type cannot be referred to from generated code.
+     */
+    public CodeBlock enhancedType(TypeMirror type, boolean preserveEmptyObject, boolean ignoreNulls) {
+        validate(type);
+
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+            if (elementUtils.isClass(type, List.class) && typeArguments.size() == 1) {
+                return CodeBlock.of("$T.listOf($L)",
+                                    ENHANCED_TYPE, enhancedType(typeArguments.get(0), preserveEmptyObject, ignoreNulls));
+            }
+
+            if (elementUtils.isClass(type, Map.class) && typeArguments.size() == 2) {
+                return CodeBlock.of("$T.mapOf($L, $L)",
+                                    ENHANCED_TYPE,
+                                    plainEnhancedType(typeArguments.get(0)),
+                                    enhancedType(typeArguments.get(1), preserveEmptyObject, ignoreNulls));
+            }
+
+            TypeElement element = (TypeElement) declaredType.asElement();
+            if (elementUtils.isAnnotatedItem(element)) {
+                if (!typeArguments.isEmpty()) {
+                    throw new UnsupportedItemException("the nested annotated class " + type + " is parameterized");
+                }
+                return CodeBlock.of("$T.documentOf($T.class, $T.fromClass($T.class), b -> b.preserveEmptyObject($L)"
+                                    + ".ignoreNulls($L))",
+                                    ENHANCED_TYPE, element, TABLE_SCHEMA, element, preserveEmptyObject, ignoreNulls);
+            }
+        }
+
+        return plainEnhancedType(type);
+    }
+
+    private CodeBlock plainEnhancedType(TypeMirror type) {
+        validate(type);
+
+        if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+            TypeSpec typeToken = TypeSpec.anonymousClassBuilder("")
+                                         .superclass(ParameterizedTypeName.get(ENHANCED_TYPE, TypeName.get(type)))
+                                         .build();
+            return CodeBlock.of("$L", typeToken);
+        }
+
+        return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, TypeName.get(elementUtils.types().erasure(type)));
+    }
+
+    private void validate(TypeMirror type) {
+        if (elementUtils.isGeneric(type)) {
+            throw new UnsupportedItemException("the attribute type " + type + " refers to a type variable or wildcard");
+        }
+
+        if (!elementUtils.isAccessible(type, generatedPackage)) {
+            throw new UnsupportedItemException("the attribute type " + type + " is not accessible from package "
+                                               + generatedPackage.getQualifiedName());
+        }
+
+        validateComposition(type, type, false);
+    }
+
+    private void validateComposition(TypeMirror attributeType, TypeMirror type, boolean arrayComponent) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            validateComposition(attributeType, ((ArrayType) type).getComponentType(), true);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            if (declaredType.getTypeArguments().isEmpty()
+                && !((TypeElement) declaredType.asElement()).getTypeParameters().isEmpty()) {
+                throw new UnsupportedItemException("the attribute type " + attributeType + " uses the raw type " + type);
+            }
+            if (arrayComponent && !declaredType.getTypeArguments().isEmpty()) {
+                throw new UnsupportedItemException("the attribute type " + attributeType + " is a generic array");
+            }
+            declaredType.getTypeArguments().forEach(t -> validateComposition(attributeType, t, false));
+        }
+    }
+}
@@ -0,0 +1,530 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.ATTRIBUTE_CONVERTER;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.AUTO_GENERATED_TIMESTAMP_TAGS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.AUTO_GENERATED_UUID_TAGS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_ATOMIC_COUNTER;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_ATTRIBUTE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_AUTO_GENERATED_TIMESTAMP_ATTRIBUTE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_AUTO_GENERATED_UUID;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_CONVERTED_BY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_FLATTEN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_IGNORE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_IGNORE_NULLS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_IMMUTABLE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_PARTITION_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_PRESERVE_EMPTY_OBJECT;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_SECONDARY_PARTITION_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_SECONDARY_SORT_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_SORT_KEY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_UPDATE_BEHAVIOR;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.DYNAMO_DB_VERSION_ATTRIBUTE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.STATIC_ATTRIBUTE_TAGS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.TRANSIENT;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.UPDATE_BEHAVIOR;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.VERSIONED_RECORD_TAGS;
+
+import com.squareup.javapoet.CodeBlock;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Discovers the mapped properties of an annotated class at compile time. Bean classes follow the JavaBeans conventions
+ * applied by {@code java.beans.Introspector} for the {@code BeanTableSchema}, and immutable classes follow the getter and
+ * builder matching of the {@code ImmutableTableSchema}, so that the generated table schema maps a class exactly like the
+ * reflective one would. Classes that the processor cannot map the same way raise an {@link UnsupportedItemException}.
+ */
+@SdkInternalApi
+public final class ItemIntrospector {
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+    private static final String BUILD_METHOD = "build";
+    private static final String BUILDER_METHOD = "builder";
+    private static final Set<String> IMMUTABLE_NAMES_TO_EXCLUDE = new HashSet<>(Arrays.asList(
+        "equals", "hashCode", "toString", "getClass", "notify", "notifyAll", "wait", "toBuilder"));
+
+    private final ElementUtils elementUtils;
+    private final Types types;
+
+    public ItemIntrospector(ElementUtils elementUtils) {
+        this.elementUtils = elementUtils;
+        this.types = elementUtils.types();
+    }
+
+    public ItemModel introspect(TypeElement itemType) {
+        validateItemType(itemType);
+        PackageElement itemPackage = elementUtils.elements().getPackageOf(itemType);
+
+        if (referencesItself(itemType)) {
+            throw new UnsupportedItemException("it refers to itself through its attributes");
+        }
+
+        if (elementUtils.hasAnnotation(itemType, DYNAMO_DB_IMMUTABLE)) {
+            return introspectImmutable(itemType, itemPackage);
+        }
+        return introspectBean(itemType, itemPackage);
+    }
+
+    private void validateItemType(TypeElement itemType) {
+        if (!itemType.getTypeParameters().isEmpty()) {
+            throw new UnsupportedItemException("it is a generic class");
+        }
+
+        if (itemType.getNestingKind() == NestingKind.MEMBER && !itemType.getModifiers().contains(Modifier.STATIC)
+            && itemType.getEnclosingElement().getKind() == ElementKind.CLASS) {
+            throw new UnsupportedItemException("it is an inner class");
+        }
+
+        if (itemType.getNestingKind() == NestingKind.LOCAL || itemType.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new UnsupportedItemException("it is a local class");
+        }
+
+        if (!elementUtils.isAccessible(itemType, elementUtils.elements().getPackageOf(itemType))) {
+            throw new UnsupportedItemException("it is not accessible from its package");
+        }
+    }
+
+    private ItemModel introspectBean(TypeElement itemType, PackageElement itemPackage) {
+        if (!elementUtils.hasPublicNoArgConstructor(itemType)) {
+            throw new UnsupportedItemException("it has no public no-argument constructor");
+        }
+
+        Map<String, ExecutableElement> readMethods = new TreeMap<>();
+        Map<String, List<ExecutableElement>> writeMethods = new LinkedHashMap<>();
+
+        for (ExecutableElement method : publicInstanceMethods(itemType)) {
+            String name = method.getSimpleName().toString();
+            int parameterCount = method.getParameters().size();
+            TypeMirror returnType = method.getReturnType();
+
+            if (parameterCount == 0 && name.length() > IS_PREFIX.length() && name.startsWith(IS_PREFIX)
+                && returnType.getKind() == TypeKind.BOOLEAN) {
+                readMethods.put(decapitalize(name.substring(IS_PREFIX.length())), method);
+            } else if (parameterCount == 0 && name.length() > GET_PREFIX.length() && name.startsWith(GET_PREFIX)
+                       && returnType.getKind() != TypeKind.VOID) {
+                readMethods.putIfAbsent(decapitalize(name.substring(GET_PREFIX.length())), method);
+            } else if (parameterCount == 1 && name.length() > SET_PREFIX.length() && name.startsWith(SET_PREFIX)
+                       && returnType.getKind() == TypeKind.VOID) {
+                writeMethods.computeIfAbsent(decapitalize(name.substring(SET_PREFIX.length())), n -> new ArrayList<>())
+                            .add(method);
+            }
+        }
+
+        List<ItemProperty> properties = new ArrayList<>();
+        readMethods.forEach((propertyName, getter) -> {
+            TypeMirror propertyType = getter.getReturnType();
+            ExecutableElement setter =
+                writeMethods.getOrDefault(propertyName, new ArrayList<>())
+                            .stream()
+                            .filter(m -> elementUtils.isSameErasure(m.getParameters().get(0).asType(), propertyType))
+                            .findFirst()
+                            .orElse(null);
+
+            if (setter == null || isIgnored(getter) || isIgnored(setter)) {
+                return;
+            }
+
+            properties.add(property(propertyName, getter, setter, itemPackage));
+        });
+
+        return ItemModel.bean(itemType, converterProviders(itemType, DYNAMO_DB_BEAN, itemPackage), properties);
+    }
+
+    private ItemModel introspectImmutable(TypeElement itemType, PackageElement itemPackage) {
+        AnnotationMirror dynamoDbImmutable = elementUtils.annotation(itemType, DYNAMO_DB_IMMUTABLE);
+        TypeMirror builderMirror = (TypeMirror) elementUtils.annotationValue(dynamoDbImmutable, "builder");
+        if (builderMirror.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedItemException("its builder " + builderMirror + " is not a class");
+        }
+
+        TypeElement builderType = (TypeElement) ((DeclaredType) builderMirror).asElement();
+        if (!builderType.getTypeParameters().isEmpty() || !elementUtils.isAccessible(builderType, itemPackage)) {
+            throw new UnsupportedItemException("its builder " + builderType + " is generic or not accessible");
+        }
+
+        Map<String, ExecutableElement> builderMethods = new LinkedHashMap<>();
+        for (ExecutableElement method : mappableImmutableMethods(builderType)) {
+            if (builderMethods.put(normalizeSetterName(method), method) != null) {
+                throw new UnsupportedItemException("its builder has several methods for the property "
+                                                   + normalizeSetterName(method));
+            }
+        }
+
+        ExecutableElement buildMethod = builderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null || !buildMethod.getParameters().isEmpty()
+            || !elementUtils.isSameErasure(buildMethod.getReturnType(), itemType.asType())) {
+            throw new UnsupportedItemException("its builder has no build() method returning " + itemType);
+        }
+
+        List<ItemProperty> properties = new ArrayList<>();
+        for (ExecutableElement getter : mappableImmutableMethods(itemType)) {
+            if (getter.getReturnType().getKind() == TypeKind.VOID || !getter.getParameters().isEmpty()) {
+                throw new UnsupportedItemException(getter + " is not a valid getter");
+            }
+
+            String propertyName = normalizeGetterName(getter);
+            ExecutableElement setter = builderMethods.remove(propertyName);
+            if (setter == null || !isValidBuilderSetter(setter, getter.getReturnType(), builderType)) {
+                throw new UnsupportedItemException(getter + " has no matching setter on the builder");
+            }
+
+            properties.add(property(propertyName, getter, setter, itemPackage));
+        }
+
+        if (!builderMethods.isEmpty()) {
+            throw new UnsupportedItemException(builderMethods.values().iterator().next()
+                                               + " of the builder has no matching getter");
+        }
+
+        ExecutableElement staticBuilderMethod = staticBuilderMethod(itemType, builderType);
+        if (staticBuilderMethod == null && !elementUtils.hasPublicNoArgConstructor(builderType)) {
+            throw new UnsupportedItemException("its builder has no public no-argument constructor");
+        }
+
+        return ItemModel.immutable(itemType,
+                                   builderType,
+                                   staticBuilderMethod,
+                                   converterProviders(itemType, DYNAMO_DB_IMMUTABLE, itemPackage),
+                                   properties);
+    }
+
+    private ItemProperty property(String propertyName,
+                                  ExecutableElement getter,
+                                  ExecutableElement setter,
+                                  PackageElement itemPackage) {
+        validateAccessorAccess(getter, itemPackage);
+        validateAccessorAccess(setter, itemPackage);
+
+        TypeMirror type = getter.getReturnType();
+        if (elementUtils.isGeneric(type)) {
+            throw new UnsupportedItemException("the type of " + getter + " refers to a type variable or wildcard");
+        }
+
+        if (propertyAnnotation(getter, setter, DYNAMO_DB_FLATTEN) != null) {
+            if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()
+                || !elementUtils.isAccessible(type, itemPackage)) {
+                throw new UnsupportedItemException("the flattened type of " + getter + " is not an accessible class");
+            }
+            return ItemProperty.flattened(getter, setter, (DeclaredType) type);
+        }
+
+        boolean preserveEmptyObject = propertyAnnotation(getter, setter, DYNAMO_DB_PRESERVE_EMPTY_OBJECT) != null;
+        boolean ignoreNulls = propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE_NULLS) != null;
+        CodeBlock enhancedType = new EnhancedTypeExpressions(elementUtils, itemPackage)
+            .enhancedType(type, preserveEmptyObject, ignoreNulls);
+
+        return ItemProperty.attribute(attributeName(propertyName, getter, setter),
+                                      getter,
+                                      setter,
+                                      type,
+                                      enhancedType,
+                                      attributeConverter(getter, setter, type, itemPackage),
+                                      tags(getter, setter));
+    }
+
+    private void validateAccessorAccess(ExecutableElement accessor, PackageElement itemPackage) {
+        if (!elementUtils.isAccessible((TypeElement) accessor.getEnclosingElement(), itemPackage)) {
+            throw new UnsupportedItemException(accessor + " is declared by a class that is not accessible from package "
+                                               + itemPackage.getQualifiedName());
+        }
+    }
+
+    private String attributeName(String propertyName, ExecutableElement getter, ExecutableElement setter) {
+        AnnotationMirror dynamoDbAttribute = propertyAnnotation(getter, setter, DYNAMO_DB_ATTRIBUTE);
+        if (dynamoDbAttribute != null) {
+            return (String) elementUtils.annotationValue(dynamoDbAttribute, "value");
+        }
+        return propertyName;
+    }
+
+    private DeclaredType attributeConverter(ExecutableElement getter,
+                                            ExecutableElement setter,
+                                            TypeMirror type,
+                                            PackageElement itemPackage) {
+        AnnotationMirror convertedBy = propertyAnnotation(getter, setter, DYNAMO_DB_CONVERTED_BY);
+        if (convertedBy == null) {
+            return null;
+        }
+
+        DeclaredType converterType = instantiableClass((TypeMirror) elementUtils.annotationValue(convertedBy, "value"),
+                                                       itemPackage);
+        TypeElement attributeConverter = elementUtils.elements().getTypeElement(ATTRIBUTE_CONVERTER);
+        TypeMirror boxedType = type.getKind().isPrimitive() ? types.boxedClass((PrimitiveType) type).asType() : type;
+        if (attributeConverter == null
+            || !types.isAssignable(converterType, types.getDeclaredType(attributeConverter, boxedType))) {
+            throw new UnsupportedItemException("the converter " + converterType + " of " + getter + " does not convert "
+                                               + boxedType);
+        }
+        return converterType;
+    }
+
+    private List<DeclaredType> converterProviders(TypeElement itemType, String annotationName, PackageElement itemPackage) {
+        AnnotationMirror annotation = elementUtils.annotation(itemType, annotationName);
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> providers =
+            (List<? extends AnnotationValue>) elementUtils.annotationValue(annotation, "converterProviders");
+
+        return providers.stream()
+                        .map(provider -> instantiableClass((TypeMirror) provider.getValue(), itemPackage))
+                        .collect(Collectors.toList());
+    }
+
+    private DeclaredType instantiableClass(TypeMirror type, PackageElement itemPackage) {
+        if (type.getKind() != TypeKind.DECLARED
+            || !elementUtils.isAccessible(type, itemPackage)
+            || !elementUtils.hasPublicNoArgConstructor((TypeElement) ((DeclaredType) type).asElement())) {
+            throw new UnsupportedItemException(type + " cannot be instantiated with a public no-argument constructor");
+        }
+        return (DeclaredType) type;
+    }
+
+    /**
+     * Creates the expressions for the attribute tags declared by the annotations of the property. The tags of the enhanced
+     * client are created through their public factory methods, so that no annotation has to be read at runtime. Tags of
+     * other annotations would need the annotation instance, so classes using them are left to the reflective schemas.
+     */
+    private List<CodeBlock> tags(ExecutableElement getter, ExecutableElement setter) {
+        List<CodeBlock> tags = new ArrayList<>();
+        Stream.concat(getter.getAnnotationMirrors().stream(), setter.getAnnotationMirrors().stream())
+              .filter(this::isRuntimeAttributeTag)
+              .forEach(annotation -> tags.add(tag(annotation)));
+        return tags;
+    }
+
+    private boolean isRuntimeAttributeTag(AnnotationMirror annotation) {
+        Element annotationType = annotation.getAnnotationType().asElement();
+        Retention retention = annotationType.getAnnotation(Retention.class);
+        return elementUtils.hasAnnotation(annotationType, BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG)
+               && retention != null && retention.value() == RetentionPolicy.RUNTIME;
+    }
+
+    private CodeBlock tag(AnnotationMirror annotation) {
+        String annotationName = elementUtils.qualifiedName(annotation);
+        switch (annotationName) {
+            case DYNAMO_DB_PARTITION_KEY:
+                return CodeBlock.of("$T.primaryPartitionKey()", STATIC_ATTRIBUTE_TAGS);
+            case DYNAMO_DB_SORT_KEY:
+                return CodeBlock.of("$T.primarySortKey()", STATIC_ATTRIBUTE_TAGS);
+            case DYNAMO_DB_SECONDARY_PARTITION_KEY:
+                return CodeBlock.of("$T.secondaryPartitionKey($T.asList($L))",
+                                    STATIC_ATTRIBUTE_TAGS, Arrays.class, indexNames(annotation));
+            case DYNAMO_DB_SECONDARY_SORT_KEY:
+                return CodeBlock.of("$T.secondarySortKey($T.asList($L))",
+                                    STATIC_ATTRIBUTE_TAGS, Arrays.class, indexNames(annotation));
+            case DYNAMO_DB_UPDATE_BEHAVIOR:
+                VariableElement updateBehavior = (VariableElement) elementUtils.annotationValue(annotation, "value");
+                return CodeBlock.of("$T.updateBehavior($T.$N)",
+                                    STATIC_ATTRIBUTE_TAGS, UPDATE_BEHAVIOR, updateBehavior.getSimpleName().toString());
+            case DYNAMO_DB_ATOMIC_COUNTER:
+                return CodeBlock.of("$T.atomicCounter($LL, $LL)",
+                                    STATIC_ATTRIBUTE_TAGS,
+                                    elementUtils.annotationValue(annotation, "delta"),
+                                    elementUtils.annotationValue(annotation, "startValue"));
+            case DYNAMO_DB_VERSION_ATTRIBUTE:
+                return CodeBlock.of("$T.versionAttribute()", VERSIONED_RECORD_TAGS);
+            case DYNAMO_DB_AUTO_GENERATED_TIMESTAMP_ATTRIBUTE:
+                return CodeBlock.of("$T.autoGeneratedTimestampAttribute()", AUTO_GENERATED_TIMESTAMP_TAGS);
+            case DYNAMO_DB_AUTO_GENERATED_UUID:
+                return CodeBlock.of("$T.autoGeneratedUuidAttribute()", AUTO_GENERATED_UUID_TAGS);
+            default:
+                throw new UnsupportedItemException("it uses the custom attribute tag annotation " + annotationName);
+        }
+    }
+
+    private CodeBlock indexNames(AnnotationMirror annotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> indexNames =
+            (List<? extends AnnotationValue>) elementUtils.annotationValue(annotation, "indexNames");
+        return indexNames.stream()
+                         .map(indexName -> CodeBlock.of("$S", indexName.getValue()))
+                         .collect(CodeBlock.joining(", "));
+    }
+
+    /**
+     * Returns the annotation of the getter, or of the setter if the getter does not have it.
+     */
+    private AnnotationMirror propertyAnnotation(ExecutableElement getter, ExecutableElement setter, String annotationName) {
+        AnnotationMirror getterAnnotation = elementUtils.annotation(getter, annotationName);
+        return getterAnnotation != null ? getterAnnotation : elementUtils.annotation(setter, annotationName);
+    }
+
+    private boolean isIgnored(ExecutableElement method) {
+        return elementUtils.hasAnnotation(method, DYNAMO_DB_IGNORE) || elementUtils.hasAnnotation(method, TRANSIENT);
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        return ElementFilter.methodsIn(elementUtils.elements().getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                            .filter(m -> !m.getModifiers().contains(Modifier.STATIC))
+                            .collect(Collectors.toList());
+    }
+
+    private List<ExecutableElement> mappableImmutableMethods(TypeElement type) {
+        return publicInstanceMethods(type).stream()
+                                          .filter(m -> !isDeclaredByObject(m))
+                                          .filter(m -> !isIgnored(m))
+                                          .filter(m -> !IMMUTABLE_NAMES_TO_EXCLUDE.contains(m.getSimpleName().toString()))
+                                          .collect(Collectors.toList());
+    }
+
+    private boolean isDeclaredByObject(ExecutableElement method) {
+        return ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    private boolean isValidBuilderSetter(ExecutableElement setter, TypeMirror propertyType, TypeElement builderType) {
+        if (setter.getParameters().size() != 1
+            || !elementUtils.isSameErasure(setter.getParameters().get(0).asType(), propertyType)) {
+            return false;
+        }
+
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || types.isAssignable(types.erasure(builderType.asType()), types.erasure(returnType));
+    }
+
+    private ExecutableElement staticBuilderMethod(TypeElement itemType, TypeElement builderType) {
+        return ElementFilter.methodsIn(elementUtils.elements().getAllMembers(itemType))
+                            .stream()
+                            .filter(m -> m.getSimpleName().contentEquals(BUILDER_METHOD) && m.getParameters().isEmpty())
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC))
+                            .filter(m -> m.getModifiers().contains(Modifier.STATIC))
+                            .filter(m -> types.isAssignable(types.erasure(builderType.asType()),
+                                                            types.erasure(m.getReturnType())))
+                            .findFirst()
+                            .orElse(null);
+    }
+
+    private String normalizeSetterName(ExecutableElement setter) {
+        String name = setter.getSimpleName().toString();
+        if (name.length() > SET_PREFIX.length() && name.startsWith(SET_PREFIX)
+            && Character.isUpperCase(name.charAt(SET_PREFIX.length()))) {
+            return lowerCaseFirst(name.substring(SET_PREFIX.length()));
+        }
+        return name;
+    }
+
+    private String normalizeGetterName(ExecutableElement getter) {
+        String name = getter.getSimpleName().toString();
+        TypeMirror returnType = getter.getReturnType();
+        boolean isBoolean = returnType.getKind() == TypeKind.BOOLEAN || elementUtils.isClass(returnType, Boolean.class);
+
+        if (name.length() > IS_PREFIX.length() && name.startsWith(IS_PREFIX)
+            && Character.isUpperCase(name.charAt(IS_PREFIX.length())) && isBoolean) {
+            return lowerCaseFirst(name.substring(IS_PREFIX.length()));
+        }
+
+        if (name.length() > GET_PREFIX.length() && name.startsWith(GET_PREFIX)
+            && Character.isUpperCase(name.charAt(GET_PREFIX.length()))) {
+            return lowerCaseFirst(name.substring(GET_PREFIX.length()));
+        }
+        return name;
+    }
+
+    private static String lowerCaseFirst(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Decapitalizes a property name the way {@code java.beans.Introspector#decapitalize} does.
+     */
+    private static String decapitalize(String name) {
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return lowerCaseFirst(name);
+    }
+
+    /**
+     * Whether the class can reach itself through the annotated classes used by its getters. The generated schema creates the
+     * schemas of nested classes eagerly, so a recursive class is left to the reflective schemas, which resolve recursion
+     * lazily. All public getters are followed, so this may also reject a class that is not actually recursive.
+     */
+    private boolean referencesItself(TypeElement itemType) {
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> toVisit = new ArrayDeque<>();
+        toVisit.add(itemType);
+
+        while (!toVisit.isEmpty()) {
+            TypeElement type = toVisit.poll();
+            for (ExecutableElement method : publicInstanceMethods(type)) {
+                if (!method.getParameters().isEmpty()) {
+                    continue;
+                }
+
+                for (TypeElement referenced : annotatedTypesIn(method.getReturnType())) {
+                    if (referenced.equals(itemType)) {
+                        return true;
+                    }
+                    if (visited.add(referenced)) {
+                        toVisit.add(referenced);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<TypeElement> annotatedTypesIn(TypeMirror type) {
+        List<TypeElement> annotatedTypes = new ArrayList<>();
+        if (type.getKind() == TypeKind.ARRAY) {
+            annotatedTypes.addAll(annotatedTypesIn(((ArrayType) type).getComponentType()));
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            TypeElement element = (TypeElement) declaredType.asElement();
+            if (elementUtils.isAnnotatedItem(element)) {
+                annotatedTypes.add(element);
+            }
+            declaredType.getTypeArguments().forEach(t -> annotatedTypes.addAll(annotatedTypesIn(t)));
+        }
+        return annotatedTypes;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.Collections;
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The mapping of an annotated class, as discovered by {@link ItemIntrospector} with the same rules the bean and immutable
+ * table schemas apply at runtime.
+ */
+@SdkInternalApi
+public final class ItemModel {
+    private final TypeElement itemType;
+    private final TypeElement builderType;
+    private final ExecutableElement staticBuilderMethod;
+    private final List<DeclaredType> converterProviders;
+    private final List<ItemProperty> properties;
+
+    private ItemModel(TypeElement itemType,
+                      TypeElement builderType,
+                      ExecutableElement staticBuilderMethod,
+                      List<DeclaredType> converterProviders,
+                      List<ItemProperty> properties) {
+        this.itemType = itemType;
+        this.builderType = builderType;
+        this.staticBuilderMethod = staticBuilderMethod;
+        this.converterProviders = Collections.unmodifiableList(converterProviders);
+        this.properties = Collections.unmodifiableList(properties);
+    }
+
+    public static ItemModel bean(TypeElement itemType, List<DeclaredType> converterProviders, List<ItemProperty> properties) {
+        return new ItemModel(itemType, null, null, converterProviders, properties);
+    }
+
+    /**
+     * @param staticBuilderMethod the static method of the immutable class that returns a new builder, or null if the builder
+     * is created with its public no-argument constructor.
+     */
+    public static ItemModel immutable(TypeElement itemType,
+                                      TypeElement builderType,
+                                      ExecutableElement staticBuilderMethod,
+                                      List<DeclaredType> converterProviders,
+                                      List<ItemProperty> properties) {
+        return new ItemModel(itemType, builderType, staticBuilderMethod, converterProviders, properties);
+    }
+
+    public TypeElement itemType() {
+        return itemType;
+    }
+
+    public boolean isImmutable() {
+        return builderType != null;
+    }
+
+    /**
+     * The class holding the setters of the properties: the builder of an immutable class, or the bean class itself.
+     */
+    public TypeElement setterType() {
+        return isImmutable() ? builderType : itemType;
+    }
+
+    public TypeElement builderType() {
+        return builderType;
+    }
+
+    public ExecutableElement staticBuilderMethod() {
+        return staticBuilderMethod;
+    }
+
+    public List<DeclaredType> converterProviders() {
+        return converterProviders;
+    }
+
+    public List<ItemProperty> properties() {
+        return properties;
+    }
+}
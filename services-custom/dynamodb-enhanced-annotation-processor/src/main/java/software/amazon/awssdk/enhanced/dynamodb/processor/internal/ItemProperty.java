@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import com.squareup.javapoet.CodeBlock;
+import java.util.Collections;
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A mapped property of an annotated class: either an attribute, or a flattened annotated class.
+ */
+@SdkInternalApi
+public final class ItemProperty {
+    private final String attributeName;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final TypeMirror type;
+    private final CodeBlock enhancedType;
+    private final DeclaredType attributeConverter;
+    private final List<CodeBlock> tags;
+
+    private ItemProperty(String attributeName,
+                         ExecutableElement getter,
+                         ExecutableElement setter,
+                         TypeMirror type,
+                         CodeBlock enhancedType,
+                         DeclaredType attributeConverter,
+                         List<CodeBlock> tags) {
+        this.attributeName = attributeName;
+        this.getter = getter;
+        this.setter = setter;
+        this.type = type;
+        this.enhancedType = enhancedType;
+        this.attributeConverter = attributeConverter;
+        this.tags = Collections.unmodifiableList(tags);
+    }
+
+    /**
+     * @param enhancedType the expression creating the {@code EnhancedType} of the attribute.
+     * @param attributeConverter the converter named by {@code @DynamoDbConvertedBy}, or null.
+     * @param tags the expressions creating the {@code StaticAttributeTag}s of the attribute.
+     */
+    public static ItemProperty attribute(String attributeName,
+                                         ExecutableElement getter,
+                                         ExecutableElement setter,
+                                         TypeMirror type,
+                                         CodeBlock enhancedType,
+                                         DeclaredType attributeConverter,
+                                         List<CodeBlock> tags) {
+        return new ItemProperty(attributeName, getter, setter, type, enhancedType, attributeConverter, tags);
+    }
+
+    public static ItemProperty flattened(ExecutableElement getter, ExecutableElement setter, DeclaredType type) {
+        return new ItemProperty(null, getter, setter, type, null, null, Collections.emptyList());
+    }
+
+    public boolean isFlattened() {
+        return enhancedType == null;
+    }
+
+    public String attributeName() {
+        return attributeName;
+    }
+
+    public ExecutableElement getter() {
+        return getter;
+    }
+
+    public ExecutableElement setter() {
+        return setter;
+    }
+
+    public TypeMirror type() {
+        return type;
+    }
+
+    public CodeBlock enhancedType() {
+        return enhancedType;
+    }
+
+    public DeclaredType attributeConverter() {
+        return attributeConverter;
+    }
+
+    public List<CodeBlock> tags() {
+        return tags;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import com.squareup.javapoet.ClassName;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Names of the enhanced client types that the processor reads or refers to in generated code. The processor does not depend
+ * on the enhanced client itself, so these are declared by name.
+ */
+@SdkInternalApi
+public final class ProcessorName {
+    public static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+    public static final String ANNOTATION_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.";
+    public static final String EXTENSION_ANNOTATION_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.";
+
+    public static final String DYNAMO_DB_BEAN = ANNOTATION_PACKAGE + "DynamoDbBean";
+    public static final String DYNAMO_DB_IMMUTABLE = ANNOTATION_PACKAGE + "DynamoDbImmutable";
+    public static final String DYNAMO_DB_ATTRIBUTE = ANNOTATION_PACKAGE + "DynamoDbAttribute";
+    public static final String DYNAMO_DB_CONVERTED_BY = ANNOTATION_PACKAGE + "DynamoDbConvertedBy";
+    public static final String DYNAMO_DB_FLATTEN = ANNOTATION_PACKAGE + "DynamoDbFlatten";
+    public static final String DYNAMO_DB_IGNORE = ANNOTATION_PACKAGE + "DynamoDbIgnore";
+    public static final String DYNAMO_DB_IGNORE_NULLS = ANNOTATION_PACKAGE + "DynamoDbIgnoreNulls";
+    public static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = ANNOTATION_PACKAGE + "DynamoDbPreserveEmptyObject";
+    public static final String DYNAMO_DB_PARTITION_KEY = ANNOTATION_PACKAGE + "DynamoDbPartitionKey";
+    public static final String DYNAMO_DB_SORT_KEY = ANNOTATION_PACKAGE + "DynamoDbSortKey";
+    public static final String DYNAMO_DB_SECONDARY_PARTITION_KEY = ANNOTATION_PACKAGE + "DynamoDbSecondaryPartitionKey";
+    public static final String DYNAMO_DB_SECONDARY_SORT_KEY = ANNOTATION_PACKAGE + "DynamoDbSecondarySortKey";
+    public static final String DYNAMO_DB_UPDATE_BEHAVIOR = ANNOTATION_PACKAGE + "DynamoDbUpdateBehavior";
+    public static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = ANNOTATION_PACKAGE + "BeanTableSchemaAttributeTag";
+    public static final String DYNAMO_DB_ATOMIC_COUNTER = EXTENSION_ANNOTATION_PACKAGE + "DynamoDbAtomicCounter";
+    public static final String DYNAMO_DB_VERSION_ATTRIBUTE = EXTENSION_ANNOTATION_PACKAGE + "DynamoDbVersionAttribute";
+    public static final String DYNAMO_DB_AUTO_GENERATED_TIMESTAMP_ATTRIBUTE =
+        EXTENSION_ANNOTATION_PACKAGE + "DynamoDbAutoGeneratedTimestampAttribute";
+    public static final String DYNAMO_DB_AUTO_GENERATED_UUID = EXTENSION_ANNOTATION_PACKAGE + "DynamoDbAutoGeneratedUuid";
+    public static final String TRANSIENT = "java.beans.Transient";
+
+    public static final String ATTRIBUTE_CONVERTER = "software.amazon.awssdk.enhanced.dynamodb.AttributeConverter";
+
+    public static final ClassName TABLE_SCHEMA = ClassName.get("software.amazon.awssdk.enhanced.dynamodb", "TableSchema");
+    public static final ClassName ENHANCED_TYPE = ClassName.get("software.amazon.awssdk.enhanced.dynamodb", "EnhancedType");
+    public static final ClassName STATIC_TABLE_SCHEMA = mapperClass("StaticTableSchema");
+    public static final ClassName STATIC_IMMUTABLE_TABLE_SCHEMA = mapperClass("StaticImmutableTableSchema");
+    public static final ClassName STATIC_ATTRIBUTE_TAGS = mapperClass("StaticAttributeTags");
+    public static final ClassName UPDATE_BEHAVIOR = mapperClass("UpdateBehavior");
+    public static final ClassName VERSIONED_RECORD_TAGS = extensionTags("VersionedRecordExtension");
+    public static final ClassName AUTO_GENERATED_TIMESTAMP_TAGS = extensionTags("AutoGeneratedTimestampRecordExtension");
+    public static final ClassName AUTO_GENERATED_UUID_TAGS = extensionTags("AutoGeneratedUuidExtension");
+    public static final ClassName GENERATED = ClassName.get("software.amazon.awssdk.annotations", "Generated");
+
+    private ProcessorName() {
+    }
+
+    private static ClassName mapperClass(String simpleName) {
+        return ClassName.get("software.amazon.awssdk.enhanced.dynamodb.mapper", simpleName);
+    }
+
+    private static ClassName extensionTags(String extensionName) {
+        return ClassName.get("software.amazon.awssdk.enhanced.dynamodb.extensions", extensionName, "AttributeTags");
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.GENERATED;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.GENERATED_CLASS_SUFFIX;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.STATIC_IMMUTABLE_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.STATIC_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ProcessorName.TABLE_SCHEMA;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Writes the source of the table schema class for an {@link ItemModel}. For a class {@code com.example.Customer} this is
+ * {@code com.example.Customer_TableSchema}, whose static {@code create()} method builds a {@code StaticTableSchema} (or a
+ * {@code StaticImmutableTableSchema}) from method references to the accessors of the class.
+ */
+@SdkInternalApi
+public final class TableSchemaGenerator {
+    private static final String PROCESSOR_NAME = "software.amazon.awssdk.enhanced.dynamodb.processor.TableSchemaProcessor";
+
+    private final Elements elements;
+
+    public TableSchemaGenerator(Elements elements) {
+        this.elements = elements;
+    }
+
+    public JavaFile generate(ItemModel model) {
+        TypeElement itemType = model.itemType();
+        ClassName itemClass = ClassName.get(itemType);
+
+        TypeSpec tableSchemaClass =
+            TypeSpec.classBuilder(generatedSimpleName(itemType))
+                    .addOriginatingElement(itemType)
+                    .addJavadoc("Table schema for {@link $T}, generated at compile time so that {@code TableSchema.fromClass} "
+                                + "does not have to\nintrospect the class with reflection.\n", itemClass)
+                    .addAnnotation(AnnotationSpec.builder(GENERATED).addMember("value", "$S", PROCESSOR_NAME).build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                    .addMethod(createMethod(model))
+                    .build();
+
+        return JavaFile.builder(elements.getPackageOf(itemType).getQualifiedName().toString(), tableSchemaClass)
+                       .skipJavaLangImports(true)
+                       .build();
+    }
+
+    /**
+     * Returns the simple name of the class generated for an annotated class: its binary name without the package, with the
+     * names of enclosing classes joined by underscores, followed by {@code _TableSchema}.
+     */
+    public String generatedSimpleName(TypeElement itemType) {
+        String binaryName = elements.getBinaryName(itemType).toString();
+        String packageName = elements.getPackageOf(itemType).getQualifiedName().toString();
+        String nameInPackage = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return nameInPackage.replace('$', '_') + GENERATED_CLASS_SUFFIX;
+    }
+
+    private MethodSpec createMethod(ItemModel model) {
+        ClassName itemClass = ClassName.get(model.itemType());
+        CodeBlock.Builder body = CodeBlock.builder();
+        TypeName returnType;
+
+        if (model.isImmutable()) {
+            ClassName builderClass = ClassName.get(model.builderType());
+            returnType = ParameterizedTypeName.get(STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass, builderClass);
+            body.add("return $T.builder($T.class, $T.class)$>$>\n", STATIC_IMMUTABLE_TABLE_SCHEMA, itemClass, builderClass)
+                .add(".newItemBuilder($L, $T::build)\n", newBuilder(model, builderClass), builderClass);
+        } else {
+            returnType = ParameterizedTypeName.get(STATIC_TABLE_SCHEMA, itemClass);
+            body.add("return $T.builder($T.class)$>$>\n", STATIC_TABLE_SCHEMA, itemClass)
+                .add(".newItemSupplier($T::new)\n", itemClass);
+        }
+
+        body.add(".attributeConverterProviders($L)\n",
+                 model.converterProviders().stream()
+                      .map(provider -> CodeBlock.of("new $T()", TypeName.get(provider)))
+                      .collect(CodeBlock.joining(", ")));
+
+        ClassName setterClass = ClassName.get(model.setterType());
+        model.properties().forEach(property -> body.add(property.isFlattened()
+                                                         ? flatten(property, itemClass, setterClass)
+                                                         : addAttribute(property, itemClass, setterClass)));
+
+        body.add(".build();$<$<\n");
+
+        return MethodSpec.methodBuilder("create")
+                         .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                         .returns(returnType)
+                         .addCode(body.build())
+                         .build();
+    }
+
+    private CodeBlock newBuilder(ItemModel model, ClassName builderClass) {
+        ExecutableElement staticBuilderMethod = model.staticBuilderMethod();
+        if (staticBuilderMethod == null) {
+            return CodeBlock.of("$T::new", builderClass);
+        }
+
+        ClassName itemClass = ClassName.get(model.itemType());
+        if (TypeName.get(staticBuilderMethod.getReturnType()).equals(builderClass)) {
+            return CodeBlock.of("$T::$N", itemClass, staticBuilderMethod.getSimpleName().toString());
+        }
+        return CodeBlock.of("() -> ($T) $T.$N()", builderClass, itemClass, staticBuilderMethod.getSimpleName().toString());
+    }
+
+    private CodeBlock flatten(ItemProperty property, ClassName itemClass, ClassName setterClass) {
+        return CodeBlock.of(".flatten($T.fromClass($T.class), $T::$N, $T::$N)\n",
+                            TABLE_SCHEMA, TypeName.get(property.type()),
+                            itemClass, property.getter().getSimpleName().toString(),
+                            setterClass, property.setter().getSimpleName().toString());
+    }
+
+    private CodeBlock addAttribute(ItemProperty property, ClassName itemClass, ClassName setterClass) {
+        CodeBlock.Builder attribute = CodeBlock.builder();
+        attribute.add(".addAttribute($L, a -> a.name($S)$>$>\n", property.enhancedType(), property.attributeName())
+                 .add(".getter($T::$N)\n", itemClass, property.getter().getSimpleName().toString())
+                 .add(".setter($T::$N)", setterClass, property.setter().getSimpleName().toString());
+
+        if (property.attributeConverter() != null) {
+            attribute.add("\n.attributeConverter(new $T())", TypeName.get(property.attributeConverter()));
+        }
+
+        property.tags().forEach(tag -> attribute.add("\n.addTag($L)", tag));
+
+        return attribute.add(")$<$<\n").build();
+    }
+}
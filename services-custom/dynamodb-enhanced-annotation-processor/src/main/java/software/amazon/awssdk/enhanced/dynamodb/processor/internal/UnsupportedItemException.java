@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Thrown when a table schema cannot be generated for an annotated class, in which case the class is left to be introspected
+ * with reflection at runtime. The message completes the sentence "No table schema was generated because ...".
+ */
+@SdkInternalApi
+public final class UnsupportedItemException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedItemException(String reason) {
+        super(reason);
+    }
+}
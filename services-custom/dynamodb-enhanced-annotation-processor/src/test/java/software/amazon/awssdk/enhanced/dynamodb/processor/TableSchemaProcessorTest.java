@@ -0,0 +1,240 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.processor.testitems.Customer;
+import software.amazon.awssdk.enhanced.dynamodb.processor.testitems.CustomTagItem;
+import software.amazon.awssdk.enhanced.dynamodb.processor.testitems.LineItem;
+import software.amazon.awssdk.enhanced.dynamodb.processor.testitems.Order;
+import software.amazon.awssdk.enhanced.dynamodb.processor.testitems.Outer;
+import software.amazon.awssdk.enhanced.dynamodb.processor.testitems.RecursiveNode;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * The test items are compiled with the processor as part of this module's test compilation, so their generated table
+ * schemas are on the test classpath.
+ */
+public class TableSchemaProcessorTest {
+    private static final String TEST_ITEMS_PACKAGE = "software.amazon.awssdk.enhanced.dynamodb.processor.testitems";
+
+    @Test
+    public void generatesSchemasForSupportedItems() {
+        assertThat(generatedSchemaExists("Customer")).isTrue();
+        assertThat(generatedSchemaExists("Address")).isTrue();
+        assertThat(generatedSchemaExists("AuditInfo")).isTrue();
+        assertThat(generatedSchemaExists("Order")).isTrue();
+        assertThat(generatedSchemaExists("LineItem")).isTrue();
+        assertThat(generatedSchemaExists("Outer_Inner")).isTrue();
+    }
+
+    @Test
+    public void skipsUnsupportedItems() {
+        assertThat(generatedSchemaExists("RecursiveNode")).isFalse();
+        assertThat(generatedSchemaExists("CustomTagItem")).isFalse();
+    }
+
+    @Test
+    public void reportsUnsupportedItemsWithANote() throws Exception {
+        Path sourceDirectory = Paths.get("src", "test", "java", TEST_ITEMS_PACKAGE.replace('.', File.separatorChar));
+        Path outputDirectory = Files.createTempDirectory("table-schema-processor");
+        try {
+            List<Diagnostic<? extends JavaFileObject>> diagnostics =
+                compile(outputDirectory, sourceDirectory.resolve("RecursiveNode.java"), sourceDirectory.resolve("CustomTagItem.java"));
+
+            List<String> notes = diagnostics.stream()
+                                            .filter(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                                            .map(d -> d.getMessage(null))
+                                            .collect(Collectors.toList());
+            assertThat(notes).anySatisfy(n -> assertThat(n).contains(RecursiveNode.class.getName())
+                                                           .contains("will create its schema with reflection"));
+            assertThat(notes).anySatisfy(n -> assertThat(n).contains(CustomTagItem.class.getName()));
+            assertThat(diagnostics).noneMatch(d -> d.getKind() == Diagnostic.Kind.WARNING
+                                                   || d.getKind() == Diagnostic.Kind.MANDATORY_WARNING);
+        } finally {
+            try (Stream<Path> files = Files.walk(outputDirectory)) {
+                files.sorted(Collections.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    public void fromClassUsesGeneratedSchemas() {
+        assertThat(TableSchema.fromClass(Customer.class)).isInstanceOf(StaticTableSchema.class);
+        assertThat(TableSchema.fromClass(Outer.Inner.class)).isInstanceOf(StaticTableSchema.class);
+        assertThat(TableSchema.fromClass(Order.class)).isInstanceOf(StaticImmutableTableSchema.class);
+        assertThat(TableSchema.fromClass(LineItem.class)).isInstanceOf(StaticImmutableTableSchema.class);
+        assertThat(TableSchema.fromClass(RecursiveNode.class)).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @Test
+    public void beanSchemaMatchesReflectiveSchema() {
+        TableSchema<Customer> generated = TableSchema.fromClass(Customer.class);
+        TableSchema<Customer> reflective = TableSchema.fromBean(Customer.class);
+
+        assertSameMetadata(generated, reflective);
+        assertThat(generated.attributeNames()).contains("id", "active", "customer_name", "createdBy", "url")
+                                              .doesNotContain("ignored", "auditInfo");
+
+        Map<String, AttributeValue> address = new HashMap<>();
+        address.put("street", AttributeValue.fromS("1 Main St"));
+        address.put("city", AttributeValue.fromS("Seattle"));
+
+        Map<String, AttributeValue> customer = new HashMap<>();
+        customer.put("id", AttributeValue.fromS("id-1"));
+        customer.put("region", AttributeValue.fromS("us-west-2"));
+        customer.put("active", AttributeValue.fromBool(true));
+        customer.put("createdAt", AttributeValue.fromS("2024-01-02T03:04:05Z"));
+        customer.put("tags", AttributeValue.fromSs(Arrays.asList("a", "b")));
+        customer.put("addresses", AttributeValue.fromL(Collections.singletonList(AttributeValue.fromM(address))));
+        customer.put("addressesByName", AttributeValue.fromM(Collections.singletonMap("home", AttributeValue.fromM(address))));
+        customer.put("primaryAddress", AttributeValue.fromM(Collections.singletonMap("city", AttributeValue.fromS("Tacoma"))));
+        customer.put("visits", AttributeValue.fromN("12"));
+        customer.put("version", AttributeValue.fromN("3"));
+        customer.put("customer_name", AttributeValue.fromS("Jane"));
+        customer.put("nickname", AttributeValue.fromS("JJ"));
+        customer.put("createdBy", AttributeValue.fromS("admin"));
+        customer.put("url", AttributeValue.fromS("https://example.com"));
+
+        assertSameItemMaps(generated, reflective, customer);
+    }
+
+    @Test
+    public void immutableSchemaMatchesReflectiveSchema() {
+        TableSchema<Order> generated = TableSchema.fromClass(Order.class);
+        TableSchema<Order> reflective = ImmutableTableSchema.create(Order.class);
+
+        assertSameMetadata(generated, reflective);
+
+        Map<String, AttributeValue> lineItem = new HashMap<>();
+        lineItem.put("sku", AttributeValue.fromS("sku-1"));
+        lineItem.put("quantity", AttributeValue.fromN("2"));
+        lineItem.put("price", AttributeValue.fromN("9.99"));
+
+        Map<String, AttributeValue> order = new HashMap<>();
+        order.put("orderId", AttributeValue.fromS("order-1"));
+        order.put("customerId", AttributeValue.fromS("id-1"));
+        order.put("placedAt", AttributeValue.fromN("1700000000"));
+        order.put("gift", AttributeValue.fromBool(false));
+        order.put("lineItems", AttributeValue.fromL(Collections.singletonList(AttributeValue.fromM(lineItem))));
+
+        assertSameItemMaps(generated, reflective, order);
+    }
+
+    @Test
+    public void nestedClassSchemaMatchesReflectiveSchema() {
+        TableSchema<Outer.Inner> generated = TableSchema.fromClass(Outer.Inner.class);
+        TableSchema<Outer.Inner> reflective = TableSchema.fromBean(Outer.Inner.class);
+
+        assertSameMetadata(generated, reflective);
+
+        Map<String, AttributeValue> inner = new HashMap<>();
+        inner.put("key", AttributeValue.fromS("k"));
+        inner.put("score", AttributeValue.fromN("1.5"));
+
+        assertSameItemMaps(generated, reflective, inner);
+    }
+
+    private static void assertSameMetadata(TableSchema<?> generated, TableSchema<?> reflective) {
+        TableMetadata generatedMetadata = generated.tableMetadata();
+        TableMetadata reflectiveMetadata = reflective.tableMetadata();
+
+        assertThat(generated.itemType()).isEqualTo(reflective.itemType());
+        assertThat(generated.isAbstract()).isEqualTo(reflective.isAbstract());
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(reflective.attributeNames());
+        assertThat(generatedMetadata.primaryKeys()).containsExactlyInAnyOrderElementsOf(reflectiveMetadata.primaryKeys());
+        assertThat(indexKeys(generatedMetadata)).isEqualTo(indexKeys(reflectiveMetadata));
+        assertThat(generatedMetadata.customMetadata()).isEqualTo(reflectiveMetadata.customMetadata());
+        for (String attributeName : reflective.attributeNames()) {
+            assertThat(generated.converterForAttribute(attributeName).attributeValueType())
+                .isEqualTo(reflective.converterForAttribute(attributeName).attributeValueType());
+        }
+    }
+
+    private static Map<String, List<String>> indexKeys(TableMetadata metadata) {
+        Map<String, List<String>> indexKeys = new HashMap<>();
+        metadata.indices().forEach(index -> {
+            List<String> keys = new ArrayList<>();
+            index.partitionKey().ifPresent(k -> keys.add("partition:" + k.name()));
+            index.sortKey().ifPresent(k -> keys.add("sort:" + k.name()));
+            indexKeys.put(index.name(), keys);
+        });
+        return indexKeys;
+    }
+
+    private static <T> void assertSameItemMaps(TableSchema<T> generated,
+                                               TableSchema<T> reflective,
+                                               Map<String, AttributeValue> itemMap) {
+        T reflectiveItem = reflective.mapToItem(itemMap);
+        T generatedItem = generated.mapToItem(itemMap);
+
+        Map<String, AttributeValue> expected = reflective.itemToMap(reflectiveItem, false);
+        assertThat(generated.itemToMap(reflectiveItem, false)).isEqualTo(expected);
+        assertThat(generated.itemToMap(generatedItem, false)).isEqualTo(expected);
+        assertThat(generated.itemToMap(generatedItem, true)).isEqualTo(reflective.itemToMap(reflectiveItem, true));
+    }
+
+    private static boolean generatedSchemaExists(String simpleName) {
+        try {
+            Class.forName(TEST_ITEMS_PACKAGE + "." + simpleName + "_TableSchema");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> compile(Path outputDirectory, Path... sources) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = Arrays.asList("-d", outputDirectory.toString(),
+                                                 "-s", outputDirectory.toString(),
+                                                 "-classpath", System.getProperty("java.class.path"));
+            Iterable<? extends JavaFileObject> compilationUnits =
+                fileManager.getJavaFileObjects(Stream.of(sources).map(Path::toFile).toArray(File[]::new));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, compilationUnits);
+            task.setProcessors(Collections.singletonList(new TableSchemaProcessor()));
+            assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+        }
+        return diagnostics.getDiagnostics();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.testitems;
+
+import java.math.BigDecimal;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+
+@DynamoDbImmutable(builder = LineItem.Builder.class)
+public final class LineItem {
+    private final String sku;
+    private final int quantity;
+    private final BigDecimal price;
+
+    private LineItem(Builder builder) {
+        this.sku = builder.sku;
+        this.quantity = builder.quantity;
+        this.price = builder.price;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public static final class Builder {
+        private String sku;
+        private int quantity;
+        private BigDecimal price;
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public LineItem build() {
+            return new LineItem(this);
+        }
+    }
+}
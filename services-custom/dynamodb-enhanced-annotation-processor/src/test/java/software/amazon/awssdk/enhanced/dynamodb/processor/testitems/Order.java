@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.testitems;
+
+import java.util.List;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+
+@DynamoDbImmutable(builder = Order.Builder.class)
+public final class Order {
+    private final String orderId;
+    private final String customerId;
+    private final long placedAt;
+    private final Boolean gift;
+    private final List<LineItem> lineItems;
+
+    private Order(Builder builder) {
+        this.orderId = builder.orderId;
+        this.customerId = builder.customerId;
+        this.placedAt = builder.placedAt;
+        this.gift = builder.gift;
+        this.lineItems = builder.lineItems;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @DynamoDbPartitionKey
+    public String orderId() {
+        return orderId;
+    }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = "customer-index")
+    public String customerId() {
+        return customerId;
+    }
+
+    @DynamoDbSecondarySortKey(indexNames = {"customer-index", "date-index"})
+    public long placedAt() {
+        return placedAt;
+    }
+
+    public Boolean isGift() {
+        return gift;
+    }
+
+    public List<LineItem> lineItems() {
+        return lineItems;
+    }
+
+    public static final class Builder {
+        private String orderId;
+        private String customerId;
+        private long placedAt;
+        private Boolean gift;
+        private List<LineItem> lineItems;
+
+        private Builder() {
+        }
+
+        public Builder orderId(String orderId) {
+            this.orderId = orderId;
+            return this;
+        }
+
+        public Builder customerId(String customerId) {
+            this.customerId = customerId;
+            return this;
+        }
+
+        public Builder placedAt(long placedAt) {
+            this.placedAt = placedAt;
+            return this;
+        }
+
+        public Builder gift(Boolean gift) {
+            this.gift = gift;
+            return this;
+        }
+
+        public Builder lineItems(List<LineItem> lineItems) {
+            this.lineItems = lineItems;
+            return this;
+        }
+
+        public Order build() {
+            return new Order(this);
+        }
+    }
+}
@@ -19,6 +19,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
@@ -27,6 +30,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -702,6 +708,67 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Puts any number of items in the mapped table, replacing any items with the same primary keys. The items are written
+     * with as many calls to the low-level DynamoDB API BatchWriteItem operation as needed, several at a time, and the items
+     * that DynamoDB returns as unprocessed are sent again after a backoff delay.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined in the
+     * {@link BulkPutItemEnhancedRequest}.
+     * <p>
+     * The items are requested from the publisher as the batches are written, so the number of items held in memory is
+     * bounded. Items that cannot be written do not fail the operation; they are returned by
+     * {@link BulkWriteResult#failures()}. The returned future fails only if the publisher signals an error, after the
+     * batches in flight complete. Cancelling the returned future cancels the subscription to the publisher.
+     * <p>
+     * When the publisher emits several items with the same primary key close together, the last of them is written, as if
+     * each had been put in turn.
+     * <p>
+     * As with {@link DynamoDbEnhancedAsyncClient#batchWriteItem(BatchWriteItemEnhancedRequest)}, extensions that add a
+     * condition to the put request, such as the VersionedRecordExtension, are not supported.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult<MyItem> result = mappedTable.bulkPutItem(BulkPutItemEnhancedRequest.builder(MyItem.class)
+     *                                                                                    .items(items)
+     *                                                                                    .maxConcurrentBatches(16)
+     *                                                                                    .build())
+     *                                             .join();
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkPutItemEnhancedRequest} that includes the items to enter into the table and optional
+     * directives.
+     * @return a {@link CompletableFuture} of the {@link BulkWriteResult}, which completes once every item has been written or
+     * has failed.
+     */
+    default CompletableFuture<BulkWriteResult<T>> bulkPutItem(BulkPutItemEnhancedRequest<T> request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts any number of items in the mapped table, replacing any items with the same primary keys. See
+     * {@link #bulkPutItem(BulkPutItemEnhancedRequest)}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult<MyItem> result = mappedTable.bulkPutItem(r -> r.items(items)).join();
+     * }
+     * </pre>
+     *
+     * @param requestConsumer A {@link Consumer} of {@link BulkPutItemEnhancedRequest.Builder} that includes the items to
+     * enter into the table and optional directives.
+     * @return a {@link CompletableFuture} of the {@link BulkWriteResult}, which completes once every item has been written or
+     * has failed.
+     */
+    default CompletableFuture<BulkWriteResult<T>> bulkPutItem(Consumer<BulkPutItemEnhancedRequest.Builder<T>> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Scans the table and retrieves all items.
      * <p>
@@ -785,6 +852,58 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with several segments in parallel and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, of which up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} are scanned at the same time. Pages are only requested
+     * from DynamoDb when the subscriber has signalled demand for them, and are published as a single stream in the order
+     * they are received. The pages of a single segment are available from {@link ParallelScanPagePublisher#segment(int)}.
+     * <p>
+     * The progress of the scan can be saved with {@code checkpoint()} and passed to
+     * {@link ParallelScanEnhancedRequest.Builder#checkpoint(ParallelScanCheckpoint)} to resume it later, for example
+     * when exporting a large table.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPagePublisher<MyItem> publisher =
+     *     mappedTable.parallelScan(r -> r.totalSegments(16).scanRequest(s -> s.consistentRead(true)));
+     * publisher.items().subscribe(item -> export(item))
+     *          .whenComplete((r, e) -> saveCheckpoint(publisher.checkpoint()));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return {@link ParallelScanPagePublisher} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default ParallelScanPagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with several segments in parallel and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPagePublisher<T> results = mappedTable.parallelScan(r -> r.totalSegments(16));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and how to
+     * scan them.
+     * @return {@link ParallelScanPagePublisher} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default ParallelScanPagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -27,6 +27,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -766,6 +769,59 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with several segments in parallel and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, of which up to
+     * {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} are scanned at the same time. The segments are scanned on
+     * {@link ParallelScanEnhancedRequest#executor()}, reading at most one page per segment ahead of the iteration, and
+     * their pages are returned in the order they are received. The pages of a single segment are available from
+     * {@link ParallelScanPageIterable#segment(int)}.
+     * <p>
+     * The progress of the scan can be saved with {@code checkpoint()} and passed to
+     * {@link ParallelScanEnhancedRequest.Builder#checkpoint(ParallelScanCheckpoint)} to resume it later, for example
+     * when exporting a large table.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPageIterable<MyItem> results =
+     *     mappedTable.parallelScan(r -> r.totalSegments(16).scanRequest(s -> s.consistentRead(true)));
+     * results.items().forEach(item -> export(item));
+     * saveCheckpoint(results.checkpoint());
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see #scan(ScanEnhancedRequest)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return {@link ParallelScanPageIterable} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default ParallelScanPageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with several segments in parallel and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPageIterable<T> results = mappedTable.parallelScan(r -> r.totalSegments(16));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and how to
+     * scan them.
+     * @return {@link ParallelScanPageIterable} with the merged paginated results of all segments (see {@link Page}).
+     */
+    default ParallelScanPageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
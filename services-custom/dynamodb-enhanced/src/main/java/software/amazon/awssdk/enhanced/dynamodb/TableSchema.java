@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.enhanced.dynamodb.document.DocumentTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.document.EnhancedDocument;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaLoader;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
@@ -155,17 +156,24 @@ public interface TableSchema<T> {
      * If this table schema is not behaving as you expect, enable debug logging for
      * {@code software.amazon.awssdk.enhanced.dynamodb.beans}.
      *
+     * <p>
+     * If the class was compiled with the {@code dynamodb-enhanced-annotation-processor} module on the annotation processor
+     * path, the table schema generated for it at compile time is returned instead, which avoids the reflective scan of the
+     * class.
+     *
      * @param annotatedClass A class that has been annotated with DynamoDb enhanced client annotations.
      * @param <T> The type of the item this {@link TableSchema} will map records to.
      * @return An initialized {@link TableSchema}
      */
     static <T> TableSchema<T> fromClass(Class<T> annotatedClass) {
         if (annotatedClass.getAnnotation(DynamoDbImmutable.class) != null) {
-            return fromImmutableClass(annotatedClass);
+            return GeneratedTableSchemaLoader.load(annotatedClass)
+                                             .orElseGet(() -> fromImmutableClass(annotatedClass));
         }
 
         if (annotatedClass.getAnnotation(DynamoDbBean.class) != null) {
-            return fromBean(annotatedClass);
+            return GeneratedTableSchemaLoader.load(annotatedClass)
+                                             .orElseGet(() -> fromBean(annotatedClass));
         }
 
         throw new IllegalArgumentException("Class does not appear to be a valid DynamoDb annotated class. [class = " +
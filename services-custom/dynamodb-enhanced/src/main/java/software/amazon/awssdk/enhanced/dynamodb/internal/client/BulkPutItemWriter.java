@@ -0,0 +1,512 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteFailure;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbServiceClientConfiguration;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Writes the items of a {@link BulkPutItemEnhancedRequest} with batchWriteItem() calls.
+ * <p>
+ * Items are requested from the publisher one at a time and added to a batch, which is sealed once it holds 25 items or the
+ * next item would take it over 16 MB. Up to {@link BulkPutItemEnhancedRequest#maxConcurrentBatches()} sealed batches are sent
+ * at once. While a sealed batch is waiting for a free slot, no more items are requested, so memory use is bounded regardless
+ * of the number of items. Unprocessed items of a batch are sent again, as part of the same slot, after a backoff delay, which
+ * is scheduled on the scheduled executor service of the client.
+ * <p>
+ * A batch can't contain two items with the same primary key, so an item replaces an item with the same key that is still in
+ * the current batch, as if the earlier item had been written first and then overwritten.
+ * <p>
+ * Cancelling the returned future cancels the subscription to the publisher. Batches that are already in flight complete,
+ * but their unprocessed items aren't sent again.
+ */
+@SdkInternalApi
+final class BulkPutItemWriter<T> implements Subscriber<T> {
+    private static final int MAX_BATCH_ITEMS = 25;
+    private static final long MAX_BATCH_BYTES = 16L * 1024 * 1024;
+
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final MappedTableResource<T> table;
+    private final Class<? extends T> itemClass;
+    private final BulkPutItemEnhancedRequest<T> request;
+    private final CompletableFuture<BulkWriteResult<T>> resultFuture = new CompletableFuture<>();
+    private final Collection<String> primaryKeys;
+    private final ScheduledExecutorService retryScheduler;
+    private final boolean ownsRetryScheduler;
+    private final long startTime = System.nanoTime();
+
+    private final AtomicLong itemsWritten = new AtomicLong();
+    private final AtomicLong batchesSent = new AtomicLong();
+    private final AtomicLong unprocessedItemsResent = new AtomicLong();
+    private final Queue<BulkWriteFailure<T>> failures = new ConcurrentLinkedQueue<>();
+
+    // Guarded by this
+    private final Deque<List<PendingItem<T>>> sealedBatches = new ArrayDeque<>();
+    private List<PendingItem<T>> currentBatch = new ArrayList<>(MAX_BATCH_ITEMS);
+    private Map<Map<String, AttributeValue>, Integer> currentBatchKeys = new HashMap<>();
+    private long currentBatchBytes;
+    private int batchesInFlight;
+    private boolean itemRequested;
+    private boolean upstreamDone;
+    private Throwable upstreamError;
+
+    private volatile Subscription subscription;
+
+    private BulkPutItemWriter(DynamoDbAsyncClient dynamoDbClient,
+                              MappedTableResource<T> table,
+                              BulkPutItemEnhancedRequest<T> request) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.table = table;
+        this.itemClass = table.tableSchema().itemType().rawClass();
+        this.request = request;
+        this.primaryKeys = table.tableSchema().tableMetadata().primaryKeys();
+        ScheduledExecutorService clientScheduler = clientScheduledExecutor(dynamoDbClient);
+        this.ownsRetryScheduler = clientScheduler == null;
+        this.retryScheduler = clientScheduler != null
+                              ? clientScheduler
+                              : Executors.newSingleThreadScheduledExecutor(
+                                  new ThreadFactoryBuilder().threadNamePrefix("dynamodb-enhanced-bulk-put").build());
+    }
+
+    static <T> CompletableFuture<BulkWriteResult<T>> write(DynamoDbAsyncClient dynamoDbClient,
+                                                          MappedTableResource<T> table,
+                                                          BulkPutItemEnhancedRequest<T> request) {
+        BulkPutItemWriter<T> writer = new BulkPutItemWriter<>(dynamoDbClient, table, request);
+        writer.resultFuture.whenComplete((r, t) -> {
+            if (writer.resultFuture.isCancelled()) {
+                writer.cancel();
+            }
+        });
+        request.items().subscribe(writer);
+        return writer.resultFuture;
+    }
+
+    /**
+     * The scheduled executor service of the client, or null if the client implementation doesn't expose its configuration.
+     */
+    private static ScheduledExecutorService clientScheduledExecutor(DynamoDbAsyncClient dynamoDbClient) {
+        DynamoDbServiceClientConfiguration configuration;
+        try {
+            configuration = dynamoDbClient.serviceClientConfiguration();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+        return Optional.ofNullable(configuration)
+                       .map(DynamoDbServiceClientConfiguration::overrideConfiguration)
+                       .flatMap(ClientOverrideConfiguration::scheduledExecutorService)
+                       .orElse(null);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        synchronized (this) {
+            if (subscription != null || resultFuture.isCancelled()) {
+                s.cancel();
+                return;
+            }
+            subscription = s;
+            itemRequested = true;
+        }
+        s.request(1);
+    }
+
+    @Override
+    public void onNext(T item) {
+        PendingItem<T> pendingItem = toPendingItem(item);
+
+        List<List<PendingItem<T>>> batchesToSend;
+        boolean requestItem;
+        synchronized (this) {
+            itemRequested = false;
+            if (upstreamDone) {
+                return;
+            }
+            if (pendingItem != null) {
+                addToCurrentBatch(pendingItem);
+            }
+            batchesToSend = pollBatchesToSend();
+            requestItem = shouldRequestItem();
+        }
+
+        batchesToSend.forEach(b -> sendBatch(b, 1));
+        if (requestItem) {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        onUpstreamDone(t);
+    }
+
+    @Override
+    public void onComplete() {
+        onUpstreamDone(null);
+    }
+
+    private void onUpstreamDone(Throwable error) {
+        List<List<PendingItem<T>>> batchesToSend;
+        boolean done;
+        synchronized (this) {
+            if (upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            upstreamError = error;
+            if (!currentBatch.isEmpty()) {
+                sealCurrentBatch();
+            }
+            batchesToSend = pollBatchesToSend();
+            done = isDone();
+        }
+
+        batchesToSend.forEach(b -> sendBatch(b, 1));
+        if (done) {
+            finish();
+        }
+    }
+
+    /**
+     * Stops requesting items and drops the batches that haven't been sent, after the result future has been cancelled.
+     */
+    private void cancel() {
+        boolean done;
+        synchronized (this) {
+            if (upstreamDone) {
+                return;
+            }
+            upstreamDone = true;
+            sealedBatches.clear();
+            currentBatch = new ArrayList<>(MAX_BATCH_ITEMS);
+            currentBatchKeys = new HashMap<>();
+            done = isDone();
+        }
+
+        Subscription s = subscription;
+        if (s != null) {
+            s.cancel();
+        }
+        if (done) {
+            finish();
+        }
+    }
+
+    private PendingItem<T> toPendingItem(T item) {
+        try {
+            PutItemEnhancedRequest<T> putRequest = PutItemEnhancedRequest.<T>builder(itemClass).item(item).build();
+            PutItemOperation<T> operation = PutItemOperation.create(putRequest);
+            WriteRequest writeRequest = operation.generateWriteRequest(table.tableSchema(),
+                                                                       DefaultOperationContext.create(table.tableName()),
+                                                                       table.mapperExtension());
+            Map<String, AttributeValue> attributes = writeRequest.putRequest().item();
+            Map<String, AttributeValue> key = new HashMap<>();
+            primaryKeys.forEach(k -> key.put(k, attributes.get(k)));
+            return new PendingItem<>(item, key, writeRequest, itemSize(attributes), Collections.emptyList());
+        } catch (RuntimeException e) {
+            failures.add(BulkWriteFailure.create(item, e));
+            return null;
+        }
+    }
+
+    private void addToCurrentBatch(PendingItem<T> pendingItem) {
+        Integer index = currentBatchKeys.get(pendingItem.key);
+        if (index != null) {
+            // Last write wins: the replaced item is reported with the item that overwrites it
+            PendingItem<T> replaced = currentBatch.get(index);
+            List<T> overwrittenItems = new ArrayList<>(replaced.overwrittenItems);
+            overwrittenItems.add(replaced.item);
+            currentBatch.set(index, pendingItem.withOverwrittenItems(overwrittenItems));
+            currentBatchBytes += pendingItem.size - replaced.size;
+            return;
+        }
+
+        if (!currentBatch.isEmpty() && currentBatchBytes + pendingItem.size > MAX_BATCH_BYTES) {
+            sealCurrentBatch();
+        }
+        currentBatchKeys.put(pendingItem.key, currentBatch.size());
+        currentBatch.add(pendingItem);
+        currentBatchBytes += pendingItem.size;
+        if (currentBatch.size() == MAX_BATCH_ITEMS) {
+            sealCurrentBatch();
+        }
+    }
+
+    private void sealCurrentBatch() {
+        sealedBatches.add(currentBatch);
+        currentBatch = new ArrayList<>(MAX_BATCH_ITEMS);
+        currentBatchKeys = new HashMap<>();
+        currentBatchBytes = 0;
+    }
+
+    private List<List<PendingItem<T>>> pollBatchesToSend() {
+        List<List<PendingItem<T>>> batches = Collections.emptyList();
+        while (batchesInFlight < request.maxConcurrentBatches() && !sealedBatches.isEmpty()) {
+            if (batches.isEmpty()) {
+                batches = new ArrayList<>();
+            }
+            batches.add(sealedBatches.poll());
+            batchesInFlight++;
+        }
+        return batches;
+    }
+
+    private boolean shouldRequestItem() {
+        if (upstreamDone || itemRequested || !sealedBatches.isEmpty()) {
+            return false;
+        }
+        itemRequested = true;
+        return true;
+    }
+
+    private boolean isDone() {
+        return upstreamDone && batchesInFlight == 0 && sealedBatches.isEmpty();
+    }
+
+    private void sendBatch(List<PendingItem<T>> batch, int attempt) {
+        List<WriteRequest> writeRequests = new ArrayList<>(batch.size());
+        batch.forEach(i -> writeRequests.add(i.writeRequest));
+        BatchWriteItemRequest batchRequest =
+            BatchWriteItemRequest.builder()
+                                 .requestItems(Collections.singletonMap(table.tableName(), writeRequests))
+                                 .build();
+
+        batchesSent.incrementAndGet();
+        CompletableFuture<BatchWriteItemResponse> responseFuture;
+        try {
+            responseFuture = dynamoDbClient.batchWriteItem(batchRequest);
+        } catch (Throwable t) {
+            failBatch(batch, t);
+            return;
+        }
+
+        responseFuture.whenComplete((response, t) -> {
+            if (t != null) {
+                failBatch(batch, t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+            } else {
+                onBatchResponse(batch, response, attempt);
+            }
+        });
+    }
+
+    private void onBatchResponse(List<PendingItem<T>> batch, BatchWriteItemResponse response, int attempt) {
+        List<WriteRequest> unprocessed = response.hasUnprocessedItems()
+                                         ? response.unprocessedItems().getOrDefault(table.tableName(), Collections.emptyList())
+                                         : Collections.emptyList();
+        if (unprocessed.isEmpty()) {
+            itemsWritten.addAndGet(itemCount(batch));
+            onBatchDone();
+            return;
+        }
+
+        Set<WriteRequest> unprocessedSet = new HashSet<>(unprocessed);
+        List<PendingItem<T>> remaining = new ArrayList<>(unprocessed.size());
+        for (PendingItem<T> item : batch) {
+            if (unprocessedSet.contains(item.writeRequest)) {
+                remaining.add(item);
+            }
+        }
+        itemsWritten.addAndGet(itemCount(batch) - itemCount(remaining));
+
+        if (resultFuture.isCancelled()) {
+            failBatch(remaining, new CancellationException("The bulk write was cancelled."));
+            return;
+        }
+
+        if (attempt >= request.maxAttempts()) {
+            SdkClientException error =
+                SdkClientException.create("The item was returned as unprocessed by DynamoDb on all " + attempt + " attempts.");
+            failBatch(remaining, error);
+            return;
+        }
+
+        unprocessedItemsResent.addAndGet(remaining.size());
+        Duration delay = request.backoffStrategy().computeDelay(attempt + 1);
+        try {
+            retryScheduler.schedule(() -> sendBatch(remaining, attempt + 1), delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            failBatch(remaining, e);
+        }
+    }
+
+    private void failBatch(List<PendingItem<T>> batch, Throwable cause) {
+        for (PendingItem<T> pendingItem : batch) {
+            pendingItem.overwrittenItems.forEach(i -> failures.add(BulkWriteFailure.create(i, cause)));
+            failures.add(BulkWriteFailure.create(pendingItem.item, cause));
+        }
+        onBatchDone();
+    }
+
+    private void onBatchDone() {
+        List<List<PendingItem<T>>> batchesToSend;
+        boolean requestItem;
+        boolean done;
+        synchronized (this) {
+            batchesInFlight--;
+            batchesToSend = pollBatchesToSend();
+            requestItem = shouldRequestItem();
+            done = isDone();
+        }
+
+        batchesToSend.forEach(b -> sendBatch(b, 1));
+        if (requestItem) {
+            subscription.request(1);
+        }
+        if (done) {
+            finish();
+        }
+    }
+
+    private static long itemCount(List<? extends PendingItem<?>> batch) {
+        long count = 0;
+        for (PendingItem<?> pendingItem : batch) {
+            count += 1 + pendingItem.overwrittenItems.size();
+        }
+        return count;
+    }
+
+    private void finish() {
+        if (ownsRetryScheduler) {
+            retryScheduler.shutdown();
+        }
+        Throwable error;
+        synchronized (this) {
+            error = upstreamError;
+        }
+        if (error != null) {
+            resultFuture.completeExceptionally(error);
+            return;
+        }
+        resultFuture.complete(BulkWriteResult.<T>builder()
+                                             .itemsWritten(itemsWritten.get())
+                                             .batchesSent(batchesSent.get())
+                                             .unprocessedItemsResent(unprocessedItemsResent.get())
+                                             .duration(Duration.ofNanos(System.nanoTime() - startTime))
+                                             .failures(new ArrayList<>(failures))
+                                             .build());
+    }
+
+    /**
+     * Estimates the size of an item as DynamoDb calculates it: the UTF-8 length of the attribute names plus the size of the
+     * values.
+     */
+    static long itemSize(Map<String, AttributeValue> item) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+            size += utf8Length(attribute.getKey()) + valueSize(attribute.getValue());
+        }
+        return size;
+    }
+
+    private static long valueSize(AttributeValue value) {
+        switch (value.type()) {
+            case S:
+                return utf8Length(value.s());
+            case N:
+                return numberSize(value.n());
+            case B:
+                return value.b().asByteArrayUnsafe().length;
+            case SS:
+                return value.ss().stream().mapToLong(BulkPutItemWriter::utf8Length).sum();
+            case NS:
+                return value.ns().stream().mapToLong(BulkPutItemWriter::numberSize).sum();
+            case BS:
+                return value.bs().stream().mapToLong(b -> b.asByteArrayUnsafe().length).sum();
+            case M:
+                return 3 + value.m().size() + itemSize(value.m());
+            case L:
+                return 3 + value.l().size() + value.l().stream().mapToLong(BulkPutItemWriter::valueSize).sum();
+            default:
+                return 1;
+        }
+    }
+
+    private static long numberSize(String number) {
+        return (number.length() + 1) / 2 + 1;
+    }
+
+    private static long utf8Length(String s) {
+        long length = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x800) {
+                // Three bytes, or four for a surrogate pair that counts as two chars
+                length += Character.isSurrogate(c) ? 1 : 2;
+            } else if (c >= 0x80) {
+                length += 1;
+            }
+        }
+        return length;
+    }
+
+    private static final class PendingItem<T> {
+        private final T item;
+        private final Map<String, AttributeValue> key;
+        private final WriteRequest writeRequest;
+        private final long size;
+        private final List<T> overwrittenItems;
+
+        private PendingItem(T item, Map<String, AttributeValue> key, WriteRequest writeRequest, long size,
+                            List<T> overwrittenItems) {
+            this.item = item;
+            this.key = key;
+            this.writeRequest = writeRequest;
+            this.size = size;
+            this.overwrittenItems = overwrittenItems;
+        }
+
+        private PendingItem<T> withOverwrittenItems(List<T> items) {
+            return new PendingItem<>(item, key, writeRequest, size, items);
+        }
+    }
+}
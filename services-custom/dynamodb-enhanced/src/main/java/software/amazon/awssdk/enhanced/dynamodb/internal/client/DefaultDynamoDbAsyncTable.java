@@ -36,6 +36,8 @@ import software.amazon.awssdk.enhanced.dynamodb.internal.operations.QueryOperati
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.ScanOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TableOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.UpdateItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse;
@@ -43,6 +45,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedRespo
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -247,6 +251,19 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
         return putItemWithResponse(builder.build());
     }
 
+    @Override
+    public CompletableFuture<BulkWriteResult<T>> bulkPutItem(BulkPutItemEnhancedRequest<T> request) {
+        return BulkPutItemWriter.write(dynamoDbClient, this, request);
+    }
+
+    @Override
+    public CompletableFuture<BulkWriteResult<T>> bulkPutItem(Consumer<BulkPutItemEnhancedRequest.Builder<T>> requestConsumer) {
+        BulkPutItemEnhancedRequest.Builder<T> builder =
+            BulkPutItemEnhancedRequest.builder(this.tableSchema.itemType().rawClass());
+        requestConsumer.accept(builder);
+        return bulkPutItem(builder.build());
+    }
+
     @Override
     public PagePublisher<T> scan(ScanEnhancedRequest request) {
         PaginatedTableOperation<T, ?, ?> operation = ScanOperation.create(request);
@@ -265,6 +282,18 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public ParallelScanPagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        return new DefaultParallelScanPagePublisher<>(this::scan, request);
+    }
+
+    @Override
+    public ParallelScanPagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
     @Override
     public CompletableFuture<T> updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -0,0 +1,276 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Merges the page iterables of the segments of a parallel scan.
+ * <p>
+ * Each iteration keeps at most {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments active. Every active
+ * segment has exactly one page fetch in flight or one fetched page waiting to be returned, so no segment reads more than
+ * one page ahead of the iteration.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class DefaultParallelScanPageIterable<T> implements ParallelScanPageIterable<T> {
+    private static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final Function<ScanEnhancedRequest, PageIterable<T>> segmentScanner;
+    private final ParallelScanEnhancedRequest request;
+    private final ParallelScanProgress progress;
+
+    DefaultParallelScanPageIterable(Function<ScanEnhancedRequest, PageIterable<T>> segmentScanner,
+                                    ParallelScanEnhancedRequest request) {
+        this.segmentScanner = segmentScanner;
+        this.request = request;
+        this.progress = new ParallelScanProgress(request);
+    }
+
+    @Override
+    public Iterator<Page<T>> iterator() {
+        return new MergingIterator();
+    }
+
+    @Override
+    public PageIterable<T> segment(int segment) {
+        if (progress.isCompletedInRequest(segment)) {
+            return Collections::emptyIterator;
+        }
+        ScanEnhancedRequest segmentRequest = progress.segmentRequest(segment);
+        return () -> new RecordingIterator(segment, segmentScanner.apply(segmentRequest).iterator());
+    }
+
+    @Override
+    public ParallelScanCheckpoint checkpoint() {
+        return progress.checkpoint();
+    }
+
+    @NotThreadSafe
+    private final class RecordingIterator implements Iterator<Page<T>> {
+        private final int segment;
+        private final Iterator<Page<T>> pages;
+        private Page<T> lastReturned;
+
+        private RecordingIterator(int segment, Iterator<Page<T>> pages) {
+            this.segment = segment;
+            this.pages = pages;
+        }
+
+        @Override
+        public boolean hasNext() {
+            recordLastReturned();
+            return pages.hasNext();
+        }
+
+        @Override
+        public Page<T> next() {
+            recordLastReturned();
+            lastReturned = pages.next();
+            return lastReturned;
+        }
+
+        private void recordLastReturned() {
+            if (lastReturned != null) {
+                progress.recordPage(segment, lastReturned);
+                lastReturned = null;
+            }
+        }
+    }
+
+    @NotThreadSafe
+    private final class MergingIterator implements Iterator<Page<T>> {
+        private final Deque<Integer> pendingSegments = new ArrayDeque<>(progress.segmentsToScan());
+        private final BlockingQueue<FetchResult<T>> fetchResults = new LinkedBlockingQueue<>();
+        private final Executor executor;
+        private final ExecutorService ownedExecutor;
+        private int fetchesInFlight;
+        private FetchResult<T> nextResult;
+        private FetchResult<T> lastReturned;
+        private boolean done;
+
+        private MergingIterator() {
+            if (request.executor() != null) {
+                this.executor = request.executor();
+                this.ownedExecutor = null;
+            } else {
+                this.ownedExecutor = createExecutor(request.maxConcurrentSegments());
+                this.executor = ownedExecutor;
+            }
+
+            try {
+                while (fetchesInFlight < request.maxConcurrentSegments() && !pendingSegments.isEmpty()) {
+                    fetch(new SegmentState<>(pendingSegments.poll()));
+                }
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            recordLastReturned();
+            if (nextResult != null) {
+                return true;
+            }
+            if (done) {
+                return false;
+            }
+
+            try {
+                while (fetchesInFlight > 0) {
+                    FetchResult<T> result = takeFetchResult();
+                    fetchesInFlight--;
+                    if (result.error != null) {
+                        throw asRuntimeException(result.error);
+                    }
+                    if (result.page == null) {
+                        if (!pendingSegments.isEmpty()) {
+                            fetch(new SegmentState<>(pendingSegments.poll()));
+                        }
+                        continue;
+                    }
+                    fetch(result.segment);
+                    nextResult = result;
+                    return true;
+                }
+            } catch (RuntimeException | Error e) {
+                close();
+                throw e;
+            }
+
+            close();
+            return false;
+        }
+
+        @Override
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more pages in the parallel scan.");
+            }
+            lastReturned = nextResult;
+            nextResult = null;
+            return lastReturned.page;
+        }
+
+        private void recordLastReturned() {
+            if (lastReturned != null) {
+                progress.recordPage(lastReturned.segment.segment, lastReturned.page);
+                lastReturned = null;
+            }
+        }
+
+        private void fetch(SegmentState<T> segment) {
+            executor.execute(() -> {
+                try {
+                    if (segment.pages == null) {
+                        segment.pages = segmentScanner.apply(progress.segmentRequest(segment.segment)).iterator();
+                    }
+                    Page<T> page = segment.pages.hasNext() ? segment.pages.next() : null;
+                    fetchResults.add(new FetchResult<>(segment, page, null));
+                } catch (Throwable t) {
+                    fetchResults.add(new FetchResult<>(segment, null, t));
+                }
+            });
+            fetchesInFlight++;
+        }
+
+        private FetchResult<T> takeFetchResult() {
+            try {
+                return fetchResults.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw AbortedException.create("Interrupted while waiting for a page of the parallel scan.", e);
+            }
+        }
+
+        private RuntimeException asRuntimeException(Throwable t) {
+            if (t instanceof RuntimeException) {
+                return (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            return SdkClientException.create("Failed to scan a segment of the parallel scan.", t);
+        }
+
+        private void close() {
+            done = true;
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdown();
+            }
+        }
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(threads, threads, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                   new ThreadFactoryBuilder().threadNamePrefix("dynamodb-enhanced-parallel-scan")
+                                                             .daemonThreads(true)
+                                                             .build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * The page iterator of an active segment. It is only used by the fetch task of the segment, of which there is at most
+     * one at a time.
+     */
+    private static final class SegmentState<T> {
+        private final int segment;
+        private Iterator<Page<T>> pages;
+
+        private SegmentState(int segment) {
+            this.segment = segment;
+        }
+    }
+
+    private static final class FetchResult<T> {
+        private final SegmentState<T> segment;
+        private final Page<T> page;
+        private final Throwable error;
+
+        private FetchResult(SegmentState<T> segment, Page<T> page, Throwable error) {
+            this.segment = segment;
+            this.page = page;
+            this.error = error;
+        }
+    }
+}
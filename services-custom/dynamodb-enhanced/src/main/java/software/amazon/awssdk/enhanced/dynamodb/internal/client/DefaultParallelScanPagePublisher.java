@@ -0,0 +1,328 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+
+/**
+ * Merges the page publishers of the segments of a parallel scan.
+ * <p>
+ * Each subscription keeps at most {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segment publishers subscribed,
+ * and starts the next segment when one of them completes. A page is requested from an idle segment only while the
+ * downstream demand exceeds the pages that are already buffered or requested, so no more pages are fetched than the
+ * subscriber has asked for.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class DefaultParallelScanPagePublisher<T> implements ParallelScanPagePublisher<T> {
+    private final Function<ScanEnhancedRequest, PagePublisher<T>> segmentScanner;
+    private final ParallelScanEnhancedRequest request;
+    private final ParallelScanProgress progress;
+
+    DefaultParallelScanPagePublisher(Function<ScanEnhancedRequest, PagePublisher<T>> segmentScanner,
+                                     ParallelScanEnhancedRequest request) {
+        this.segmentScanner = segmentScanner;
+        this.request = request;
+        this.progress = new ParallelScanProgress(request);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        new MergingSubscription(subscriber).start();
+    }
+
+    @Override
+    public PagePublisher<T> segment(int segment) {
+        if (progress.isCompletedInRequest(segment)) {
+            return PagePublisher.create(SdkPublisher.fromIterable(Collections.emptyList()));
+        }
+        ScanEnhancedRequest segmentRequest = progress.segmentRequest(segment);
+        return subscriber -> segmentScanner.apply(segmentRequest).subscribe(new RecordingSubscriber(segment, subscriber));
+    }
+
+    @Override
+    public ParallelScanCheckpoint checkpoint() {
+        return progress.checkpoint();
+    }
+
+    private final class RecordingSubscriber extends DelegatingSubscriber<Page<T>, Page<T>> {
+        private final int segment;
+
+        private RecordingSubscriber(int segment, Subscriber<? super Page<T>> subscriber) {
+            super(subscriber);
+            this.segment = segment;
+        }
+
+        @Override
+        public void onNext(Page<T> page) {
+            subscriber.onNext(page);
+            progress.recordPage(segment, page);
+        }
+    }
+
+    private final class MergingSubscription implements Subscription {
+        private final Subscriber<? super Page<T>> downstream;
+
+        // Guarded by this
+        private final Deque<Integer> pendingSegments;
+        private final Set<SegmentSubscriber> activeSegments = new LinkedHashSet<>();
+        private final Deque<SegmentSubscriber> idleSegments = new ArrayDeque<>();
+        private final Queue<SegmentPage<T>> bufferedPages = new ArrayDeque<>();
+        private long demand;
+        private int pagesRequested;
+        private Throwable error;
+        private boolean cancelled;
+        private boolean terminated;
+        private boolean draining;
+
+        private MergingSubscription(Subscriber<? super Page<T>> downstream) {
+            this.downstream = downstream;
+            this.pendingSegments = new ArrayDeque<>(progress.segmentsToScan());
+        }
+
+        private void start() {
+            downstream.onSubscribe(this);
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    if (error == null) {
+                        error = new IllegalArgumentException("A downstream publisher requested an invalid amount of data: " + n);
+                    }
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            List<SegmentSubscriber> toCancel;
+            synchronized (this) {
+                cancelled = true;
+                toCancel = new ArrayList<>(activeSegments);
+                activeSegments.clear();
+                idleSegments.clear();
+                bufferedPages.clear();
+            }
+            toCancel.forEach(SegmentSubscriber::cancel);
+        }
+
+        /**
+         * Delivers buffered pages, starts segments and requests pages until there is nothing left to do. Only one thread
+         * drains at a time; signals that arrive while another thread is draining are picked up by that thread.
+         */
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            while (true) {
+                SegmentPage<T> pageToDeliver = null;
+                List<SegmentSubscriber> segmentsToStart = Collections.emptyList();
+                List<SegmentSubscriber> segmentsToRequest = Collections.emptyList();
+                List<SegmentSubscriber> segmentsToCancel = Collections.emptyList();
+                Throwable errorToSignal = null;
+                boolean complete = false;
+
+                synchronized (this) {
+                    if (cancelled || terminated) {
+                        draining = false;
+                        return;
+                    }
+
+                    if (error != null) {
+                        terminated = true;
+                        errorToSignal = error;
+                        segmentsToCancel = new ArrayList<>(activeSegments);
+                        activeSegments.clear();
+                    } else if (!bufferedPages.isEmpty() && demand > 0) {
+                        pageToDeliver = bufferedPages.poll();
+                        if (demand != Long.MAX_VALUE) {
+                            demand--;
+                        }
+                    } else if (bufferedPages.isEmpty() && activeSegments.isEmpty() && pendingSegments.isEmpty()) {
+                        terminated = true;
+                        complete = true;
+                    } else {
+                        while (activeSegments.size() < request.maxConcurrentSegments() && !pendingSegments.isEmpty()) {
+                            if (segmentsToStart.isEmpty()) {
+                                segmentsToStart = new ArrayList<>();
+                            }
+                            SegmentSubscriber segment = new SegmentSubscriber(pendingSegments.poll());
+                            activeSegments.add(segment);
+                            segmentsToStart.add(segment);
+                        }
+                        while (demand - bufferedPages.size() - pagesRequested > 0 && !idleSegments.isEmpty()) {
+                            if (segmentsToRequest.isEmpty()) {
+                                segmentsToRequest = new ArrayList<>();
+                            }
+                            SegmentSubscriber segment = idleSegments.poll();
+                            segment.requested = true;
+                            pagesRequested++;
+                            segmentsToRequest.add(segment);
+                        }
+                        if (segmentsToStart.isEmpty() && segmentsToRequest.isEmpty()) {
+                            draining = false;
+                            return;
+                        }
+                    }
+                }
+
+                if (errorToSignal != null) {
+                    segmentsToCancel.forEach(SegmentSubscriber::cancel);
+                    downstream.onError(errorToSignal);
+                    return;
+                }
+                if (complete) {
+                    downstream.onComplete();
+                    return;
+                }
+                if (pageToDeliver != null) {
+                    downstream.onNext(pageToDeliver.page);
+                    progress.recordPage(pageToDeliver.segment, pageToDeliver.page);
+                }
+                segmentsToStart.forEach(SegmentSubscriber::start);
+                segmentsToRequest.forEach(s -> s.subscription.request(1));
+            }
+        }
+
+        private final class SegmentSubscriber implements Subscriber<Page<T>> {
+            private final int segment;
+            private volatile Subscription subscription;
+
+            // Guarded by the enclosing MergingSubscription
+            private boolean requested;
+
+            private SegmentSubscriber(int segment) {
+                this.segment = segment;
+            }
+
+            private void start() {
+                try {
+                    segmentScanner.apply(progress.segmentRequest(segment)).subscribe(this);
+                } catch (RuntimeException e) {
+                    onError(e);
+                }
+            }
+
+            private void cancel() {
+                Subscription s = subscription;
+                if (s != null) {
+                    s.cancel();
+                }
+            }
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                boolean cancelNow;
+                synchronized (MergingSubscription.this) {
+                    if (subscription != null) {
+                        cancelNow = true;
+                    } else {
+                        subscription = s;
+                        cancelNow = cancelled || terminated;
+                        if (!cancelNow) {
+                            idleSegments.add(this);
+                        }
+                    }
+                }
+                if (cancelNow) {
+                    s.cancel();
+                    return;
+                }
+                drain();
+            }
+
+            @Override
+            public void onNext(Page<T> page) {
+                synchronized (MergingSubscription.this) {
+                    if (requested) {
+                        requested = false;
+                        pagesRequested--;
+                    }
+                    if (activeSegments.contains(this)) {
+                        bufferedPages.add(new SegmentPage<>(segment, page));
+                        idleSegments.add(this);
+                    }
+                }
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                synchronized (MergingSubscription.this) {
+                    activeSegments.remove(this);
+                    idleSegments.remove(this);
+                    if (error == null) {
+                        error = t;
+                    }
+                }
+                drain();
+            }
+
+            @Override
+            public void onComplete() {
+                synchronized (MergingSubscription.this) {
+                    activeSegments.remove(this);
+                    idleSegments.remove(this);
+                    if (requested) {
+                        requested = false;
+                        pagesRequested--;
+                    }
+                }
+                drain();
+            }
+        }
+    }
+
+    private static final class SegmentPage<T> {
+        private final int segment;
+        private final Page<T> page;
+
+        private SegmentPage(int segment, Page<T> page) {
+            this.segment = segment;
+            this.page = page;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates the scan requests of the segments of a parallel scan, and records the pages that have been delivered from them to
+ * build a {@link ParallelScanCheckpoint}.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ParallelScanProgress {
+    private final ParallelScanEnhancedRequest request;
+
+    // Guarded by this
+    private final Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys = new HashMap<>();
+    private final Set<Integer> completedSegments = new HashSet<>();
+
+    ParallelScanProgress(ParallelScanEnhancedRequest request) {
+        this.request = request;
+        ParallelScanCheckpoint checkpoint = request.checkpoint();
+        if (checkpoint != null) {
+            lastEvaluatedKeys.putAll(checkpoint.lastEvaluatedKeys());
+            completedSegments.addAll(checkpoint.completedSegments());
+        }
+    }
+
+    /**
+     * Returns the segments that were not completed in the checkpoint of the request, in ascending order.
+     */
+    List<Integer> segmentsToScan() {
+        List<Integer> segments = new ArrayList<>();
+        for (int segment = 0; segment < request.totalSegments(); segment++) {
+            if (!isCompletedInRequest(segment)) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns true if the segment was completed in the checkpoint of the request, so it does not need to be scanned.
+     */
+    boolean isCompletedInRequest(int segment) {
+        validateSegment(segment);
+        return request.checkpoint() != null && request.checkpoint().isSegmentComplete(segment);
+    }
+
+    /**
+     * Returns the scan request of a segment, which starts after the segment's last evaluated key in the checkpoint of the
+     * request.
+     */
+    ScanEnhancedRequest segmentRequest(int segment) {
+        validateSegment(segment);
+        ParallelScanCheckpoint checkpoint = request.checkpoint();
+        return request.scanRequest()
+                      .toBuilder()
+                      .segment(segment)
+                      .totalSegments(request.totalSegments())
+                      .exclusiveStartKey(checkpoint != null ? checkpoint.lastEvaluatedKey(segment) : null)
+                      .build();
+    }
+
+    /**
+     * Records that a page of a segment has been delivered. The last page of a segment has no last evaluated key.
+     */
+    synchronized void recordPage(int segment, Page<?> page) {
+        if (page.lastEvaluatedKey() == null) {
+            lastEvaluatedKeys.remove(segment);
+            completedSegments.add(segment);
+        } else {
+            lastEvaluatedKeys.put(segment, page.lastEvaluatedKey());
+        }
+    }
+
+    synchronized ParallelScanCheckpoint checkpoint() {
+        return ParallelScanCheckpoint.builder()
+                                     .totalSegments(request.totalSegments())
+                                     .lastEvaluatedKeys(lastEvaluatedKeys)
+                                     .completedSegments(completedSegments)
+                                     .build();
+    }
+
+    private void validateSegment(int segment) {
+        Validate.isTrue(segment >= 0 && segment < request.totalSegments(),
+                        "Segment %s must be between 0 and totalSegments - 1 (%s).", segment, request.totalSegments() - 1);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.DynamoDbEnhancedLogger.BEAN_LOGGER;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+/**
+ * Finds the {@link TableSchema} generated at compile time for an annotated class by the
+ * {@code dynamodb-enhanced-annotation-processor} module, so that {@link TableSchema#fromClass(Class)} can skip the
+ * reflective introspection done by the bean and immutable table schemas.
+ * <p>
+ * For an annotated class {@code com.example.Outer$Customer} the processor generates
+ * {@code com.example.Outer_Customer_TableSchema} with a public static {@code create()} method returning the schema. Both found
+ * schemas and missing ones are cached per class.
+ */
+@SdkInternalApi
+public final class GeneratedTableSchemaLoader {
+    public static final String GENERATED_CLASS_SUFFIX = "_TableSchema";
+
+    private static final String CREATE_METHOD_NAME = "create";
+    private static final Map<Class<?>, Optional<TableSchema<?>>> GENERATED_TABLE_SCHEMA_CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private GeneratedTableSchemaLoader() {
+    }
+
+    /**
+     * Returns the generated table schema for the given annotated class, or an empty optional if none was generated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TableSchema<T>> load(Class<T> annotatedClass) {
+        Optional<TableSchema<?>> tableSchema = GENERATED_TABLE_SCHEMA_CACHE.get(annotatedClass);
+
+        // The schema is created outside the lock, as creating it may recursively load the schemas of nested classes.
+        if (tableSchema == null) {
+            tableSchema = find(annotatedClass);
+            Optional<TableSchema<?>> existing = GENERATED_TABLE_SCHEMA_CACHE.putIfAbsent(annotatedClass, tableSchema);
+            if (existing != null) {
+                tableSchema = existing;
+            }
+        }
+
+        return tableSchema.map(schema -> (TableSchema<T>) schema);
+    }
+
+    /**
+     * Returns the binary name of the class generated for the given annotated class.
+     */
+    public static String generatedClassName(Class<?> annotatedClass) {
+        String binaryName = annotatedClass.getName();
+        int packageEnd = binaryName.lastIndexOf('.');
+        return binaryName.substring(0, packageEnd + 1)
+               + binaryName.substring(packageEnd + 1).replace('$', '_')
+               + GENERATED_CLASS_SUFFIX;
+    }
+
+    private static Optional<TableSchema<?>> find(Class<?> annotatedClass) {
+        String generatedClassName = generatedClassName(annotatedClass);
+        Class<?> generatedClass;
+
+        try {
+            generatedClass = Class.forName(generatedClassName, true, annotatedClass.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            debugLog(annotatedClass, () -> "No generated table schema found");
+            return Optional.empty();
+        }
+
+        Method createMethod;
+        try {
+            createMethod = generatedClass.getMethod(CREATE_METHOD_NAME);
+        } catch (NoSuchMethodException e) {
+            debugLog(annotatedClass, () -> "Ignoring " + generatedClassName + " because it has no create() method");
+            return Optional.empty();
+        }
+
+        if (!Modifier.isStatic(createMethod.getModifiers())
+            || !TableSchema.class.isAssignableFrom(createMethod.getReturnType())) {
+            debugLog(annotatedClass, () -> "Ignoring " + generatedClassName + " because its create() method does not "
+                                           + "statically create a TableSchema");
+            return Optional.empty();
+        }
+
+        TableSchema<?> tableSchema;
+        try {
+            tableSchema = (TableSchema<?>) createMethod.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+            throw new IllegalStateException("Could not create the generated table schema " + generatedClassName
+                                            + " for class " + annotatedClass.getTypeName(), cause);
+        }
+
+        if (tableSchema == null || !annotatedClass.equals(tableSchema.itemType().rawClass())) {
+            debugLog(annotatedClass, () -> "Ignoring " + generatedClassName + " because it does not map this class");
+            return Optional.empty();
+        }
+
+        debugLog(annotatedClass, () -> "Using generated table schema " + generatedClassName);
+        return Optional.of(tableSchema);
+    }
+
+    private static void debugLog(Class<?> annotatedClass, Supplier<String> logMessage) {
+        BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - " + logMessage.get());
+    }
+}
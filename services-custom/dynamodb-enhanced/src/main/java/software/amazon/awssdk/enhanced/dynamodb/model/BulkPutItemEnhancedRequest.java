@@ -0,0 +1,221 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.IterablePublisher;
+
+/**
+ * Defines parameters used to write a stream of items of any length to a DynamoDb table with
+ * {@link DynamoDbAsyncTable#bulkPutItem(BulkPutItemEnhancedRequest)}.
+ * <p>
+ * The items are grouped into batchWriteItem() calls of up to 25 items and 16 MB, and several calls are made concurrently.
+ * Items that DynamoDb returns as unprocessed are sent again after a delay determined by the {@link #backoffStrategy()}.
+ * <p>
+ * A valid request object must contain the items that should be written to the table.
+ *
+ * @param <T> The type of the modelled object.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkPutItemEnhancedRequest<T> {
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 8;
+    private static final int DEFAULT_MAX_ATTEMPTS = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelayHalfJitter(Duration.ofMillis(50), Duration.ofSeconds(20));
+
+    private final Publisher<T> items;
+    private final int maxConcurrentBatches;
+    private final int maxAttempts;
+    private final BackoffStrategy backoffStrategy;
+
+    private BulkPutItemEnhancedRequest(Builder<T> builder) {
+        this.items = Validate.paramNotNull(builder.items, "items");
+        this.maxConcurrentBatches = Validate.isPositive(builder.maxConcurrentBatches == null ? DEFAULT_MAX_CONCURRENT_BATCHES
+                                                                                             : builder.maxConcurrentBatches,
+                                                        "maxConcurrentBatches");
+        this.maxAttempts = Validate.isPositive(builder.maxAttempts == null ? DEFAULT_MAX_ATTEMPTS : builder.maxAttempts,
+                                               "maxAttempts");
+        this.backoffStrategy = builder.backoffStrategy == null ? DEFAULT_BACKOFF_STRATEGY : builder.backoffStrategy;
+    }
+
+    /**
+     * Creates a newly initialized builder for the request object.
+     *
+     * @param itemClass the class that items in this table map to
+     * @param <T> The type of the modelled object, corresponding to itemClass
+     * @return a BulkPutItemEnhancedRequest builder
+     */
+    public static <T> Builder<T> builder(Class<? extends T> itemClass) {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder<T> toBuilder() {
+        return new Builder<T>().items(items)
+                               .maxConcurrentBatches(maxConcurrentBatches)
+                               .maxAttempts(maxAttempts)
+                               .backoffStrategy(backoffStrategy);
+    }
+
+    /**
+     * Returns the items to write.
+     */
+    public Publisher<T> items() {
+        return items;
+    }
+
+    /**
+     * Returns the maximum number of batchWriteItem() calls in flight at any time.
+     */
+    public int maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Returns the maximum number of times an item is sent before it is reported as failed, if DynamoDb keeps returning it as
+     * unprocessed.
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns the strategy that determines the delay before unprocessed items are sent again.
+     */
+    public BackoffStrategy backoffStrategy() {
+        return backoffStrategy;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkPutItemEnhancedRequest<?> that = (BulkPutItemEnhancedRequest<?>) o;
+
+        return maxConcurrentBatches == that.maxConcurrentBatches
+               && maxAttempts == that.maxAttempts
+               && Objects.equals(items, that.items)
+               && Objects.equals(backoffStrategy, that.backoffStrategy);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(items);
+        result = 31 * result + maxConcurrentBatches;
+        result = 31 * result + maxAttempts;
+        result = 31 * result + Objects.hashCode(backoffStrategy);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     * <p>
+     * <b>Note</b>: A valid request builder must define the items to write.
+     */
+    @NotThreadSafe
+    public static final class Builder<T> {
+        private Publisher<T> items;
+        private Integer maxConcurrentBatches;
+        private Integer maxAttempts;
+        private BackoffStrategy backoffStrategy;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the items to write. The items are requested from the publisher as the batches are written, so a publisher of
+         * any number of items can be written without holding them all in memory.
+         *
+         * @param items the items to write
+         * @return a builder of this type
+         */
+        public Builder<T> items(Publisher<T> items) {
+            this.items = items;
+            return this;
+        }
+
+        /**
+         * Sets the items to write. The iterator is advanced as the batches are written, so an iterable of any number of items
+         * can be written without holding them all in memory.
+         *
+         * @param items the items to write
+         * @return a builder of this type
+         */
+        public Builder<T> items(Iterable<T> items) {
+            this.items = items == null ? null : new IterablePublisher<>(items);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of batchWriteItem() calls in flight at any time. The default value is 8.
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent calls
+         * @return a builder of this type
+         */
+        public Builder<T> maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of times an item is sent before it is reported as failed, if DynamoDb keeps returning it as
+         * unprocessed. The default value is 10.
+         * <p>
+         * Errors from the batchWriteItem() calls themselves, such as throttling, are retried separately by the retry strategy
+         * of the underlying {@code DynamoDbAsyncClient}.
+         *
+         * @param maxAttempts the maximum number of attempts of each item
+         * @return a builder of this type
+         */
+        public Builder<T> maxAttempts(Integer maxAttempts) {
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the strategy that determines the delay before unprocessed items are sent again. The default is an exponential
+         * delay with half jitter, starting from 50 milliseconds and limited to 20 seconds, so that concurrent batches spread
+         * out their resends while each resend still waits at least half of the exponential delay.
+         *
+         * @param backoffStrategy the backoff strategy
+         * @return a builder of this type
+         */
+        public Builder<T> backoffStrategy(BackoffStrategy backoffStrategy) {
+            this.backoffStrategy = backoffStrategy;
+            return this;
+        }
+
+        public BulkPutItemEnhancedRequest<T> build() {
+            return new BulkPutItemEnhancedRequest<>(this);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * An item that could not be written by a bulk write operation such as
+ * {@link software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable#bulkPutItem(BulkPutItemEnhancedRequest)}, and the
+ * reason it could not be written.
+ *
+ * @param <T> The type of the modelled object.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteFailure<T> {
+    private final T item;
+    private final Throwable cause;
+
+    private BulkWriteFailure(T item, Throwable cause) {
+        this.item = item;
+        this.cause = cause;
+    }
+
+    public static <T> BulkWriteFailure<T> create(T item, Throwable cause) {
+        return new BulkWriteFailure<>(item, cause);
+    }
+
+    /**
+     * Returns the item that could not be written.
+     */
+    public T item() {
+        return item;
+    }
+
+    /**
+     * Returns the error that prevented the item from being written.
+     */
+    public Throwable cause() {
+        return cause;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BulkWriteFailure")
+                       .add("item", item)
+                       .add("cause", cause)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteFailure<?> that = (BulkWriteFailure<?>) o;
+        return Objects.equals(item, that.item) && Objects.equals(cause, that.cause);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(item);
+        result = 31 * result + Objects.hashCode(cause);
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Defines the result of a bulk write operation such as
+ * {@link software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable#bulkPutItem(BulkPutItemEnhancedRequest)}: the items that
+ * could not be written, and the throughput of the operation.
+ *
+ * @param <T> The type of the modelled object.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteResult<T> {
+    private final long itemsWritten;
+    private final long batchesSent;
+    private final long unprocessedItemsResent;
+    private final Duration duration;
+    private final List<BulkWriteFailure<T>> failures;
+
+    private BulkWriteResult(Builder<T> builder) {
+        this.itemsWritten = builder.itemsWritten;
+        this.batchesSent = builder.batchesSent;
+        this.unprocessedItemsResent = builder.unprocessedItemsResent;
+        this.duration = builder.duration == null ? Duration.ZERO : builder.duration;
+        this.failures = builder.failures == null ? Collections.emptyList()
+                                                 : Collections.unmodifiableList(new ArrayList<>(builder.failures));
+    }
+
+    /**
+     * Creates a newly initialized builder for a result object.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the number of items that were written.
+     */
+    public long itemsWritten() {
+        return itemsWritten;
+    }
+
+    /**
+     * Returns the number of batchWriteItem() calls that were made, including calls that resent unprocessed items.
+     */
+    public long batchesSent() {
+        return batchesSent;
+    }
+
+    /**
+     * Returns the number of times an item was sent again because DynamoDb returned it as unprocessed. A high number relative
+     * to {@link #itemsWritten()} indicates that the table's throughput is the bottleneck.
+     */
+    public long unprocessedItemsResent() {
+        return unprocessedItemsResent;
+    }
+
+    /**
+     * Returns the time from the start of the operation until the last batch completed.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the average number of items written per second.
+     */
+    public double itemsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : itemsWritten * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Returns the items that could not be written, because they could not be converted to a DynamoDb item, the
+     * batchWriteItem() call failed, or DynamoDb returned them as unprocessed on every attempt.
+     */
+    public List<BulkWriteFailure<T>> failures() {
+        return failures;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BulkWriteResult")
+                       .add("itemsWritten", itemsWritten)
+                       .add("batchesSent", batchesSent)
+                       .add("unprocessedItemsResent", unprocessedItemsResent)
+                       .add("duration", duration)
+                       .add("failures", failures.size())
+                       .build();
+    }
+
+    @NotThreadSafe
+    public static final class Builder<T> {
+        private long itemsWritten;
+        private long batchesSent;
+        private long unprocessedItemsResent;
+        private Duration duration;
+        private List<BulkWriteFailure<T>> failures;
+
+        private Builder() {
+        }
+
+        public Builder<T> itemsWritten(long itemsWritten) {
+            this.itemsWritten = itemsWritten;
+            return this;
+        }
+
+        public Builder<T> batchesSent(long batchesSent) {
+            this.batchesSent = batchesSent;
+            return this;
+        }
+
+        public Builder<T> unprocessedItemsResent(long unprocessedItemsResent) {
+            this.unprocessedItemsResent = unprocessedItemsResent;
+            return this;
+        }
+
+        public Builder<T> duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        public Builder<T> failures(List<BulkWriteFailure<T>> failures) {
+            this.failures = failures;
+            return this;
+        }
+
+        public BulkWriteResult<T> build() {
+            return new BulkWriteResult<>(this);
+        }
+    }
+}
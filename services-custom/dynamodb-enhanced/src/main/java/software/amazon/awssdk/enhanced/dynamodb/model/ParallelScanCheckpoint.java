@@ -0,0 +1,241 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An immutable record of how far each segment of a parallel scan has progressed. It holds the last evaluated key of every
+ * segment that has started but not finished, and the set of segments that have been fully scanned. Segments that are in
+ * neither have not returned any pages yet.
+ * <p>
+ * A checkpoint is obtained from {@link ParallelScanPagePublisher#checkpoint()} or {@link ParallelScanPageIterable#checkpoint()}
+ * and can be passed to {@link ParallelScanEnhancedRequest.Builder#checkpoint(ParallelScanCheckpoint)} to resume the scan. The
+ * pages after the checkpoint are read again, so a resumed scan delivers every item at least once.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanCheckpoint {
+    private final int totalSegments;
+    private final Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys;
+    private final Set<Integer> completedSegments;
+
+    private ParallelScanCheckpoint(Builder builder) {
+        this.totalSegments = Validate.paramNotNull(builder.totalSegments, "totalSegments");
+        Validate.isPositive(totalSegments, "totalSegments");
+        builder.lastEvaluatedKeys.keySet().forEach(this::validateSegment);
+        builder.completedSegments.forEach(this::validateSegment);
+        for (Integer segment : builder.completedSegments) {
+            Validate.isTrue(!builder.lastEvaluatedKeys.containsKey(segment),
+                            "Segment %s cannot both be completed and have a last evaluated key.", segment);
+        }
+        this.lastEvaluatedKeys = Collections.unmodifiableMap(new TreeMap<>(builder.lastEvaluatedKeys));
+        this.completedSegments = Collections.unmodifiableSet(new TreeSet<>(builder.completedSegments));
+    }
+
+    /**
+     * Creates a newly initialized builder for a checkpoint.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values of this checkpoint.
+     */
+    public Builder toBuilder() {
+        return builder().totalSegments(totalSegments)
+                        .lastEvaluatedKeys(lastEvaluatedKeys)
+                        .completedSegments(completedSegments);
+    }
+
+    /**
+     * Returns the number of segments the scan is divided into.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the last evaluated key of each segment that has started but not finished, keyed by segment.
+     */
+    public Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys() {
+        return lastEvaluatedKeys;
+    }
+
+    /**
+     * Returns the last evaluated key of the given segment, or null if the segment has not started or has finished.
+     */
+    public Map<String, AttributeValue> lastEvaluatedKey(int segment) {
+        return lastEvaluatedKeys.get(segment);
+    }
+
+    /**
+     * Returns the segments that have been fully scanned.
+     */
+    public Set<Integer> completedSegments() {
+        return completedSegments;
+    }
+
+    /**
+     * Returns true if the given segment has been fully scanned.
+     */
+    public boolean isSegmentComplete(int segment) {
+        return completedSegments.contains(segment);
+    }
+
+    /**
+     * Returns true if every segment has been fully scanned.
+     */
+    public boolean isComplete() {
+        return completedSegments.size() == totalSegments;
+    }
+
+    private void validateSegment(Integer segment) {
+        Validate.isTrue(segment != null && segment >= 0 && segment < totalSegments,
+                        "Segment %s must be between 0 and totalSegments - 1 (%s).", segment, totalSegments - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanCheckpoint that = (ParallelScanCheckpoint) o;
+
+        if (totalSegments != that.totalSegments) {
+            return false;
+        }
+        if (!lastEvaluatedKeys.equals(that.lastEvaluatedKeys)) {
+            return false;
+        }
+        return completedSegments.equals(that.completedSegments);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = totalSegments;
+        result = 31 * result + lastEvaluatedKeys.hashCode();
+        result = 31 * result + completedSegments.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ParallelScanCheckpoint")
+                       .add("totalSegments", totalSegments)
+                       .add("lastEvaluatedKeys", lastEvaluatedKeys)
+                       .add("completedSegments", completedSegments)
+                       .build();
+    }
+
+    /**
+     * A builder that is used to create a checkpoint, for example when restoring one that was persisted.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer totalSegments;
+        private final Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys = new HashMap<>();
+        private final Set<Integer> completedSegments = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * The number of segments the scan is divided into. This is required.
+         *
+         * @param totalSegments the total number of segments
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Replaces the last evaluated keys of the segments that have started but not finished.
+         *
+         * @param lastEvaluatedKeys the last evaluated key of each unfinished segment, keyed by segment
+         * @return a builder of this type
+         */
+        public Builder lastEvaluatedKeys(Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys) {
+            this.lastEvaluatedKeys.clear();
+            if (lastEvaluatedKeys != null) {
+                lastEvaluatedKeys.forEach(this::putLastEvaluatedKey);
+            }
+            return this;
+        }
+
+        /**
+         * Sets the last evaluated key of a segment that has started but not finished.
+         *
+         * @param segment the segment
+         * @param lastEvaluatedKey the {@link Page#lastEvaluatedKey()} of the last page read from the segment
+         * @return a builder of this type
+         */
+        public Builder putLastEvaluatedKey(Integer segment, Map<String, AttributeValue> lastEvaluatedKey) {
+            Validate.paramNotNull(lastEvaluatedKey, "lastEvaluatedKey");
+            this.lastEvaluatedKeys.put(segment, Collections.unmodifiableMap(new HashMap<>(lastEvaluatedKey)));
+            return this;
+        }
+
+        /**
+         * Replaces the segments that have been fully scanned.
+         *
+         * @param completedSegments the completed segments
+         * @return a builder of this type
+         */
+        public Builder completedSegments(Collection<Integer> completedSegments) {
+            this.completedSegments.clear();
+            if (completedSegments != null) {
+                this.completedSegments.addAll(completedSegments);
+            }
+            return this;
+        }
+
+        /**
+         * Adds a segment that has been fully scanned.
+         *
+         * @param segment the completed segment
+         * @return a builder of this type
+         */
+        public Builder addCompletedSegment(Integer segment) {
+            this.completedSegments.add(segment);
+            return this;
+        }
+
+        public ParallelScanCheckpoint build() {
+            return new ParallelScanCheckpoint(this);
+        }
+    }
+}
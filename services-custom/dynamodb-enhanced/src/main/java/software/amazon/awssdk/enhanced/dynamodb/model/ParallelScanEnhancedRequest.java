@@ -0,0 +1,252 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used to scan a DynamoDb table with several segments in parallel using the parallelScan() operation
+ * (such as {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} or
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}).
+ * <p>
+ * Only {@link Builder#totalSegments(Integer)} is required.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+    private static final int MAX_TOTAL_SEGMENTS = 1_000_000;
+    private static final int DEFAULT_MAX_CONCURRENT_SEGMENTS = 8;
+
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrentSegments;
+    private final ParallelScanCheckpoint checkpoint;
+    private final Executor executor;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        this.totalSegments = Validate.paramNotNull(builder.totalSegments, "totalSegments");
+        this.maxConcurrentSegments = builder.maxConcurrentSegments;
+        this.checkpoint = builder.checkpoint;
+        this.executor = builder.executor;
+
+        Validate.isTrue(totalSegments >= 1 && totalSegments <= MAX_TOTAL_SEGMENTS,
+                        "totalSegments must be between 1 and %s.", MAX_TOTAL_SEGMENTS);
+        if (maxConcurrentSegments != null) {
+            Validate.isPositive(maxConcurrentSegments, "maxConcurrentSegments");
+        }
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                        "The scanRequest must not set segment or totalSegments.");
+        Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                        "The scanRequest must not set an exclusiveStartKey; use a checkpoint to resume a parallel scan.");
+        if (checkpoint != null) {
+            Validate.isTrue(checkpoint.totalSegments() == totalSegments,
+                            "The checkpoint was taken for %s segments, but totalSegments is %s.",
+                            checkpoint.totalSegments(), totalSegments);
+        }
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrentSegments(maxConcurrentSegments)
+                        .checkpoint(checkpoint)
+                        .executor(executor);
+    }
+
+    /**
+     * Returns the scan parameters shared by all segments. If none were set, this is an empty scan request.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments that are scanned at the same time. If not set, this is the smaller of
+     * {@link #totalSegments()} and 8.
+     */
+    public Integer maxConcurrentSegments() {
+        return maxConcurrentSegments != null ? maxConcurrentSegments
+                                             : Math.min(totalSegments, DEFAULT_MAX_CONCURRENT_SEGMENTS);
+    }
+
+    /**
+     * Returns the checkpoint the scan resumes from, or null if the scan starts at the beginning of every segment.
+     */
+    public ParallelScanCheckpoint checkpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Returns the executor that runs the segment scans of the synchronous table, or null if it has not been set.
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (!scanRequest.equals(that.scanRequest)) {
+            return false;
+        }
+        if (!totalSegments.equals(that.totalSegments)) {
+            return false;
+        }
+        if (maxConcurrentSegments != null ? !maxConcurrentSegments.equals(that.maxConcurrentSegments)
+                                          : that.maxConcurrentSegments != null) {
+            return false;
+        }
+        if (checkpoint != null ? !checkpoint.equals(that.checkpoint) : that.checkpoint != null) {
+            return false;
+        }
+        return executor != null ? executor.equals(that.executor) : that.executor == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest.hashCode();
+        result = 31 * result + totalSegments.hashCode();
+        result = 31 * result + (maxConcurrentSegments != null ? maxConcurrentSegments.hashCode() : 0);
+        result = 31 * result + (checkpoint != null ? checkpoint.hashCode() : 0);
+        result = 31 * result + (executor != null ? executor.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrentSegments;
+        private ParallelScanCheckpoint checkpoint;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan parameters shared by all segments, such as the filter expression, projection or consistent read. The
+         * segment, total segments and exclusive start key must not be set; they are provided by the parallel scan.
+         *
+         * @param scanRequest the scan parameters of each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The scan parameters shared by all segments, such as the filter expression, projection or consistent read. The
+         * segment, total segments and exclusive start key must not be set; they are provided by the parallel scan.
+         *
+         * @param scanRequest a consumer of the builder of the scan parameters of each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * The number of segments the table is divided into, between 1 and 1,000,000. This is required.
+         *
+         * @param totalSegments the total number of segments
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments that are scanned at the same time. A new segment is started as soon as another
+         * one is finished. By default, this is the smaller of the total number of segments and 8.
+         *
+         * @param maxConcurrentSegments the maximum number of segments scanned at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentSegments(Integer maxConcurrentSegments) {
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            return this;
+        }
+
+        /**
+         * A checkpoint of a previous parallel scan with the same number of segments to resume from. Completed segments are
+         * skipped, and the other segments start after their last evaluated key.
+         *
+         * @param checkpoint the checkpoint to resume from
+         * @return a builder of this type
+         */
+        public Builder checkpoint(ParallelScanCheckpoint checkpoint) {
+            this.checkpoint = checkpoint;
+            return this;
+        }
+
+        /**
+         * The executor that runs the segment scans of {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)}.
+         * If not set, each iteration creates its own threads, which are stopped once the iteration completes. This is not
+         * used by {@link DynamoDbAsyncTable}, whose segments are scanned by the asynchronous client.
+         *
+         * @param executor the executor that runs the segment scans
+         * @return a builder of this type
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Represents the result of a parallel scan. Iterating over it scans up to
+ * {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments at the same time on
+ * {@link ParallelScanEnhancedRequest#executor()}, and returns their pages in the order they are received. At most one page
+ * per segment is read ahead of the iteration.
+ * <p>
+ * Each segment can also be iterated on its own via {@link #segment(int)}, for example to spread the segments over
+ * several threads.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanPageIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(16));
+ * results.items().forEach(item -> export(item));
+ * saveCheckpoint(results.checkpoint());
+ * }
+ * </pre>
+ *
+ * @param <T> The modelled type of the object in a page.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanPageIterable<T> extends PageIterable<T> {
+
+    /**
+     * Returns an iterable of the pages of a single segment, which are read on the calling thread. If the request has a
+     * checkpoint, the segment resumes after its last evaluated key, and is empty if it was already completed.
+     *
+     * @param segment the zero-based segment, less than {@link ParallelScanEnhancedRequest#totalSegments()}
+     */
+    PageIterable<T> segment(int segment);
+
+    /**
+     * Returns a checkpoint of the pages this iterable has returned so far, including those of the segment iterables. A page
+     * is recorded once the iteration moves past it, by calling {@code hasNext()} or {@code next()} again. If the request has
+     * a checkpoint, it is the starting point.
+     */
+    ParallelScanCheckpoint checkpoint();
+}
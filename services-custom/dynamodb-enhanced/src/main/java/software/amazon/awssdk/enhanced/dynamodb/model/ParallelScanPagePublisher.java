@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Represents the result of a parallel scan. Subscribing to it scans up to
+ * {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments at the same time and publishes their pages, in the
+ * order they are received, as a single stream. Pages are only requested from DynamoDb when the subscriber has signalled
+ * demand for them.
+ * <p>
+ * Each segment can also be consumed on its own via {@link #segment(int)}, for example to spread the segments over
+ * several consumers.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanPagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(16));
+ * publisher.items()
+ *          .subscribe(item -> export(item))
+ *          .whenComplete((r, e) -> saveCheckpoint(publisher.checkpoint()));
+ * }
+ * </pre>
+ *
+ * @param <T> The modelled type of the object in a page.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanPagePublisher<T> extends PagePublisher<T> {
+
+    /**
+     * Returns a publisher of the pages of a single segment. If the request has a checkpoint, the segment resumes after its
+     * last evaluated key, and is empty if it was already completed.
+     *
+     * @param segment the zero-based segment, less than {@link ParallelScanEnhancedRequest#totalSegments()}
+     */
+    PagePublisher<T> segment(int segment);
+
+    /**
+     * Returns a checkpoint of the pages this publisher has delivered so far, including those of the segment publishers.
+     * A page is recorded once the subscriber's {@code onNext} has returned. If the request has a checkpoint, it is the
+     * starting point.
+     */
+    ParallelScanCheckpoint checkpoint();
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPagePublisher;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class AsyncParallelScanTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 100)
+                 .mapToObj(i -> new Record().setId("id-" + i).setValue(i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient =
+        DefaultDynamoDbEnhancedAsyncClient.builder()
+                                          .dynamoDbClient(getDynamoDbAsyncClient())
+                                          .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)).join());
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void parallelScan_returnsAllRecords() {
+        ParallelScanPagePublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(4));
+
+        List<Record> results = drainPublisher(publisher.items(), RECORDS.size());
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(RECORDS);
+        assertThat(publisher.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    public void parallelScan_segments_returnAllRecords() {
+        ParallelScanPagePublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(3));
+
+        List<Record> results = IntStream.range(0, 3)
+                                        .mapToObj(s -> publisher.segment(s).items())
+                                        .flatMap(items -> {
+                                            List<Record> segmentItems = new ArrayList<>();
+                                            items.subscribe(segmentItems::add).join();
+                                            return segmentItems.stream();
+                                        })
+                                        .collect(Collectors.toList());
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(RECORDS);
+        assertThat(publisher.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    public void parallelScan_resumedFromCheckpoint_returnsTheRemainingRecords() {
+        ParallelScanPagePublisher<Record> publisher =
+            mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.limit(5)));
+
+        List<Page<Record>> firstPages = drainPublisher(publisher.limit(6), 6);
+        ParallelScanCheckpoint checkpoint = publisher.checkpoint();
+        assertThat(checkpoint.isComplete()).isFalse();
+
+        ParallelScanPagePublisher<Record> resumed =
+            mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.limit(5)).checkpoint(checkpoint));
+        Set<Record> results = firstPages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toSet());
+        resumed.items().subscribe(results::add).join();
+
+        assertThat(results).isEqualTo(new HashSet<>(RECORDS));
+        assertThat(resumed.checkpoint().isComplete()).isTrue();
+    }
+}
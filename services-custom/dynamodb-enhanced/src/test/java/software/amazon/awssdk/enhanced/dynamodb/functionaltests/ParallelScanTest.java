@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPageIterable;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class ParallelScanTest extends LocalDynamoDbSyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 100)
+                 .mapToObj(i -> new Record().setId("id-" + i).setValue(i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedClient enhancedClient = DynamoDbEnhancedClient.builder()
+                                                                          .dynamoDbClient(getDynamoDbClient())
+                                                                          .build();
+
+    private DynamoDbTable<Record> mappedTable = enhancedClient.table(getConcreteTableName("table-name"), TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput()));
+        RECORDS.forEach(record -> mappedTable.putItem(r -> r.item(record)));
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbClient().deleteTable(DeleteTableRequest.builder()
+                                                          .tableName(getConcreteTableName("table-name"))
+                                                          .build());
+    }
+
+    @Test
+    public void parallelScan_returnsAllRecords() {
+        ParallelScanPageIterable<Record> results = mappedTable.parallelScan(r -> r.totalSegments(4));
+
+        assertThat(results.items()).containsExactlyInAnyOrderElementsOf(RECORDS);
+        assertThat(results.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    public void parallelScan_withExecutor_returnsAllRecords() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelScanPageIterable<Record> results =
+                mappedTable.parallelScan(r -> r.totalSegments(8).maxConcurrentSegments(2).executor(executor));
+
+            assertThat(results.items()).containsExactlyInAnyOrderElementsOf(RECORDS);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelScan_segments_returnAllRecords() {
+        ParallelScanPageIterable<Record> results = mappedTable.parallelScan(r -> r.totalSegments(3));
+
+        List<Record> records = IntStream.range(0, 3)
+                                        .boxed()
+                                        .flatMap(s -> results.segment(s).items().stream())
+                                        .collect(Collectors.toList());
+
+        assertThat(records).containsExactlyInAnyOrderElementsOf(RECORDS);
+        assertThat(results.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    public void parallelScan_resumedFromCheckpoint_returnsTheRemainingRecords() {
+        ParallelScanPageIterable<Record> results =
+            mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.limit(5)));
+
+        Set<Record> records = new HashSet<>();
+        Iterator<Page<Record>> pages = results.iterator();
+        for (int i = 0; i < 6; i++) {
+            records.addAll(pages.next().items());
+        }
+        pages.hasNext();
+        ParallelScanCheckpoint checkpoint = results.checkpoint();
+        assertThat(checkpoint.isComplete()).isFalse();
+
+        ParallelScanPageIterable<Record> resumed =
+            mappedTable.parallelScan(r -> r.totalSegments(4).scanRequest(s -> s.limit(5)).checkpoint(checkpoint));
+        resumed.items().forEach(records::add);
+
+        assertThat(records).isEqualTo(new HashSet<>(RECORDS));
+        assertThat(resumed.checkpoint().isComplete()).isTrue();
+    }
+}
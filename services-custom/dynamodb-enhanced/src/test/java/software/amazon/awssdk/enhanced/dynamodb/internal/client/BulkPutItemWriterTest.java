@@ -0,0 +1,378 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemComposedClass;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteFailure;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbServiceClientConfiguration;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkPutItemWriterTest {
+    private static final String TABLE_NAME = "table-name";
+
+    @Mock
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+
+    private DefaultDynamoDbAsyncTable<FakeItem> table;
+
+    @Before
+    public void setup() {
+        table = new DefaultDynamoDbAsyncTable<>(mockDynamoDbAsyncClient, null, FakeItem.getTableSchema(), TABLE_NAME);
+    }
+
+    @Test
+    public void bulkPutItem_splitsItemsIntoBatchesOf25() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        BulkWriteResult<FakeItem> result = table.bulkPutItem(r -> r.items(items(60))).join();
+
+        assertThat(sentBatchSizes(3)).containsExactly(25, 25, 10);
+        assertThat(result.itemsWritten()).isEqualTo(60);
+        assertThat(result.batchesSent()).isEqualTo(3);
+        assertThat(result.unprocessedItemsResent()).isZero();
+        assertThat(result.failures()).isEmpty();
+    }
+
+    @Test
+    public void bulkPutItem_largeItems_splitsBatchesAt16Megabytes() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        String megabyte = new String(new char[1_000_000]).replace('\0', 'a');
+        List<FakeItem> largeItems =
+            IntStream.range(0, 20)
+                     .mapToObj(i -> FakeItem.builder()
+                                            .id("id-" + i)
+                                            .composedObject(FakeItemComposedClass.builder().composedAttribute(megabyte).build())
+                                            .build())
+                     .collect(Collectors.toList());
+
+        BulkWriteResult<FakeItem> result = table.bulkPutItem(r -> r.items(largeItems)).join();
+
+        assertThat(sentBatchSizes(2)).containsExactly(16, 4);
+        assertThat(result.itemsWritten()).isEqualTo(20);
+    }
+
+    @Test
+    public void bulkPutItem_unprocessedItems_areResent() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenAnswer(i -> {
+                List<WriteRequest> sent = i.getArgument(0, BatchWriteItemRequest.class).requestItems().get(TABLE_NAME);
+                return CompletableFuture.completedFuture(unprocessed(sent.subList(0, 2)));
+            })
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        BulkWriteResult<FakeItem> result =
+            table.bulkPutItem(r -> r.items(items(25)).backoffStrategy(BackoffStrategy.retryImmediately())).join();
+
+        assertThat(sentBatchSizes(2)).containsExactly(25, 2);
+        assertThat(result.itemsWritten()).isEqualTo(25);
+        assertThat(result.batchesSent()).isEqualTo(2);
+        assertThat(result.unprocessedItemsResent()).isEqualTo(2);
+        assertThat(result.failures()).isEmpty();
+    }
+
+    @Test
+    public void bulkPutItem_itemsUnprocessedOnEveryAttempt_areReportedAsFailures() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenAnswer(i -> {
+                List<WriteRequest> sent = i.getArgument(0, BatchWriteItemRequest.class).requestItems().get(TABLE_NAME);
+                return CompletableFuture.completedFuture(unprocessed(sent.subList(0, 1)));
+            });
+        List<FakeItem> items = items(5);
+
+        BulkWriteResult<FakeItem> result =
+            table.bulkPutItem(r -> r.items(items)
+                                    .maxAttempts(3)
+                                    .backoffStrategy(BackoffStrategy.retryImmediately()))
+                 .join();
+
+        assertThat(result.batchesSent()).isEqualTo(3);
+        assertThat(result.itemsWritten()).isEqualTo(4);
+        assertThat(result.unprocessedItemsResent()).isEqualTo(2);
+        assertThat(result.failures()).hasSize(1);
+        BulkWriteFailure<FakeItem> failure = result.failures().get(0);
+        assertThat(failure.item()).isEqualTo(items.get(0));
+        assertThat(failure.cause()).isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void bulkPutItem_failedCall_reportsAllItemsOfTheBatchAsFailures() {
+        ProvisionedThroughputExceededException exception =
+            ProvisionedThroughputExceededException.builder().message("slow down").build();
+        CompletableFuture<BatchWriteItemResponse> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(exception);
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(failedFuture)
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        List<FakeItem> items = items(30);
+
+        BulkWriteResult<FakeItem> result = table.bulkPutItem(r -> r.items(items)).join();
+
+        assertThat(result.itemsWritten()).isEqualTo(5);
+        assertThat(result.failures()).hasSize(25);
+        assertThat(result.failures()).extracting(BulkWriteFailure::item).containsExactlyElementsOf(items.subList(0, 25));
+        assertThat(result.failures()).extracting(BulkWriteFailure::cause).containsOnly(exception);
+    }
+
+    @Test
+    public void bulkPutItem_limitsTheNumberOfBatchesInFlight() {
+        Queue<CompletableFuture<BatchWriteItemResponse>> responses = new ConcurrentLinkedQueue<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenAnswer(i -> {
+                CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+                responses.add(response);
+                return response;
+            });
+
+        CompletableFuture<BulkWriteResult<FakeItem>> resultFuture =
+            table.bulkPutItem(r -> r.items(items(100)).maxConcurrentBatches(2));
+
+        assertThat(responses).hasSize(2);
+        responses.poll().complete(BatchWriteItemResponse.builder().build());
+        assertThat(responses).hasSize(2);
+        assertThat(resultFuture).isNotDone();
+
+        while (!responses.isEmpty()) {
+            responses.poll().complete(BatchWriteItemResponse.builder().build());
+        }
+
+        assertThat(resultFuture.join().itemsWritten()).isEqualTo(100);
+        verify(mockDynamoDbAsyncClient, times(4)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void bulkPutItem_publisherFails_sendsReceivedItemsAndFailsTheFuture() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        RuntimeException exception = new RuntimeException("boom");
+
+        CompletableFuture<BulkWriteResult<FakeItem>> resultFuture =
+            table.bulkPutItem(r -> r.items(failingPublisher(FakeItem.createUniqueFakeItem(), exception)));
+
+        assertThatThrownBy(() -> resultFuture.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                        .hasCause(exception);
+        assertThat(sentBatchSizes(1)).containsExactly(1);
+    }
+
+    @Test
+    public void bulkPutItem_unprocessedItems_areResentOnTheClientScheduledExecutor() {
+        ScheduledExecutorService scheduledExecutor = mock(ScheduledExecutorService.class);
+        when(scheduledExecutor.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS)))
+            .thenAnswer(i -> {
+                i.getArgument(0, Runnable.class).run();
+                return null;
+            });
+        ClientOverrideConfiguration overrideConfiguration =
+            ClientOverrideConfiguration.builder().scheduledExecutorService(scheduledExecutor).build();
+        when(mockDynamoDbAsyncClient.serviceClientConfiguration())
+            .thenReturn(DynamoDbServiceClientConfiguration.builder().overrideConfiguration(overrideConfiguration).build());
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenAnswer(i -> {
+                List<WriteRequest> sent = i.getArgument(0, BatchWriteItemRequest.class).requestItems().get(TABLE_NAME);
+                return CompletableFuture.completedFuture(unprocessed(sent.subList(0, 1)));
+            })
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+
+        BulkWriteResult<FakeItem> result = table.bulkPutItem(r -> r.items(items(3))).join();
+
+        assertThat(result.itemsWritten()).isEqualTo(3);
+        verify(scheduledExecutor).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(scheduledExecutor, never()).shutdown();
+    }
+
+    @Test
+    public void bulkPutItem_defaultBackoffStrategy_waitsBeforeFirstResend() {
+        BackoffStrategy backoffStrategy = BulkPutItemEnhancedRequest.builder(FakeItem.class)
+                                                                    .items(items(1))
+                                                                    .build()
+                                                                    .backoffStrategy();
+
+        assertThat(backoffStrategy.computeDelay(2)).isBetween(Duration.ofMillis(25), Duration.ofMillis(51));
+    }
+
+    @Test
+    public void bulkPutItem_duplicateKeysInBatch_lastItemWins() {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(BatchWriteItemResponse.builder().build()));
+        FakeItem first = FakeItem.builder().id("id").version(1).build();
+        FakeItem second = FakeItem.builder().id("other-id").build();
+        FakeItem third = FakeItem.builder().id("id").version(3).build();
+
+        BulkWriteResult<FakeItem> result = table.bulkPutItem(r -> r.items(Arrays.asList(first, second, third))).join();
+
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(mockDynamoDbAsyncClient).batchWriteItem(captor.capture());
+        List<WriteRequest> sent = captor.getValue().requestItems().get(TABLE_NAME);
+        assertThat(sent).hasSize(2);
+        assertThat(sent.get(0).putRequest().item().get("id").s()).isEqualTo("id");
+        assertThat(sent.get(0).putRequest().item().get("version").n()).isEqualTo("3");
+        assertThat(sent.get(1).putRequest().item().get("id").s()).isEqualTo("other-id");
+        assertThat(result.itemsWritten()).isEqualTo(3);
+    }
+
+    @Test
+    public void bulkPutItem_duplicateKeysInFailedBatch_reportsEveryItemAsFailure() {
+        SdkClientException exception = SdkClientException.create("failed");
+        CompletableFuture<BatchWriteItemResponse> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(exception);
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(failedFuture);
+        FakeItem first = FakeItem.builder().id("id").version(1).build();
+        FakeItem second = FakeItem.builder().id("id").version(2).build();
+
+        BulkWriteResult<FakeItem> result = table.bulkPutItem(r -> r.items(Arrays.asList(first, second))).join();
+
+        assertThat(result.failures()).extracting(BulkWriteFailure::item).containsExactly(first, second);
+    }
+
+    @Test
+    public void bulkPutItem_resultFutureCancelled_cancelsSubscription() {
+        Queue<CompletableFuture<BatchWriteItemResponse>> responses = new ConcurrentLinkedQueue<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class)))
+            .thenAnswer(i -> {
+                CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+                responses.add(response);
+                return response;
+            });
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        CompletableFuture<BulkWriteResult<FakeItem>> resultFuture =
+            table.bulkPutItem(r -> r.items(infinitePublisher(cancelled)).maxConcurrentBatches(1));
+        assertThat(responses).hasSize(1);
+
+        resultFuture.cancel(true);
+        assertThat(cancelled).isTrue();
+
+        responses.poll().complete(BatchWriteItemResponse.builder().build());
+        verify(mockDynamoDbAsyncClient, times(1)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    public void itemSize_matchesDynamoDbItemSizeCalculation() {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", AttributeValue.builder().s("abc").build());
+        item.put("n", AttributeValue.builder().n("12345").build());
+        item.put("b", AttributeValue.builder().b(SdkBytes.fromByteArray(new byte[10])).build());
+        item.put("bool", AttributeValue.builder().bool(true).build());
+        item.put("utf", AttributeValue.builder().s("é中😀").build());
+        item.put("m", AttributeValue.builder().m(Collections.singletonMap("k", AttributeValue.builder().s("v").build())).build());
+        item.put("l", AttributeValue.builder().l(AttributeValue.builder().s("x").build()).build());
+
+        // 2+3, 1+4, 1+10, 4+1, 3+(2+3+4), 1+(3+1+1+1), 1+(3+1+1)
+        assertThat(BulkPutItemWriter.itemSize(item)).isEqualTo(5 + 5 + 11 + 5 + 12 + 7 + 6);
+    }
+
+    private static List<FakeItem> items(int count) {
+        return IntStream.range(0, count).mapToObj(i -> FakeItem.createUniqueFakeItem()).collect(Collectors.toList());
+    }
+
+    private static BatchWriteItemResponse unprocessed(List<WriteRequest> writeRequests) {
+        return BatchWriteItemResponse.builder()
+                                     .unprocessedItems(Collections.singletonMap(TABLE_NAME, new ArrayList<>(writeRequests)))
+                                     .build();
+    }
+
+    private List<Integer> sentBatchSizes(int expectedCalls) {
+        ArgumentCaptor<BatchWriteItemRequest> captor = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(mockDynamoDbAsyncClient, times(expectedCalls)).batchWriteItem(captor.capture());
+        return captor.getAllValues().stream()
+                     .map(r -> r.requestItems().get(TABLE_NAME).size())
+                     .collect(Collectors.toList());
+    }
+
+    private static Publisher<FakeItem> infinitePublisher(AtomicBoolean cancelled) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                for (long i = 0; i < n && !cancelled.get(); i++) {
+                    subscriber.onNext(FakeItem.createUniqueFakeItem());
+                }
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.set(true);
+            }
+        });
+    }
+
+    private static Publisher<FakeItem> failingPublisher(FakeItem item, RuntimeException exception) {
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private boolean sent;
+
+            @Override
+            public void request(long n) {
+                if (!sent) {
+                    sent = true;
+                    subscriber.onNext(item);
+                    subscriber.onError(exception);
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+}
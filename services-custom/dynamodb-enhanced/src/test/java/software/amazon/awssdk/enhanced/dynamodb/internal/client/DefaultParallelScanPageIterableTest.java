@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class DefaultParallelScanPageIterableTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private final List<ScanEnhancedRequest> segmentRequests = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger pagesFetched = new AtomicInteger();
+    private final AtomicInteger activeSegments = new AtomicInteger();
+    private final AtomicInteger maxActiveSegments = new AtomicInteger();
+    private final Map<Integer, RuntimeException> segmentErrors = new ConcurrentHashMap<>();
+
+    @Test
+    public void iterator_returnsThePagesOfAllSegments() {
+        DefaultParallelScanPageIterable<String> iterable = iterable(r -> r.totalSegments(4));
+
+        assertThat(iterable.items()).containsExactlyInAnyOrderElementsOf(allItems(0, 1, 2, 3));
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::totalSegments).containsOnly(4);
+        assertThat(iterable.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    public void iterator_limitsTheNumberOfActiveSegments() {
+        DefaultParallelScanPageIterable<String> iterable = iterable(r -> r.totalSegments(10).maxConcurrentSegments(3));
+
+        assertThat(iterable.items()).hasSize(10 * PAGES_PER_SEGMENT);
+        assertThat(maxActiveSegments.get()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    public void iterator_readsAtMostOnePageAheadPerSegment() {
+        DefaultParallelScanPageIterable<String> iterable =
+            iterable(r -> r.totalSegments(4).maxConcurrentSegments(2).executor(Runnable::run));
+
+        Iterator<Page<String>> pages = iterable.iterator();
+        assertThat(pagesFetched.get()).isEqualTo(2);
+
+        pages.next();
+        assertThat(pagesFetched.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void checkpoint_recordsPagesTheIterationHasMovedPast() {
+        DefaultParallelScanPageIterable<String> iterable =
+            iterable(r -> r.totalSegments(2).maxConcurrentSegments(1).executor(Runnable::run));
+
+        Iterator<Page<String>> pages = iterable.iterator();
+        pages.next();
+        assertThat(iterable.checkpoint().lastEvaluatedKeys()).isEmpty();
+
+        pages.hasNext();
+        assertThat(iterable.checkpoint().lastEvaluatedKey(0)).isEqualTo(lastEvaluatedKey(0, 0));
+
+        for (int i = 1; i < PAGES_PER_SEGMENT + 1; i++) {
+            pages.next();
+        }
+        pages.hasNext();
+
+        ParallelScanCheckpoint checkpoint = iterable.checkpoint();
+        assertThat(checkpoint.completedSegments()).containsExactly(0);
+        assertThat(checkpoint.lastEvaluatedKey(1)).isEqualTo(lastEvaluatedKey(1, 0));
+    }
+
+    @Test
+    public void iterator_withCheckpoint_skipsCompletedSegmentsAndResumesTheOthers() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder()
+                                                                  .totalSegments(3)
+                                                                  .addCompletedSegment(0)
+                                                                  .putLastEvaluatedKey(1, lastEvaluatedKey(1, 1))
+                                                                  .build();
+        DefaultParallelScanPageIterable<String> iterable = iterable(r -> r.totalSegments(3).checkpoint(checkpoint));
+
+        List<String> items = iterable.items().stream().collect(Collectors.toList());
+
+        assertThat(items).containsExactlyInAnyOrder(item(1, 2), item(2, 0), item(2, 1), item(2, 2));
+        assertThat(iterable.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    public void iterator_segmentFails_throwsTheError() {
+        RuntimeException exception = new RuntimeException("boom");
+        segmentErrors.put(1, exception);
+        DefaultParallelScanPageIterable<String> iterable = iterable(r -> r.totalSegments(3));
+
+        assertThatThrownBy(() -> iterable.items().forEach(i -> { })).isSameAs(exception);
+    }
+
+    @Test
+    public void segment_iteratesTheSegmentAndRecordsItInTheCheckpoint() {
+        DefaultParallelScanPageIterable<String> iterable = iterable(r -> r.totalSegments(4));
+
+        assertThat(iterable.segment(2).items()).containsExactlyElementsOf(allItems(2));
+        assertThat(iterable.checkpoint().completedSegments()).containsExactly(2);
+    }
+
+    @Test
+    public void segment_completedInCheckpoint_isEmpty() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder().totalSegments(2).addCompletedSegment(1).build();
+        DefaultParallelScanPageIterable<String> iterable = iterable(r -> r.totalSegments(2).checkpoint(checkpoint));
+
+        assertThat(iterable.segment(1)).isEmpty();
+        assertThat(segmentRequests).isEmpty();
+    }
+
+    private DefaultParallelScanPageIterable<String> iterable(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return new DefaultParallelScanPageIterable<>(this::scanSegment, builder.build());
+    }
+
+    private PageIterable<String> scanSegment(ScanEnhancedRequest request) {
+        segmentRequests.add(request);
+        int segment = request.segment();
+        int firstPage = request.exclusiveStartKey() == null ? 0 : pageOf(request.exclusiveStartKey()) + 1;
+
+        return () -> new Iterator<Page<String>>() {
+            private int nextPage = firstPage;
+            private boolean active;
+
+            @Override
+            public boolean hasNext() {
+                if (!active && nextPage == firstPage) {
+                    active = true;
+                    maxActiveSegments.accumulateAndGet(activeSegments.incrementAndGet(), Math::max);
+                }
+                RuntimeException error = segmentErrors.get(segment);
+                if (error != null) {
+                    throw error;
+                }
+                boolean hasNext = nextPage < PAGES_PER_SEGMENT;
+                if (!hasNext && active) {
+                    active = false;
+                    activeSegments.decrementAndGet();
+                }
+                return hasNext;
+            }
+
+            @Override
+            public Page<String> next() {
+                int page = nextPage++;
+                pagesFetched.incrementAndGet();
+                return page(segment, page);
+            }
+        };
+    }
+
+    private static Page<String> page(int segment, int page) {
+        Page.Builder<String> builder = Page.builder(String.class).items(Collections.singletonList(item(segment, page)));
+        if (page < PAGES_PER_SEGMENT - 1) {
+            builder.lastEvaluatedKey(lastEvaluatedKey(segment, page));
+        }
+        return builder.build();
+    }
+
+    private static String item(int segment, int page) {
+        return segment + "-" + page;
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey(int segment, int page) {
+        return Collections.singletonMap("id", stringValue(item(segment, page)));
+    }
+
+    private static int pageOf(Map<String, AttributeValue> key) {
+        String id = key.get("id").s();
+        return Integer.parseInt(id.substring(id.indexOf('-') + 1));
+    }
+
+    private static List<String> allItems(int... segments) {
+        List<String> items = new ArrayList<>();
+        for (int segment : segments) {
+            for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+                items.add(item(segment, page));
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanCheckpoint;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class DefaultParallelScanPagePublisherTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private final List<ScanEnhancedRequest> segmentRequests = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger pagesEmitted = new AtomicInteger();
+    private final AtomicInteger activeSegments = new AtomicInteger();
+    private final AtomicInteger maxActiveSegments = new AtomicInteger();
+    private final Map<Integer, RuntimeException> segmentErrors = new ConcurrentHashMap<>();
+
+    @Test
+    public void subscribe_publishesThePagesOfAllSegments() {
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(4));
+
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.completed).isTrue();
+        assertThat(items(subscriber.pages)).containsExactlyInAnyOrderElementsOf(allItems(0, 1, 2, 3));
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactly(0, 1, 2, 3);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::totalSegments).containsOnly(4);
+        assertThat(publisher.checkpoint().isComplete()).isTrue();
+        assertThat(publisher.checkpoint().lastEvaluatedKeys()).isEmpty();
+    }
+
+    @Test
+    public void subscribe_passesTheScanParametersToEverySegment() {
+        DefaultParallelScanPagePublisher<String> publisher =
+            publisher(r -> r.totalSegments(2).scanRequest(s -> s.consistentRead(true).limit(5)));
+
+        publisher.subscribe(new TestSubscriber(Long.MAX_VALUE));
+
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::consistentRead).containsOnly(true);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::limit).containsOnly(5);
+    }
+
+    @Test
+    public void subscribe_limitsTheNumberOfActiveSegments() {
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(10).maxConcurrentSegments(3));
+
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.pages).hasSize(10 * PAGES_PER_SEGMENT);
+        assertThat(maxActiveSegments.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void subscribe_onlyFetchesPagesThatWereRequested() {
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(4));
+
+        TestSubscriber subscriber = new TestSubscriber(1);
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.pages).hasSize(1);
+        assertThat(pagesEmitted.get()).isEqualTo(1);
+
+        subscriber.subscription.request(2);
+
+        assertThat(subscriber.pages).hasSize(3);
+        assertThat(pagesEmitted.get()).isEqualTo(3);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void checkpoint_recordsTheDeliveredPagesOfEachSegment() {
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(2).maxConcurrentSegments(1));
+
+        TestSubscriber subscriber = new TestSubscriber(PAGES_PER_SEGMENT + 1);
+        publisher.subscribe(subscriber);
+
+        ParallelScanCheckpoint checkpoint = publisher.checkpoint();
+        assertThat(checkpoint.completedSegments()).containsExactly(0);
+        assertThat(checkpoint.lastEvaluatedKeys()).containsOnlyKeys(1);
+        assertThat(checkpoint.lastEvaluatedKey(1)).isEqualTo(lastEvaluatedKey(1, 0));
+    }
+
+    @Test
+    public void subscribe_withCheckpoint_skipsCompletedSegmentsAndResumesTheOthers() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder()
+                                                                  .totalSegments(3)
+                                                                  .addCompletedSegment(0)
+                                                                  .putLastEvaluatedKey(1, lastEvaluatedKey(1, 0))
+                                                                  .build();
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(3).checkpoint(checkpoint));
+
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.completed).isTrue();
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactly(1, 2);
+        assertThat(segmentRequests.get(0).exclusiveStartKey()).isEqualTo(lastEvaluatedKey(1, 0));
+        assertThat(segmentRequests.get(1).exclusiveStartKey()).isNull();
+        assertThat(publisher.checkpoint().isComplete()).isTrue();
+    }
+
+    @Test
+    public void subscribe_segmentFails_signalsTheError() {
+        RuntimeException exception = new RuntimeException("boom");
+        segmentErrors.put(1, exception);
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(3));
+
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.error).isSameAs(exception);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void cancel_stopsRequestingPages() {
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(4));
+
+        TestSubscriber subscriber = new TestSubscriber(1);
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(10);
+
+        assertThat(subscriber.pages).hasSize(1);
+        assertThat(pagesEmitted.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void segment_publishesTheSegmentAndRecordsItInTheCheckpoint() {
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(4));
+
+        List<Page<String>> pages = new ArrayList<>();
+        publisher.segment(2).subscribe(pages::add).join();
+
+        assertThat(items(pages)).containsExactlyElementsOf(allItems(2));
+        assertThat(publisher.checkpoint().completedSegments()).containsExactly(2);
+    }
+
+    @Test
+    public void segment_completedInCheckpoint_isEmpty() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder().totalSegments(2).addCompletedSegment(1).build();
+        DefaultParallelScanPagePublisher<String> publisher = publisher(r -> r.totalSegments(2).checkpoint(checkpoint));
+
+        List<Page<String>> pages = new ArrayList<>();
+        publisher.segment(1).subscribe(pages::add).join();
+
+        assertThat(pages).isEmpty();
+        assertThat(segmentRequests).isEmpty();
+    }
+
+    private DefaultParallelScanPagePublisher<String> publisher(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return new DefaultParallelScanPagePublisher<>(this::scanSegment, builder.build());
+    }
+
+    private PagePublisher<String> scanSegment(ScanEnhancedRequest request) {
+        segmentRequests.add(request);
+        int segment = request.segment();
+        RuntimeException error = segmentErrors.get(segment);
+        if (error != null) {
+            return PagePublisher.create(SdkPublisher.adapt(s -> {
+                s.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                s.onError(error);
+            }));
+        }
+
+        int firstPage = request.exclusiveStartKey() == null ? 0 : pageOf(request.exclusiveStartKey()) + 1;
+        List<Page<String>> pages = new ArrayList<>();
+        for (int page = firstPage; page < PAGES_PER_SEGMENT; page++) {
+            pages.add(page(segment, page));
+        }
+
+        return PagePublisher.create(SdkPublisher.adapt(s -> {
+            if (activeSegments.incrementAndGet() > maxActiveSegments.get()) {
+                maxActiveSegments.set(activeSegments.get());
+            }
+            SdkPublisher.fromIterable(pages)
+                        .map(p -> {
+                            pagesEmitted.incrementAndGet();
+                            return p;
+                        })
+                        .doAfterOnComplete(activeSegments::decrementAndGet)
+                        .subscribe(s);
+        }));
+    }
+
+    private static Page<String> page(int segment, int page) {
+        Page.Builder<String> builder = Page.builder(String.class).items(Collections.singletonList(item(segment, page)));
+        if (page < PAGES_PER_SEGMENT - 1) {
+            builder.lastEvaluatedKey(lastEvaluatedKey(segment, page));
+        }
+        return builder.build();
+    }
+
+    private static String item(int segment, int page) {
+        return segment + "-" + page;
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey(int segment, int page) {
+        return Collections.singletonMap("id", stringValue(item(segment, page)));
+    }
+
+    private static int pageOf(Map<String, AttributeValue> key) {
+        String id = key.get("id").s();
+        return Integer.parseInt(id.substring(id.indexOf('-') + 1));
+    }
+
+    private static List<String> allItems(int... segments) {
+        List<String> items = new ArrayList<>();
+        for (int segment : segments) {
+            for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+                items.add(item(segment, page));
+            }
+        }
+        return items;
+    }
+
+    private static List<String> items(List<Page<String>> pages) {
+        return pages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toList());
+    }
+
+    private static final class TestSubscriber implements Subscriber<Page<String>> {
+        private final long initialDemand;
+        private final List<Page<String>> pages = Collections.synchronizedList(new ArrayList<>());
+        private Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        private TestSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            s.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(Page<String> page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
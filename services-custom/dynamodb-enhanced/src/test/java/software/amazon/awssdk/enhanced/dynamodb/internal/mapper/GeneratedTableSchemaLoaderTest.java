@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+public class GeneratedTableSchemaLoaderTest {
+
+    @Test
+    public void generatedClassName_nestedClass_joinsEnclosingNames() {
+        assertThat(GeneratedTableSchemaLoader.generatedClassName(GeneratedBean.class))
+            .isEqualTo("software.amazon.awssdk.enhanced.dynamodb.internal.mapper."
+                       + "GeneratedTableSchemaLoaderTest_GeneratedBean_TableSchema");
+    }
+
+    @Test
+    public void fromClass_generatedSchemaExists_returnsAndCachesGeneratedSchema() {
+        TableSchema<GeneratedBean> tableSchema = TableSchema.fromClass(GeneratedBean.class);
+
+        assertThat(tableSchema).isNotInstanceOf(BeanTableSchema.class);
+        assertThat(tableSchema.attributeNames()).containsExactly("id");
+        assertThat(TableSchema.fromClass(GeneratedBean.class)).isSameAs(tableSchema);
+        assertThat(GeneratedTableSchemaLoaderTest_GeneratedBean_TableSchema.createCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void fromClass_noGeneratedSchema_usesBeanTableSchema() {
+        assertThat(GeneratedTableSchemaLoader.load(ReflectiveBean.class)).isEmpty();
+        assertThat(TableSchema.fromClass(ReflectiveBean.class)).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @Test
+    public void fromClass_generatedSchemaForOtherClass_isIgnored() {
+        assertThat(GeneratedTableSchemaLoader.load(MismatchedBean.class)).isEmpty();
+        assertThat(TableSchema.fromClass(MismatchedBean.class)).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @DynamoDbBean
+    public static class GeneratedBean {
+        private String id;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+
+    @DynamoDbBean
+    public static class ReflectiveBean {
+        private String id;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+
+    @DynamoDbBean
+    public static class MismatchedBean {
+        private String id;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+    }
+}
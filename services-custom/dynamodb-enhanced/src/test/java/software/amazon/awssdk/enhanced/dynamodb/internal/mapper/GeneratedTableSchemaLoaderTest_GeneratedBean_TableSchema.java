@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaLoaderTest.GeneratedBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+/**
+ * Stands in for the table schema the annotation processor would generate for {@link GeneratedBean}.
+ */
+public final class GeneratedTableSchemaLoaderTest_GeneratedBean_TableSchema {
+    private static final AtomicInteger CREATE_COUNT = new AtomicInteger();
+
+    private GeneratedTableSchemaLoaderTest_GeneratedBean_TableSchema() {
+    }
+
+    public static StaticTableSchema<GeneratedBean> create() {
+        CREATE_COUNT.incrementAndGet();
+        return StaticTableSchema.builder(GeneratedBean.class)
+                                .newItemSupplier(GeneratedBean::new)
+                                .addAttribute(EnhancedType.of(String.class),
+                                              a -> a.name("id")
+                                                    .getter(GeneratedBean::getId)
+                                                    .setter(GeneratedBean::setId)
+                                                    .addTag(primaryPartitionKey()))
+                                .build();
+    }
+
+    static int createCount() {
+        return CREATE_COUNT.get();
+    }
+}
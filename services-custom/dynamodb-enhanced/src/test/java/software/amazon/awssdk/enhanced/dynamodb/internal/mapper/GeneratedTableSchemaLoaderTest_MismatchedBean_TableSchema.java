@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.GeneratedTableSchemaLoaderTest.ReflectiveBean;
+
+/**
+ * A class named like a generated table schema whose schema maps a different class than the one it is named after.
+ */
+public final class GeneratedTableSchemaLoaderTest_MismatchedBean_TableSchema {
+    private GeneratedTableSchemaLoaderTest_MismatchedBean_TableSchema() {
+    }
+
+    public static TableSchema<ReflectiveBean> create() {
+        return TableSchema.fromBean(ReflectiveBean.class);
+    }
+}
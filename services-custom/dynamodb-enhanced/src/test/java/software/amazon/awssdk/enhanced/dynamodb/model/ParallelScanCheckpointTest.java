@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ParallelScanCheckpointTest {
+    private static final Map<String, AttributeValue> KEY = Collections.singletonMap("id", stringValue("a"));
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder().totalSegments(4).build();
+
+        assertThat(checkpoint.totalSegments()).isEqualTo(4);
+        assertThat(checkpoint.lastEvaluatedKeys()).isEmpty();
+        assertThat(checkpoint.completedSegments()).isEmpty();
+        assertThat(checkpoint.isComplete()).isFalse();
+    }
+
+    @Test
+    public void builder_maximal() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder()
+                                                                  .totalSegments(4)
+                                                                  .completedSegments(Arrays.asList(0, 2))
+                                                                  .addCompletedSegment(3)
+                                                                  .putLastEvaluatedKey(1, KEY)
+                                                                  .build();
+
+        assertThat(checkpoint.completedSegments()).containsExactly(0, 2, 3);
+        assertThat(checkpoint.isSegmentComplete(2)).isTrue();
+        assertThat(checkpoint.isSegmentComplete(1)).isFalse();
+        assertThat(checkpoint.lastEvaluatedKey(1)).isEqualTo(KEY);
+        assertThat(checkpoint.lastEvaluatedKey(0)).isNull();
+        assertThat(checkpoint.isComplete()).isFalse();
+        assertThat(checkpoint.toBuilder().build()).isEqualTo(checkpoint);
+        assertThat(checkpoint.toBuilder().build().hashCode()).isEqualTo(checkpoint.hashCode());
+    }
+
+    @Test
+    public void isComplete_allSegmentsCompleted_returnsTrue() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder()
+                                                                  .totalSegments(2)
+                                                                  .completedSegments(Arrays.asList(0, 1))
+                                                                  .build();
+
+        assertThat(checkpoint.isComplete()).isTrue();
+    }
+
+    @Test
+    public void build_withSegmentOutOfRange_throws() {
+        assertThatThrownBy(() -> ParallelScanCheckpoint.builder().totalSegments(2).addCompletedSegment(2).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanCheckpoint.builder().totalSegments(2).putLastEvaluatedKey(-1, KEY).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void build_withCompletedSegmentThatHasALastEvaluatedKey_throws() {
+        assertThatThrownBy(() -> ParallelScanCheckpoint.builder()
+                                                       .totalSegments(2)
+                                                       .addCompletedSegment(1)
+                                                       .putLastEvaluatedKey(1, KEY)
+                                                       .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import java.util.Collections;
+import java.util.concurrent.Executor;
+import org.junit.Test;
+
+public class ParallelScanEnhancedRequestTest {
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(builtObject.totalSegments()).isEqualTo(4);
+        assertThat(builtObject.maxConcurrentSegments()).isEqualTo(4);
+        assertThat(builtObject.scanRequest()).isEqualTo(ScanEnhancedRequest.builder().build());
+        assertThat(builtObject.checkpoint()).isNull();
+        assertThat(builtObject.executor()).isNull();
+    }
+
+    @Test
+    public void builder_maximal() {
+        ScanEnhancedRequest scanRequest = ScanEnhancedRequest.builder().consistentRead(true).build();
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder().totalSegments(16).addCompletedSegment(3).build();
+        Executor executor = Runnable::run;
+
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(scanRequest)
+                                                                             .totalSegments(16)
+                                                                             .maxConcurrentSegments(2)
+                                                                             .checkpoint(checkpoint)
+                                                                             .executor(executor)
+                                                                             .build();
+
+        assertThat(builtObject.scanRequest()).isEqualTo(scanRequest);
+        assertThat(builtObject.totalSegments()).isEqualTo(16);
+        assertThat(builtObject.maxConcurrentSegments()).isEqualTo(2);
+        assertThat(builtObject.checkpoint()).isEqualTo(checkpoint);
+        assertThat(builtObject.executor()).isSameAs(executor);
+    }
+
+    @Test
+    public void maxConcurrentSegments_defaultIsAtMostEight() {
+        assertThat(ParallelScanEnhancedRequest.builder().totalSegments(100).build().maxConcurrentSegments()).isEqualTo(8);
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .scanRequest(r -> r.limit(10))
+                                                                             .totalSegments(4)
+                                                                             .maxConcurrentSegments(2)
+                                                                             .build();
+
+        assertThat(builtObject.toBuilder().build()).isEqualTo(builtObject);
+    }
+
+    @Test
+    public void build_withoutTotalSegments_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build()).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void build_withInvalidTotalSegments_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(1_000_001).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void build_withSegmentedScanRequest_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(4)
+                                                            .scanRequest(r -> r.segment(0).totalSegments(4))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(4)
+                                                            .scanRequest(r -> r.exclusiveStartKey(
+                                                                Collections.singletonMap("id", stringValue("a"))))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void build_withCheckpointOfDifferentSegmentCount_throws() {
+        ParallelScanCheckpoint checkpoint = ParallelScanCheckpoint.builder().totalSegments(8).build();
+
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(4).checkpoint(checkpoint).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("8 segments");
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.nio.file.Path;
+import java.security.InvalidKeyException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates CloudFront signed URLs and signed cookies with a single key pair.
+ * <p>
+ * This produces the same signed URLs and cookies as {@link CloudFrontUtilities}, but is intended for applications that sign
+ * many resources with the same key, such as media manifests that reference thousands of segment URLs. The signer keeps an
+ * initialized signature engine for each thread that uses it, instead of creating and initializing one for every signature,
+ * so it should be created once per key pair and reused.
+ * <p>
+ * The batch methods, such as {@link #getSignedUrlsWithCustomPolicy(Collection, String, Instant, Instant, String)}, sign many
+ * resources that share an expiration date or a custom policy. A shared custom policy is only signed once for the whole
+ * batch.
+ *
+ * <p><b>Example Usage</b>
+ * <p>
+ * {@snippet :
+ *     //Generates signed URLs for every segment of a manifest with a shared custom policy, valid for 1 hour
+ *     CloudFrontSigner signer = CloudFrontSigner.create(keyPairId, privateKey);
+ *
+ *     Instant expirationDate = Instant.now().plus(Duration.ofHours(1));
+ *     List<SignedUrl> signedUrls =
+ *         signer.getSignedUrlsWithCustomPolicy(segmentUrls,
+ *                                              "https://d111111abcdef8.cloudfront.net/videos/movie/*",
+ *                                              null,
+ *                                              expirationDate,
+ *                                              null);
+ * }
+ */
+@Immutable
+@ThreadSafe
+@SdkPublicApi
+public final class CloudFrontSigner {
+
+    private static final String KEY_PAIR_ID_KEY = "CloudFront-Key-Pair-Id";
+    private static final String SIGNATURE_KEY = "CloudFront-Signature";
+    private static final String EXPIRES_KEY = "CloudFront-Expires";
+    private static final String POLICY_KEY = "CloudFront-Policy";
+
+    private final PrivateKey privateKey;
+    private final String keyPairIdQueryParameter;
+    private final String keyPairIdHeaderValue;
+    private final ThreadLocal<Signature> signatures;
+
+    private CloudFrontSigner(String keyPairId, PrivateKey privateKey) {
+        Validate.paramNotNull(keyPairId, "keyPairId");
+        this.privateKey = Validate.paramNotNull(privateKey, "privateKey");
+        this.keyPairIdQueryParameter = "&Key-Pair-Id=" + keyPairId;
+        this.keyPairIdHeaderValue = KEY_PAIR_ID_KEY + "=" + keyPairId;
+        this.signatures = ThreadLocal.withInitial(this::initSignature);
+
+        // Fail fast on an unusable key, instead of on the first signature.
+        this.signatures.get();
+    }
+
+    /**
+     * Create a signer for the given CloudFront key pair id and private key.
+     */
+    public static CloudFrontSigner create(String keyPairId, PrivateKey privateKey) {
+        return new CloudFrontSigner(keyPairId, privateKey);
+    }
+
+    /**
+     * Create a signer for the given CloudFront key pair id and a private key loaded from the given file, in pem or der format.
+     */
+    public static CloudFrontSigner create(String keyPairId, Path keyFile) throws Exception {
+        return new CloudFrontSigner(keyPairId, SigningUtils.loadPrivateKey(keyFile));
+    }
+
+    /**
+     * Returns a signed URL with a canned policy that grants universal access to private content until the given date.
+     *
+     * @see CloudFrontUtilities#getSignedUrlWithCannedPolicy(software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest)
+     */
+    public SignedUrl getSignedUrlWithCannedPolicy(String resourceUrl, Instant expirationDate) {
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        return signWithCannedPolicy(resourceUrl, expirationDate, "Expires=" + expirationDate.getEpochSecond());
+    }
+
+    /**
+     * Returns signed URLs with canned policies that grant universal access to each of the given resources until the given
+     * date. Each resource is signed separately, because a canned policy applies to a single resource URL.
+     */
+    public List<SignedUrl> getSignedUrlsWithCannedPolicy(Collection<String> resourceUrls, Instant expirationDate) {
+        Validate.paramNotNull(resourceUrls, "resourceUrls");
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        String expiresQueryParameter = "Expires=" + expirationDate.getEpochSecond();
+        List<SignedUrl> signedUrls = new ArrayList<>(resourceUrls.size());
+        for (String resourceUrl : resourceUrls) {
+            signedUrls.add(signWithCannedPolicy(resourceUrl, expirationDate, expiresQueryParameter));
+        }
+        return signedUrls;
+    }
+
+    /**
+     * Returns a signed URL that provides tailored access to private content based on an access time window and an ip range.
+     *
+     * @param resourceUrl The URL to sign, which is also the resource the custom policy applies to.
+     * @param activeDate An optional date before which the signed URL is not valid.
+     * @param expirationDate The date after which the signed URL is no longer valid.
+     * @param ipRange An optional IPv4 CIDR range of client addresses that may use the signed URL.
+     * @see CloudFrontUtilities#getSignedUrlWithCustomPolicy(software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest)
+     */
+    public SignedUrl getSignedUrlWithCustomPolicy(String resourceUrl, Instant activeDate, Instant expirationDate,
+                                                  String ipRange) {
+        String policyQueryParameters = signCustomPolicyForSignedUrl(resourceUrl, activeDate, expirationDate, ipRange);
+        return SigningUtils.buildSignedUrl(resourceUrl, policyQueryParameters);
+    }
+
+    /**
+     * Returns signed URLs for each of the given resources, sharing a single custom policy. The policy is only signed once, so
+     * {@code policyResourceUrl} should cover every resource URL, usually with a wildcard such as
+     * {@code "https://d111111abcdef8.cloudfront.net/videos/movie/*"}.
+     *
+     * @param resourceUrls The URLs to sign.
+     * @param policyResourceUrl The resource, or resource pattern, the custom policy applies to.
+     * @param activeDate An optional date before which the signed URLs are not valid.
+     * @param expirationDate The date after which the signed URLs are no longer valid.
+     * @param ipRange An optional IPv4 CIDR range of client addresses that may use the signed URLs.
+     */
+    public List<SignedUrl> getSignedUrlsWithCustomPolicy(Collection<String> resourceUrls, String policyResourceUrl,
+                                                         Instant activeDate, Instant expirationDate, String ipRange) {
+        Validate.paramNotNull(resourceUrls, "resourceUrls");
+        String policyQueryParameters = signCustomPolicyForSignedUrl(policyResourceUrl, activeDate, expirationDate, ipRange);
+        List<SignedUrl> signedUrls = new ArrayList<>(resourceUrls.size());
+        for (String resourceUrl : resourceUrls) {
+            signedUrls.add(SigningUtils.buildSignedUrl(resourceUrl, policyQueryParameters));
+        }
+        return signedUrls;
+    }
+
+    /**
+     * Generate signed cookies that allow access to a specific resource path by applying access restrictions from a canned
+     * policy document.
+     *
+     * @see CloudFrontUtilities#getCookiesForCannedPolicy(software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest)
+     */
+    public CookiesForCannedPolicy getCookiesForCannedPolicy(String resourceUrl, Instant expirationDate) {
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        String cannedPolicy = SigningUtils.buildCannedPolicy(resourceUrl, expirationDate);
+        String urlSafeSignature = SigningUtils.makeBytesUrlSafe(sign(cannedPolicy));
+        return DefaultCookiesForCannedPolicy.builder()
+                                            .resourceUrl(resourceUrl)
+                                            .keyPairIdHeaderValue(keyPairIdHeaderValue)
+                                            .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
+                                            .expiresHeaderValue(EXPIRES_KEY + "=" + expirationDate.getEpochSecond())
+                                            .build();
+    }
+
+    /**
+     * Generate signed cookies that provide tailored access to private content based on an access time window and an ip
+     * range. The same cookies can be used for every resource matched by {@code resourceUrl}, which may contain wildcards.
+     *
+     * @see CloudFrontUtilities#getCookiesForCustomPolicy(software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest)
+     */
+    public CookiesForCustomPolicy getCookiesForCustomPolicy(String resourceUrl, Instant activeDate, Instant expirationDate,
+                                                            String ipRange) {
+        Validate.paramNotNull(expirationDate, "expirationDate");
+        String policy = SigningUtils.buildCustomPolicy(resourceUrl, activeDate, expirationDate, ipRange);
+        String urlSafeSignature = SigningUtils.makeBytesUrlSafe(sign(policy));
+        return DefaultCookiesForCustomPolicy.builder()
+                                            .resourceUrl(resourceUrl)
+                                            .keyPairIdHeaderValue(keyPairIdHeaderValue)
+                                            .signatureHeaderValue(SIGNATURE_KEY + "=" + urlSafeSignature)
+                                            .policyHeaderValue(POLICY_KEY + "=" + SigningUtils.makeStringUrlSafe(policy))
+                                            .build();
+    }
+
+    private SignedUrl signWithCannedPolicy(String resourceUrl, Instant expirationDate, String expiresQueryParameter) {
+        String cannedPolicy = SigningUtils.buildCannedPolicy(resourceUrl, expirationDate);
+        String urlSafeSignature = SigningUtils.makeBytesUrlSafe(sign(cannedPolicy));
+        return SigningUtils.buildSignedUrl(resourceUrl,
+                                           expiresQueryParameter
+                                           + "&Signature=" + urlSafeSignature
+                                           + keyPairIdQueryParameter);
+    }
+
+    private String signCustomPolicyForSignedUrl(String policyResourceUrl, Instant activeDate, Instant expirationDate,
+                                                String ipRange) {
+        String policy = SigningUtils.buildCustomPolicyForSignedUrl(policyResourceUrl, activeDate, expirationDate, ipRange);
+        String urlSafeSignature = SigningUtils.makeBytesUrlSafe(sign(policy));
+        return "Policy=" + SigningUtils.makeStringUrlSafe(policy)
+               + "&Signature=" + urlSafeSignature
+               + keyPairIdQueryParameter;
+    }
+
+    private byte[] sign(String policy) {
+        try {
+            return SigningUtils.sign(signatures.get(), policy.getBytes(UTF_8));
+        } catch (RuntimeException e) {
+            // The engine's state is unknown after a failure, so this thread will initialize a new one next time.
+            signatures.remove();
+            throw e;
+        }
+    }
+
+    private Signature initSignature() {
+        try {
+            return SigningUtils.initSha1RsaSignature(privateKey);
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.create("Could not initialize signature with the private key", e);
+        }
+    }
+}
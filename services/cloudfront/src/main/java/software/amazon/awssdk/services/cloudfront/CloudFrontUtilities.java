@@ -17,7 +17,6 @@ package software.amazon.awssdk.services.cloudfront;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
-import java.net.URI;
 import java.security.InvalidKeyException;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
@@ -28,7 +27,6 @@ import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
 import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
 import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCannedPolicy;
 import software.amazon.awssdk.services.cloudfront.internal.cookie.DefaultCookiesForCustomPolicy;
-import software.amazon.awssdk.services.cloudfront.internal.url.DefaultSignedUrl;
 import software.amazon.awssdk.services.cloudfront.internal.utils.SigningUtils;
 import software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest;
 import software.amazon.awssdk.services.cloudfront.model.CustomSignerRequest;
@@ -142,19 +140,10 @@ public final class CloudFrontUtilities {
             String cannedPolicy = SigningUtils.buildCannedPolicy(resourceUrl, request.expirationDate());
             byte[] signatureBytes = SigningUtils.signWithSha1Rsa(cannedPolicy.getBytes(UTF_8), request.privateKey());
             String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            URI uri = URI.create(resourceUrl);
-            String protocol = uri.getScheme();
-            String encodedPath = uri.getRawPath()
-                                 + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
-                                 + "Expires=" + request.expirationDate().getEpochSecond()
-                                 + "&Signature=" + urlSafeSignature
-                                 + "&Key-Pair-Id=" + request.keyPairId();
-            return DefaultSignedUrl.builder()
-                                   .protocol(protocol)
-                                   .domain(uri.getHost())
-                                   .encodedPath(encodedPath)
-                                   .url(protocol + "://" + uri.getAuthority() + encodedPath)
-                                   .build();
+            return SigningUtils.buildSignedUrl(resourceUrl,
+                                               "Expires=" + request.expirationDate().getEpochSecond()
+                                               + "&Signature=" + urlSafeSignature
+                                               + "&Key-Pair-Id=" + request.keyPairId());
         } catch (InvalidKeyException e) {
             throw SdkClientException.create("Could not sign url", e);
         }
@@ -254,19 +243,10 @@ public final class CloudFrontUtilities {
             byte[] signatureBytes = SigningUtils.signWithSha1Rsa(policy.getBytes(UTF_8), request.privateKey());
             String urlSafePolicy = SigningUtils.makeStringUrlSafe(policy);
             String urlSafeSignature = SigningUtils.makeBytesUrlSafe(signatureBytes);
-            URI uri = URI.create(resourceUrl);
-            String protocol = uri.getScheme();
-            String encodedPath = uri.getRawPath()
-                                 + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
-                                 + "Policy=" + urlSafePolicy
-                                 + "&Signature=" + urlSafeSignature
-                                 + "&Key-Pair-Id=" + request.keyPairId();
-            return DefaultSignedUrl.builder()
-                                   .protocol(protocol)
-                                   .domain(uri.getHost())
-                                   .encodedPath(encodedPath)
-                                   .url(protocol + "://" + uri.getAuthority() + encodedPath)
-                                   .build();
+            return SigningUtils.buildSignedUrl(resourceUrl,
+                                               "Policy=" + urlSafePolicy
+                                               + "&Signature=" + urlSafeSignature
+                                               + "&Key-Pair-Id=" + request.keyPairId());
         } catch (InvalidKeyException e) {
             throw SdkClientException.create("Could not sign url", e);
         }
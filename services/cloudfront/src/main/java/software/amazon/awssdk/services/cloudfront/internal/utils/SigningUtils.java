@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.cloudfront.internal.utils;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.InvalidKeyException;
@@ -32,6 +33,8 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.cloudfront.internal.auth.Pem;
 import software.amazon.awssdk.services.cloudfront.internal.auth.Rsa;
+import software.amazon.awssdk.services.cloudfront.internal.url.DefaultSignedUrl;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.StringUtils;
 
@@ -127,17 +130,55 @@ public final class SigningUtils {
      * algorithm provided by bouncy castle.
      */
     public static byte[] signWithSha1Rsa(byte[] dataToSign, PrivateKey privateKey) throws InvalidKeyException {
+        return sign(initSha1RsaSignature(privateKey), dataToSign);
+    }
+
+    /**
+     * Creates a SHA1withRSA signature engine initialized for signing with the private key given. The engine is reset after
+     * each {@link #sign(Signature, byte[])}, so it can be reused to sign more data with the same key, but it is not thread
+     * safe.
+     */
+    public static Signature initSha1RsaSignature(PrivateKey privateKey) throws InvalidKeyException {
         try {
             Signature signature = Signature.getInstance("SHA1withRSA");
             SecureRandom random = new SecureRandom();
             signature.initSign(privateKey, random);
+            return signature;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Signs the data given with a signature engine created by {@link #initSha1RsaSignature(PrivateKey)}.
+     */
+    public static byte[] sign(Signature signature, byte[] dataToSign) {
+        try {
             signature.update(dataToSign);
             return signature.sign();
-        } catch (NoSuchAlgorithmException | SignatureException e) {
+        } catch (SignatureException e) {
             throw new IllegalStateException(e);
         }
     }
 
+    /**
+     * Returns a signed URL for the given resource URL, by appending the given signing query parameters (the expiration or
+     * policy, the signature and the key pair id) to the resource URL's existing query parameters.
+     */
+    public static SignedUrl buildSignedUrl(String resourceUrl, String signingQueryParameters) {
+        URI uri = URI.create(resourceUrl);
+        String protocol = uri.getScheme();
+        String encodedPath = uri.getRawPath()
+                             + (uri.getQuery() != null ? "?" + uri.getRawQuery() + "&" : "?")
+                             + signingQueryParameters;
+        return DefaultSignedUrl.builder()
+                               .protocol(protocol)
+                               .domain(uri.getHost())
+                               .encodedPath(encodedPath)
+                               .url(protocol + "://" + uri.getAuthority() + encodedPath)
+                               .build();
+    }
+
     /**
      * Generate a policy document that describes custom access permissions to
      * apply via a private distribution's signed URL.
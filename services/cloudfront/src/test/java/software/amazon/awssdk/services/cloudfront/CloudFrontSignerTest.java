@@ -0,0 +1,187 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudfront;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCannedPolicy;
+import software.amazon.awssdk.services.cloudfront.cookie.CookiesForCustomPolicy;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+
+class CloudFrontSignerTest {
+    private static final String RESOURCE_URL = "https://d1npcfkc2mojrf.cloudfront.net/s3ObjectKey";
+    private static final String KEY_PAIR_ID = "keyPairId";
+    private static final Instant ACTIVE_DATE = LocalDate.of(2022, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    private static final Instant EXPIRATION_DATE = LocalDate.of(2024, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC);
+    private static final List<String> SEGMENT_URLS =
+        Arrays.asList("https://d1npcfkc2mojrf.cloudfront.net/videos/movie/segment-0.ts",
+                      "https://d1npcfkc2mojrf.cloudfront.net/videos/movie/segment-1.ts?quality=high",
+                      "https://d1npcfkc2mojrf.cloudfront.net:65535/videos/movie/segment-2.ts");
+
+    private static KeyPair keyPair;
+    private static CloudFrontUtilities cloudFrontUtilities;
+    private static CloudFrontSigner signer;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("RSA");
+        kpg.initialize(2048);
+        keyPair = kpg.generateKeyPair();
+        cloudFrontUtilities = CloudFrontUtilities.create();
+        signer = CloudFrontSigner.create(KEY_PAIR_ID, keyPair.getPrivate());
+    }
+
+    @Test
+    void getSignedUrlWithCannedPolicy_matchesCloudFrontUtilities() {
+        SignedUrl expected = cloudFrontUtilities.getSignedUrlWithCannedPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                                    .privateKey(keyPair.getPrivate())
+                                                                                    .keyPairId(KEY_PAIR_ID)
+                                                                                    .expirationDate(EXPIRATION_DATE));
+
+        SignedUrl signedUrl = signer.getSignedUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+
+        assertThat(signedUrl.url()).isEqualTo(expected.url());
+        assertThat(signedUrl.encodedPath()).isEqualTo(expected.encodedPath());
+        // Signing the same resource again with the cached engine produces the same signature.
+        assertThat(signer.getSignedUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE).url()).isEqualTo(expected.url());
+    }
+
+    @Test
+    void getSignedUrlWithCustomPolicy_matchesCloudFrontUtilities() {
+        SignedUrl expected = cloudFrontUtilities.getSignedUrlWithCustomPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                                    .privateKey(keyPair.getPrivate())
+                                                                                    .keyPairId(KEY_PAIR_ID)
+                                                                                    .activeDate(ACTIVE_DATE)
+                                                                                    .expirationDate(EXPIRATION_DATE)
+                                                                                    .ipRange("1.2.3.4"));
+
+        SignedUrl signedUrl = signer.getSignedUrlWithCustomPolicy(RESOURCE_URL, ACTIVE_DATE, EXPIRATION_DATE, "1.2.3.4");
+
+        assertThat(signedUrl.url()).isEqualTo(expected.url());
+    }
+
+    @Test
+    void getSignedUrlsWithCannedPolicy_signsEachResource() {
+        List<SignedUrl> signedUrls = signer.getSignedUrlsWithCannedPolicy(SEGMENT_URLS, EXPIRATION_DATE);
+
+        assertThat(signedUrls).hasSize(SEGMENT_URLS.size());
+        for (int i = 0; i < SEGMENT_URLS.size(); i++) {
+            String resourceUrl = SEGMENT_URLS.get(i);
+            SignedUrl expected = cloudFrontUtilities.getSignedUrlWithCannedPolicy(r -> r.resourceUrl(resourceUrl)
+                                                                                        .privateKey(keyPair.getPrivate())
+                                                                                        .keyPairId(KEY_PAIR_ID)
+                                                                                        .expirationDate(EXPIRATION_DATE));
+            assertThat(signedUrls.get(i).url()).isEqualTo(expected.url());
+        }
+    }
+
+    @Test
+    void getSignedUrlsWithCustomPolicy_sharesOnePolicyAndSignature() {
+        String policyResourceUrl = "https://d1npcfkc2mojrf.cloudfront.net/videos/movie/*";
+        SignedUrl expected = cloudFrontUtilities.getSignedUrlWithCustomPolicy(r -> r.resourceUrl(policyResourceUrl)
+                                                                                    .privateKey(keyPair.getPrivate())
+                                                                                    .keyPairId(KEY_PAIR_ID)
+                                                                                    .expirationDate(EXPIRATION_DATE));
+        String expectedQuery = expected.url().substring(expected.url().indexOf("Policy="));
+
+        List<SignedUrl> signedUrls =
+            signer.getSignedUrlsWithCustomPolicy(SEGMENT_URLS, policyResourceUrl, null, EXPIRATION_DATE, null);
+
+        assertThat(signedUrls).hasSize(SEGMENT_URLS.size());
+        assertThat(signedUrls.get(0).url()).isEqualTo(SEGMENT_URLS.get(0) + "?" + expectedQuery);
+        assertThat(signedUrls.get(1).url()).isEqualTo(SEGMENT_URLS.get(1) + "&" + expectedQuery);
+        assertThat(signedUrls.get(2).url()).isEqualTo(SEGMENT_URLS.get(2) + "?" + expectedQuery);
+        assertThat(signedUrls.get(2).domain()).isEqualTo("d1npcfkc2mojrf.cloudfront.net");
+    }
+
+    @Test
+    void getCookiesForCannedPolicy_matchesCloudFrontUtilities() {
+        CookiesForCannedPolicy expected = cloudFrontUtilities.getCookiesForCannedPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                                              .privateKey(keyPair.getPrivate())
+                                                                                              .keyPairId(KEY_PAIR_ID)
+                                                                                              .expirationDate(EXPIRATION_DATE));
+
+        CookiesForCannedPolicy cookies = signer.getCookiesForCannedPolicy(RESOURCE_URL, EXPIRATION_DATE);
+
+        assertThat(cookies.resourceUrl()).isEqualTo(expected.resourceUrl());
+        assertThat(cookies.keyPairIdHeaderValue()).isEqualTo(expected.keyPairIdHeaderValue());
+        assertThat(cookies.signatureHeaderValue()).isEqualTo(expected.signatureHeaderValue());
+        assertThat(cookies.expiresHeaderValue()).isEqualTo(expected.expiresHeaderValue());
+    }
+
+    @Test
+    void getCookiesForCustomPolicy_matchesCloudFrontUtilities() {
+        CookiesForCustomPolicy expected = cloudFrontUtilities.getCookiesForCustomPolicy(r -> r.resourceUrl(RESOURCE_URL)
+                                                                                              .privateKey(keyPair.getPrivate())
+                                                                                              .keyPairId(KEY_PAIR_ID)
+                                                                                              .activeDate(ACTIVE_DATE)
+                                                                                              .expirationDate(EXPIRATION_DATE)
+                                                                                              .ipRange("1.2.3.4"));
+
+        CookiesForCustomPolicy cookies = signer.getCookiesForCustomPolicy(RESOURCE_URL, ACTIVE_DATE, EXPIRATION_DATE, "1.2.3.4");
+
+        assertThat(cookies.keyPairIdHeaderValue()).isEqualTo(expected.keyPairIdHeaderValue());
+        assertThat(cookies.signatureHeaderValue()).isEqualTo(expected.signatureHeaderValue());
+        assertThat(cookies.policyHeaderValue()).isEqualTo(expected.policyHeaderValue());
+    }
+
+    @Test
+    void signer_usedFromManyThreads_producesSameSignatures() throws Exception {
+        String expected = signer.getSignedUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE).url();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> signer.getSignedUrlWithCannedPolicy(RESOURCE_URL, EXPIRATION_DATE).url()));
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo(expected);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void create_invalidPrivateKey_throwsException() throws Exception {
+        KeyPairGenerator kpg = KeyPairGenerator.getInstance("EC");
+        KeyPair ecKeyPair = kpg.generateKeyPair();
+
+        assertThatThrownBy(() -> CloudFrontSigner.create(KEY_PAIR_ID, ecKeyPair.getPrivate()))
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    void getSignedUrlWithCustomPolicy_missingExpirationDate_throwsException() {
+        assertThatThrownBy(() -> signer.getSignedUrlWithCustomPolicy(RESOURCE_URL, null, null, null))
+            .isInstanceOf(SdkClientException.class);
+    }
+}
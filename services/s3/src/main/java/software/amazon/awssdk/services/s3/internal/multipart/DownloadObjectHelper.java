@@ -32,10 +32,16 @@ public class DownloadObjectHelper {
 
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
+    private final int partDownloadConcurrency;
 
     public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes) {
+        this(s3AsyncClient, bufferSizeInBytes, 1);
+    }
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int partDownloadConcurrency) {
         this.s3AsyncClient = s3AsyncClient;
         this.bufferSizeInBytes = bufferSizeInBytes;
+        this.partDownloadConcurrency = partDownloadConcurrency;
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -48,9 +54,14 @@ public class DownloadObjectHelper {
         AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split =
             asyncResponseTransformer.split(SplittingTransformerConfiguration.builder()
                                                                             .bufferSizeInBytes(bufferSizeInBytes)
+                                                                            .parallelSplit(partDownloadConcurrency > 1)
                                                                             .build());
-        MultipartDownloaderSubscriber subscriber = subscriber(requestToPerform);
-        split.publisher().subscribe(subscriber);
+        if (partDownloadConcurrency > 1 && Boolean.TRUE.equals(split.parallelSplitSupported())) {
+            log.debug(() -> "Downloading up to " + partDownloadConcurrency + " parts concurrently");
+            split.publisher().subscribe(parallelSubscriber(requestToPerform));
+        } else {
+            split.publisher().subscribe(subscriber(requestToPerform));
+        }
         return split.resultFuture();
     }
 
@@ -62,6 +73,14 @@ public class DownloadObjectHelper {
             .orElseGet(() -> new MultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest));
     }
 
+    private ParallelMultipartDownloaderSubscriber parallelSubscriber(GetObjectRequest getObjectRequest) {
+        int completedParts = MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                                                   .map(MultipartDownloadResumeContext::highestSequentialCompletedPart)
+                                                   .orElse(0);
+        return new ParallelMultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, completedParts,
+                                                         partDownloadConcurrency);
+    }
+
     private void logSinglePartMessage(GetObjectRequest getObjectRequest) {
         log.debug(() -> {
             String reason = "";
@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.function.IntToLongFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.checksums.internal.SdkCrc32;
+import software.amazon.awssdk.checksums.internal.SdkCrc32C;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Validates a full-object CRC32 or CRC32C checksum provided on a {@link PutObjectRequest} that is uploaded in parts.
+ * <p>
+ * The parts of a multipart upload are checksummed individually, and concurrently, so the full-object checksum is not known
+ * until all parts have been uploaded. Rather than making a second pass over the data, the checksum of the object is computed
+ * by combining the part checksums returned by S3, which only needs the length of each part.
+ */
+@SdkInternalApi
+final class FullObjectChecksumValidator {
+    private static final Logger log = Logger.loggerFor(FullObjectChecksumValidator.class);
+
+    private final ChecksumAlgorithm algorithm;
+    private final String expectedChecksum;
+
+    private FullObjectChecksumValidator(ChecksumAlgorithm algorithm, String expectedChecksum) {
+        this.algorithm = algorithm;
+        this.expectedChecksum = expectedChecksum;
+    }
+
+    /**
+     * Returns a validator for the full-object checksum of the given request, or an empty optional if the request does not
+     * specify a CRC32 or CRC32C value matching its checksum algorithm.
+     */
+    static Optional<FullObjectChecksumValidator> create(PutObjectRequest putObjectRequest) {
+        ChecksumAlgorithm requestAlgorithm = putObjectRequest.checksumAlgorithm();
+        if (putObjectRequest.checksumCRC32() != null && isNullOr(requestAlgorithm, ChecksumAlgorithm.CRC32)) {
+            return Optional.of(new FullObjectChecksumValidator(ChecksumAlgorithm.CRC32, putObjectRequest.checksumCRC32()));
+        }
+        if (putObjectRequest.checksumCRC32C() != null && isNullOr(requestAlgorithm, ChecksumAlgorithm.CRC32_C)) {
+            return Optional.of(new FullObjectChecksumValidator(ChecksumAlgorithm.CRC32_C, putObjectRequest.checksumCRC32C()));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The checksum algorithm the parts must be uploaded with for the full-object checksum to be validated.
+     */
+    ChecksumAlgorithm algorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Combines the checksums of the given parts and compares the result with the expected full-object checksum.
+     * Validation is skipped if the checksum or the length of any part is not known.
+     *
+     * @param parts the completed parts, in ascending part number order
+     * @param partLength returns the length in bytes of the part with the given part number, or a negative value if unknown
+     * @throws SdkClientException if the combined checksum does not match the expected checksum
+     */
+    void validate(CompletedPart[] parts, IntToLongFunction partLength) {
+        long crc = 0;
+        for (CompletedPart part : parts) {
+            String partChecksum = partChecksum(part);
+            long length = partLength.applyAsLong(part.partNumber());
+            if (partChecksum == null || length < 0) {
+                log.debug(() -> "Skipping full-object " + algorithm + " validation, the checksum or length of part "
+                                + part.partNumber() + " is not known");
+                return;
+            }
+            crc = combine(crc, decode(partChecksum), length);
+        }
+
+        String actualChecksum = encode(crc);
+        if (!expectedChecksum.equals(actualChecksum)) {
+            throw SdkClientException.create(String.format("Data read has a different %s checksum than expected. Was %s, but "
+                                                          + "expected %s. The multipart upload will be aborted.",
+                                                          algorithm, actualChecksum, expectedChecksum));
+        }
+    }
+
+    private String partChecksum(CompletedPart part) {
+        return algorithm == ChecksumAlgorithm.CRC32 ? part.checksumCRC32() : part.checksumCRC32C();
+    }
+
+    private long combine(long crc1, long crc2, long length2) {
+        return algorithm == ChecksumAlgorithm.CRC32 ? SdkCrc32.combine(crc1, crc2, length2)
+                                                    : SdkCrc32C.combine(crc1, crc2, length2);
+    }
+
+    private static long decode(String checksum) {
+        return ByteBuffer.wrap(BinaryUtils.fromBase64(checksum)).getInt() & 0xFFFFFFFFL;
+    }
+
+    private static String encode(long crc) {
+        return BinaryUtils.toBase64(ByteBuffer.allocate(4).putInt((int) crc).array());
+    }
+
+    private static boolean isNullOr(ChecksumAlgorithm requestAlgorithm, ChecksumAlgorithm algorithm) {
+        return requestAlgorithm == null || requestAlgorithm == algorithm;
+    }
+}
@@ -20,6 +20,7 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -32,6 +33,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
@@ -55,6 +57,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicInteger partNumber = new AtomicInteger(1);
     private final MultipartUploadHelper multipartUploadHelper;
     private final long partSize;
+    private final long contentLength;
     private final int partCount;
     private final int numExistingParts;
     private final String uploadId;
@@ -64,6 +67,7 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
     private final AtomicReferenceArray<CompletedPart> completedParts;
     private final Map<Integer, CompletedPart> existingParts;
     private final PublisherListener<Long> progressListener;
+    private final Optional<FullObjectChecksumValidator> checksumValidator;
     private Subscription subscription;
     private volatile boolean isDone;
     private volatile boolean isPaused;
@@ -77,8 +81,10 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                                                  CompletableFuture<PutObjectResponse> returnFuture,
                                                  MultipartUploadHelper multipartUploadHelper) {
         this.partSize = mpuRequestContext.partSize();
-        this.partCount = determinePartCount(mpuRequestContext.contentLength(), partSize);
+        this.contentLength = mpuRequestContext.contentLength();
+        this.partCount = determinePartCount(contentLength, partSize);
         this.putObjectRequest = mpuRequestContext.request().left();
+        this.checksumValidator = FullObjectChecksumValidator.create(putObjectRequest);
         this.returnFuture = returnFuture;
         this.uploadId = mpuRequestContext.uploadId();
         this.existingParts = mpuRequestContext.existingParts() == null ? new HashMap<>() : mpuRequestContext.existingParts();
@@ -210,10 +216,29 @@ public class KnownContentLengthAsyncRequestBodySubscriber implements Subscriber<
                 // List of CompletedParts needs to be in ascending order
                 parts = mergeCompletedParts();
             }
+            if (!validateFullObjectChecksum(parts)) {
+                return;
+            }
             completeMpuFuture = multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
         }
     }
 
+    private boolean validateFullObjectChecksum(CompletedPart[] parts) {
+        try {
+            checksumValidator.ifPresent(v -> v.validate(parts, this::partLength));
+            return true;
+        } catch (SdkClientException e) {
+            if (failureActionInitiated.compareAndSet(false, true)) {
+                multipartUploadHelper.failRequestsElegantly(futures, e, uploadId, returnFuture, putObjectRequest);
+            }
+            return false;
+        }
+    }
+
+    private long partLength(int partNumber) {
+        return Math.min(partSize, contentLength - (partNumber - 1) * partSize);
+    }
+
     private CompletedPart[] mergeCompletedParts() {
         CompletedPart[] merged = new CompletedPart[partCount];
         int currPart = 1;
@@ -26,9 +26,11 @@ import software.amazon.awssdk.utils.Validate;
 public final class MultipartConfigurationResolver {
 
     private static final long DEFAULT_MIN_PART_SIZE = 8L * 1024 * 1024;
+    private static final int DEFAULT_PART_DOWNLOAD_CONCURRENCY = 1;
     private final long minimalPartSizeInBytes;
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
+    private final int partDownloadConcurrency;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -37,6 +39,9 @@ public final class MultipartConfigurationResolver {
         this.apiCallBufferSize = Validate.getOrDefault(multipartConfiguration.apiCallBufferSizeInBytes(),
                                                        () -> minimalPartSizeInBytes * 4);
         this.thresholdInBytes = Validate.getOrDefault(multipartConfiguration.thresholdInBytes(), () -> minimalPartSizeInBytes);
+        this.partDownloadConcurrency = Validate.isPositive(
+            Validate.getOrDefault(multipartConfiguration.partDownloadConcurrency(), () -> DEFAULT_PART_DOWNLOAD_CONCURRENCY),
+            "partDownloadConcurrency");
     }
 
     public long minimalPartSizeInBytes() {
@@ -50,4 +55,8 @@ public final class MultipartConfigurationResolver {
     public long apiCallBufferSize() {
         return apiCallBufferSize;
     }
+
+    public int partDownloadConcurrency() {
+        return partDownloadConcurrency;
+    }
 }
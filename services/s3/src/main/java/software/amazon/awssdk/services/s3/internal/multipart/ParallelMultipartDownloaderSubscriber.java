@@ -0,0 +1,254 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * A subscriber implementation that will download the individual parts of a multipart get-object request concurrently. The first
+ * part is downloaded alone, to find out the total number of parts and the ETag of the object; up to {@code maxInFlightParts}
+ * of the remaining parts are then downloaded at the same time. The {@link AsyncResponseTransformer}s it receives must come from
+ * a {@link AsyncResponseTransformer.SplitResult} that {@link AsyncResponseTransformer.SplitResult#parallelSplitSupported()
+ * supports parallel split}. This is a 'one-shot' class, it should <em>NOT</em> be reused for more than one multipart download.
+ * <p>
+ * Parts are only recorded in the {@link MultipartDownloadResumeContext} once all the parts before them have completed, so
+ * that a paused download can be resumed from the highest sequentially completed part.
+ */
+@SdkInternalApi
+public class ParallelMultipartDownloaderSubscriber
+    implements Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+    private static final Logger log = Logger.loggerFor(ParallelMultipartDownloaderSubscriber.class);
+
+    /**
+     * The s3 client used to make the individual part requests
+     */
+    private final S3AsyncClient s3;
+
+    /**
+     * The GetObjectRequest that was provided when calling s3.getObject(...). It is copied for each individual request, with the
+     * partNumber field set to the part to download.
+     */
+    private final GetObjectRequest getObjectRequest;
+
+    /**
+     * The maximum number of parts that are downloaded at the same time.
+     */
+    private final int maxInFlightParts;
+
+    /**
+     * This future will be completed once this subscriber reaches a terminal state, failed or successfully, and will be completed
+     * accordingly.
+     */
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    /**
+     * Guards all the mutable state below.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The subscription received from the publisher this subscriber subscribes to.
+     */
+    private Subscription subscription;
+
+    /**
+     * The total number of parts of the object to get. Null until the response of the first part is received, and stays null if
+     * the object is not multipart.
+     */
+    private Integer totalParts;
+
+    /**
+     * The etag of the object being downloaded.
+     */
+    private volatile String eTag;
+
+    /**
+     * The number of the next part to request.
+     */
+    private int nextPartToGet;
+
+    /**
+     * The highest part number for which this part and all the parts before it have completed.
+     */
+    private int highestSequentialCompletedPart;
+
+    /**
+     * Parts that have completed before some part preceding them, with their response.
+     */
+    private final Map<Integer, GetObjectResponse> partsCompletedOutOfOrder = new TreeMap<>();
+
+    /**
+     * The number of part requests currently in progress.
+     */
+    private int partsInFlight;
+
+    /**
+     * The number of transformers requested from the subscription but not yet received.
+     */
+    private int transformersRequested;
+
+    private boolean isDone;
+
+    public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, int completedParts,
+                                                 int maxInFlightParts) {
+        this.s3 = s3;
+        this.getObjectRequest = getObjectRequest;
+        this.maxInFlightParts = maxInFlightParts;
+        this.highestSequentialCompletedPart = completedParts;
+        this.nextPartToGet = completedParts + 1;
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        synchronized (lock) {
+            if (this.subscription != null) {
+                s.cancel();
+                return;
+            }
+            this.subscription = s;
+            transformersRequested = 1;
+        }
+        s.request(1);
+    }
+
+    @Override
+    public void onNext(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        if (asyncResponseTransformer == null) {
+            subscription.cancel();
+            throw new NullPointerException("onNext must not be called with null asyncResponseTransformer");
+        }
+
+        int partNumber;
+        synchronized (lock) {
+            transformersRequested--;
+            if (isDone || (totalParts != null && nextPartToGet > totalParts)) {
+                return;
+            }
+            partNumber = nextPartToGet++;
+            partsInFlight++;
+        }
+
+        GetObjectRequest actualRequest = nextRequest(partNumber);
+        log.debug(() -> "Sending GetObjectRequest for part with partNumber=" + partNumber);
+        s3.getObject(actualRequest, asyncResponseTransformer).whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                onError(error);
+                return;
+            }
+            onPartComplete(partNumber, response);
+        });
+    }
+
+    private void onPartComplete(int partNumber, GetObjectResponse response) {
+        log.debug(() -> String.format("Completed part %d", partNumber));
+        if (eTag == null) {
+            this.eTag = response.eTag();
+            log.debug(() -> String.format("Multipart object ETag: %s", this.eTag));
+        }
+
+        int toRequest;
+        boolean complete;
+        synchronized (lock) {
+            partsInFlight--;
+            Integer partCount = response.partsCount();
+            if (partCount != null && totalParts == null) {
+                log.debug(() -> String.format("Total amount of parts of the object to download: %d", partCount));
+                MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                                      .ifPresent(ctx -> ctx.totalParts(partCount));
+                totalParts = partCount;
+            }
+            recordCompletedPart(partNumber, response);
+
+            complete = totalParts == null || totalParts <= 1 || highestSequentialCompletedPart >= totalParts;
+            if (complete || isDone) {
+                toRequest = 0;
+            } else {
+                int partsNotRequested = totalParts - (nextPartToGet - 1) - transformersRequested;
+                int availableSlots = maxInFlightParts - partsInFlight - transformersRequested;
+                toRequest = Math.max(0, Math.min(partsNotRequested, availableSlots));
+                transformersRequested += toRequest;
+            }
+            if (complete) {
+                isDone = true;
+            }
+        }
+
+        if (complete) {
+            log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.", totalParts));
+            subscription.cancel();
+        } else if (toRequest > 0) {
+            subscription.request(toRequest);
+        }
+    }
+
+    /**
+     * Records the part in the resume context, together with any part completed out of order that directly follows it.
+     */
+    private void recordCompletedPart(int partNumber, GetObjectResponse response) {
+        partsCompletedOutOfOrder.put(partNumber, response);
+        GetObjectResponse partResponse;
+        while ((partResponse = partsCompletedOutOfOrder.remove(highestSequentialCompletedPart + 1)) != null) {
+            highestSequentialCompletedPart++;
+            int completedPart = highestSequentialCompletedPart;
+            GetObjectResponse completedResponse = partResponse;
+            MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                                  .ifPresent(ctx -> {
+                                      ctx.addCompletedPart(completedPart);
+                                      ctx.addToBytesToLastCompletedParts(completedResponse.contentLength());
+                                      if (ctx.response() == null) {
+                                          ctx.response(completedResponse);
+                                      }
+                                  });
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        synchronized (lock) {
+            isDone = true;
+        }
+        future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        future.complete(null);
+    }
+
+    public CompletableFuture<Void> future() {
+        return this.future;
+    }
+
+    private GetObjectRequest nextRequest(int nextPartToGet) {
+        return getObjectRequest.copy(req -> {
+            req.partNumber(nextPartToGet);
+            if (eTag != null) {
+                req.ifMatch(eTag);
+            }
+        });
+    }
+}
@@ -20,11 +20,13 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -58,6 +60,7 @@ public final class SdkPojoConversionUtils {
 
         UploadPartRequest.Builder builder = UploadPartRequest.builder();
         setSdkFields(builder, putObjectRequest, PUT_OBJECT_REQUEST_TO_UPLOAD_PART_FIELDS_TO_IGNORE);
+        partChecksumAlgorithm(putObjectRequest).ifPresent(builder::checksumAlgorithm);
         return builder.uploadId(uploadId).partNumber(partNumber).build();
     }
 
@@ -72,9 +75,21 @@ public final class SdkPojoConversionUtils {
 
         CreateMultipartUploadRequest.Builder builder = CreateMultipartUploadRequest.builder();
         setSdkFields(builder, putObjectRequest);
+        partChecksumAlgorithm(putObjectRequest).ifPresent(builder::checksumAlgorithm);
         return builder.build();
     }
 
+    /**
+     * The parts of an upload with a full-object CRC32 or CRC32C value, but no checksum algorithm, are checksummed with the
+     * same algorithm, so that the full-object value can be validated from the part checksums.
+     */
+    private static Optional<ChecksumAlgorithm> partChecksumAlgorithm(PutObjectRequest putObjectRequest) {
+        if (putObjectRequest.checksumAlgorithmAsString() != null) {
+            return Optional.empty();
+        }
+        return FullObjectChecksumValidator.create(putObjectRequest).map(FullObjectChecksumValidator::algorithm);
+    }
+
     public static HeadObjectRequest toHeadObjectRequest(CopyObjectRequest copyObjectRequest) {
 
         // We can't set SdkFields directly because the fields in CopyObjectRequest do not match 100% with the ones in
@@ -20,8 +20,10 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -31,6 +33,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
@@ -113,6 +116,7 @@ public final class UploadWithUnknownContentLengthHelper {
 
         private final Queue<CompletedPart> completedParts = new ConcurrentLinkedQueue<>();
         private final Collection<CompletableFuture<CompletedPart>> futures = new ConcurrentLinkedQueue<>();
+        private final Map<Integer, Long> partLengths = new ConcurrentHashMap<>();
 
         private final CompletableFuture<String> uploadIdFuture = new CompletableFuture<>();
 
@@ -207,6 +211,7 @@ public final class UploadWithUnknownContentLengthHelper {
                             multipartUploadHelper.failRequestsElegantly(futures, t, uploadId, returnFuture, putObjectRequest);
                         }
                     } else {
+                        asyncRequestBody.contentLength().ifPresent(length -> partLengths.put(r.partNumber(), length));
                         completeMultipartUploadIfFinish(asyncRequestBodyInFlight.decrementAndGet());
                     }
                 });
@@ -249,8 +254,24 @@ public final class UploadWithUnknownContentLengthHelper {
                 CompletedPart[] parts = completedParts.stream()
                                                       .sorted(Comparator.comparingInt(CompletedPart::partNumber))
                                                       .toArray(CompletedPart[]::new);
+                if (!validateFullObjectChecksum(parts)) {
+                    return;
+                }
                 multipartUploadHelper.completeMultipartUpload(returnFuture, uploadId, parts, putObjectRequest);
             }
         }
+
+        private boolean validateFullObjectChecksum(CompletedPart[] parts) {
+            try {
+                FullObjectChecksumValidator.create(putObjectRequest)
+                                           .ifPresent(v -> v.validate(parts, n -> partLengths.getOrDefault(n, -1L)));
+                return true;
+            } catch (SdkClientException e) {
+                if (failureActionInitiated.compareAndSet(false, true)) {
+                    multipartUploadHelper.failRequestsElegantly(futures, e, uploadId, returnFuture, putObjectRequest);
+                }
+                return false;
+            }
+        }
     }
 }
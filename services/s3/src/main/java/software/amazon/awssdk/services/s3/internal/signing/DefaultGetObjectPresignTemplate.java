@@ -0,0 +1,314 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.signing;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.CredentialUtils;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.RequestOverrideConfiguration;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.GetObjectPresignTemplate;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * The default implementation of {@link GetObjectPresignTemplate}.
+ * <p>
+ * The template request is presigned once, with the credentials resolved up front, through the regular
+ * {@link DefaultS3Presigner} path. When that produced a plain SigV4 query-string signature that only signs the host header,
+ * everything in the canonical request except the object path is constant, so the constant parts and the derived signing key
+ * are computed once and each key only costs a SHA-256 of the canonical request and an HMAC of the string to sign. The
+ * precomputed values are verified by re-signing the template key; if the template cannot be precomputed, or the result does
+ * not match, every key is presigned through {@link DefaultS3Presigner} instead.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultGetObjectPresignTemplate implements GetObjectPresignTemplate {
+    private static final Logger log = Logger.loggerFor(DefaultGetObjectPresignTemplate.class);
+
+    private final DefaultS3Presigner presigner;
+    private final GetObjectPresignRequest templateRequest;
+    private final Instant signingInstant;
+    private final PresignedGetObjectRequest template;
+    private final PrecomputedSigning precomputedSigning;
+
+    private DefaultGetObjectPresignTemplate(DefaultS3Presigner presigner,
+                                            GetObjectPresignRequest templateRequest,
+                                            Instant signingInstant,
+                                            PresignedGetObjectRequest template,
+                                            PrecomputedSigning precomputedSigning) {
+        this.presigner = presigner;
+        this.templateRequest = templateRequest;
+        this.signingInstant = signingInstant;
+        this.template = template;
+        this.precomputedSigning = precomputedSigning;
+    }
+
+    static DefaultGetObjectPresignTemplate create(DefaultS3Presigner presigner,
+                                                  GetObjectPresignRequest request,
+                                                  AwsCredentialsIdentity identity,
+                                                  Instant signingInstant) {
+        GetObjectRequest getObjectRequest = Validate.paramNotNull(request.getObjectRequest(), "getObjectRequest");
+
+        // Every key must be signed with the same credentials as the template, so they are resolved once and pinned.
+        GetObjectPresignRequest templateRequest =
+            request.toBuilder()
+                   .getObjectRequest(getObjectRequest.toBuilder()
+                                                     .overrideConfiguration(pinCredentials(getObjectRequest, identity))
+                                                     .build())
+                   .build();
+
+        PresignedGetObjectRequest template = presigner.presignGetObject(templateRequest, signingInstant);
+
+        PrecomputedSigning precomputedSigning = null;
+        if (hasSignerOverride(getObjectRequest)) {
+            log.debug(() -> "A signer override is configured; every key will be presigned individually.");
+        } else {
+            precomputedSigning = PrecomputedSigning.create(template, getObjectRequest.key(), identity);
+        }
+
+        return new DefaultGetObjectPresignTemplate(presigner, templateRequest, signingInstant, template, precomputedSigning);
+    }
+
+    @Override
+    public PresignedGetObjectRequest presign(String key) {
+        Validate.notEmpty(key, "key must not be null or empty.");
+
+        if (precomputedSigning == null) {
+            GetObjectRequest getObjectRequest = templateRequest.getObjectRequest().toBuilder().key(key).build();
+            return presigner.presignGetObject(templateRequest.toBuilder().getObjectRequest(getObjectRequest).build(),
+                                              signingInstant);
+        }
+
+        String encodedPath = precomputedSigning.encodedPath(key);
+        SdkHttpRequest httpRequest =
+            template.httpRequest()
+                    .toBuilder()
+                    .encodedPath(encodedPath)
+                    .putRawQueryParameter(PrecomputedSigning.SIGNATURE_PARAMETER, precomputedSigning.signature(encodedPath))
+                    .build();
+
+        return template.toBuilder()
+                       .httpRequest(httpRequest)
+                       .build();
+    }
+
+    @Override
+    public Instant expiration() {
+        return template.expiration();
+    }
+
+    /**
+     * Whether keys are signed with the precomputed signing state, rather than with a full presign per key.
+     */
+    boolean isPrecomputed() {
+        return precomputedSigning != null;
+    }
+
+    private static AwsRequestOverrideConfiguration pinCredentials(GetObjectRequest request, AwsCredentialsIdentity identity) {
+        AwsRequestOverrideConfiguration.Builder overrideConfiguration =
+            request.overrideConfiguration()
+                   .map(AwsRequestOverrideConfiguration::toBuilder)
+                   .orElseGet(AwsRequestOverrideConfiguration::builder);
+        AwsCredentials credentials = CredentialUtils.toCredentials(identity);
+        return overrideConfiguration.credentialsProvider(StaticCredentialsProvider.create(credentials))
+                                    .build();
+    }
+
+    private static boolean hasSignerOverride(GetObjectRequest request) {
+        return request.overrideConfiguration()
+                      .flatMap(RequestOverrideConfiguration::signer)
+                      .isPresent();
+    }
+
+    /**
+     * The parts of a SigV4 query-string signature that are shared by every key presigned by a template.
+     */
+    private static final class PrecomputedSigning {
+        private static final String SIGNATURE_PARAMETER = "X-Amz-Signature";
+        private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+        private static final String SIGNING_NAME = "s3";
+        private static final String TERMINATOR = "aws4_request";
+        private static final String SIGNED_HEADERS = "host";
+        private static final String UNSIGNED_PAYLOAD = "UNSIGNED-PAYLOAD";
+        private static final String HMAC_SHA256 = "HmacSHA256";
+
+        private static final ThreadLocal<Mac> MAC =
+            ThreadLocal.withInitial(() -> invokeSafely(() -> Mac.getInstance(HMAC_SHA256)));
+        private static final ThreadLocal<MessageDigest> SHA_256 =
+            ThreadLocal.withInitial(() -> invokeSafely(() -> MessageDigest.getInstance("SHA-256")));
+
+        private final String pathPrefix;
+        private final String canonicalRequestPrefix;
+        private final String canonicalRequestSuffix;
+        private final String stringToSignPrefix;
+        private final SecretKeySpec signingKey;
+
+        private PrecomputedSigning(String pathPrefix,
+                                   String canonicalRequestPrefix,
+                                   String canonicalRequestSuffix,
+                                   String stringToSignPrefix,
+                                   SecretKeySpec signingKey) {
+            this.pathPrefix = pathPrefix;
+            this.canonicalRequestPrefix = canonicalRequestPrefix;
+            this.canonicalRequestSuffix = canonicalRequestSuffix;
+            this.stringToSignPrefix = stringToSignPrefix;
+            this.signingKey = signingKey;
+        }
+
+        /**
+         * Precompute the signing state from the presigned template, or return null if the template was not signed in a way
+         * that can be reproduced per key.
+         */
+        private static PrecomputedSigning create(PresignedGetObjectRequest template,
+                                                 String templateKey,
+                                                 AwsCredentialsIdentity identity) {
+            SdkHttpRequest request = template.httpRequest();
+
+            String algorithm = request.firstMatchingRawQueryParameter("X-Amz-Algorithm").orElse(null);
+            String signedHeaders = request.firstMatchingRawQueryParameter("X-Amz-SignedHeaders").orElse(null);
+            String credential = request.firstMatchingRawQueryParameter("X-Amz-Credential").orElse(null);
+            String amzDate = request.firstMatchingRawQueryParameter("X-Amz-Date").orElse(null);
+            String signature = request.firstMatchingRawQueryParameter(SIGNATURE_PARAMETER).orElse(null);
+            String host = request.firstMatchingHeader("Host").orElse(null);
+
+            if (!ALGORITHM.equals(algorithm) || !SIGNED_HEADERS.equals(signedHeaders) ||
+                credential == null || amzDate == null || signature == null || host == null) {
+                log.debug(() -> "The template was not presigned with a SigV4 query-string signature over the host header; "
+                                + "every key will be presigned individually.");
+                return null;
+            }
+
+            String scope = credential.substring(credential.indexOf('/') + 1);
+            String[] scopeParts = scope.split("/");
+            if (scopeParts.length != 4 || !SIGNING_NAME.equals(scopeParts[2]) || !TERMINATOR.equals(scopeParts[3])) {
+                log.debug(() -> "The template was signed with an unsupported credential scope (" + scope + "); every key will be "
+                                + "presigned individually.");
+                return null;
+            }
+
+            // The object key is always the last segment of the marshalled path, whether the bucket is in the host or the path.
+            String encodedPath = request.encodedPath();
+            String encodedTemplateKey = SdkHttpUtils.urlEncodeIgnoreSlashes(templateKey);
+            String pathPrefix = encodedPath.substring(0, Math.max(0, encodedPath.length() - encodedTemplateKey.length()));
+            if (!encodedPath.endsWith(encodedTemplateKey) || !pathPrefix.startsWith("/") || !pathPrefix.endsWith("/")) {
+                log.debug(() -> "The template key is not the last segment of the presigned path (" + encodedPath + "); every key "
+                                + "will be presigned individually.");
+                return null;
+            }
+
+            String canonicalRequestSuffix = "\n"
+                                            + canonicalQueryString(request) + "\n"
+                                            + "host:" + StringUtils.trim(host) + "\n"
+                                            + "\n"
+                                            + SIGNED_HEADERS + "\n"
+                                            + UNSIGNED_PAYLOAD;
+
+            PrecomputedSigning precomputedSigning =
+                new PrecomputedSigning(pathPrefix,
+                                       request.method().name() + "\n",
+                                       canonicalRequestSuffix,
+                                       ALGORITHM + "\n" + amzDate + "\n" + scope + "\n",
+                                       deriveSigningKey(identity.secretAccessKey(), scopeParts));
+
+            if (!signature.equals(precomputedSigning.signature(encodedPath))) {
+                log.debug(() -> "The precomputed signature did not match the template signature; every key will be presigned "
+                                + "individually.");
+                return null;
+            }
+
+            return precomputedSigning;
+        }
+
+        private String encodedPath(String key) {
+            return pathPrefix + SdkHttpUtils.urlEncodeIgnoreSlashes(key);
+        }
+
+        private String signature(String encodedPath) {
+            MessageDigest sha256 = SHA_256.get();
+            sha256.reset();
+            String canonicalRequest = canonicalRequestPrefix + encodedPath + canonicalRequestSuffix;
+            byte[] canonicalRequestHash = sha256.digest(canonicalRequest.getBytes(StandardCharsets.UTF_8));
+
+            String stringToSign = stringToSignPrefix + BinaryUtils.toHex(canonicalRequestHash);
+
+            Mac mac = MAC.get();
+            invokeSafely(() -> mac.init(signingKey));
+            return BinaryUtils.toHex(mac.doFinal(stringToSign.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        /**
+         * Build the canonical query string of the template, which is the same for every key. This follows the SigV4 rules:
+         * names and values are URL-encoded, sorted, and the signature itself is excluded.
+         */
+        private static String canonicalQueryString(SdkHttpRequest request) {
+            SortedMap<String, List<String>> canonicalParams = new TreeMap<>();
+            request.forEachRawQueryParameter((name, values) -> {
+                if (StringUtils.isEmpty(name) || SIGNATURE_PARAMETER.equals(name)) {
+                    return;
+                }
+
+                List<String> encodedValues = new ArrayList<>(values.size());
+                for (String value : values) {
+                    String encodedValue = SdkHttpUtils.urlEncode(value);
+                    encodedValues.add(encodedValue == null ? "" : encodedValue);
+                }
+                Collections.sort(encodedValues);
+                canonicalParams.put(SdkHttpUtils.urlEncode(name), encodedValues);
+            });
+
+            StringBuilder result = new StringBuilder(512);
+            SdkHttpUtils.flattenQueryParameters(result, canonicalParams);
+            return result.toString();
+        }
+
+        private static SecretKeySpec deriveSigningKey(String secretAccessKey, String[] scopeParts) {
+            byte[] key = ("AWS4" + secretAccessKey).getBytes(StandardCharsets.UTF_8);
+            for (String scopePart : scopeParts) {
+                key = hmac(key, scopePart);
+            }
+            return new SecretKeySpec(key, HMAC_SHA256);
+        }
+
+        private static byte[] hmac(byte[] key, String data) {
+            Mac mac = MAC.get();
+            invokeSafely(() -> mac.init(new SecretKeySpec(key, HMAC_SHA256)));
+            return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -99,6 +99,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.presigner.GetObjectPresignTemplate;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.AbortMultipartUploadPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.CompleteMultipartUploadPresignRequest;
@@ -264,15 +265,32 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
 
     @Override
     public PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request) {
+        return presignGetObject(request, Instant.now());
+    }
+
+    /**
+     * Presign a {@link GetObjectRequest} as if it was signed at the provided instant. This is used by
+     * {@link DefaultGetObjectPresignTemplate} so that every request it presigns shares the template's expiration.
+     */
+    PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request, Instant signingInstant) {
         return presign(PresignedGetObjectRequest.builder(),
                        request,
                        request.getObjectRequest(),
                        GetObjectRequest.class,
                        getObjectRequestMarshaller::marshall,
-                       "GetObject")
+                       "GetObject",
+                       signingInstant)
             .build();
     }
 
+    @Override
+    public GetObjectPresignTemplate createGetObjectPresignTemplate(GetObjectPresignRequest request) {
+        Validate.paramNotNull(request, "request");
+        AwsCredentialsIdentity identity =
+            CompletableFutureUtils.joinLikeSync(credentialsIdentityProvider(request.getObjectRequest()).resolveIdentity());
+        return DefaultGetObjectPresignTemplate.create(this, request, identity, Instant.now());
+    }
+
     @Override
     public PresignedPutObjectRequest presignPutObject(PutObjectPresignRequest request) {
         return presign(PresignedPutObjectRequest.builder(),
@@ -352,10 +370,20 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                                               Class<U> requestToPresignType,
                                                               Function<U, SdkHttpFullRequest> requestMarshaller,
                                                               String operationName) {
+        return presign(presignedRequest, presignRequest, requestToPresign, requestToPresignType, requestMarshaller,
+                       operationName, Instant.now());
+    }
+
+    private <T extends PresignedRequest.Builder, U> T presign(T presignedRequest,
+                                                              PresignRequest presignRequest,
+                                                              SdkRequest requestToPresign,
+                                                              Class<U> requestToPresignType,
+                                                              Function<U, SdkHttpFullRequest> requestMarshaller,
+                                                              String operationName,
+                                                              Instant signingInstant) {
 
         // A fixed signingClock is used, so that the current time used by the signing logic, as well as to determine expiration
         // are the same.
-        Instant signingInstant = Instant.now();
         Clock signingClock = Clock.fixed(signingInstant, ZoneOffset.UTC);
         Duration expirationDuration = presignRequest.signatureDuration();
         Instant expiration = signingInstant.plus(expirationDuration);
@@ -439,17 +467,19 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     }
 
     private IdentityProviders resolveIdentityProviders(SdkRequest originalRequest) {
-        IdentityProvider<? extends AwsCredentialsIdentity> identityProvider =
-            originalRequest.overrideConfiguration()
-                           .filter(c -> c instanceof AwsRequestOverrideConfiguration)
-                           .map(c -> (AwsRequestOverrideConfiguration) c)
-                           .flatMap(AwsRequestOverrideConfiguration::credentialsIdentityProvider)
-                           .orElse(credentialsProvider());
         return IdentityProviders.builder()
-                                .putIdentityProvider(identityProvider)
+                                .putIdentityProvider(credentialsIdentityProvider(originalRequest))
                                 .build();
     }
 
+    private IdentityProvider<? extends AwsCredentialsIdentity> credentialsIdentityProvider(SdkRequest originalRequest) {
+        return originalRequest.overrideConfiguration()
+                              .filter(c -> c instanceof AwsRequestOverrideConfiguration)
+                              .map(c -> (AwsRequestOverrideConfiguration) c)
+                              .flatMap(AwsRequestOverrideConfiguration::credentialsIdentityProvider)
+                              .orElse(credentialsProvider());
+    }
+
 
     private Map<String, AuthScheme<?>> authSchemes() {
         Map<String, AuthScheme<?>> schemes = new HashMap<>(3);
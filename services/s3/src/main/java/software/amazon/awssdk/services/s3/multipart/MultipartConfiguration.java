@@ -44,11 +44,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Integer partDownloadConcurrency;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.partDownloadConcurrency = builder.partDownloadConcurrency;
     }
 
     public static Builder builder() {
@@ -60,7 +62,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .partDownloadConcurrency(partDownloadConcurrency);
     }
 
     /**
@@ -89,6 +92,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * The maximum number of parts that the SDK will download concurrently for a multipart get-object request.
+     * @return the value of the configured part download concurrency.
+     */
+    public Integer partDownloadConcurrency() {
+        return this.partDownloadConcurrency;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -163,12 +174,36 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures the maximum number of parts the SDK will download concurrently for a multipart get-object request. The
+         * first part is always downloaded alone, to learn the number of parts of the object; the remaining parts are then
+         * downloaded in parallel.
+         * <p>
+         * When the response is written to a file, each part is written directly at its position in the file. For other
+         * {@link AsyncResponseTransformer}s, parts that complete before the ones preceding them are held in memory until they
+         * can be delivered in order, so up to this many parts worth of memory may be used in addition to
+         * {@link #apiCallBufferSizeInBytes(Long)}.
+         * <p>
+         * Default value: 1, meaning parts are downloaded one after the other.
+         *
+         * @param partDownloadConcurrency the maximum number of parts to download concurrently.
+         * @return an instance of this builder.
+         */
+        Builder partDownloadConcurrency(Integer partDownloadConcurrency);
+
+        /**
+         * Indicates the value of the maximum number of parts to download concurrently.
+         * @return the value of the part download concurrency.
+         */
+        Integer partDownloadConcurrency();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Integer partDownloadConcurrency;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -199,6 +234,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder partDownloadConcurrency(Integer partDownloadConcurrency) {
+            this.partDownloadConcurrency = partDownloadConcurrency;
+            return this;
+        }
+
+        @Override
+        public Integer partDownloadConcurrency() {
+            return partDownloadConcurrency;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.presigner;
+
+import java.time.Instant;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+/**
+ * Presigns {@link GetObjectRequest}s that differ only in their object key, for example when generating download URLs for
+ * every object in a listing.
+ * <p/>
+ * A template is created with {@link S3Presigner#createGetObjectPresignTemplate(GetObjectPresignRequest)}. The endpoint,
+ * credentials, signing key and credential scope are resolved once when the template is created, so each call to
+ * {@link #presign(String)} only needs to compute the object path and the final signature. All requests presigned by a
+ * template share the same signing time and {@link #expiration()}.
+ * <p/>
+ * Execution interceptors are invoked once, for the request the template was created from, and are not invoked again for
+ * each key. Create a new template when the credentials or the expiration window need to be refreshed.
+ * <p/>
+ *
+ * <b>Example Usage</b>
+ * <p/>
+ *
+ * <pre>
+ * {@code
+ *     S3Presigner presigner = ...;
+ *
+ *     GetObjectPresignTemplate template =
+ *         presigner.createGetObjectPresignTemplate(r -> r.signatureDuration(Duration.ofMinutes(10))
+ *                                                        .getObjectRequest(o -> o.bucket("bucket").key("first-key")));
+ *
+ *     for (String key : keys) {
+ *         PresignedGetObjectRequest presignedRequest = template.presign(key);
+ *         System.out.println(presignedRequest.url());
+ *     }
+ * }
+ * </pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface GetObjectPresignTemplate {
+    /**
+     * Presign the template's {@link GetObjectRequest} for the provided object key.
+     *
+     * @param key The key of the object to presign. Must not be null or empty.
+     * @return The presigned request, which expires at {@link #expiration()}.
+     */
+    PresignedGetObjectRequest presign(String key);
+
+    /**
+     * The time at which requests presigned by this template will expire.
+     */
+    Instant expiration();
+}
@@ -337,6 +337,36 @@ public interface S3Presigner extends SdkPresigner {
         return presignGetObject(builder.build());
     }
 
+    /**
+     * Create a {@link GetObjectPresignTemplate} that presigns the provided {@link GetObjectRequest} for any number of object
+     * keys, without resolving the endpoint, credentials and signing key again for every key. This is more efficient than
+     * calling {@link #presignGetObject(GetObjectPresignRequest)} in a loop when many objects in the same bucket need to be
+     * presigned at once.
+     * <p/>
+     * The key of the provided {@link GetObjectRequest} is only used to build the template. Every other field of the request,
+     * including the bucket and the signature duration, is shared by all requests presigned by the template.
+     *
+     * @see GetObjectPresignTemplate
+     */
+    default GetObjectPresignTemplate createGetObjectPresignTemplate(GetObjectPresignRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Create a {@link GetObjectPresignTemplate} that presigns the provided {@link GetObjectRequest} for any number of object
+     * keys.
+     * <p />
+     * This is a shorter method of invoking {@link #createGetObjectPresignTemplate(GetObjectPresignRequest)} without needing
+     * to call {@code GetObjectPresignRequest.builder()} or {@code .build()}.
+     *
+     * @see #createGetObjectPresignTemplate(GetObjectPresignRequest)
+     */
+    default GetObjectPresignTemplate createGetObjectPresignTemplate(Consumer<GetObjectPresignRequest.Builder> request) {
+        GetObjectPresignRequest.Builder builder = GetObjectPresignRequest.builder();
+        request.accept(builder);
+        return createGetObjectPresignTemplate(builder.build());
+    }
+
     /**
      * Presign a {@link PutObjectRequest} so that it can be executed at a later time without requiring additional
      * signing or authentication.
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.functionaltests;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+import software.amazon.awssdk.testutils.service.http.MockSyncHttpClient;
+
+/**
+ * Ensure that endpoints are resolved correctly when the endpoint resolution cache is enabled.
+ */
+public class EndpointResolutionCacheTest {
+    private MockSyncHttpClient httpClient;
+    private List<MetricCollection> metrics;
+    private S3Client s3;
+
+    @BeforeEach
+    public void setup() {
+        httpClient = new MockSyncHttpClient();
+        metrics = new ArrayList<>();
+        MetricPublisher publisher = new MetricPublisher() {
+            @Override
+            public void publish(MetricCollection metricCollection) {
+                metrics.add(metricCollection);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        s3 = S3Client.builder()
+                     .region(Region.US_WEST_2)
+                     .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                     .httpClient(httpClient)
+                     .overrideConfiguration(o -> o.putAdvancedOption(SdkAdvancedClientOption.ENDPOINT_RESOLUTION_CACHE_SIZE, 64)
+                                                  .addMetricPublisher(publisher))
+                     .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        s3.close();
+        httpClient.close();
+    }
+
+    @Test
+    public void requestsWithSameBucket_reuseCachedEndpoint() {
+        headObject("bucket-a", "key1");
+        headObject("bucket-a", "key2");
+        headObject("bucket-b", "key1");
+        headObject("bucket-b", "key2");
+
+        List<SdkHttpRequest> requests = httpClient.getRequests();
+        assertThat(requests).extracting(SdkHttpRequest::host)
+                            .containsExactly("bucket-a.s3.us-west-2.amazonaws.com",
+                                             "bucket-a.s3.us-west-2.amazonaws.com",
+                                             "bucket-b.s3.us-west-2.amazonaws.com",
+                                             "bucket-b.s3.us-west-2.amazonaws.com");
+        assertThat(requests).extracting(SdkHttpRequest::encodedPath)
+                            .containsExactly("/key1", "/key2", "/key1", "/key2");
+        assertThat(metrics).extracting(m -> m.metricValues(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT))
+                           .containsExactly(singletonList(false), singletonList(true),
+                                            singletonList(false), singletonList(true));
+    }
+
+    @Test
+    public void requestWithOverriddenEndpointProvider_bypassesCache() {
+        headObject("bucket-a", "key1");
+        s3.headObject(r -> r.bucket("bucket-a")
+                            .key("key2")
+                            .overrideConfiguration(o -> o.endpointProvider(S3EndpointProvider.defaultProvider())));
+
+        assertThat(httpClient.getLastRequest().host()).isEqualTo("bucket-a.s3.us-west-2.amazonaws.com");
+        assertThat(metrics.get(1).metricValues(CoreMetric.ENDPOINT_RESOLUTION_CACHE_HIT)).isEmpty();
+    }
+
+    private void headObject(String bucket, String key) {
+        httpClient.stubNextResponse(HttpExecuteResponse.builder()
+                                                       .response(SdkHttpResponse.builder().statusCode(200).build())
+                                                       .build());
+        s3.headObject(r -> r.bucket(bucket).key(key));
+    }
+}
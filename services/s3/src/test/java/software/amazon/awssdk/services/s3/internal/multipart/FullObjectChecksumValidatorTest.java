@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.checksums.internal.SdkCrc32;
+import software.amazon.awssdk.checksums.internal.SdkCrc32C;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+class FullObjectChecksumValidatorTest {
+    private static final int PART_SIZE = 1024;
+    private static final byte[] DATA = new byte[PART_SIZE * 3 + 100];
+
+    static {
+        new Random(0).nextBytes(DATA);
+    }
+
+    @Test
+    void create_noChecksumValue_shouldReturnEmpty() {
+        assertThat(FullObjectChecksumValidator.create(putObjectRequest().build())).isEmpty();
+        assertThat(FullObjectChecksumValidator.create(putObjectRequest().checksumSHA256("abc").build())).isEmpty();
+    }
+
+    @Test
+    void create_checksumValueForDifferentAlgorithm_shouldReturnEmpty() {
+        PutObjectRequest request = putObjectRequest().checksumAlgorithm(ChecksumAlgorithm.SHA256)
+                                                     .checksumCRC32("abc")
+                                                     .build();
+        assertThat(FullObjectChecksumValidator.create(request)).isEmpty();
+    }
+
+    @Test
+    void create_crc32cValue_shouldUseCrc32c() {
+        PutObjectRequest request = putObjectRequest().checksumCRC32C("abc").build();
+        assertThat(FullObjectChecksumValidator.create(request)).hasValueSatisfying(
+            v -> assertThat(v.algorithm()).isEqualTo(ChecksumAlgorithm.CRC32_C));
+    }
+
+    @Test
+    void validate_crc32PartsMatchingFullObject_shouldSucceed() {
+        PutObjectRequest request = putObjectRequest().checksumCRC32(checksum(SdkCrc32.create(), 0, DATA.length)).build();
+        FullObjectChecksumValidator validator = FullObjectChecksumValidator.create(request).get();
+
+        assertThatNoException().isThrownBy(() -> validator.validate(parts(ChecksumAlgorithm.CRC32), this::partLength));
+    }
+
+    @Test
+    void validate_crc32cPartsMatchingFullObject_shouldSucceed() {
+        PutObjectRequest request = putObjectRequest().checksumCRC32C(checksum(SdkCrc32C.create(), 0, DATA.length)).build();
+        FullObjectChecksumValidator validator = FullObjectChecksumValidator.create(request).get();
+
+        assertThatNoException().isThrownBy(() -> validator.validate(parts(ChecksumAlgorithm.CRC32_C), this::partLength));
+    }
+
+    @Test
+    void validate_partsNotMatchingFullObject_shouldThrow() {
+        PutObjectRequest request = putObjectRequest().checksumCRC32(checksum(SdkCrc32.create(), 1, DATA.length - 1)).build();
+        FullObjectChecksumValidator validator = FullObjectChecksumValidator.create(request).get();
+
+        assertThatThrownBy(() -> validator.validate(parts(ChecksumAlgorithm.CRC32), this::partLength))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("different CRC32 checksum than expected");
+    }
+
+    @Test
+    void validate_partChecksumOrLengthMissing_shouldSkipValidation() {
+        PutObjectRequest request = putObjectRequest().checksumCRC32("AAAAAA==").build();
+        FullObjectChecksumValidator validator = FullObjectChecksumValidator.create(request).get();
+        CompletedPart[] parts = parts(ChecksumAlgorithm.CRC32);
+
+        assertThatNoException().isThrownBy(() -> validator.validate(parts, partNumber -> -1));
+
+        parts[1] = parts[1].toBuilder().checksumCRC32(null).build();
+        assertThatNoException().isThrownBy(() -> validator.validate(parts, this::partLength));
+    }
+
+    private CompletedPart[] parts(ChecksumAlgorithm algorithm) {
+        int partCount = (DATA.length + PART_SIZE - 1) / PART_SIZE;
+        CompletedPart[] parts = new CompletedPart[partCount];
+        for (int i = 0; i < partCount; i++) {
+            int partNumber = i + 1;
+            int offset = i * PART_SIZE;
+            int length = (int) partLength(partNumber);
+            CompletedPart.Builder part = CompletedPart.builder().partNumber(partNumber);
+            if (algorithm == ChecksumAlgorithm.CRC32) {
+                part.checksumCRC32(checksum(SdkCrc32.create(), offset, length));
+            } else {
+                part.checksumCRC32C(checksum(SdkCrc32C.create(), offset, length));
+            }
+            parts[i] = part.build();
+        }
+        return parts;
+    }
+
+    private long partLength(int partNumber) {
+        return Math.min(PART_SIZE, DATA.length - (partNumber - 1L) * PART_SIZE);
+    }
+
+    private static String checksum(Checksum checksum, int offset, int length) {
+        checksum.update(DATA, offset, length);
+        return BinaryUtils.toBase64(ByteBuffer.allocate(4).putInt((int) checksum.getValue()).array());
+    }
+
+    private static PutObjectRequest.Builder putObjectRequest() {
+        return PutObjectRequest.builder().bucket("bucket").key("key");
+    }
+}
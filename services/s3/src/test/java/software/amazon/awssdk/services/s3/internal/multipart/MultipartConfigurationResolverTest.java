@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
@@ -65,11 +66,23 @@ public class MultipartConfigurationResolverTest {
                                                                      .minimumPartSizeInBytes(10L)
                                                                      .thresholdInBytes(8L)
                                                                      .apiCallBufferSizeInBytes(3L)
+                                                                     .partDownloadConcurrency(4)
                                                                      .build();
         MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(10L);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(3L);
+        assertThat(resolver.partDownloadConcurrency()).isEqualTo(4);
+    }
+
+    @Test
+    void resolvePartDownloadConcurrency_nonPositiveValue_shouldThrow() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .partDownloadConcurrency(0)
+                                                                     .build();
+        assertThatThrownBy(() -> new MultipartConfigurationResolver(configuration))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("partDownloadConcurrency");
     }
 
     @Test
@@ -79,5 +92,6 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
+        assertThat(resolver.partDownloadConcurrency()).isEqualTo(1);
     }
 }
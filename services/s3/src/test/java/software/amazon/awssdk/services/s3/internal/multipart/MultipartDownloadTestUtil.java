@@ -70,6 +70,7 @@ public class MultipartDownloadTestUtil {
             aResponse()
                 .withHeader("x-amz-mp-parts-count", totalPart + "")
                 .withHeader("ETag", eTag)
+                .withHeader("Content-Range", contentRange(part, totalPart, partSize))
                 .withBody(body)));
         return body;
     }
@@ -92,7 +93,13 @@ public class MultipartDownloadTestUtil {
                         aResponse()
                             .withHeader("x-amz-mp-parts-count", totalPart + "")
                             .withHeader("ETag", eTag)
+                            .withHeader("Content-Range", contentRange(part, totalPart, partSize))
                             .withBody(body)));
         return body;
     }
+
+    private static String contentRange(int part, int totalPart, int partSize) {
+        long start = (long) (part - 1) * partSize;
+        return String.format("bytes %d-%d/%d", start, start + partSize - 1, (long) totalPart * partSize);
+    }
 }
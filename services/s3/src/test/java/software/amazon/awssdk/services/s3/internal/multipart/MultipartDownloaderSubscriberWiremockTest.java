@@ -98,6 +98,67 @@ class MultipartDownloaderSubscriberWiremockTest {
         util.verifyCorrectAmountOfRequestsMade(amountOfPartToTest);
     }
 
+    @ParameterizedTest
+    @MethodSource("argumentsProvider")
+    <T> void parallel_happyPath_shouldReceiveAllBodyPartInCorrectOrder(AsyncResponseTransformerTestSupplier<T> supplier,
+                                                                       int amountOfPartToTest,
+                                                                       int partSize) {
+        byte[] expectedBody = util.stubAllParts(testBucket, testKey, amountOfPartToTest, partSize);
+        AsyncResponseTransformer<GetObjectResponse, T> transformer = supplier.transformer();
+        AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split = transformer.split(
+            SplittingTransformerConfiguration.builder()
+                                             .bufferSizeInBytes(1024 * 32L)
+                                             .build());
+        Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> subscriber =
+            new ParallelMultipartDownloaderSubscriber(s3AsyncClient,
+                                                      GetObjectRequest.builder()
+                                                                      .bucket(testBucket)
+                                                                      .key(testKey)
+                                                                      .build(),
+                                                      0,
+                                                      4);
+
+        split.publisher().subscribe(subscriber);
+        T response = split.resultFuture().join();
+
+        byte[] body = supplier.body(response);
+        assertArrayEquals(expectedBody, body);
+        util.verifyCorrectAmountOfRequestsMade(amountOfPartToTest);
+    }
+
+    @ParameterizedTest
+    @MethodSource("argumentsProvider")
+    <T> void parallel_errorOnThirdRequest_shouldCompleteExceptionally(AsyncResponseTransformerTestSupplier<T> supplier,
+                                                                      int amountOfPartToTest,
+                                                                      int partSize) {
+        util.stubForPart(testBucket, testKey, 1, 4, partSize);
+        util.stubForPart(testBucket, testKey, 2, 4, partSize);
+        util.stubForPart(testBucket, testKey, 4, 4, partSize);
+        stubFor(get(urlEqualTo(String.format("/%s/%s?partNumber=3", testBucket, testKey))).willReturn(
+            aResponse()
+                .withStatus(400)
+                .withBody("<Error><Code>400</Code><Message>test error message</Message></Error>")));
+        AsyncResponseTransformer<GetObjectResponse, T> transformer = supplier.transformer();
+        AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split = transformer.split(
+            SplittingTransformerConfiguration.builder()
+                                             .bufferSizeInBytes(1024 * 32L)
+                                             .build());
+        Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> subscriber =
+            new ParallelMultipartDownloaderSubscriber(s3AsyncClient,
+                                                      GetObjectRequest.builder()
+                                                                      .bucket(testBucket)
+                                                                      .key(testKey)
+                                                                      .build(),
+                                                      0,
+                                                      4);
+
+        split.publisher().subscribe(subscriber);
+        assertThatThrownBy(() -> {
+            T res = split.resultFuture().join();
+            supplier.body(res);
+        }).hasMessageContaining("test error message");
+    }
+
     @ParameterizedTest
     @MethodSource("argumentsProvider")
     <T> void errorOnFirstRequest_shouldCompleteExceptionally(AsyncResponseTransformerTestSupplier<T> supplier,
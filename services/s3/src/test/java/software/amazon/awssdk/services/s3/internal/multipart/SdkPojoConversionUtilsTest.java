@@ -37,6 +37,7 @@ import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.services.s3.internal.multipart.SdkPojoConversionUtils;
 import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
@@ -161,6 +162,18 @@ class SdkPojoConversionUtilsTest {
         assertThat(convertedObject.uploadId()).isEqualTo("id");
     }
 
+    @Test
+    void toUploadPartRequest_fullObjectCrc32CWithoutAlgorithm_shouldUseCrc32CForParts() {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder().bucket("bucket").key("key")
+                                                            .checksumCRC32C("yZRlqg==")
+                                                            .build();
+
+        assertThat(SdkPojoConversionUtils.toUploadPartRequest(putObjectRequest, 1, "id").checksumAlgorithm())
+            .isEqualTo(ChecksumAlgorithm.CRC32_C);
+        assertThat(SdkPojoConversionUtils.toCreateMultipartUploadRequest(putObjectRequest).checksumAlgorithm())
+            .isEqualTo(ChecksumAlgorithm.CRC32_C);
+    }
+
     @Test
     void toPutObjectResponse_shouldCopyProperties() {
         CompleteMultipartUploadResponse.Builder builder = CompleteMultipartUploadResponse.builder();
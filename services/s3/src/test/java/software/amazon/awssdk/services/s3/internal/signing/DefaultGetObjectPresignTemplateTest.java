@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.signing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.GetObjectPresignTemplate;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+class DefaultGetObjectPresignTemplateTest {
+    private static final String BUCKET = "some-bucket";
+    private static final Duration SIGNATURE_DURATION = Duration.ofMinutes(15);
+    private static final List<String> KEYS = Arrays.asList("key",
+                                                           "dir/sub/file.txt",
+                                                           "with space+plus",
+                                                           "unicode-ü中",
+                                                           "special!@#$%^&*()=[]{};:'\",<>?~",
+                                                           "/leading-slash",
+                                                           "trailing-slash/",
+                                                           "double//slash",
+                                                           " ");
+
+    private static Stream<Arguments> presigners() {
+        return Stream.of(
+            Arguments.of("virtual-host", presignerBuilder().build()),
+            Arguments.of("path-style", presignerBuilder().serviceConfiguration(S3Configuration.builder()
+                                                                                         .pathStyleAccessEnabled(true)
+                                                                                         .build())
+                                                         .build()),
+            Arguments.of("endpoint-override", presignerBuilder().endpointOverride(URI.create("http://localhost:8080/base"))
+                                                                .build()),
+            Arguments.of("session-credentials", presignerBuilder().credentialsProvider(StaticCredentialsProvider.create(
+                AwsSessionCredentials.create("akid", "skid", "session-token"))).build()),
+            Arguments.of("us-east-1", presignerBuilder().region(Region.US_EAST_1).build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("presigners")
+    void presign_matchesFullPresign(String name, S3Presigner presigner) {
+        try (S3Presigner s = presigner) {
+            GetObjectPresignRequest request = presignRequest(GetObjectRequest.builder().bucket(BUCKET).key("template-key"));
+            DefaultGetObjectPresignTemplate template =
+                (DefaultGetObjectPresignTemplate) s.createGetObjectPresignTemplate(request);
+
+            assertThat(template.isPrecomputed()).isTrue();
+            for (String key : KEYS) {
+                assertMatchesFullPresign((DefaultS3Presigner) s, template, request, key);
+            }
+        }
+    }
+
+    @Test
+    void presign_requestLevelCredentials_areUsed() {
+        try (S3Presigner presigner = presignerBuilder().build()) {
+            AwsBasicCredentials requestCredentials = AwsBasicCredentials.create("request-akid", "request-skid");
+            GetObjectPresignRequest request =
+                presignRequest(GetObjectRequest.builder()
+                                               .bucket(BUCKET)
+                                               .key("template-key")
+                                               .overrideConfiguration(o -> o.credentialsProvider(
+                                                   StaticCredentialsProvider.create(requestCredentials))));
+            DefaultGetObjectPresignTemplate template =
+                (DefaultGetObjectPresignTemplate) presigner.createGetObjectPresignTemplate(request);
+
+            PresignedGetObjectRequest presigned = template.presign("other-key");
+
+            assertThat(template.isPrecomputed()).isTrue();
+            assertThat(presigned.httpRequest().firstMatchingRawQueryParameter("X-Amz-Credential"))
+                .hasValueSatisfying(c -> assertThat(c).startsWith("request-akid/"));
+            assertMatchesFullPresign((DefaultS3Presigner) presigner, template, request, "other-key");
+        }
+    }
+
+    @Test
+    void presign_signerOverride_presignsEachKeyIndividually() {
+        try (S3Presigner presigner = presignerBuilder().build()) {
+            GetObjectPresignRequest request =
+                presignRequest(GetObjectRequest.builder()
+                                               .bucket(BUCKET)
+                                               .key("template-key")
+                                               .overrideConfiguration(o -> o.signer(AwsS3V4Signer.create())));
+            DefaultGetObjectPresignTemplate template =
+                (DefaultGetObjectPresignTemplate) presigner.createGetObjectPresignTemplate(request);
+
+            PresignedGetObjectRequest presigned = template.presign("other-key");
+
+            assertThat(template.isPrecomputed()).isFalse();
+            assertThat(presigned.url().getPath()).isEqualTo("/other-key");
+            assertThat(presigned.expiration()).isEqualTo(template.expiration());
+            assertThat(presigned.httpRequest().firstMatchingRawQueryParameter("X-Amz-Signature")).isPresent();
+        }
+    }
+
+    @Test
+    void presign_allKeysShareTemplateExpiration() {
+        try (S3Presigner presigner = presignerBuilder().build()) {
+            GetObjectPresignTemplate template =
+                presigner.createGetObjectPresignTemplate(presignRequest(GetObjectRequest.builder().bucket(BUCKET).key("a")));
+
+            assertThat(template.expiration()).isAfter(Instant.now());
+            assertThat(template.presign("b").expiration()).isEqualTo(template.expiration());
+            assertThat(template.presign("c").expiration()).isEqualTo(template.expiration());
+            assertThat(template.presign("c").isBrowserExecutable()).isTrue();
+        }
+    }
+
+    @Test
+    void presign_emptyKey_throwsException() {
+        try (S3Presigner presigner = presignerBuilder().build()) {
+            GetObjectPresignTemplate template =
+                presigner.createGetObjectPresignTemplate(presignRequest(GetObjectRequest.builder().bucket(BUCKET).key("a")));
+
+            assertThatThrownBy(() -> template.presign("")).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> template.presign(null)).isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    private static void assertMatchesFullPresign(DefaultS3Presigner presigner,
+                                                 DefaultGetObjectPresignTemplate template,
+                                                 GetObjectPresignRequest request,
+                                                 String key) {
+        Instant signingInstant = template.expiration().minus(SIGNATURE_DURATION);
+        GetObjectPresignRequest keyRequest =
+            request.toBuilder()
+                   .getObjectRequest(request.getObjectRequest().toBuilder().key(key).build())
+                   .build();
+
+        SdkHttpRequest expected = presigner.presignGetObject(keyRequest, signingInstant).httpRequest();
+        SdkHttpRequest actual = template.presign(key).httpRequest();
+
+        assertThat(actual.getUri()).as(key).isEqualTo(expected.getUri());
+        assertThat(actual.rawQueryParameters()).as(key).isEqualTo(expected.rawQueryParameters());
+        assertThat(actual.headers()).as(key).isEqualTo(expected.headers());
+    }
+
+    private static GetObjectPresignRequest presignRequest(GetObjectRequest.Builder getObjectRequest) {
+        return GetObjectPresignRequest.builder()
+                                      .signatureDuration(SIGNATURE_DURATION)
+                                      .getObjectRequest(getObjectRequest.build())
+                                      .build();
+    }
+
+    private static S3Presigner.Builder presignerBuilder() {
+        return S3Presigner.builder()
+                          .region(Region.US_WEST_2)
+                          .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics published by {@link SqsAsyncBatchManager} for every outbound batch it sends, to the metric publishers configured
+ * on the client that the batch manager was created from. Each batch is published as its own metric collection, which also
+ * contains {@link CoreMetric#OPERATION_NAME}.
+ */
+@SdkPublicApi
+public final class BatchManagerMetric {
+    /**
+     * The name of the metric collection in which the batch metrics are published.
+     */
+    public static final String METRIC_COLLECTION_NAME = "SqsBatch";
+
+    /**
+     * The number of entries in the batch.
+     */
+    public static final SdkMetric<Integer> BATCH_SIZE =
+        metric("BatchSize", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The maximum number of entries allowed in the batch. Comparing this with {@link #BATCH_SIZE} shows how full batches are.
+     */
+    public static final SdkMetric<Integer> MAX_BATCH_SIZE =
+        metric("MaxBatchSize", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The total payload size of the batch, in bytes. This is only present for batches of send message requests.
+     */
+    public static final SdkMetric<Integer> BATCH_PAYLOAD_BYTES =
+        metric("BatchPayloadBytes", Integer.class, MetricLevel.INFO);
+
+    /**
+     * How long the oldest entry of the batch was held by the batch manager before the batch was sent.
+     */
+    public static final SdkMetric<Duration> BATCH_LINGER_TIME =
+        metric("BatchLingerTime", Duration.class, MetricLevel.INFO);
+
+    /**
+     * Why the batch was sent: {@code MaxBatchSize} when it reached the maximum number of entries, {@code MaxBatchBytes} when
+     * it reached the maximum payload size, {@code Scheduled} when it was held for as long as the send request frequency (or
+     * the adaptive linger time) allows, and {@code Close} when the batch manager was closed.
+     */
+    public static final SdkMetric<String> BATCH_FLUSH_REASON =
+        metric("BatchFlushReason", String.class, MetricLevel.INFO);
+
+    private BatchManagerMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
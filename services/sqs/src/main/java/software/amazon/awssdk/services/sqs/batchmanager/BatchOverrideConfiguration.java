@@ -40,6 +40,7 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
 
     private final Integer maxBatchSize;
     private final Duration sendRequestFrequency;
+    private final Boolean adaptiveBatching;
     private final Duration receiveMessageVisibilityTimeout;
     private final Duration receiveMessageMinWaitDuration;
     private final List<MessageSystemAttributeName> receiveMessageSystemAttributeNames;
@@ -54,6 +55,7 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
 
         this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency,
                                                                      "sendRequestFrequency");
+        this.adaptiveBatching = builder.adaptiveBatching;
         this.receiveMessageVisibilityTimeout = Validate.isPositiveOrNull(builder.receiveMessageVisibilityTimeout,
                                                                          "receiveMessageVisibilityTimeout");
         this.receiveMessageMinWaitDuration = Validate.isPositiveOrNull(builder.receiveMessageMinWaitDuration,
@@ -90,6 +92,14 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
         return sendRequestFrequency;
     }
 
+    /**
+     * @return whether outbound batches are held open for a time derived from the observed rate of outgoing calls, with
+     *         {@link #sendRequestFrequency()} as the upper bound, instead of for a fixed duration. The default value is false.
+     */
+    public Boolean adaptiveBatching() {
+        return adaptiveBatching;
+    }
+
     /**
      * @return the custom visibility timeout to use when retrieving messages from SQS. If not set,
      *         the default visibility timeout configured on the SQS queue will be used.
@@ -128,6 +138,7 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
         return new Builder()
             .maxBatchSize(maxBatchSize)
             .sendRequestFrequency(sendRequestFrequency)
+            .adaptiveBatching(adaptiveBatching)
             .receiveMessageVisibilityTimeout(receiveMessageVisibilityTimeout)
             .receiveMessageMinWaitDuration(receiveMessageMinWaitDuration)
             .receiveMessageSystemAttributeNames(receiveMessageSystemAttributeNames)
@@ -139,6 +150,7 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
         return ToString.builder("BatchOverrideConfiguration")
                        .add("maxBatchSize", maxBatchSize)
                        .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("adaptiveBatching", adaptiveBatching)
                        .add("receiveMessageVisibilityTimeout", receiveMessageVisibilityTimeout)
                        .add("receiveMessageMinWaitDuration", receiveMessageMinWaitDuration)
                        .add("receiveMessageSystemAttributeNames", receiveMessageSystemAttributeNames)
@@ -164,6 +176,9 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
             that.sendRequestFrequency != null) {
             return false;
         }
+        if (adaptiveBatching != null ? !adaptiveBatching.equals(that.adaptiveBatching) : that.adaptiveBatching != null) {
+            return false;
+        }
         if (receiveMessageVisibilityTimeout != null
             ? !receiveMessageVisibilityTimeout.equals(that.receiveMessageVisibilityTimeout) :
             that.receiveMessageVisibilityTimeout != null) {
@@ -186,6 +201,7 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
     public int hashCode() {
         int result = maxBatchSize != null ? maxBatchSize.hashCode() : 0;
         result = 31 * result + (sendRequestFrequency != null ? sendRequestFrequency.hashCode() : 0);
+        result = 31 * result + (adaptiveBatching != null ? adaptiveBatching.hashCode() : 0);
         result = 31 * result + (receiveMessageVisibilityTimeout != null ? receiveMessageVisibilityTimeout.hashCode() : 0);
         result = 31 * result + (receiveMessageMinWaitDuration != null ? receiveMessageMinWaitDuration.hashCode() : 0);
         result = 31 * result + (receiveMessageSystemAttributeNames != null ? receiveMessageSystemAttributeNames.hashCode() : 0);
@@ -197,6 +213,7 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
 
         private Integer maxBatchSize = 10;
         private Duration sendRequestFrequency ;
+        private Boolean adaptiveBatching;
         private Duration receiveMessageVisibilityTimeout;
         private Duration receiveMessageMinWaitDuration ;
         private List<MessageSystemAttributeName> receiveMessageSystemAttributeNames = Collections.emptyList();
@@ -238,6 +255,22 @@ public final class BatchOverrideConfiguration implements ToCopyableBuilder<Batch
             return this;
         }
 
+        /**
+         * Specifies whether outbound batches are held open for an adaptive duration instead of the fixed
+         * {@code sendRequestFrequency}. When enabled, the batch manager tracks the rate of outbound requests for each queue
+         * and holds a batch open only as long as it expects to take to fill it, up to {@code sendRequestFrequency}. If the
+         * next request is not expected within {@code sendRequestFrequency}, the batch is sent right away. A batch is always
+         * sent as soon as it reaches the maxBatchSize or the maximum payload size of a batch. Queues with no outbound
+         * requests have no scheduled tasks. The default value is false.
+         *
+         * @param adaptiveBatching Whether to size the time that outbound batches are held open from the request rate.
+         * @return This Builder object for method chaining.
+         */
+        public Builder adaptiveBatching(Boolean adaptiveBatching) {
+            this.adaptiveBatching = adaptiveBatching;
+            return this;
+        }
+
         /**
          * Defines the custom visibility timeout to use when retrieving messages from SQS. If set to a positive value,
          * this timeout will override the default visibility timeout set on the SQS queue. If no value is set,
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Tracks the rate at which requests arrive for one batch key, and derives from it how long a new batch should be held open
+ * for more requests before it is sent.
+ * <p>
+ * The time between arrivals is smoothed with an exponentially weighted moving average. A batch is held open for as long as
+ * the remaining entries are expected to take to arrive, capped at the maximum linger time. If the next request is not
+ * expected within the maximum linger time, waiting would only add latency, so the batch is sent right away.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class AdaptiveLinger {
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private final long maxLingerNanos;
+    private final int maxBatchItems;
+
+    private boolean arrivalRecorded;
+    private long lastArrivalNanos;
+    private double averageInterArrivalNanos = -1;
+
+    public AdaptiveLinger(Duration maxLinger, int maxBatchItems) {
+        this.maxLingerNanos = maxLinger.toNanos();
+        this.maxBatchItems = maxBatchItems;
+    }
+
+    /**
+     * Record that a request arrived at the given {@link System#nanoTime()}.
+     */
+    public synchronized void recordArrival(long arrivalNanos) {
+        if (!arrivalRecorded) {
+            arrivalRecorded = true;
+        } else if (averageInterArrivalNanos < 0) {
+            averageInterArrivalNanos = arrivalNanos - lastArrivalNanos;
+        } else {
+            averageInterArrivalNanos += SMOOTHING_FACTOR * ((arrivalNanos - lastArrivalNanos) - averageInterArrivalNanos);
+        }
+        lastArrivalNanos = arrivalNanos;
+    }
+
+    /**
+     * Whether no request has arrived in the given number of nanoseconds before the given {@link System#nanoTime()}.
+     */
+    public synchronized boolean isIdle(long nowNanos, long idleNanos) {
+        return !arrivalRecorded || nowNanos - lastArrivalNanos >= idleNanos;
+    }
+
+    /**
+     * How long, in nanoseconds, a batch that currently holds the given number of entries should be held open. Until the
+     * arrival rate is known, this is the maximum linger time.
+     */
+    public synchronized long lingerNanos(int bufferedItems) {
+        if (averageInterArrivalNanos < 0) {
+            return maxLingerNanos;
+        }
+        if (averageInterArrivalNanos >= maxLingerNanos) {
+            return 0;
+        }
+        int remainingItems = Math.max(0, maxBatchItems - bufferedItems);
+        return Math.min(maxLingerNanos, (long) (averageInterArrivalNanos * remainingItems));
+    }
+}
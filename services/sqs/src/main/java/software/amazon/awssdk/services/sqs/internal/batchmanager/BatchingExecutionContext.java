@@ -27,10 +27,13 @@ public final class BatchingExecutionContext<RequestT, ResponseT> {
 
     private final Optional<Integer> responsePayloadByteSize;
 
+    private final long enqueueTimeNanos;
+
     public BatchingExecutionContext(RequestT request, CompletableFuture<ResponseT> response) {
         this.request = request;
         this.response = response;
         responsePayloadByteSize = RequestPayloadCalculator.calculateMessageSize(request);
+        enqueueTimeNanos = System.nanoTime();
     }
 
     public RequestT request() {
@@ -47,4 +50,11 @@ public final class BatchingExecutionContext<RequestT, ResponseT> {
     public Optional<Integer> responsePayloadByteSize() {
         return responsePayloadByteSize;
     }
+
+    /**
+     * The {@link System#nanoTime()} at which the request was added to the batch buffer.
+     */
+    public long enqueueTimeNanos() {
+        return enqueueTimeNanos;
+    }
 }
@@ -15,7 +15,9 @@
 
 package software.amazon.awssdk.services.sqs.internal.batchmanager;
 
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
@@ -45,30 +47,82 @@ public final class BatchingMap<RequestT, ResponseT> {
         this.maxBufferSize = overrideConfiguration.maxBufferSize();
     }
 
-    public void put(String batchKey, Supplier<ScheduledFuture<?>> scheduleFlush, RequestT request,
-                    CompletableFuture<ResponseT> response) throws IllegalStateException {
-        batchContextMap.computeIfAbsent(batchKey, k -> {
-            if (batchContextMap.size() == maxBatchKeys) {
-                throw new IllegalStateException("Reached MaxBatchKeys of: " + maxBatchKeys);
+    /**
+     * Add a request to the buffer of its batch key, creating the buffer if needed. The request is added while the batch key is
+     * locked, so that a buffer that is concurrently removed with {@link #removeIfEmpty(String)} never drops it.
+     *
+     * @return the number of requests in the buffer after adding this one.
+     */
+    public int put(String batchKey, Supplier<ScheduledFuture<?>> scheduleFlush, RequestT request,
+                   CompletableFuture<ResponseT> response) throws IllegalStateException {
+        int[] bufferedRequests = new int[1];
+        batchContextMap.compute(batchKey, (k, batchBuffer) -> {
+            if (batchBuffer == null) {
+                if (batchContextMap.size() == maxBatchKeys) {
+                    throw new IllegalStateException("Reached MaxBatchKeys of: " + maxBatchKeys);
+                }
+                batchBuffer = new RequestBatchBuffer<>(scheduleFlush.get(), maxBatchSize, maxBatchBytesSize, maxBufferSize);
             }
-            return new RequestBatchBuffer<>(scheduleFlush.get(), maxBatchSize, maxBatchBytesSize, maxBufferSize);
-        }).put(request, response);
+            bufferedRequests[0] = batchBuffer.put(request, response);
+            return batchBuffer;
+        });
+        return bufferedRequests[0];
     }
 
     public boolean contains(String batchKey) {
         return batchContextMap.containsKey(batchKey);
     }
 
+    public boolean hasRequests(String batchKey) {
+        RequestBatchBuffer<RequestT, ResponseT> batchBuffer = batchContextMap.get(batchKey);
+        return batchBuffer != null && batchBuffer.hasRequests();
+    }
+
     public void putScheduledFlush(String batchKey, ScheduledFuture<?> scheduledFlush) {
         batchContextMap.get(batchKey).putScheduledFlush(scheduledFlush);
     }
 
+    /**
+     * Cancel the scheduled flush of the batch key, if it still has a buffer, and replace it with the flush that the given
+     * supplier schedules. The batch key is locked while the flush is replaced, so it never has more than one scheduled flush.
+     */
+    public void replaceScheduledFlush(String batchKey, Supplier<ScheduledFuture<?>> scheduleFlush) {
+        batchContextMap.computeIfPresent(batchKey, (k, batchBuffer) -> {
+            batchBuffer.cancelScheduledFlush();
+            batchBuffer.putScheduledFlush(scheduleFlush.get());
+            return batchBuffer;
+        });
+    }
+
+    /**
+     * Remove the buffer of the batch key, cancelling its scheduled flush, if it has no requests.
+     *
+     * @return true if the buffer was removed.
+     */
+    public boolean removeIfEmpty(String batchKey) {
+        boolean[] removed = new boolean[1];
+        batchContextMap.computeIfPresent(batchKey, (k, batchBuffer) -> {
+            if (batchBuffer.hasRequests()) {
+                return batchBuffer;
+            }
+            batchBuffer.cancelScheduledFlush();
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    public Set<String> batchKeys() {
+        return batchContextMap.keySet();
+    }
+
     public void forEach(BiConsumer<String, RequestBatchBuffer<RequestT, ResponseT>> action) {
         batchContextMap.forEach(action);
     }
 
     public Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests(String batchKey) {
-        return batchContextMap.get(batchKey).flushableRequests();
+        RequestBatchBuffer<RequestT, ResponseT> batchBuffer = batchContextMap.get(batchKey);
+        return batchBuffer != null ? batchBuffer.flushableRequests() : Collections.emptyMap();
     }
 
     public Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequestsOnByteLimitBeforeAdd(String batchKey,
@@ -78,11 +132,15 @@ public final class BatchingMap<RequestT, ResponseT> {
 
     public Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableScheduledRequests(String batchKey,
                                                                                                  int maxBatchItems) {
-        return batchContextMap.get(batchKey).flushableScheduledRequests(maxBatchItems);
+        RequestBatchBuffer<RequestT, ResponseT> batchBuffer = batchContextMap.get(batchKey);
+        return batchBuffer != null ? batchBuffer.flushableScheduledRequests(maxBatchItems) : Collections.emptyMap();
     }
 
     public void cancelScheduledFlush(String batchKey) {
-        batchContextMap.get(batchKey).cancelScheduledFlush();
+        RequestBatchBuffer<RequestT, ResponseT> batchBuffer = batchContextMap.get(batchKey);
+        if (batchBuffer != null) {
+            batchBuffer.cancelScheduledFlush();
+        }
     }
 
     public void clear() {
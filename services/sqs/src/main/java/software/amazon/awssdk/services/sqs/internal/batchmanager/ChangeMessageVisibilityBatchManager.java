@@ -118,6 +118,11 @@ public class ChangeMessageVisibilityBatchManager extends RequestBatchManager<Cha
         return sqsAsyncClient.changeMessageVisibilityBatch(batchRequest);
     }
 
+    @Override
+    protected String batchOperationName() {
+        return "ChangeMessageVisibilityBatch";
+    }
+
     @Override
     protected String getBatchKey(ChangeMessageVisibilityRequest request) {
         return  request.overrideConfiguration().map(overrideConfig -> request.queueUrl() + overrideConfig.hashCode())
@@ -18,10 +18,16 @@ package software.amazon.awssdk.services.sqs.internal.batchmanager;
 
 import static software.amazon.awssdk.services.sqs.internal.batchmanager.ResponseBatchConfiguration.MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.SqsServiceClientConfiguration;
 import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
 import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
 import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
@@ -50,10 +56,12 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
         this.client = Validate.notNull(builder.client, "client cannot be null");
         ScheduledExecutorService scheduledExecutor  = Validate.notNull(builder.scheduledExecutor,
                                                                        "scheduledExecutor cannot be null");
+        List<MetricPublisher> metricPublishers = resolveMetricPublishers(client);
         this.sendMessageBatchManager =
             new SendMessageBatchManager(
                 RequestBatchConfiguration.builder(builder.overrideConfiguration)
                                          .maxBatchBytesSize(MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES)
+                                         .metricPublishers(metricPublishers)
                                          .build(),
                 scheduledExecutor,
                 client
@@ -61,14 +69,18 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
 
         this.deleteMessageBatchManager =
             new DeleteMessageBatchManager(
-                RequestBatchConfiguration.builder(builder.overrideConfiguration).build(),
+                RequestBatchConfiguration.builder(builder.overrideConfiguration)
+                                         .metricPublishers(metricPublishers)
+                                         .build(),
                 scheduledExecutor,
                 client
             );
 
         this.changeMessageVisibilityBatchManager =
             new ChangeMessageVisibilityBatchManager(
-                RequestBatchConfiguration.builder(builder.overrideConfiguration).build(),
+                RequestBatchConfiguration.builder(builder.overrideConfiguration)
+                                         .metricPublishers(metricPublishers)
+                                         .build(),
                 scheduledExecutor,
                 client
             );
@@ -79,6 +91,21 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
                                            ResponseBatchConfiguration.builder(builder.overrideConfiguration).build());
     }
 
+    /**
+     * Batch metrics are published to the metric publishers of the client that sends the batches, if it exposes its
+     * configuration.
+     */
+    private static List<MetricPublisher> resolveMetricPublishers(SqsAsyncClient client) {
+        try {
+            return Optional.ofNullable(client.serviceClientConfiguration())
+                           .map(SqsServiceClientConfiguration::overrideConfiguration)
+                           .map(ClientOverrideConfiguration::metricPublishers)
+                           .orElseGet(Collections::emptyList);
+        } catch (UnsupportedOperationException e) {
+            return Collections.emptyList();
+        }
+    }
+
     @Override
     public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
         return sendMessageBatchManager.batchRequest(request);
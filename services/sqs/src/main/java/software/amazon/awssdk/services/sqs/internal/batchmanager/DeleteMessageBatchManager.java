@@ -118,6 +118,11 @@ public class DeleteMessageBatchManager extends RequestBatchManager<DeleteMessage
         return sqsAsyncClient.deleteMessageBatch(batchRequest);
     }
 
+    @Override
+    protected String batchOperationName() {
+        return "DeleteMessageBatch";
+    }
+
     @Override
     protected String getBatchKey(DeleteMessageRequest request) {
         return request.overrideConfiguration().map(overrideConfig -> request.queueUrl() + overrideConfig.hashCode())
@@ -119,7 +119,12 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
         return requestEntries;
     }
 
-    public void put(RequestT request, CompletableFuture<ResponseT> response) {
+    /**
+     * Add a request to the buffer.
+     *
+     * @return the number of requests in the buffer after adding this one.
+     */
+    public int put(RequestT request, CompletableFuture<ResponseT> response) {
         synchronized (this) {
             if (idToBatchContext.size() == maxBufferSize) {
                 throw new IllegalStateException("Reached MaxBufferSize of: " + maxBufferSize);
@@ -130,9 +135,14 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
             }
             String id = Integer.toString(nextId++);
             idToBatchContext.put(id, new BatchingExecutionContext<>(request, response));
+            return idToBatchContext.size();
         }
     }
 
+    public boolean hasRequests() {
+        return !idToBatchContext.isEmpty();
+    }
+
     private boolean hasNextBatchEntry() {
         return idToBatchContext.containsKey(Integer.toString(nextBatchEntry));
     }
@@ -149,7 +159,9 @@ public final class RequestBatchBuffer<RequestT, ResponseT> {
     }
 
     public void cancelScheduledFlush() {
-        scheduledFlush.cancel(false);
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
     }
 
     public Collection<CompletableFuture<ResponseT>> responses() {
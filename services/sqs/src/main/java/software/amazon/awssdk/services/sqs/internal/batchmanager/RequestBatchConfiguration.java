@@ -16,7 +16,10 @@
 package software.amazon.awssdk.services.sqs.internal.batchmanager;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
 
 @SdkInternalApi
@@ -27,12 +30,15 @@ public final class RequestBatchConfiguration {
     public static final int DEFAULT_MAX_BATCH_KEYS = 10000;
     public static final int DEFAULT_MAX_BUFFER_SIZE = 500;
     public static final Duration DEFAULT_MAX_BATCH_OPEN_IN_MS = Duration.ofMillis(200);
+    public static final boolean DEFAULT_ADAPTIVE_BATCHING = false;
 
     private final Integer maxBatchItems;
     private final Integer maxBatchKeys;
     private final Integer maxBufferSize;
     private final Duration sendRequestFrequency;
     private final Integer maxBatchBytesSize;
+    private final Boolean adaptiveBatching;
+    private final List<MetricPublisher> metricPublishers;
 
     private RequestBatchConfiguration(Builder builder) {
 
@@ -43,6 +49,8 @@ public final class RequestBatchConfiguration {
                                                   builder.sendRequestFrequency :
                                          DEFAULT_MAX_BATCH_OPEN_IN_MS;
         this.maxBatchBytesSize = builder.maxBatchBytesSize != null ? builder.maxBatchBytesSize : DEFAULT_MAX_BATCH_BYTES_SIZE;
+        this.adaptiveBatching = builder.adaptiveBatching != null ? builder.adaptiveBatching : DEFAULT_ADAPTIVE_BATCHING;
+        this.metricPublishers = builder.metricPublishers != null ? builder.metricPublishers : Collections.emptyList();
 
     }
 
@@ -55,6 +63,7 @@ public final class RequestBatchConfiguration {
             return new Builder()
                 .maxBatchItems(configuration.maxBatchSize())
                 .sendRequestFrequency(configuration.sendRequestFrequency())
+                .adaptiveBatching(configuration.adaptiveBatching())
                 .maxBatchBytesSize(configuration.maxBatchSize());
         }
         return new Builder();
@@ -80,6 +89,14 @@ public final class RequestBatchConfiguration {
         return maxBatchBytesSize;
     }
 
+    public boolean adaptiveBatching() {
+        return adaptiveBatching;
+    }
+
+    public List<MetricPublisher> metricPublishers() {
+        return metricPublishers;
+    }
+
     public static final class Builder {
 
         private Integer maxBatchItems;
@@ -87,6 +104,8 @@ public final class RequestBatchConfiguration {
         private Integer maxBufferSize;
         private Duration sendRequestFrequency;
         private Integer maxBatchBytesSize;
+        private Boolean adaptiveBatching;
+        private List<MetricPublisher> metricPublishers;
 
         private Builder() {
         }
@@ -116,6 +135,16 @@ public final class RequestBatchConfiguration {
             return this;
         }
 
+        public Builder adaptiveBatching(Boolean adaptiveBatching) {
+            this.adaptiveBatching = adaptiveBatching;
+            return this;
+        }
+
+        public Builder metricPublishers(List<MetricPublisher> metricPublishers) {
+            this.metricPublishers = metricPublishers;
+            return this;
+        }
+
         public RequestBatchConfiguration build() {
             return new RequestBatchConfiguration(this);
         }
@@ -27,10 +27,16 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchManagerMetric;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
 
@@ -42,6 +48,16 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
     public static final Consumer<AwsRequestOverrideConfiguration.Builder> USER_AGENT_APPLIER =
         b -> b.addApiName(ApiName.builder().version("abm").name("hll").build());
 
+    private static final String FLUSH_REASON_MAX_BATCH_SIZE = "MaxBatchSize";
+    private static final String FLUSH_REASON_MAX_BATCH_BYTES = "MaxBatchBytes";
+    private static final String FLUSH_REASON_SCHEDULED = "Scheduled";
+    private static final String FLUSH_REASON_CLOSE = "Close";
+
+    /**
+     * The number of send request frequencies after which an adaptive batch key without requests is forgotten.
+     */
+    private static final int IDLE_BATCH_KEY_FREQUENCIES = 10;
+
     protected final RequestBatchConfiguration batchConfiguration ;
 
     private final int maxBatchItems;
@@ -50,6 +66,11 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
     private final ScheduledExecutorService scheduledExecutor;
     private final Set<CompletableFuture<BatchResponseT>> pendingBatchResponses ;
     private final Set<CompletableFuture<ResponseT>> pendingResponses ;
+    private final boolean adaptiveBatching;
+    private final Map<String, AdaptiveLinger> adaptiveLingers;
+    private final long idleBatchKeyNanos;
+    private final AtomicLong lastIdleBatchKeySweepNanos;
+    private final List<MetricPublisher> metricPublishers;
 
 
     protected RequestBatchManager(RequestBatchConfiguration overrideConfiguration,
@@ -61,7 +82,11 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
         pendingBatchResponses = Collections.newSetFromMap(new ConcurrentHashMap<>());
         pendingResponses = Collections.newSetFromMap(new ConcurrentHashMap<>());
         this.requestsAndResponsesMaps = new BatchingMap<>(overrideConfiguration);
-
+        this.adaptiveBatching = batchConfiguration.adaptiveBatching();
+        this.adaptiveLingers = new ConcurrentHashMap<>();
+        this.idleBatchKeyNanos = sendRequestFrequency.toNanos() * IDLE_BATCH_KEY_FREQUENCIES;
+        this.lastIdleBatchKeySweepNanos = new AtomicLong(System.nanoTime());
+        this.metricPublishers = batchConfiguration.metricPublishers();
     }
 
     public CompletableFuture<ResponseT> batchRequest(RequestT request) {
@@ -70,25 +95,41 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
 
         try {
             String batchKey = getBatchKey(request);
+            if (adaptiveBatching) {
+                evictIdleBatchKeys(batchKey);
+            }
+
             // Handle potential byte size overflow only if there are request in map and if feature enabled
             if (requestsAndResponsesMaps.contains(batchKey) && batchConfiguration.maxBatchBytesSize() > 0) {
                 Optional.of(requestsAndResponsesMaps.flushableRequestsOnByteLimitBeforeAdd(batchKey, request))
                         .filter(flushableRequests -> !flushableRequests.isEmpty())
-                        .ifPresent(flushableRequests -> manualFlushBuffer(batchKey, flushableRequests));
+                        .ifPresent(flushableRequests -> manualFlushBuffer(batchKey, flushableRequests,
+                                                                          FLUSH_REASON_MAX_BATCH_BYTES));
             }
 
-            // Add request and response to the map, scheduling a flush if necessary
-            requestsAndResponsesMaps.put(batchKey,
-                                         () -> scheduleBufferFlush(batchKey,
-                                                                   sendRequestFrequency.toMillis(),
-                                                                   scheduledExecutor),
-                                         request,
-                                         response);
+            // Add request and response to the map, scheduling a periodic flush if necessary. Adaptive batching schedules a
+            // single flush per batch instead, once the first request of the batch is added.
+            int bufferedRequests = requestsAndResponsesMaps.put(batchKey,
+                                                                () -> adaptiveBatching ? null :
+                                                                      scheduleBufferFlush(batchKey,
+                                                                                          sendRequestFrequency.toMillis(),
+                                                                                          scheduledExecutor),
+                                                                request,
+                                                                response);
+            if (adaptiveBatching) {
+                adaptiveLinger(batchKey).recordArrival(System.nanoTime());
+            }
 
             // Immediately flush if the batch is full
-            Optional.of(requestsAndResponsesMaps.flushableRequests(batchKey))
-                    .filter(flushableRequests -> !flushableRequests.isEmpty())
-                    .ifPresent(flushableRequests -> manualFlushBuffer(batchKey, flushableRequests));
+            Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests =
+                requestsAndResponsesMaps.flushableRequests(batchKey);
+            if (!flushableRequests.isEmpty()) {
+                manualFlushBuffer(batchKey, flushableRequests, flushableRequests.size() >= maxBatchItems
+                                                               ? FLUSH_REASON_MAX_BATCH_SIZE
+                                                               : FLUSH_REASON_MAX_BATCH_BYTES);
+            } else if (adaptiveBatching && bufferedRequests == 1) {
+                scheduleAdaptiveFlush(batchKey, bufferedRequests);
+            }
 
         } catch (Exception e) {
             response.completeExceptionally(e);
@@ -105,17 +146,34 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
     protected abstract List<Either<IdentifiableMessage<ResponseT>,
         IdentifiableMessage<Throwable>>> mapBatchResponse(BatchResponseT batchResponse);
 
+    /**
+     * The name of the batch operation, reported with the batch metrics.
+     */
+    protected abstract String batchOperationName();
+
     private void manualFlushBuffer(String batchKey,
-                                   Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests) {
+                                   Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests,
+                                   String flushReason) {
         requestsAndResponsesMaps.cancelScheduledFlush(batchKey);
-        flushBuffer(batchKey, flushableRequests);
+        if (adaptiveBatching) {
+            flushBuffer(batchKey, flushableRequests, flushReason);
+            if (requestsAndResponsesMaps.hasRequests(batchKey)) {
+                scheduleAdaptiveFlush(batchKey, 1);
+            }
+            return;
+        }
+        flushBuffer(batchKey, flushableRequests, flushReason);
         requestsAndResponsesMaps.putScheduledFlush(batchKey,
                                                    scheduleBufferFlush(batchKey,
                                                                        sendRequestFrequency.toMillis(),
                                                                        scheduledExecutor));
     }
 
-    private void flushBuffer(String batchKey, Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests) {
+    private void flushBuffer(String batchKey, Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests,
+                             String flushReason) {
+        if (!flushableRequests.isEmpty() && !metricPublishers.isEmpty()) {
+            publishBatchMetrics(flushableRequests, flushReason);
+        }
         List<IdentifiableMessage<RequestT>> requestEntries = new ArrayList<>();
         flushableRequests.forEach((contextId, batchExecutionContext) ->
                                       requestEntries.add(new IdentifiableMessage<>(contextId, batchExecutionContext.request())));
@@ -156,10 +214,84 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
         Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests =
             requestsAndResponsesMaps.flushableScheduledRequests(batchKey, maxBatchItems);
         if (!flushableRequests.isEmpty()) {
-            flushBuffer(batchKey, flushableRequests);
+            flushBuffer(batchKey, flushableRequests, FLUSH_REASON_SCHEDULED);
+        }
+    }
+
+    /**
+     * Schedule a single flush of the batch, after the linger time that the arrival rate of its batch key calls for, in place
+     * of the flush already scheduled for the batch key, if any. If requests are left in the buffer after that flush, because
+     * more arrived than fit in one batch, another flush is scheduled for them. Batch keys without buffered requests have
+     * nothing scheduled.
+     */
+    private void scheduleAdaptiveFlush(String batchKey, int bufferedRequests) {
+        long lingerNanos = adaptiveLinger(batchKey).lingerNanos(bufferedRequests);
+        if (lingerNanos <= 0) {
+            requestsAndResponsesMaps.cancelScheduledFlush(batchKey);
+            performAdaptiveFlush(batchKey);
+        } else {
+            requestsAndResponsesMaps.replaceScheduledFlush(batchKey, () -> scheduledExecutor.schedule(
+                () -> performAdaptiveFlush(batchKey), lingerNanos, TimeUnit.NANOSECONDS));
         }
     }
 
+    private void performAdaptiveFlush(String batchKey) {
+        performScheduledFlush(batchKey);
+        if (requestsAndResponsesMaps.hasRequests(batchKey)) {
+            scheduleAdaptiveFlush(batchKey, 1);
+        }
+    }
+
+    private AdaptiveLinger adaptiveLinger(String batchKey) {
+        return adaptiveLingers.computeIfAbsent(batchKey, k -> new AdaptiveLinger(sendRequestFrequency, maxBatchItems));
+    }
+
+    /**
+     * Forget the buffers and arrival rates of the adaptive batch keys, other than the given one, that have had no requests
+     * for {@link #IDLE_BATCH_KEY_FREQUENCIES} send request frequencies. The batch keys are swept at most once in that period.
+     */
+    private void evictIdleBatchKeys(String activeBatchKey) {
+        long now = System.nanoTime();
+        long lastSweepNanos = lastIdleBatchKeySweepNanos.get();
+        if (now - lastSweepNanos < idleBatchKeyNanos || !lastIdleBatchKeySweepNanos.compareAndSet(lastSweepNanos, now)) {
+            return;
+        }
+        adaptiveLingers.forEach((batchKey, linger) -> {
+            if (!batchKey.equals(activeBatchKey) && linger.isIdle(now, idleBatchKeyNanos)
+                && (!requestsAndResponsesMaps.contains(batchKey) || requestsAndResponsesMaps.removeIfEmpty(batchKey))) {
+                adaptiveLingers.remove(batchKey, linger);
+            }
+        });
+    }
+
+    private void publishBatchMetrics(Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests,
+                                     String flushReason) {
+        MetricCollector metricCollector = MetricCollector.create(BatchManagerMetric.METRIC_COLLECTION_NAME);
+        metricCollector.reportMetric(CoreMetric.OPERATION_NAME, batchOperationName());
+        metricCollector.reportMetric(BatchManagerMetric.BATCH_SIZE, flushableRequests.size());
+        metricCollector.reportMetric(BatchManagerMetric.MAX_BATCH_SIZE, maxBatchItems);
+        metricCollector.reportMetric(BatchManagerMetric.BATCH_FLUSH_REASON, flushReason);
+
+        long oldestEnqueueTimeNanos = Long.MAX_VALUE;
+        int payloadBytes = 0;
+        boolean payloadBytesKnown = false;
+        for (BatchingExecutionContext<RequestT, ResponseT> context : flushableRequests.values()) {
+            oldestEnqueueTimeNanos = Math.min(oldestEnqueueTimeNanos, context.enqueueTimeNanos());
+            if (context.responsePayloadByteSize().isPresent()) {
+                payloadBytes += context.responsePayloadByteSize().get();
+                payloadBytesKnown = true;
+            }
+        }
+        metricCollector.reportMetric(BatchManagerMetric.BATCH_LINGER_TIME,
+                                     Duration.ofNanos(System.nanoTime() - oldestEnqueueTimeNanos));
+        if (payloadBytesKnown) {
+            metricCollector.reportMetric(BatchManagerMetric.BATCH_PAYLOAD_BYTES, payloadBytes);
+        }
+
+        MetricCollection metricCollection = metricCollector.collect();
+        metricPublishers.forEach(p -> p.publish(metricCollection));
+    }
+
     public void close() {
         requestsAndResponsesMaps.forEach((batchKey, batchBuffer) -> {
             requestsAndResponsesMaps.cancelScheduledFlush(batchKey);
@@ -167,13 +299,14 @@ public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
                 requestsAndResponsesMaps.flushableRequests(batchKey);
 
             while (!flushableRequests.isEmpty()) {
-                flushBuffer(batchKey, flushableRequests);
+                flushBuffer(batchKey, flushableRequests, FLUSH_REASON_CLOSE);
             }
 
         });
         pendingBatchResponses.forEach(future -> future.cancel(true));
         pendingResponses.forEach(future -> future.cancel(true));
         requestsAndResponsesMaps.clear();
+        adaptiveLingers.clear();
     }
 
 }
\ No newline at end of file
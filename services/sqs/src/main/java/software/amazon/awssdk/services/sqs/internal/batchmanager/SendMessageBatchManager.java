@@ -129,6 +129,11 @@ public class SendMessageBatchManager extends RequestBatchManager<SendMessageRequ
         return asyncClient.sendMessageBatch(batchRequest);
     }
 
+    @Override
+    protected String batchOperationName() {
+        return "SendMessageBatch";
+    }
+
     @Override
     protected String getBatchKey(SendMessageRequest request) {
         return request.overrideConfiguration().map(overrideConfig -> request.queueUrl() + overrideConfig.hashCode())
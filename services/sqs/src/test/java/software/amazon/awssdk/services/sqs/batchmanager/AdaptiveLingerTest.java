@@ -0,0 +1,77 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.AdaptiveLinger;
+
+class AdaptiveLingerTest {
+    private static final Duration MAX_LINGER = Duration.ofMillis(200);
+
+    @Test
+    void lingerNanos_noArrivalRate_isMaxLinger() {
+        AdaptiveLinger linger = new AdaptiveLinger(MAX_LINGER, 10);
+        linger.recordArrival(0);
+
+        assertThat(linger.lingerNanos(1)).isEqualTo(MAX_LINGER.toNanos());
+    }
+
+    @Test
+    void lingerNanos_arrivalsSlowerThanMaxLinger_isZero() {
+        AdaptiveLinger linger = new AdaptiveLinger(MAX_LINGER, 10);
+        linger.recordArrival(0);
+        linger.recordArrival(Duration.ofMillis(300).toNanos());
+
+        assertThat(linger.lingerNanos(1)).isZero();
+    }
+
+    @Test
+    void lingerNanos_fastArrivals_isTimeToFillBatch() {
+        AdaptiveLinger linger = new AdaptiveLinger(MAX_LINGER, 10);
+        for (int i = 0; i < 5; i++) {
+            linger.recordArrival(Duration.ofMillis(i).toNanos());
+        }
+
+        assertThat(linger.lingerNanos(1)).isEqualTo(Duration.ofMillis(9).toNanos());
+        assertThat(linger.lingerNanos(10)).isZero();
+    }
+
+    @Test
+    void lingerNanos_timeToFillBatchLongerThanMaxLinger_isMaxLinger() {
+        AdaptiveLinger linger = new AdaptiveLinger(MAX_LINGER, 10);
+        linger.recordArrival(0);
+        linger.recordArrival(Duration.ofMillis(100).toNanos());
+
+        assertThat(linger.lingerNanos(1)).isEqualTo(MAX_LINGER.toNanos());
+    }
+
+    @Test
+    void lingerNanos_arrivalRateDrops_lingerShrinksToZero() {
+        AdaptiveLinger linger = new AdaptiveLinger(MAX_LINGER, 10);
+        long now = 0;
+        for (int i = 0; i < 5; i++) {
+            linger.recordArrival(now += Duration.ofMillis(1).toNanos());
+        }
+        for (int i = 0; i < 20; i++) {
+            linger.recordArrival(now += Duration.ofSeconds(1).toNanos());
+        }
+
+        assertThat(linger.lingerNanos(1)).isZero();
+    }
+}
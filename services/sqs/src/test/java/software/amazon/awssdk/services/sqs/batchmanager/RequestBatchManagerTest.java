@@ -18,6 +18,7 @@ package software.amazon.awssdk.services.sqs.batchmanager;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,7 +26,9 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -35,6 +38,11 @@ import org.junit.jupiter.api.Test;
 
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.RequestBatchConfiguration;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -234,6 +242,183 @@ class RequestBatchManagerTest {
         assertEquals(String.format("java.lang.IllegalStateException: Reached MaxBatchKeys of: %d", MAX_QUEUES_THRESHOLD), exception.getCause().toString());
     }
 
+    @Test
+    void batchRequest_adaptiveBatching_lowRequestRate_sendsWithoutWaiting() throws Exception {
+        when(mockClient.sendBatchAsync(any(), eq("testRequest"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+        SampleBatchManager batchManager =
+            new SampleBatchManager(BatchOverrideConfiguration.builder()
+                                                             .maxBatchSize(10)
+                                                             .sendRequestFrequency(Duration.ofMillis(50))
+                                                             .adaptiveBatching(true)
+                                                             .build(),
+                                   scheduledExecutor, mockClient);
+
+        assertEquals("testRequest:0", batchManager.batchRequest("testRequest:0").get(1, TimeUnit.SECONDS));
+        Thread.sleep(100);
+
+        // The requests arrive further apart than the send request frequency, so the batch is sent right away.
+        CompletableFuture<String> response = batchManager.batchRequest("testRequest:1");
+        verify(mockClient, times(2)).sendBatchAsync(any(), eq("testRequest"));
+        assertEquals("testRequest:1", response.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void batchRequest_adaptiveBatching_highRequestRate_sendsBeforeSendRequestFrequency() throws Exception {
+        when(mockClient.sendBatchAsync(any(), eq("testRequest"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+        SampleBatchManager batchManager =
+            new SampleBatchManager(BatchOverrideConfiguration.builder()
+                                                             .maxBatchSize(2)
+                                                             .sendRequestFrequency(Duration.ofHours(1))
+                                                             .adaptiveBatching(true)
+                                                             .build(),
+                                   scheduledExecutor, mockClient);
+
+        CompletableFuture<String> response1 = batchManager.batchRequest("testRequest:0");
+        CompletableFuture<String> response2 = batchManager.batchRequest("testRequest:1");
+        assertEquals("testRequest:0", response1.get(1, TimeUnit.SECONDS));
+        assertEquals("testRequest:1", response2.get(1, TimeUnit.SECONDS));
+
+        // The batch is held open only for as long as the next request is expected to take, not for an hour.
+        CompletableFuture<String> response3 = batchManager.batchRequest("testRequest:2");
+        assertEquals("testRequest:2", response3.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void batchRequest_adaptiveBatching_idleBatchKey_hasNoScheduledTasks() throws Exception {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        try {
+            when(mockClient.sendBatchAsync(any(), eq("testRequest"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+            SampleBatchManager batchManager =
+                new SampleBatchManager(BatchOverrideConfiguration.builder()
+                                                                 .maxBatchSize(10)
+                                                                 .sendRequestFrequency(Duration.ofMillis(10))
+                                                                 .adaptiveBatching(true)
+                                                                 .build(),
+                                       executor, mockClient);
+
+            assertEquals("testRequest:0", batchManager.batchRequest("testRequest:0").get(1, TimeUnit.SECONDS));
+            Thread.sleep(50);
+
+            assertTrue(executor.getQueue().isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchRequest_adaptiveBatching_fullBatch_replacesScheduledFlush() throws Exception {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        executor.setRemoveOnCancelPolicy(true);
+        try {
+            when(mockClient.sendBatchAsync(any(), eq("testRequest"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+            SampleBatchManager batchManager =
+                new SampleBatchManager(BatchOverrideConfiguration.builder()
+                                                                 .maxBatchSize(2)
+                                                                 .sendRequestFrequency(Duration.ofHours(1))
+                                                                 .adaptiveBatching(true)
+                                                                 .build(),
+                                       executor, mockClient);
+
+            CompletableFuture<String> response1 = batchManager.batchRequest("testRequest:0");
+            CompletableFuture<String> response2 = batchManager.batchRequest("testRequest:1");
+            assertEquals("testRequest:0", response1.get(1, TimeUnit.SECONDS));
+            assertEquals("testRequest:1", response2.get(1, TimeUnit.SECONDS));
+            assertEquals("testRequest:2", batchManager.batchRequest("testRequest:2").get(1, TimeUnit.SECONDS));
+
+            // The flush scheduled for the first batch was cancelled when the batch filled up, so nothing is left scheduled.
+            assertTrue(executor.getQueue().isEmpty());
+            verify(mockClient, times(2)).sendBatchAsync(any(), eq("testRequest"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchRequest_adaptiveBatching_idleBatchKey_isEvicted() throws Exception {
+        when(mockClient.sendBatchAsync(any(), eq("testRequestA"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+        when(mockClient.sendBatchAsync(any(), eq("testRequestB"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+        SampleBatchManager batchManager =
+            new SampleBatchManager(RequestBatchConfiguration.builder()
+                                                            .maxBatchItems(10)
+                                                            .maxBatchKeys(1)
+                                                            .sendRequestFrequency(Duration.ofMillis(10))
+                                                            .adaptiveBatching(true)
+                                                            .build(),
+                                   scheduledExecutor, mockClient);
+
+        assertEquals("testRequestA:0", batchManager.batchRequest("testRequestA:0").get(1, TimeUnit.SECONDS));
+        Thread.sleep(200);
+
+        // The idle batch key no longer counts towards the maximum number of batch keys.
+        assertEquals("testRequestB:0", batchManager.batchRequest("testRequestB:0").get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void batchRequest_fixedSendRequestFrequency_idleBatchKey_keepsScheduledTask() throws Exception {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+        try {
+            when(mockClient.sendBatchAsync(any(), eq("testRequest"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+            SampleBatchManager batchManager =
+                new SampleBatchManager(BatchOverrideConfiguration.builder()
+                                                                 .maxBatchSize(10)
+                                                                 .sendRequestFrequency(Duration.ofMillis(10))
+                                                                 .build(),
+                                       executor, mockClient);
+
+            assertEquals("testRequest:0", batchManager.batchRequest("testRequest:0").get(1, TimeUnit.SECONDS));
+            Thread.sleep(50);
+
+            assertEquals(1, executor.getQueue().size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void batchRequest_withMetricPublisher_publishesBatchMetrics() throws Exception {
+        List<MetricCollection> published = new CopyOnWriteArrayList<>();
+        MetricPublisher publisher = new MetricPublisher() {
+            @Override
+            public void publish(MetricCollection metricCollection) {
+                published.add(metricCollection);
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        when(mockClient.sendBatchAsync(any(), eq("testRequest"))).thenAnswer(i -> echoResponse(i.getArgument(0)));
+        SampleBatchManager batchManager =
+            new SampleBatchManager(RequestBatchConfiguration.builder()
+                                                            .maxBatchItems(2)
+                                                            .sendRequestFrequency(Duration.ofHours(1))
+                                                            .metricPublishers(Collections.singletonList(publisher))
+                                                            .build(),
+                                   scheduledExecutor, mockClient);
+
+        CompletableFuture<String> response1 = batchManager.batchRequest("testRequest:0");
+        CompletableFuture<String> response2 = batchManager.batchRequest("testRequest:1");
+        response1.get(1, TimeUnit.SECONDS);
+        response2.get(1, TimeUnit.SECONDS);
+
+        assertEquals(1, published.size());
+        MetricCollection metrics = published.get(0);
+        assertEquals(BatchManagerMetric.METRIC_COLLECTION_NAME, metrics.name());
+        assertEquals(Collections.singletonList("SampleBatch"), metrics.metricValues(CoreMetric.OPERATION_NAME));
+        assertEquals(Collections.singletonList(2), metrics.metricValues(BatchManagerMetric.BATCH_SIZE));
+        assertEquals(Collections.singletonList(2), metrics.metricValues(BatchManagerMetric.MAX_BATCH_SIZE));
+        assertEquals(Collections.singletonList("MaxBatchSize"), metrics.metricValues(BatchManagerMetric.BATCH_FLUSH_REASON));
+        assertEquals(1, metrics.metricValues(BatchManagerMetric.BATCH_LINGER_TIME).size());
+        assertTrue(metrics.metricValues(BatchManagerMetric.BATCH_PAYLOAD_BYTES).isEmpty());
+    }
+
+    private static CompletableFuture<BatchResponse> echoResponse(List<IdentifiableMessage<String>> requests) {
+        List<BatchResponseEntry> entries = requests.stream()
+                                                   .map(r -> new BatchResponseEntry(r.id(), r.message()))
+                                                   .collect(Collectors.toList());
+        return CompletableFuture.completedFuture(new BatchResponse(entries));
+    }
+
     @AfterAll
     public static void teardown() throws IOException {
         if (scheduledExecutor != null) {
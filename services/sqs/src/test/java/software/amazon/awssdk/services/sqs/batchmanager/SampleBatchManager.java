@@ -37,11 +37,23 @@ public class SampleBatchManager extends RequestBatchManager<String, String, Batc
         this.client = client;
     }
 
+    protected SampleBatchManager(RequestBatchConfiguration batchConfiguration,
+                                 ScheduledExecutorService executorService,
+                                 CustomClient client) {
+        super(batchConfiguration, executorService);
+        this.client = client;
+    }
+
     @Override
     protected CompletableFuture<BatchResponse> batchAndSend(List<IdentifiableMessage<String>> identifiedRequests, String batchKey) {
         return client.sendBatchAsync(identifiedRequests, batchKey);
     }
 
+    @Override
+    protected String batchOperationName() {
+        return "SampleBatch";
+    }
+
     @Override
     protected String getBatchKey(String request) {
         return request.substring(0, request.indexOf(':'));
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.io.ByteArrayInputStream;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.internal.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.GzipCompressor;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -97,6 +99,42 @@ public class RequestCompressionTest {
         assertThat(loggedRequest.firstMatchingHeader("Content-encoding").get()).isEqualTo("gzip");
     }
 
+    @Test
+    public void syncNonStreamingOperation_compressionLevelOverridden_compressesWithLevel() {
+        mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
+
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1)
+                                                               .compressionLevel(1)))
+                                                     .build();
+        syncClient.putOperationWithRequestCompression(request);
+
+        SdkHttpFullRequest loggedRequest = (SdkHttpFullRequest) mockHttpClient.getLastRequest();
+        InputStream loggedStream = loggedRequest.contentStreamProvider().get().newStream();
+        byte[] loggedBody = SdkBytes.fromInputStream(loggedStream).asByteArray();
+
+        assertThat(loggedBody).isEqualTo(new GzipCompressor(1).compress(UNCOMPRESSED_BODY.getBytes()));
+        assertThat(loggedRequest.firstMatchingHeader("Content-encoding").get()).isEqualTo("gzip");
+    }
+
+    @Test
+    public void syncNonStreamingOperation_compressionLevelOutOfRange_throwsException() {
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1)
+                                                               .compressionLevel(10)))
+                                                     .build();
+
+        assertThatThrownBy(() -> syncClient.putOperationWithRequestCompression(request))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("compression level");
+    }
+
     @Test
     public void syncNonStreamingOperation_payloadSizeLessThanCompressionThreshold_doesNotCompress() {
         mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocol.tests;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestxmls3streaming.ProtocolRestXmlS3StreamingClient;
+import software.amazon.awssdk.services.protocolrestxmls3streaming.model.CommonPrefix;
+import software.amazon.awssdk.services.protocolrestxmls3streaming.model.ListObjectsV2Response;
+import software.amazon.awssdk.services.protocolrestxmls3streaming.model.ProtocolRestXmlS3StreamingException;
+import software.amazon.awssdk.services.protocolrestxmls3streaming.model.S3Object;
+import software.amazon.awssdk.testutils.LogCaptor;
+
+/**
+ * Unmarshalling with the S3 protocol factory and streaming unmarshalling enabled, where errors may also be returned in the
+ * body of a successful response.
+ */
+public class RestXmlS3StreamingProtocolTest {
+    private static final String STREAMING_LOG_MESSAGE = "Unmarshalling service response XML stream.";
+    private static final String PARSED_LOG_MESSAGE = "Unmarshalling parsed service response XML.";
+
+    @Rule
+    public WireMockRule wireMock = new WireMockRule(0);
+
+    private ProtocolRestXmlS3StreamingClient client;
+
+    @Before
+    public void setupClient() {
+        client = ProtocolRestXmlS3StreamingClient.builder()
+                                                 .credentialsProvider(StaticCredentialsProvider.create(
+                                                     AwsBasicCredentials.create("akid", "skid")))
+                                                 .region(Region.US_EAST_1)
+                                                 .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
+                                                 .build();
+    }
+
+    @Test
+    public void listObjectsV2_isUnmarshalledFromXmlStream() {
+        stubFor(get(anyUrl()).willReturn(aResponse().withStatus(200)
+                                                    .withHeader("x-amz-request-charged", "requester")
+                                                    .withBody(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+            + "<Name>bucket</Name><Prefix>photos/</Prefix><KeyCount>2</KeyCount><IsTruncated>true</IsTruncated>"
+            + "<NextContinuationToken>token</NextContinuationToken>"
+            + "<Contents><Key>photos/a.jpg</Key><LastModified>2024-10-17T08:00:00.000Z</LastModified>"
+            + "<ETag>&quot;etag-a&quot;</ETag><Size>1024</Size></Contents>"
+            + "<Contents><Key>photos/b.jpg</Key><Size>2048</Size></Contents>"
+            + "<CommonPrefixes><Prefix>photos/2024/</Prefix></CommonPrefixes>"
+            + "</ListBucketResult>")));
+
+        ListObjectsV2Response response;
+        try (LogCaptor logCaptor = LogCaptor.create(Level.TRACE)) {
+            response = client.listObjectsV2(r -> r.bucket("bucket").prefix("photos/"));
+
+            assertThat(messages(logCaptor.loggedEvents())).contains(STREAMING_LOG_MESSAGE)
+                                                          .doesNotContain(PARSED_LOG_MESSAGE);
+        }
+
+        assertThat(response.name()).isEqualTo("bucket");
+        assertThat(response.prefix()).isEqualTo("photos/");
+        assertThat(response.keyCount()).isEqualTo(2);
+        assertThat(response.isTruncated()).isTrue();
+        assertThat(response.nextContinuationToken()).isEqualTo("token");
+        assertThat(response.requestCharged()).isEqualTo("requester");
+        assertThat(response.contents()).extracting(S3Object::key).containsExactly("photos/a.jpg", "photos/b.jpg");
+        assertThat(response.contents()).extracting(S3Object::size).containsExactly(1024L, 2048L);
+        assertThat(response.contents().get(0).lastModified()).isEqualTo(Instant.parse("2024-10-17T08:00:00Z"));
+        assertThat(response.contents().get(0).eTag()).isEqualTo("\"etag-a\"");
+        assertThat(response.commonPrefixes()).extracting(CommonPrefix::prefix).containsExactly("photos/2024/");
+    }
+
+    @Test
+    public void errorInSuccessfulResponse_isParsedIntoException() {
+        stubFor(get(anyUrl()).willReturn(aResponse().withStatus(200)
+                                                    .withBody(
+            "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<Error><Code>NoSuchBucket</Code><Message>The specified bucket does not exist</Message></Error>")));
+
+        assertThatThrownBy(() -> client.listObjectsV2(r -> r.bucket("bucket")))
+            .isInstanceOfSatisfying(ProtocolRestXmlS3StreamingException.class, e -> {
+                assertThat(e.awsErrorDetails().errorCode()).isEqualTo("NoSuchBucket");
+                assertThat(e.awsErrorDetails().errorMessage()).isEqualTo("The specified bucket does not exist");
+            });
+    }
+
+    @Test
+    public void emptySuccessfulResponse_isUnmarshalledIntoEmptyResponse() {
+        stubFor(get(anyUrl()).willReturn(aResponse().withStatus(200)));
+
+        ListObjectsV2Response response = client.listObjectsV2(r -> r.bucket("bucket"));
+
+        assertThat(response.name()).isNull();
+        assertThat(response.hasContents()).isFalse();
+    }
+
+    private static List<String> messages(List<LogEvent> events) {
+        return events.stream().map(e -> e.getMessage().getFormattedMessage()).collect(Collectors.toList());
+    }
+}
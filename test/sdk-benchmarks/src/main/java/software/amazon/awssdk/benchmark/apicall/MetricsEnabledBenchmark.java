@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.benchmark.apicall;
 
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USE_INDEXED_METRIC_COLLECTOR;
+
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
@@ -51,6 +53,8 @@ public class MetricsEnabledBenchmark {
     private MockServer mockServer;
     private ProtocolRestJsonClient enabledMetricsSyncClient;
     private ProtocolRestJsonAsyncClient enabledMetricsAsyncClient;
+    private ProtocolRestJsonClient indexedMetricsSyncClient;
+    private ProtocolRestJsonAsyncClient indexedMetricsAsyncClient;
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
@@ -58,12 +62,19 @@ public class MetricsEnabledBenchmark {
         mockServer.start();
         enabledMetricsSyncClient = enableMetrics(syncClientBuilder()).build();
         enabledMetricsAsyncClient = enableMetrics(asyncClientBuilder()).build();
+        indexedMetricsSyncClient = enableIndexedMetrics(syncClientBuilder()).build();
+        indexedMetricsAsyncClient = enableIndexedMetrics(asyncClientBuilder()).build();
     }
 
     private <T extends SdkClientBuilder<T, ?>> T enableMetrics(T syncClientBuilder) {
         return syncClientBuilder.overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher()));
     }
 
+    private <T extends SdkClientBuilder<T, ?>> T enableIndexedMetrics(T syncClientBuilder) {
+        return syncClientBuilder.overrideConfiguration(c -> c.addMetricPublisher(new EnabledPublisher())
+                                                             .putAdvancedOption(USE_INDEXED_METRIC_COLLECTOR, true));
+    }
+
     private ProtocolRestJsonClientBuilder syncClientBuilder() {
         return ProtocolRestJsonClient.builder()
                                      .endpointOverride(mockServer.getHttpUri())
@@ -81,6 +92,8 @@ public class MetricsEnabledBenchmark {
         mockServer.stop();
         enabledMetricsSyncClient.close();
         enabledMetricsAsyncClient.close();
+        indexedMetricsSyncClient.close();
+        indexedMetricsAsyncClient.close();
     }
 
     @Benchmark
@@ -93,6 +106,16 @@ public class MetricsEnabledBenchmark {
         enabledMetricsAsyncClient.allTypes().join();
     }
 
+    @Benchmark
+    public void indexedMetricsEnabledSync() {
+        indexedMetricsSyncClient.allTypes();
+    }
+
+    @Benchmark
+    public void indexedMetricsEnabledAsync() {
+        indexedMetricsAsyncClient.allTypes().join();
+    }
+
     @Benchmark
     public void metricsEnabledSyncStreamingInput() {
         enabledMetricsSyncClient.streamingInputOperation(streamingInputRequest(), RequestBody.fromString(""));
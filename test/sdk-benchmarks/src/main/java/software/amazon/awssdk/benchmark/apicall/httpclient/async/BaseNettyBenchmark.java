@@ -19,12 +19,27 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.CONCURREN
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.awaitCountdownLatchUninterruptibly;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkUtils.countDownUponCompletion;
 
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.benchmark.apicall.httpclient.SdkHttpClientBenchmark;
+import software.amazon.awssdk.core.async.EmptyPublisher;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SimpleSubscriber;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
@@ -33,6 +48,8 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncCli
 public abstract class BaseNettyBenchmark implements SdkHttpClientBenchmark {
 
     protected ProtocolRestJsonAsyncClient client;
+    protected SdkAsyncHttpClient sdkHttpClient;
+    protected URI endpoint;
 
     @Override
     @Benchmark
@@ -53,4 +70,90 @@ public abstract class BaseNettyBenchmark implements SdkHttpClientBenchmark {
         countDownUponCompletion(blackhole, client.allTypes(), countDownLatch);
         awaitCountdownLatchUninterruptibly(countDownLatch, 1, TimeUnit.SECONDS);
     }
+
+    /**
+     * Streams responses directly through the HTTP client, with the response body copied out of the Netty buffers.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CALLS)
+    public void concurrentResponseStreamingCopy(Blackhole blackhole) {
+        concurrentResponseStreaming(blackhole, false);
+    }
+
+    /**
+     * Streams responses directly through the HTTP client, with read-only views over the Netty buffers published to the
+     * response handler.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_CALLS)
+    public void concurrentResponseStreamingZeroCopy(Blackhole blackhole) {
+        concurrentResponseStreaming(blackhole, true);
+    }
+
+    private void concurrentResponseStreaming(Blackhole blackhole, boolean borrowedBuffers) {
+        CountDownLatch countDownLatch = new CountDownLatch(CONCURRENT_CALLS);
+        for (int i = 0; i < CONCURRENT_CALLS; i++) {
+            countDownUponCompletion(blackhole, streamResponse(blackhole, borrowedBuffers), countDownLatch);
+        }
+
+        awaitCountdownLatchUninterruptibly(countDownLatch, 10, TimeUnit.SECONDS);
+    }
+
+    private CompletableFuture<Void> streamResponse(Blackhole blackhole, boolean borrowedBuffers) {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(endpoint)
+                                               .method(SdkHttpMethod.POST)
+                                               .putHeader("Content-Length", "0")
+                                               .build();
+        return sdkHttpClient.execute(AsyncExecuteRequest.builder()
+                                                        .request(request)
+                                                        .requestContentPublisher(new EmptyContentPublisher())
+                                                        .responseHandler(new ConsumingResponseHandler(blackhole,
+                                                                                                      borrowedBuffers))
+                                                        .build());
+    }
+
+    private static final class ConsumingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final Blackhole blackhole;
+        private final boolean borrowedBuffers;
+
+        private ConsumingResponseHandler(Blackhole blackhole, boolean borrowedBuffers) {
+            this.blackhole = blackhole;
+            this.borrowedBuffers = borrowedBuffers;
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new SimpleSubscriber(byteBuffer -> {
+                while (byteBuffer.hasRemaining()) {
+                    blackhole.consume(byteBuffer.get());
+                }
+            }));
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        @Override
+        public boolean supportsReadOnlyBorrowedBuffers() {
+            return borrowedBuffers;
+        }
+    }
+
+    private static final class EmptyContentPublisher implements SdkHttpContentPublisher {
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(0L);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            new EmptyPublisher<ByteBuffer>().subscribe(subscriber);
+        }
+    }
 }
@@ -40,7 +40,6 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockServer;
-import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
@@ -55,7 +54,6 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncCli
 public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
     private MockServer mockServer;
-    private SdkAsyncHttpClient sdkHttpClient;
 
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
@@ -70,8 +68,9 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
+        endpoint = mockServer.getHttpsUri();
         client = ProtocolRestJsonAsyncClient.builder()
-                                            .endpointOverride(mockServer.getHttpsUri())
+                                            .endpointOverride(endpoint)
                                             .httpClient(sdkHttpClient)
                                             .build();
 
@@ -41,7 +41,6 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockH2Server;
 import software.amazon.awssdk.http.Protocol;
-import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
@@ -56,7 +55,6 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncCli
 public class NettyHttpClientH2Benchmark extends BaseNettyBenchmark {
 
     private MockH2Server mockServer;
-    private SdkAsyncHttpClient sdkHttpClient;
 
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
@@ -73,8 +71,9 @@ public class NettyHttpClientH2Benchmark extends BaseNettyBenchmark {
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder()
                                                                       .put(PROTOCOL, Protocol.HTTP2)
                                                                       .build());
+        endpoint = mockServer.getHttpsUri();
         client = ProtocolRestJsonAsyncClient.builder()
-                                            .endpointOverride(mockServer.getHttpsUri())
+                                            .endpointOverride(endpoint)
                                             .httpClient(sdkHttpClient)
                                             .build();
 
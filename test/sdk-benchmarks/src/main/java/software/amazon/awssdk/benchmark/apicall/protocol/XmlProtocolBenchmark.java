@@ -19,6 +19,8 @@ import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.ERROR_XML
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_ALL_TYPES_REQUEST;
 import static software.amazon.awssdk.benchmark.utils.BenchmarkConstant.XML_BODY;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -36,7 +38,13 @@ import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
+import software.amazon.awssdk.protocols.xml.XmlOperationMetadata;
 import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
+import software.amazon.awssdk.services.protocolrestxml.model.AllTypesResponse;
 
 /**
  * Benchmarking for running with different protocols.
@@ -48,13 +56,19 @@ import software.amazon.awssdk.services.protocolrestxml.ProtocolRestXmlClient;
 @BenchmarkMode(Mode.Throughput)
 public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
 
+    private static final byte[] XML_BODY_BYTES = XML_BODY.getBytes(StandardCharsets.UTF_8);
+
     private ProtocolRestXmlClient client;
+    private HttpResponseHandler<AllTypesResponse> domResponseHandler;
+    private HttpResponseHandler<AllTypesResponse> streamingResponseHandler;
 
     @Setup(Level.Trial)
     public void setup() {
         client = ProtocolRestXmlClient.builder()
                                       .httpClient(new MockHttpClient(XML_BODY, ERROR_XML_BODY))
                                       .build();
+        domResponseHandler = responseHandler(false);
+        streamingResponseHandler = responseHandler(true);
     }
 
     @Override
@@ -63,6 +77,33 @@ public class XmlProtocolBenchmark implements SdkProtocolBenchmark {
         blackhole.consume(client.allTypes(XML_ALL_TYPES_REQUEST));
     }
 
+    @Benchmark
+    public void domUnmarshalling(Blackhole blackhole) throws Exception {
+        blackhole.consume(domResponseHandler.handle(response(), null));
+    }
+
+    @Benchmark
+    public void streamingUnmarshalling(Blackhole blackhole) throws Exception {
+        blackhole.consume(streamingResponseHandler.handle(response(), null));
+    }
+
+    private static HttpResponseHandler<AllTypesResponse> responseHandler(boolean enableStreamingUnmarshalling) {
+        return AwsXmlProtocolFactory.builder()
+                                    .enableStreamingUnmarshalling(enableStreamingUnmarshalling)
+                                    .build()
+                                    .createResponseHandler(AllTypesResponse::builder,
+                                                           XmlOperationMetadata.builder()
+                                                                               .hasStreamingSuccessResponse(false)
+                                                                               .build());
+    }
+
+    private static SdkHttpFullResponse response() {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(XML_BODY_BYTES)))
+                                  .build();
+    }
+
     public static void main(String... args) throws Exception {
         Options opt = new OptionsBuilder()
             .include(XmlProtocolBenchmark.class.getSimpleName())
@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.checksums.Algorithm;
+import software.amazon.awssdk.core.internal.async.ChecksumCalculatingAsyncRequestBody;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Benchmarks the throughput of a request body with a trailing flexible checksum, for heap and direct buffers of 64 KiB, such
+ * as an HTTP client or a file reader would publish.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class ChecksumCalculatingAsyncRequestBodyBenchmark {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Param({"4096", "65536", "1048576", "16777216"})
+    private int size;
+
+    @Param({"CRC32", "CRC32C"})
+    private Algorithm algorithm;
+
+    @Param({"false", "true"})
+    private boolean direct;
+
+    private ByteBuffer[] chunks;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        byte[] data = new byte[size];
+        new Random(0).nextBytes(data);
+        int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        chunks = new ByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            int length = Math.min(CHUNK_SIZE, size - i * CHUNK_SIZE);
+            ByteBuffer chunk = direct ? ByteBuffer.allocateDirect(length) : ByteBuffer.allocate(length);
+            chunk.put(data, i * CHUNK_SIZE, length).flip();
+            chunks[i] = chunk;
+        }
+    }
+
+    @Benchmark
+    public long publish() {
+        ByteBuffer[] body = new ByteBuffer[chunks.length];
+        for (int i = 0; i < chunks.length; i++) {
+            body[i] = chunks[i].duplicate();
+        }
+        AsyncRequestBody requestBody =
+            ChecksumCalculatingAsyncRequestBody.builder()
+                                               .asyncRequestBody(AsyncRequestBody.fromByteBuffersUnsafe(body))
+                                               .algorithm(algorithm)
+                                               .trailerHeader("x-amz-checksum-" + StringUtils.lowerCase(algorithm.name()))
+                                               .build();
+        CountingSubscriber subscriber = new CountingSubscriber();
+        requestBody.subscribe(subscriber);
+        return subscriber.result.join();
+    }
+
+    private static final class CountingSubscriber implements Subscriber<ByteBuffer> {
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+        private long count;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            s.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            count += byteBuffer.remaining();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(count);
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(ChecksumCalculatingAsyncRequestBodyBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Checksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.checksums.internal.JdkCrcChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc32;
+import software.amazon.awssdk.checksums.internal.SdkCrc32C;
+import software.amazon.awssdk.crt.checksums.CRC32;
+import software.amazon.awssdk.crt.checksums.CRC32C;
+
+/**
+ * Compares the throughput of the CRC32 and CRC32C implementations the SDK can choose between: the JDK's intrinsified
+ * checksums, the CRT's native checksums and the SDK's pure Java checksums. Heap buffers are passed to the checksums as arrays;
+ * direct buffers are passed to the JDK checksums as-is, and copied through a scratch array for the others.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class CrcChecksumBenchmark {
+    @Param({"4096", "65536", "1048576", "16777216"})
+    private int size;
+
+    @Param({"CRC32", "CRC32C"})
+    private String algorithm;
+
+    @Param({"JDK", "CRT", "SDK"})
+    private String implementation;
+
+    @Param({"false", "true"})
+    private boolean direct;
+
+    private Checksum checksum;
+    private ByteBuffer buffer;
+    private byte[] scratch;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        checksum = createChecksum();
+        byte[] data = new byte[size];
+        new Random(0).nextBytes(data);
+        buffer = direct ? ByteBuffer.allocateDirect(size) : ByteBuffer.allocate(size);
+        buffer.put(data).flip();
+        scratch = new byte[4096];
+    }
+
+    @Benchmark
+    public long update() {
+        checksum.reset();
+        ByteBuffer data = buffer.duplicate();
+        if (data.hasArray()) {
+            checksum.update(data.array(), data.arrayOffset() + data.position(), data.remaining());
+        } else if (checksum instanceof JdkCrcChecksum) {
+            ((JdkCrcChecksum) checksum).update(data);
+        } else {
+            while (data.hasRemaining()) {
+                int length = Math.min(data.remaining(), scratch.length);
+                data.get(scratch, 0, length);
+                checksum.update(scratch, 0, length);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private Checksum createChecksum() {
+        boolean crc32 = "CRC32".equals(algorithm);
+        switch (implementation) {
+            case "JDK":
+                return crc32 ? JdkCrcChecksum.createCrc32() : JdkCrcChecksum.createCrc32C();
+            case "CRT":
+                return crc32 ? new CRC32() : new CRC32C();
+            case "SDK":
+                return crc32 ? SdkCrc32.create() : SdkCrc32C.create();
+            default:
+                throw new IllegalArgumentException("Unknown implementation " + implementation);
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CrcChecksumBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
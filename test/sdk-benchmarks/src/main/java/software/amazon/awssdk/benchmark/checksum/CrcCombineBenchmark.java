@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.checksum;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Checksum;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.checksums.internal.SdkCrc32;
+import software.amazon.awssdk.checksums.internal.SdkCrc32C;
+
+/**
+ * Compares the cost of a full-object CRC computed with a second pass over the data of a multipart upload with the cost of
+ * combining the CRCs of its parts, as the multipart client does to validate a full-object checksum.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CrcCombineBenchmark {
+    private static final int PART_SIZE = 8 * 1024 * 1024;
+
+    @Param({"CRC32", "CRC32C"})
+    private Algorithm algorithm;
+
+    @Param({"8", "32"})
+    private int partCount;
+
+    private byte[] data;
+    private long[] partChecksums;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        data = new byte[PART_SIZE * partCount];
+        new Random(0).nextBytes(data);
+        partChecksums = new long[partCount];
+        for (int i = 0; i < partCount; i++) {
+            Checksum checksum = algorithm.create();
+            checksum.update(data, i * PART_SIZE, PART_SIZE);
+            partChecksums[i] = checksum.getValue();
+        }
+    }
+
+    @Benchmark
+    public long secondPass() {
+        Checksum checksum = algorithm.create();
+        checksum.update(data, 0, data.length);
+        return checksum.getValue();
+    }
+
+    @Benchmark
+    public long combinePartChecksums() {
+        long crc = 0;
+        for (long partChecksum : partChecksums) {
+            crc = algorithm.combine(crc, partChecksum, PART_SIZE);
+        }
+        return crc;
+    }
+
+    public enum Algorithm {
+        CRC32 {
+            @Override
+            Checksum create() {
+                return SdkCrc32.create();
+            }
+
+            @Override
+            long combine(long crc1, long crc2, long length2) {
+                return SdkCrc32.combine(crc1, crc2, length2);
+            }
+        },
+        CRC32C {
+            @Override
+            Checksum create() {
+                return SdkCrc32C.create();
+            }
+
+            @Override
+            long combine(long crc1, long crc2, long length2) {
+                return SdkCrc32C.combine(crc1, crc2, length2);
+            }
+        };
+
+        abstract Checksum create();
+
+        abstract long combine(long crc1, long crc2, long length2);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CrcCombineBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.coldstart;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
+
+/**
+ * Benchmarks the time taken to create the first table schema of an annotated class in a fresh JVM, with reflection and with
+ * the schema generated at compile time by the dynamodb-enhanced-annotation-processor, which runs when this module is
+ * compiled.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class EnhancedTableSchemaCreationBenchmark {
+
+    @Benchmark
+    public TableSchema<CustomerBean> reflectiveBeanSchema() {
+        return TableSchema.fromBean(CustomerBean.class);
+    }
+
+    @Benchmark
+    public TableSchema<CustomerBean> generatedBeanSchema() {
+        return TableSchema.fromClass(CustomerBean.class);
+    }
+
+    @Benchmark
+    public TableSchema<CustomerImmutable> reflectiveImmutableSchema() {
+        return TableSchema.fromImmutableClass(CustomerImmutable.class);
+    }
+
+    @Benchmark
+    public TableSchema<CustomerImmutable> generatedImmutableSchema() {
+        return TableSchema.fromClass(CustomerImmutable.class);
+    }
+
+    @DynamoDbBean
+    public static class CustomerBean {
+        private String id;
+        private String region;
+        private String name;
+        private boolean active;
+        private Integer visits;
+        private Instant createdAt;
+        private List<String> emails;
+        private Map<String, String> attributes;
+
+        @DynamoDbPartitionKey
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        @DynamoDbSortKey
+        public String getRegion() {
+            return region;
+        }
+
+        public void setRegion(String region) {
+            this.region = region;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public Integer getVisits() {
+            return visits;
+        }
+
+        public void setVisits(Integer visits) {
+            this.visits = visits;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        public void setCreatedAt(Instant createdAt) {
+            this.createdAt = createdAt;
+        }
+
+        public List<String> getEmails() {
+            return emails;
+        }
+
+        public void setEmails(List<String> emails) {
+            this.emails = emails;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+    }
+
+    @DynamoDbImmutable(builder = CustomerImmutable.Builder.class)
+    public static final class CustomerImmutable {
+        private final String id;
+        private final String region;
+        private final String name;
+        private final Integer visits;
+        private final Instant createdAt;
+        private final List<String> emails;
+
+        private CustomerImmutable(Builder builder) {
+            this.id = builder.id;
+            this.region = builder.region;
+            this.name = builder.name;
+            this.visits = builder.visits;
+            this.createdAt = builder.createdAt;
+            this.emails = builder.emails;
+        }
+
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        @DynamoDbPartitionKey
+        public String id() {
+            return id;
+        }
+
+        @DynamoDbSortKey
+        public String region() {
+            return region;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public Integer visits() {
+            return visits;
+        }
+
+        public Instant createdAt() {
+            return createdAt;
+        }
+
+        public List<String> emails() {
+            return emails;
+        }
+
+        public static final class Builder {
+            private String id;
+            private String region;
+            private String name;
+            private Integer visits;
+            private Instant createdAt;
+            private List<String> emails;
+
+            private Builder() {
+            }
+
+            public Builder id(String id) {
+                this.id = id;
+                return this;
+            }
+
+            public Builder region(String region) {
+                this.region = region;
+                return this;
+            }
+
+            public Builder name(String name) {
+                this.name = name;
+                return this;
+            }
+
+            public Builder visits(Integer visits) {
+                this.visits = visits;
+                return this;
+            }
+
+            public Builder createdAt(Instant createdAt) {
+                this.createdAt = createdAt;
+                return this;
+            }
+
+            public Builder emails(List<String> emails) {
+                this.emails = emails;
+                return this;
+            }
+
+            public CustomerImmutable build() {
+                return new CustomerImmutable(this);
+            }
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(EnhancedTableSchemaCreationBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.endpoint;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.endpoint.EndpointResolutionCache;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.endpoints.EndpointProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+
+/**
+ * Benchmarks the resolution of the endpoint of typical S3 and DynamoDB requests by the endpoint rules, compared to a lookup
+ * in the endpoint resolution cache that clients enable with
+ * {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#ENDPOINT_RESOLUTION_CACHE_SIZE}. Each lookup is
+ * done on a new, equal, parameters object, as the endpoint interceptor does for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EndpointResolutionBenchmark {
+
+    @Param({"S3", "DYNAMODB"})
+    private Service service;
+
+    private EndpointResolutionCache cache;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = new EndpointResolutionCache(64);
+        cache.put(service.provider, service.params(), service.resolve());
+    }
+
+    @Benchmark
+    public Endpoint endpointRules() {
+        return service.resolve();
+    }
+
+    @Benchmark
+    public Endpoint cachedEndpoint() {
+        return cache.get(service.provider, service.params());
+    }
+
+    public enum Service {
+        S3(S3EndpointProvider.defaultProvider()) {
+            @Override
+            Object params() {
+                return S3EndpointParams.builder()
+                                       .bucket("bucket")
+                                       .region(Region.US_EAST_1)
+                                       .useFips(false)
+                                       .useDualStack(false)
+                                       .forcePathStyle(false)
+                                       .accelerate(false)
+                                       .useArnRegion(true)
+                                       .build();
+            }
+
+            @Override
+            Endpoint resolve() {
+                return ((S3EndpointProvider) provider).resolveEndpoint((S3EndpointParams) params()).join();
+            }
+        },
+        DYNAMODB(DynamoDbEndpointProvider.defaultProvider()) {
+            @Override
+            Object params() {
+                return DynamoDbEndpointParams.builder()
+                                             .region(Region.US_EAST_1)
+                                             .useFips(false)
+                                             .useDualStack(false)
+                                             .accountIdEndpointMode("preferred")
+                                             .build();
+            }
+
+            @Override
+            Endpoint resolve() {
+                return ((DynamoDbEndpointProvider) provider).resolveEndpoint((DynamoDbEndpointParams) params()).join();
+            }
+        };
+
+        final EndpointProvider provider;
+
+        Service(EndpointProvider provider) {
+            this.provider = provider;
+        }
+
+        abstract Object params();
+
+        abstract Endpoint resolve();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(EndpointResolutionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
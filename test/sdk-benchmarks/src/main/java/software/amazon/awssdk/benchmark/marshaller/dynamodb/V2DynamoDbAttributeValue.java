@@ -74,86 +74,23 @@ import software.amazon.awssdk.services.dynamodb.transform.PutItemRequestMarshall
 @Fork(1)
 public class V2DynamoDbAttributeValue {
 
-    private static final AwsJsonProtocolFactory JSON_PROTOCOL_FACTORY = AwsJsonProtocolFactory
-        .builder()
-        .clientConfiguration(SdkClientConfiguration
-                                 .builder()
-                                 .option(SdkClientOption.ENDPOINT, URI.create("https://localhost"))
-                                 .build())
-        .defaultServiceExceptionSupplier(DynamoDbException::builder)
-        .protocol(AwsJsonProtocol.AWS_JSON)
-        .protocolVersion("1.0")
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ResourceInUseException")
-                             .exceptionBuilderSupplier(ResourceInUseException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("TableAlreadyExistsException")
-                             .exceptionBuilderSupplier(TableAlreadyExistsException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("GlobalTableAlreadyExistsException")
-                             .exceptionBuilderSupplier(GlobalTableAlreadyExistsException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("InvalidRestoreTimeException")
-                             .exceptionBuilderSupplier(InvalidRestoreTimeException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ReplicaAlreadyExistsException")
-                             .exceptionBuilderSupplier(ReplicaAlreadyExistsException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ConditionalCheckFailedException")
-                             .exceptionBuilderSupplier(ConditionalCheckFailedException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("BackupNotFoundException")
-                             .exceptionBuilderSupplier(BackupNotFoundException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("IndexNotFoundException")
-                             .exceptionBuilderSupplier(IndexNotFoundException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("LimitExceededException")
-                             .exceptionBuilderSupplier(LimitExceededException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("GlobalTableNotFoundException")
-                             .exceptionBuilderSupplier(GlobalTableNotFoundException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ItemCollectionSizeLimitExceededException")
-                             .exceptionBuilderSupplier(ItemCollectionSizeLimitExceededException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ReplicaNotFoundException")
-                             .exceptionBuilderSupplier(ReplicaNotFoundException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("TableNotFoundException")
-                             .exceptionBuilderSupplier(TableNotFoundException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("BackupInUseException")
-                             .exceptionBuilderSupplier(BackupInUseException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ResourceNotFoundException")
-                             .exceptionBuilderSupplier(ResourceNotFoundException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ContinuousBackupsUnavailableException")
-                             .exceptionBuilderSupplier(ContinuousBackupsUnavailableException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("TableInUseException")
-                             .exceptionBuilderSupplier(TableInUseException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("ProvisionedThroughputExceededException")
-                             .exceptionBuilderSupplier(ProvisionedThroughputExceededException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("PointInTimeRecoveryUnavailableException")
-                             .exceptionBuilderSupplier(PointInTimeRecoveryUnavailableException::builder).build())
-        .registerModeledException(
-            ExceptionMetadata.builder().errorCode("InternalServerError")
-                             .exceptionBuilderSupplier(InternalServerErrorException::builder).build())
-        .build();
+    private static final AwsJsonProtocolFactory JSON_PROTOCOL_FACTORY = jsonProtocolFactory(false);
+
+    private static final AwsJsonProtocolFactory STREAMING_JSON_PROTOCOL_FACTORY = jsonProtocolFactory(true);
 
     private static final PutItemRequestMarshaller PUT_ITEM_REQUEST_MARSHALLER
         = new PutItemRequestMarshaller(getJsonProtocolFactory());
 
     private static HttpResponseHandler<GetItemResponse> getItemResponseJsonResponseHandler() {
-        return JSON_PROTOCOL_FACTORY.createResponseHandler(JsonOperationMetadata.builder()
-                                                                                .isPayloadJson(true)
-                                                                                .hasStreamingSuccessResponse(false)
-                                                                                .build(),
-                                                           GetItemResponse::builder);
+        return getItemResponseJsonResponseHandler(JSON_PROTOCOL_FACTORY);
+    }
+
+    private static HttpResponseHandler<GetItemResponse> getItemResponseJsonResponseHandler(AwsJsonProtocolFactory factory) {
+        return factory.createResponseHandler(JsonOperationMetadata.builder()
+                                                                  .isPayloadJson(true)
+                                                                  .hasStreamingSuccessResponse(false)
+                                                                  .build(),
+                                             GetItemResponse::builder);
     }
 
     @Benchmark
@@ -167,6 +104,86 @@ public class V2DynamoDbAttributeValue {
         return getItemResponseJsonResponseHandler().handle(resp, new ExecutionAttributes());
     }
 
+    @Benchmark
+    public Object getItemStreaming(GetItemState s) throws Exception {
+        SdkHttpFullResponse resp = fullResponse(s.testItem);
+        return getItemResponseJsonResponseHandler(STREAMING_JSON_PROTOCOL_FACTORY).handle(resp, new ExecutionAttributes());
+    }
+
+    private static AwsJsonProtocolFactory jsonProtocolFactory(boolean enableStreamingUnmarshalling) {
+        return AwsJsonProtocolFactory
+            .builder()
+            .enableStreamingUnmarshalling(enableStreamingUnmarshalling)
+            .clientConfiguration(SdkClientConfiguration
+                                     .builder()
+                                     .option(SdkClientOption.ENDPOINT, URI.create("https://localhost"))
+                                     .build())
+            .defaultServiceExceptionSupplier(DynamoDbException::builder)
+            .protocol(AwsJsonProtocol.AWS_JSON)
+            .protocolVersion("1.0")
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ResourceInUseException")
+                                 .exceptionBuilderSupplier(ResourceInUseException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("TableAlreadyExistsException")
+                                 .exceptionBuilderSupplier(TableAlreadyExistsException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("GlobalTableAlreadyExistsException")
+                                 .exceptionBuilderSupplier(GlobalTableAlreadyExistsException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("InvalidRestoreTimeException")
+                                 .exceptionBuilderSupplier(InvalidRestoreTimeException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ReplicaAlreadyExistsException")
+                                 .exceptionBuilderSupplier(ReplicaAlreadyExistsException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ConditionalCheckFailedException")
+                                 .exceptionBuilderSupplier(ConditionalCheckFailedException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("BackupNotFoundException")
+                                 .exceptionBuilderSupplier(BackupNotFoundException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("IndexNotFoundException")
+                                 .exceptionBuilderSupplier(IndexNotFoundException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("LimitExceededException")
+                                 .exceptionBuilderSupplier(LimitExceededException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("GlobalTableNotFoundException")
+                                 .exceptionBuilderSupplier(GlobalTableNotFoundException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ItemCollectionSizeLimitExceededException")
+                                 .exceptionBuilderSupplier(ItemCollectionSizeLimitExceededException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ReplicaNotFoundException")
+                                 .exceptionBuilderSupplier(ReplicaNotFoundException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("TableNotFoundException")
+                                 .exceptionBuilderSupplier(TableNotFoundException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("BackupInUseException")
+                                 .exceptionBuilderSupplier(BackupInUseException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ResourceNotFoundException")
+                                 .exceptionBuilderSupplier(ResourceNotFoundException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ContinuousBackupsUnavailableException")
+                                 .exceptionBuilderSupplier(ContinuousBackupsUnavailableException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("TableInUseException")
+                                 .exceptionBuilderSupplier(TableInUseException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("ProvisionedThroughputExceededException")
+                                 .exceptionBuilderSupplier(ProvisionedThroughputExceededException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("PointInTimeRecoveryUnavailableException")
+                                 .exceptionBuilderSupplier(PointInTimeRecoveryUnavailableException::builder).build())
+            .registerModeledException(
+                ExceptionMetadata.builder().errorCode("InternalServerError")
+                                 .exceptionBuilderSupplier(InternalServerErrorException::builder).build())
+            .build();
+    }
+
     @State(Scope.Benchmark)
     public static class PutItemState {
         @Param({"TINY", "SMALL", "HUGE"})
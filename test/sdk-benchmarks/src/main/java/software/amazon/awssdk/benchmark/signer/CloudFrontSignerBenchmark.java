@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.services.cloudfront.CloudFrontSigner;
+import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
+import software.amazon.awssdk.services.cloudfront.url.SignedUrl;
+
+/**
+ * Benchmarks signing the segment URLs of a media manifest with {@link CloudFrontUtilities}, which creates a new signature
+ * engine per URL, and with a reused {@link CloudFrontSigner}, per URL and in batches with a shared custom policy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CloudFrontSignerBenchmark {
+    private static final String KEY_PAIR_ID = "K2JCJMDEHXQW5F";
+    private static final String POLICY_RESOURCE_URL = "https://d111111abcdef8.cloudfront.net/videos/movie/*";
+    private static final int SEGMENT_COUNT = 100;
+
+    private final CloudFrontUtilities utilities = CloudFrontUtilities.create();
+    private PrivateKey privateKey;
+    private CloudFrontSigner signer;
+    private List<String> segmentUrls;
+    private Instant expirationDate;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        privateKey = keyPairGenerator.generateKeyPair().getPrivate();
+        signer = CloudFrontSigner.create(KEY_PAIR_ID, privateKey);
+        expirationDate = Instant.now().plus(1, ChronoUnit.HOURS);
+        segmentUrls = new ArrayList<>(SEGMENT_COUNT);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segmentUrls.add("https://d111111abcdef8.cloudfront.net/videos/movie/segment-" + i + ".ts");
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SignedUrl cannedPolicyWithUtilities() {
+        return utilities.getSignedUrlWithCannedPolicy(r -> r.resourceUrl(segmentUrls.get(0))
+                                                            .privateKey(privateKey)
+                                                            .keyPairId(KEY_PAIR_ID)
+                                                            .expirationDate(expirationDate));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SignedUrl cannedPolicyWithSigner() {
+        return signer.getSignedUrlWithCannedPolicy(segmentUrls.get(0), expirationDate);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public SignedUrl cannedPolicyWithSignerMultiThread() {
+        return signer.getSignedUrlWithCannedPolicy(segmentUrls.get(0), expirationDate);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<SignedUrl> manifestWithUtilitiesCustomPolicy() {
+        List<SignedUrl> signedUrls = new ArrayList<>(SEGMENT_COUNT);
+        for (String segmentUrl : segmentUrls) {
+            signedUrls.add(utilities.getSignedUrlWithCustomPolicy(r -> r.resourceUrl(segmentUrl)
+                                                                        .privateKey(privateKey)
+                                                                        .keyPairId(KEY_PAIR_ID)
+                                                                        .expirationDate(expirationDate)));
+        }
+        return signedUrls;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public List<SignedUrl> manifestWithSignerSharedCustomPolicy() {
+        return signer.getSignedUrlsWithCustomPolicy(segmentUrls, POLICY_RESOURCE_URL, null, expirationDate, null);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CloudFrontSignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.GetObjectPresignTemplate;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+/**
+ * Benchmarks presigning GetObject requests for many keys in the same bucket, comparing a full presign per key with a
+ * {@link GetObjectPresignTemplate} that resolves the endpoint and signing key once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class S3PresignerBenchmark {
+    private static final String BUCKET = "benchmark-bucket";
+    private static final Duration SIGNATURE_DURATION = Duration.ofMinutes(15);
+    private static final int KEY_COUNT = 1024;
+
+    private S3Presigner presigner;
+    private GetObjectPresignTemplate template;
+    private String[] keys;
+    private int nextKey;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        presigner = S3Presigner.builder()
+                               .region(Region.US_WEST_2)
+                               .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                               .build();
+        template = presigner.createGetObjectPresignTemplate(r -> r.signatureDuration(SIGNATURE_DURATION)
+                                                                  .getObjectRequest(o -> o.bucket(BUCKET).key("template")));
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "photos/2024/album-" + (i % 16) + "/image " + i + ".jpg";
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        presigner.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PresignedGetObjectRequest presignGetObject() {
+        GetObjectRequest request = GetObjectRequest.builder().bucket(BUCKET).key(nextKey()).build();
+        return presigner.presignGetObject(r -> r.signatureDuration(SIGNATURE_DURATION).getObjectRequest(request));
+    }
+
+    @Benchmark
+    @Threads(1)
+    public PresignedGetObjectRequest presignWithTemplate() {
+        return template.presign(nextKey());
+    }
+
+    private String nextKey() {
+        nextKey = (nextKey + 1) % KEY_COUNT;
+        return keys[nextKey];
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(S3PresignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Benchmarks the latency of signing typical DynamoDB and S3 requests. Run with the GC profiler ({@code -prof gc}, as
+ * {@link #main} does) to see the allocation per signature.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class V4RequestTypeSignerBenchmark {
+
+    @Param({"DYNAMODB", "S3"})
+    private RequestType requestType;
+
+    private AwsV4HttpSigner signer;
+    private SignRequest<AwsCredentialsIdentity> signRequest;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        signer = AwsV4HttpSigner.create();
+        signRequest = requestType.signRequest(AwsCredentialsIdentity.create("akid", "skid"));
+    }
+
+    @Benchmark
+    public SignedRequest sign() {
+        return signer.sign(signRequest);
+    }
+
+    public enum RequestType {
+        DYNAMODB {
+            @Override
+            SignRequest<AwsCredentialsIdentity> signRequest(AwsCredentialsIdentity credentials) {
+                SdkHttpRequest request =
+                    SdkHttpRequest.builder()
+                                  .method(SdkHttpMethod.POST)
+                                  .uri(URI.create("https://dynamodb.us-east-1.amazonaws.com/"))
+                                  .putHeader("Host", "dynamodb.us-east-1.amazonaws.com")
+                                  .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                  .putHeader("Content-Length", "74")
+                                  .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                  .putHeader("amz-sdk-invocation-id", "c3bbc76a-0b13-4f2c-9d3f-3a4f3c6f1e9d")
+                                  .putHeader("amz-sdk-request", "attempt=1; max=3")
+                                  .putHeader("User-Agent", "aws-sdk-java/2.x md/io#sync md/http#Apache ua/2.1")
+                                  .build();
+                return SignRequest.builder(credentials)
+                                  .request(request)
+                                  .putProperty(AwsV4HttpSigner.REGION_NAME, "us-east-1")
+                                  .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "dynamodb")
+                                  .putProperty(AwsV4HttpSigner.PAYLOAD_SIGNING_ENABLED, false)
+                                  .build();
+            }
+        },
+        S3 {
+            @Override
+            SignRequest<AwsCredentialsIdentity> signRequest(AwsCredentialsIdentity credentials) {
+                SdkHttpRequest request =
+                    SdkHttpRequest.builder()
+                                  .method(SdkHttpMethod.GET)
+                                  .uri(URI.create("https://bucket.s3.us-east-1.amazonaws.com/path/to/object.txt"))
+                                  .putRawQueryParameter("partNumber", "1")
+                                  .putHeader("Host", "bucket.s3.us-east-1.amazonaws.com")
+                                  .putHeader("amz-sdk-invocation-id", "c3bbc76a-0b13-4f2c-9d3f-3a4f3c6f1e9d")
+                                  .putHeader("amz-sdk-request", "attempt=1; max=3")
+                                  .putHeader("x-amz-checksum-mode", "ENABLED")
+                                  .putHeader("x-amz-content-sha256", "UNSIGNED-PAYLOAD")
+                                  .putHeader("User-Agent", "aws-sdk-java/2.x md/io#async md/http#NettyNio ua/2.1")
+                                  .build();
+                return SignRequest.builder(credentials)
+                                  .request(request)
+                                  .putProperty(AwsV4HttpSigner.REGION_NAME, "us-east-1")
+                                  .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, "s3")
+                                  .putProperty(AwsV4HttpSigner.DOUBLE_URL_ENCODE, false)
+                                  .putProperty(AwsV4HttpSigner.NORMALIZE_PATH, false)
+                                  .putProperty(AwsV4HttpSigner.PAYLOAD_SIGNING_ENABLED, false)
+                                  .build();
+            }
+        };
+
+        abstract SignRequest<AwsCredentialsIdentity> signRequest(AwsCredentialsIdentity credentials);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V4RequestTypeSignerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
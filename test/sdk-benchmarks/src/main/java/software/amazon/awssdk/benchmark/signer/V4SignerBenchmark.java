@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import java.net.URI;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner;
+import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
+import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
+import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+
+/**
+ * Benchmarks SigV4 request signing from many threads at once, which is dominated by the signing-key cache lookup and the
+ * canonical request construction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class V4SignerBenchmark {
+    private static final String[] REGIONS = {"us-east-1", "us-west-2", "eu-west-1", "ap-southeast-2"};
+    private static final String[] SERVICES = {"sqs", "dynamodb"};
+
+    private AwsV4HttpSigner signer;
+    private SignRequest<AwsCredentialsIdentity>[] signRequests;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        signer = AwsV4HttpSigner.create();
+        AwsCredentialsIdentity credentials = AwsCredentialsIdentity.create("akid", "skid");
+        signRequests = new SignRequest[REGIONS.length * SERVICES.length];
+        int i = 0;
+        for (String region : REGIONS) {
+            for (String service : SERVICES) {
+                signRequests[i++] = signRequest(credentials, region, service);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public SignedRequest singleThreadSingleScope() {
+        return signer.sign(signRequests[0]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public SignedRequest multiThreadSingleScope() {
+        return signer.sign(signRequests[0]);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public SignedRequest multiThreadManyScopes() {
+        return signer.sign(signRequests[ThreadLocalRandom.current().nextInt(signRequests.length)]);
+    }
+
+    private static SignRequest<AwsCredentialsIdentity> signRequest(AwsCredentialsIdentity credentials,
+                                                                   String region,
+                                                                   String service) {
+        String host = service + "." + region + ".amazonaws.com";
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .method(SdkHttpMethod.POST)
+                                               .uri(URI.create("https://" + host + "/"))
+                                               .putHeader("Host", host)
+                                               .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                               .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                               .build();
+        return SignRequest.builder(credentials)
+                          .request(request)
+                          .putProperty(AwsV4HttpSigner.REGION_NAME, region)
+                          .putProperty(AwsV4HttpSigner.SERVICE_SIGNING_NAME, service)
+                          .putProperty(AwsV4HttpSigner.PAYLOAD_SIGNING_ENABLED, false)
+                          .build();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(V4SignerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.utils;
 
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
@@ -25,8 +27,19 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
  */
 @SdkPublicApi
 public class Lazy<T> implements SdkAutoCloseable {
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Lazy, ReentrantLock> INITIALIZER_LOCK =
+        AtomicReferenceFieldUpdater.newUpdater(Lazy.class, ReentrantLock.class, "initializerLock");
+
     private final Supplier<T> initializer;
 
+    /**
+     * Initializers may block, such as to read a file or call a service. Virtual threads that block while holding a monitor pin
+     * their carrier thread, so a lock is used instead of synchronizing. The lock only exists while the value is being
+     * initialized, which keeps resolved values as small as they were with a monitor.
+     */
+    private volatile ReentrantLock initializerLock;
+
     private volatile T value;
 
     public Lazy(Supplier<T> initializer) {
@@ -44,18 +57,36 @@ public class Lazy<T> implements SdkAutoCloseable {
     public T getValue() {
         T result = value;
         if (result == null) {
-            synchronized (this) {
+            ReentrantLock lock = initializerLock();
+            lock.lock();
+            try {
                 result = value;
                 if (result == null) {
                     result = initializer.get();
                     value = result;
                 }
+                if (result != null) {
+                    // Once the value is set, any thread that creates a new lock will find the value under it. A null value
+                    // is initialized again by the next caller, which must still be excluded by the same lock.
+                    initializerLock = null;
+                }
+            } finally {
+                lock.unlock();
             }
         }
 
         return result;
     }
 
+    private ReentrantLock initializerLock() {
+        ReentrantLock lock = initializerLock;
+        if (lock != null) {
+            return lock;
+        }
+        ReentrantLock newLock = new ReentrantLock();
+        return INITIALIZER_LOCK.compareAndSet(this, null, newLock) ? newLock : initializerLock();
+    }
+
     @Override
     public String toString() {
         T value = this.value;
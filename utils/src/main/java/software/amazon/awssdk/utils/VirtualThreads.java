@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.internal.ThreadPerTaskScheduledExecutor;
+
+/**
+ * Creates virtual threads, which are available from Java 21.
+ * <p>
+ * The SDK is compiled for Java 8, so the Java 21 APIs are looked up once when this class is initialized. On earlier Java
+ * versions, and on Java 19 and 20 where virtual threads are a preview feature, {@link #isSupported()} returns false and the
+ * factory methods throw {@link UnsupportedOperationException}.
+ */
+@SdkProtectedApi
+public final class VirtualThreads {
+    private static final Logger log = Logger.loggerFor(VirtualThreads.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method IS_VIRTUAL;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method isVirtual = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builderClass.getMethod("name", String.class, long.class);
+            builderFactory = builderClass.getMethod("factory");
+            isVirtual = Thread.class.getMethod("isVirtual");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+
+            // Fails if virtual threads are a preview feature that is not enabled.
+            ofVirtual.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug(() -> "Virtual threads are not supported by this JVM. They are available from Java 21.", e);
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        IS_VIRTUAL = isVirtual;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Whether this JVM supports virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Whether the given thread is a virtual thread.
+     */
+    public static boolean isVirtual(Thread thread) {
+        if (!isSupported()) {
+            return false;
+        }
+        return (Boolean) invoke(IS_VIRTUAL, thread);
+    }
+
+    /**
+     * Create a {@link ThreadFactory} that creates virtual threads, named with the given prefix followed by a number unique to
+     * the thread. For example, "sdk-async-response" could become "sdk-async-response-3".
+     *
+     * @throws UnsupportedOperationException If this JVM does not support virtual threads.
+     */
+    public static ThreadFactory threadFactory(String threadNamePrefix) {
+        Validate.paramNotNull(threadNamePrefix, "threadNamePrefix");
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later.");
+        }
+        Object builder = invoke(OF_VIRTUAL, null);
+        builder = invoke(BUILDER_NAME, builder, threadNamePrefix + "-", 0L);
+        return (ThreadFactory) invoke(BUILDER_FACTORY, builder);
+    }
+
+    /**
+     * Create an {@link ExecutorService} that starts a new virtual thread for each task, named as described by
+     * {@link #threadFactory(String)}. Tasks are never queued or rejected, so blocking tasks do not hold up other tasks.
+     *
+     * @throws UnsupportedOperationException If this JVM does not support virtual threads.
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String threadNamePrefix) {
+        return (ExecutorService) invoke(NEW_THREAD_PER_TASK_EXECUTOR, null, threadFactory(threadNamePrefix));
+    }
+
+    /**
+     * Create a {@link ScheduledExecutorService} that starts a new virtual thread for each task once it is due, named as
+     * described by {@link #threadFactory(String)}. Tasks are never run on a pooled thread, so blocking tasks do not hold up
+     * other tasks.
+     *
+     * @throws UnsupportedOperationException If this JVM does not support virtual threads.
+     */
+    public static ScheduledExecutorService newScheduledThreadPerTaskExecutor(String threadNamePrefix) {
+        return new ThreadPerTaskScheduledExecutor(threadFactory(threadNamePrefix + "-timer"),
+                                                  newThreadPerTaskExecutor(threadNamePrefix));
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
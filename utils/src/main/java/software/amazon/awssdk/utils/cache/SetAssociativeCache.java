@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded, lock-free cache for values that are cheap enough to recompute that an occasional lost entry is acceptable. Keys
+ * must be immutable and implement {@link Object#equals} and {@link Object#hashCode} by value. Null keys and values are not
+ * supported.
+ * <p>
+ * The cache is a set-associative table: a key hashes to a small window of slots, and only those slots are searched on lookup
+ * or considered for replacement on insertion. Lookups perform volatile reads and an equality check only, so a hit does not
+ * take a lock or allocate. Concurrent insertions may overwrite one another, in which case the overwritten value will be
+ * recomputed by its next caller. When inserting, an entry with an equal key is replaced in-place, otherwise an empty slot is
+ * used if the window has one, otherwise a random entry in the window is evicted.
+ *
+ * @param <K> The type of the keys of the cache.
+ * @param <V> The type of the values of the cache.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class SetAssociativeCache<K, V> {
+    /**
+     * The largest supported maximum size of the cache.
+     */
+    public static final int MAX_SIZE_LIMIT = 1 << 30;
+
+    private static final int WINDOW_SIZE = 4;
+
+    private final AtomicReferenceArray<Entry<K, V>> slots;
+    private final int mask;
+
+    /**
+     * @param maxSize the maximum number of entries of the cache. This is rounded up to a power of two of at least four, and
+     * must not be greater than {@link #MAX_SIZE_LIMIT}.
+     */
+    public SetAssociativeCache(int maxSize) {
+        Validate.isPositive(maxSize, "maxSize");
+        Validate.isTrue(maxSize <= MAX_SIZE_LIMIT, "maxSize %s must not be greater than %s", maxSize, MAX_SIZE_LIMIT);
+        int capacity = Math.max(WINDOW_SIZE, Integer.highestOneBit(maxSize - 1) << 1);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the value cached for the given key, or null if none is cached.
+     */
+    public V get(K key) {
+        int hash = key.hashCode();
+        int start = index(hash);
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            Entry<K, V> entry = slots.get((start + i) & mask);
+            if (entry != null && entry.matches(key, hash)) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds the given value to the cache, replacing any value cached for the same key.
+     */
+    public void put(K key, V value) {
+        Validate.paramNotNull(value, "value");
+        int hash = key.hashCode();
+        Entry<K, V> newEntry = new Entry<>(key, hash, value);
+        int start = index(hash);
+        int victim = -1;
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            int slot = (start + i) & mask;
+            Entry<K, V> entry = slots.get(slot);
+            if (entry != null && entry.matches(key, hash)) {
+                victim = slot;
+                break;
+            }
+            if (entry == null && victim < 0) {
+                victim = slot;
+            }
+        }
+        if (victim < 0) {
+            victim = (start + ThreadLocalRandom.current().nextInt(WINDOW_SIZE)) & mask;
+        }
+        slots.set(victim, newEntry);
+    }
+
+    /**
+     * Returns the number of entries currently in the cache.
+     */
+    public int size() {
+        int size = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of entries the cache can hold.
+     */
+    public int getMaxSize() {
+        return slots.length();
+    }
+
+    private int index(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Entry<K, V> {
+        private final K key;
+        private final int hash;
+        private final V value;
+
+        private Entry(K key, int hash, V value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+
+        private boolean matches(K key, int hash) {
+            return this.hash == hash && this.key.equals(key);
+        }
+    }
+}
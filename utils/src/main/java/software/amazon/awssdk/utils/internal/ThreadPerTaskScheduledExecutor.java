@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.internal;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A scheduled executor that runs each task on a new thread of a thread-per-task executor once it is due, rather than on a
+ * fixed pool of threads. A single timer thread only waits for tasks to become due, so tasks that block do not delay other
+ * tasks.
+ * <p>
+ * The returned futures complete when their task has run on its own thread. Shutting down this executor stops new tasks from
+ * being started, but tasks that have already been handed to the task executor run to completion, unless
+ * {@link #shutdownNow()} is used.
+ */
+@SdkInternalApi
+public final class ThreadPerTaskScheduledExecutor extends ScheduledThreadPoolExecutor {
+    private final ExecutorService taskExecutor;
+
+    /**
+     * @param timerThreadFactory the factory of the thread that waits for tasks to become due
+     * @param taskExecutor the executor that runs each task once it is due. It is shut down with this executor.
+     */
+    public ThreadPerTaskScheduledExecutor(ThreadFactory timerThreadFactory, ExecutorService taskExecutor) {
+        super(1, timerThreadFactory);
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Runnable runnable, RunnableScheduledFuture<V> task) {
+        return new ThreadPerTaskFuture<>(task);
+    }
+
+    @Override
+    protected <V> RunnableScheduledFuture<V> decorateTask(Callable<V> callable, RunnableScheduledFuture<V> task) {
+        return new ThreadPerTaskFuture<>(task);
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        List<Runnable> tasks = super.shutdownNow();
+        taskExecutor.shutdownNow();
+        return tasks;
+    }
+
+    @Override
+    protected void terminated() {
+        taskExecutor.shutdown();
+    }
+
+    private final class ThreadPerTaskFuture<V> implements RunnableScheduledFuture<V> {
+        private final RunnableScheduledFuture<V> task;
+
+        private ThreadPerTaskFuture(RunnableScheduledFuture<V> task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            if (task.isDone()) {
+                return;
+            }
+            try {
+                // Periodic tasks are scheduled again by the task itself once it has run.
+                taskExecutor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.cancel(false);
+            }
+        }
+
+        @Override
+        public boolean isPeriodic() {
+            return task.isPeriodic();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return task.getDelay(unit);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return task.compareTo(other);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return task.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return task.isCancelled();
+        }
+
+        @Override
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        @Override
+        public V get() throws InterruptedException, ExecutionException {
+            return task.get();
+        }
+
+        @Override
+        public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            return task.get(timeout, unit);
+        }
+    }
+}
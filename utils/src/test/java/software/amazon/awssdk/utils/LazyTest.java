@@ -15,12 +15,16 @@
 
 package software.amazon.awssdk.utils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.times;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
@@ -92,4 +96,62 @@ public class LazyTest {
             executor.shutdownNow();
         }
     }
-}
\ No newline at end of file
+
+    @Test(timeout = 10_000)
+    public void nullResultDoesNotReleaseInitializerExclusion() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch secondCallerStarted = new CountDownLatch(1);
+        CountDownLatch thirdCallerStarted = new CountDownLatch(1);
+        Lazy<String> nullFirst = new Lazy<>(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                int call = calls.incrementAndGet();
+                if (call == 1) {
+                    // Let the second caller queue on the initializer lock before returning null.
+                    secondCallerStarted.await();
+                    Thread.sleep(100);
+                    return null;
+                }
+                if (call == 2) {
+                    // Let the third caller try to initialize while the second caller is initializing.
+                    thirdCallerStarted.await();
+                    Thread.sleep(100);
+                }
+                return "value";
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<String> first = executor.submit(nullFirst::getValue);
+            while (calls.get() == 0) {
+                Thread.sleep(1);
+            }
+            Future<String> second = executor.submit(() -> {
+                secondCallerStarted.countDown();
+                return nullFirst.getValue();
+            });
+            assertThat(first.get()).isNull();
+            while (calls.get() < 2) {
+                Thread.sleep(1);
+            }
+            Future<String> third = executor.submit(() -> {
+                thirdCallerStarted.countDown();
+                return nullFirst.getValue();
+            });
+
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            assertThat(maxRunning.get()).isEqualTo(1);
+            assertThat(calls.get()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadsTest {
+
+    @Test
+    public void isSupported_matchesJavaVersion() {
+        assertThat(VirtualThreads.isSupported()).isEqualTo(javaFeatureVersion() >= 21);
+    }
+
+    @Test
+    public void platformThread_isNotVirtual() {
+        assertThat(VirtualThreads.isVirtual(Thread.currentThread())).isFalse();
+    }
+
+    @Test
+    public void threadFactory_supported_createsNamedVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        Thread thread = VirtualThreads.threadFactory("custom-name").newThread(() -> { });
+
+        assertThat(VirtualThreads.isVirtual(thread)).isTrue();
+        assertThat(thread.getName()).isEqualTo("custom-name-0");
+    }
+
+    @Test
+    public void newThreadPerTaskExecutor_supported_runsTasksOnVirtualThreads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        ExecutorService executor = VirtualThreads.newThreadPerTaskExecutor("custom-name");
+        try {
+            CompletableFuture<Thread> thread = CompletableFuture.supplyAsync(Thread::currentThread, executor);
+            assertThat(VirtualThreads.isVirtual(thread.get(10, TimeUnit.SECONDS))).isTrue();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void threadFactory_notSupported_throws() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThatThrownBy(() -> VirtualThreads.threadFactory("custom-name"))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessageContaining("Java 21");
+        assertThatThrownBy(() -> VirtualThreads.newThreadPerTaskExecutor("custom-name"))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static int javaFeatureVersion() {
+        String version = System.getProperty("java.specification.version");
+        return version.startsWith("1.") ? Integer.parseInt(version.substring(2)) : Integer.parseInt(version);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+public class SetAssociativeCacheTest {
+
+    @Test
+    public void get_matchingEntry_returnsValue() {
+        SetAssociativeCache<String, Integer> cache = new SetAssociativeCache<>(8);
+        cache.put("one", 1);
+        cache.put("two", 2);
+
+        assertThat(cache.get(new String("one"))).isEqualTo(1);
+        assertThat(cache.get("two")).isEqualTo(2);
+        assertThat(cache.get("three")).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void put_sameKey_replacesEntry() {
+        SetAssociativeCache<String, Integer> cache = new SetAssociativeCache<>(8);
+        cache.put("one", 1);
+        cache.put("one", 11);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("one")).isEqualTo(11);
+    }
+
+    @Test
+    public void put_sameKeyAfterEmptySlotInWindow_replacesEntry() {
+        SetAssociativeCache<CollidingKey, Integer> cache = new SetAssociativeCache<>(4);
+        cache.put(new CollidingKey(1), 1);
+        cache.put(new CollidingKey(2), 2);
+        cache.put(new CollidingKey(2), 22);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(new CollidingKey(2))).isEqualTo(22);
+    }
+
+    @Test
+    public void put_moreEntriesThanCapacity_staysBounded() {
+        SetAssociativeCache<String, Integer> cache = new SetAssociativeCache<>(16);
+        for (int i = 0; i < 1000; i++) {
+            cache.put("key" + i, i);
+        }
+
+        assertThat(cache.getMaxSize()).isEqualTo(16);
+        assertThat(cache.size()).isLessThanOrEqualTo(16);
+        assertThat(cache.get("key999")).isEqualTo(999);
+    }
+
+    @Test
+    public void maxSize_roundedUpToPowerOfTwo() {
+        assertThat(new SetAssociativeCache<>(1).getMaxSize()).isEqualTo(4);
+        assertThat(new SetAssociativeCache<>(300).getMaxSize()).isEqualTo(512);
+    }
+
+    @Test
+    public void maxSize_notPositive_throws() {
+        assertThatThrownBy(() -> new SetAssociativeCache<>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void maxSize_greaterThanLimit_throws() {
+        assertThatThrownBy(() -> new SetAssociativeCache<>(SetAssociativeCache.MAX_SIZE_LIMIT + 1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxSize");
+        assertThatThrownBy(() -> new SetAssociativeCache<>(Integer.MAX_VALUE))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void put_nullValue_throws() {
+        SetAssociativeCache<String, Integer> cache = new SetAssociativeCache<>(8);
+        assertThatThrownBy(() -> cache.put("one", null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void concurrentAccess_alwaysReturnsValueForRequestedKey() {
+        SetAssociativeCache<String, String> cache = new SetAssociativeCache<>(8);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String key = "key" + (i % 32);
+                        String value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, "value-" + key);
+                        } else {
+                            assertThat(value).isEqualTo("value-" + key);
+                        }
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class CollidingKey {
+        private final int id;
+
+        private CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
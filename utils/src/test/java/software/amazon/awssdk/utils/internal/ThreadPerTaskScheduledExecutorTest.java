@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class ThreadPerTaskScheduledExecutorTest {
+    private ExecutorService taskExecutor;
+    private ThreadPerTaskScheduledExecutor executor;
+
+    @BeforeEach
+    public void setup() {
+        taskExecutor = Executors.newCachedThreadPool(new ThreadFactoryBuilder().threadNamePrefix("test-task").build());
+        executor = new ThreadPerTaskScheduledExecutor(new ThreadFactoryBuilder().threadNamePrefix("test-timer").build(),
+                                                      taskExecutor);
+    }
+
+    @AfterEach
+    public void teardown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void schedule_blockingTask_doesNotDelayOtherTasks() throws Exception {
+        CountDownLatch secondTaskRan = new CountDownLatch(1);
+        ScheduledFuture<Boolean> blocking = executor.schedule(() -> secondTaskRan.await(10, TimeUnit.SECONDS),
+                                                              10, TimeUnit.MILLISECONDS);
+        executor.schedule(secondTaskRan::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(blocking.get(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void schedule_futureCompletesWhenTaskHasRunOnTaskExecutor() throws Exception {
+        ScheduledFuture<String> future = executor.schedule(() -> Thread.currentThread().getName(), 1, TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(10, TimeUnit.SECONDS)).startsWith("test-task");
+    }
+
+    @Test
+    public void scheduleAtFixedRate_runsUntilCancelled() throws Exception {
+        CountDownLatch ranThreeTimes = new CountDownLatch(3);
+        ScheduledFuture<?> future = executor.scheduleAtFixedRate(ranThreeTimes::countDown, 0, 5, TimeUnit.MILLISECONDS);
+
+        assertThat(ranThreeTimes.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.cancel(false)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    public void cancel_beforeDue_taskDoesNotRun() throws Exception {
+        AtomicInteger runs = new AtomicInteger();
+        ScheduledFuture<?> future = executor.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(future.cancel(false)).isTrue();
+        Thread.sleep(100);
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    public void shutdown_shutsDownTaskExecutorOnTermination() throws Exception {
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(taskExecutor.isShutdown()).isTrue();
+    }
+}